@@ -0,0 +1,496 @@
+package com.floweektracker.api;
+
+import com.floweektracker.cli.*;
+import com.floweektracker.model.*;
+import com.floweektracker.model.TaskQuery.TaskQueryBuilder;
+import com.floweektracker.service.*;
+import com.google.gson.*;
+import com.sun.net.httpserver.*;
+import lombok.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.*;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Represents an optional local HTTP API of the planner, which lets scripts read and change the tasks without touching
+ * the json files. It is served by the {@link HttpServer} of the JDK, bound only to the loopback address, and each
+ * request is handled on its own virtual thread. Requests which only read the tasks use the published
+ * {@link ScheduleSnapshot} and the {@link TaskQueryService}, so they never wait for the changes. The changes are passed
+ * to the {@link TaskChanges} given at the start, which serializes them and, in the window, updates its views. A task is
+ * edited or deleted only when it is still the one read from the snapshot, so a request never overwrites a change made
+ * meanwhile and gets {@code 409 Conflict} instead. Tasks are sent and received as objects of the
+ * {@link TaskJsonLines}. It is a singleton.
+ * <br><br>
+ * Only the scripts of the user may call the API, so each request is checked by {@link #isAllowed(HttpExchange)} before
+ * it is handled: the {@code Host} header has to be {@code localhost} or {@code 127.0.0.1} with the port of the server,
+ * so a web page can't reach it by rebinding its own domain to the loopback address; requests with an {@code Origin}
+ * header, i.e. sent by a browser, are rejected; the header {@code Authorization: Bearer} has to contain the
+ * {@link #token} generated at each start and written to the {@link #tokenFile}, which only the user can read; and the
+ * body of {@code POST} and {@code PUT} has to be sent as {@code application/json}.
+ * <br><br>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/tasks} - tasks matching the parameters {@code day}, {@code done}, {@code min-priority},
+ *     {@code max-priority} and {@code name},</li>
+ *     <li>{@code POST /api/tasks} - adds a task,</li>
+ *     <li>{@code GET|PUT|DELETE /api/tasks/{weekday}/{HH:mm}} - reads, replaces or deletes a task,</li>
+ *     <li>{@code GET /api/points} and {@code GET /api/points/{weekday}} - points of the weekdays.</li>
+ * </ul>
+ * Fields: {@link #server}, {@link #LOGGER}, {@link #TASKS_PATH}, {@link #POINTS_PATH}, {@link #MAX_BODY_BYTES},
+ * {@link #TOKEN_FILE_NAME}, {@link #tasksService}, {@link #queryService}, {@link #gson}, {@link #random},
+ * {@link #httpServer}, {@link #executor}, {@link #changes}, {@link #token}, {@link #tokenFile}
+ * <br><br>
+ * Methods: {@link #start(int, TaskChanges, File)}, {@link #stop()}, {@link #getPort()},
+ * {@link #isAllowed(HttpExchange)}, {@link #writeToken(File, String)}, {@link #handleTasks(HttpExchange)},
+ * {@link #handlePoints(HttpExchange)}, {@link #listTasks(HttpExchange)}, {@link #addTask(HttpExchange)},
+ * {@link #editTask(HttpExchange, SingleTask)}, {@link #deleteTask(HttpExchange, SingleTask)},
+ * {@link #findTask(String)}, {@link #createConflict(SingleTask, SingleTask)}, {@link #countPoints(List)},
+ * {@link #readTask(HttpExchange)}, {@link #readParameters(HttpExchange)},
+ * {@link #send(HttpExchange, int, JsonElement)}, {@link #sendError(HttpExchange, int, String)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HttpApiServer {
+    /**
+     * A singleton instance of the server.
+     *
+     * @see com.floweektracker.controller.HttpApiController
+     */
+    @Getter
+    private static final HttpApiServer server = new HttpApiServer();
+    private static final System.Logger LOGGER = System.getLogger(HttpApiServer.class.getName());
+    static final String TASKS_PATH = "/api/tasks";
+    static final String POINTS_PATH = "/api/points";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    /**
+     * Represents a name of the file in the data folder with the token of the running server.
+     *
+     * @see com.floweektracker.controller.HttpApiController
+     */
+    public static final String TOKEN_FILE_NAME = "http-api.token";
+    private final TasksService tasksService = TasksService.getService();
+    private final TaskQueryService queryService = TaskQueryService.getService();
+    private final Gson gson = new Gson();
+    private final SecureRandom random = new SecureRandom();
+    private HttpServer httpServer;
+    private ExecutorService executor;
+    /**
+     * Contains the way in which the tasks are changed, given at the start.
+     */
+    private volatile TaskChanges changes;
+    /**
+     * Contains a random token generated at the start, which each request has to send in the {@code Authorization}
+     * header.
+     */
+    private volatile String token;
+    /**
+     * Contains a file with the {@link #token}, which is deleted when the server stops.
+     */
+    private File tokenFile;
+
+    /**
+     * Starts the server on the given port of the loopback address and writes a new token of the requests to the given
+     * file. When it is already running, it is restarted.
+     *
+     * @param port      a given port, or 0 for any free port
+     * @param changes   a given way in which the tasks are changed
+     * @param tokenFile a given file to which the token is written, e.g. {@link #TOKEN_FILE_NAME} in the data folder
+     * @return true if the server is running, false if the port or the file can't be used
+     */
+    public synchronized boolean start(int port, @NonNull TaskChanges changes, @NonNull File tokenFile) {
+        stop();
+
+        var tokenBytes = new byte[32];
+        random.nextBytes(tokenBytes);
+        var newToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        try {
+            writeToken(tokenFile, newToken);
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "HTTP API can't be started on port " + port, e);
+            tokenFile.delete();
+            return false;
+        }
+
+        this.changes = changes;
+        this.token = newToken;
+        this.tokenFile = tokenFile;
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer.setExecutor(executor);
+        httpServer.createContext(TASKS_PATH, this::handleTasks);
+        httpServer.createContext(POINTS_PATH, this::handlePoints);
+        httpServer.start();
+
+        return true;
+    }
+
+    /**
+     * Stops the server without waiting for the requests being handled.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public synchronized void stop() {
+        if (httpServer == null) return;
+
+        httpServer.stop(0);
+        executor.shutdown();
+        tokenFile.delete();
+        httpServer = null;
+        executor = null;
+        token = null;
+        tokenFile = null;
+    }
+
+    /**
+     * @return a port of the running server, or -1 when it isn't running
+     */
+    public synchronized int getPort() {
+        return (httpServer != null) ? httpServer.getAddress().getPort() : -1;
+    }
+
+    //region helper methods
+    /**
+     * Checks the headers of the given request and sends an error when it isn't allowed: {@code 403 Forbidden} for
+     * another {@code Host} than the loopback address with the port of the server or for any {@code Origin},
+     * {@code 401 Unauthorized} for a missing or wrong token, and {@code 415 Unsupported Media Type} for a body of
+     * {@code POST} or {@code PUT} which isn't sent as {@code application/json}.
+     *
+     * @param exchange a given request
+     * @return true if the request can be handled, otherwise false
+     */
+    private boolean isAllowed(HttpExchange exchange) {
+        var headers = exchange.getRequestHeaders();
+        var port = exchange.getLocalAddress().getPort();
+        var host = Objects.requireNonNullElse(headers.getFirst("Host"), "").toLowerCase(Locale.ROOT);
+
+        if (!host.equals("localhost:" + port) && !host.equals("127.0.0.1:" + port)) {
+            sendError(exchange, 403, "Niedozwolony nagłówek Host: " + host);
+            return false;
+        }
+        if (headers.containsKey("Origin")) {
+            sendError(exchange, 403, "Żądania z przeglądarki są niedozwolone");
+            return false;
+        }
+
+        var authorization = Objects.requireNonNullElse(headers.getFirst("Authorization"), "");
+        var expected = "Bearer " + token;
+        if (!MessageDigest.isEqual(authorization.getBytes(StandardCharsets.UTF_8),
+                expected.getBytes(StandardCharsets.UTF_8))) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            sendError(exchange, 401, "Brak poprawnego tokenu z pliku " + TOKEN_FILE_NAME);
+            return false;
+        }
+
+        var method = exchange.getRequestMethod();
+        var contentType = Objects.requireNonNullElse(headers.getFirst("Content-Type"), "");
+        var mediaType = contentType.split(";", 2)[0].strip();
+        if ((method.equals("POST") || method.equals("PUT")) && !mediaType.equalsIgnoreCase("application/json")) {
+            sendError(exchange, 415, "Treść żądania powinna mieć typ application/json");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the given token to the given file, which only the owner can read when the file system supports POSIX
+     * permissions.
+     *
+     * @param tokenFile a given file of the token
+     * @param newToken  a given token
+     * @throws IOException when the file can't be written
+     */
+    private static void writeToken(File tokenFile, String newToken) throws IOException {
+        var path = tokenFile.toPath();
+        Files.deleteIfExists(path);
+
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.writeString(path, newToken, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Handles the requests of the {@link #TASKS_PATH}, i.e. of all tasks or of a single task given by its weekday and
+     * time.
+     *
+     * @param exchange a given request
+     */
+    private void handleTasks(HttpExchange exchange) {
+        try {
+            if (!isAllowed(exchange)) return;
+
+            var path = exchange.getRequestURI().getPath().substring(TASKS_PATH.length());
+            var method = exchange.getRequestMethod();
+
+            if (path.isEmpty() || path.equals("/")) {
+                switch (method) {
+                    case "GET" -> listTasks(exchange);
+                    case "POST" -> addTask(exchange);
+                    default -> sendError(exchange, 405, "Niedozwolona metoda: " + method);
+                }
+                return;
+            }
+
+            var task = findTask(path);
+            if (task == null) {
+                sendError(exchange, 404, "Nie znaleziono zadania: " + path);
+                return;
+            }
+
+            switch (method) {
+                case "GET" -> send(exchange, 200, TaskJsonLines.toJson(null, task));
+                case "PUT" -> editTask(exchange, task);
+                case "DELETE" -> deleteTask(exchange, task);
+                default -> sendError(exchange, 405, "Niedozwolona metoda: " + method);
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "HTTP API request failed", e);
+            sendError(exchange, 500, "Błąd serwera");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles the requests of the {@link #POINTS_PATH}, i.e. the points of all weekdays or of a single weekday, which
+     * are counted from the actual snapshot of the schedule.
+     *
+     * @param exchange a given request
+     */
+    private void handlePoints(HttpExchange exchange) {
+        try {
+            if (!isAllowed(exchange)) return;
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Niedozwolona metoda: " + exchange.getRequestMethod());
+                return;
+            }
+
+            var path = exchange.getRequestURI().getPath().substring(POINTS_PATH.length());
+            var snapshot = tasksService.getSnapshot();
+
+            if (path.isEmpty() || path.equals("/")) {
+                var points = new JsonObject();
+                for (WeekDays weekday : WeekDays.values()) {
+                    var tasks = List.copyOf(snapshot.getTasksFromWeekday(weekday).values());
+                    points.add(weekday.name(), countPoints(tasks));
+                }
+                send(exchange, 200, points);
+            } else {
+                var weekday = CommandOptions.parseWeekday(path.substring(1));
+                send(exchange, 200, countPoints(List.copyOf(snapshot.getTasksFromWeekday(weekday).values())));
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "HTTP API request failed", e);
+            sendError(exchange, 500, "Błąd serwera");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sends the tasks matching the parameters of the request. The parameters are checked like the options of the
+     * {@code list} command of the {@link CommandLine}.
+     *
+     * @param exchange a given request
+     * @throws IOException when the response can't be sent
+     */
+    private void listTasks(HttpExchange exchange) throws IOException {
+        var options = CommandOptions.parse(readParameters(exchange),
+                Set.of("day", "done", "min-priority", "max-priority", "name"), Set.of());
+        var minPriority = options.getInt("min-priority", 1);
+        var maxPriority = options.getInt("max-priority", 10);
+        if ((minPriority < 1) || (maxPriority > 10) || (minPriority > maxPriority))
+            throw new IllegalArgumentException("Zakres priorytetów powinien mieścić się od 1 do 10");
+
+        var query = new TaskQueryBuilder()
+                .withWeekdays(options.getWeekdays())
+                .withPriorityRange(minPriority, maxPriority)
+                .withDone(options.getDone())
+                .withNameFragment(options.get("name"))
+                .build();
+
+        var tasks = new JsonArray();
+        queryService.find(query).forEach(task -> tasks.add(TaskJsonLines.toJson(null, task)));
+        send(exchange, 200, tasks);
+    }
+
+    /**
+     * Adds the task from the body of the request.
+     *
+     * @param exchange a given request
+     * @throws IOException when the request can't be read or the response can't be sent
+     */
+    private void addTask(HttpExchange exchange) throws IOException {
+        var task = readTask(exchange);
+
+        if (changes.addTask(task)) send(exchange, 201, TaskJsonLines.toJson(null, task));
+        else send(exchange, 409, createConflict(task, null));
+    }
+
+    /**
+     * Replaces the given task with the task from the body of the request, which may have another weekday or time.
+     *
+     * @param exchange a given request
+     * @param task     a given task of the planner
+     * @throws IOException when the request can't be read or the response can't be sent
+     */
+    private void editTask(HttpExchange exchange, SingleTask task) throws IOException {
+        var editedTask = readTask(exchange);
+
+        if (editedTask.equals(task) || changes.editTask(task, editedTask)) {
+            send(exchange, 200, TaskJsonLines.toJson(null, editedTask));
+        } else send(exchange, 409, createConflict(editedTask, task));
+    }
+
+    /**
+     * Deletes the given task.
+     *
+     * @param exchange a given request
+     * @param task     a given task of the planner
+     * @throws IOException when the response can't be sent
+     */
+    private void deleteTask(HttpExchange exchange, SingleTask task) throws IOException {
+        if (!changes.deleteTask(task)) {
+            sendError(exchange, 409, "Zadanie zostało w międzyczasie zmienione");
+            return;
+        }
+
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    /**
+     * @param path a given path after the {@link #TASKS_PATH}, i.e. {@code /{weekday}/{HH:mm}}
+     * @return a task of the actual snapshot at the weekday and time of the path, or null when there isn't any
+     * @throws IllegalArgumentException when the weekday or the time is invalid
+     */
+    private SingleTask findTask(String path) {
+        var parts = path.substring(1).split("/");
+        if (parts.length != 2) throw new IllegalArgumentException("Niepoprawna ścieżka zadania: " + path);
+
+        try {
+            return tasksService.getSnapshot()
+                    .getTaskByEventTime(CommandOptions.parseWeekday(parts[0]), LocalTime.parse(parts[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Niepoprawna godzina: " + parts[1]);
+        }
+    }
+
+    /**
+     * @param task        a given task which wasn't added or edited
+     * @param skippedTask a given task which is replaced by the task, or null when the task was added
+     * @return a body of the response with the tasks occupying the time of the given task
+     */
+    private JsonObject createConflict(SingleTask task, SingleTask skippedTask) {
+        var conflicts = new JsonArray();
+        tasksService.findConflicts(task).stream()
+                .filter(conflict -> !conflict.equals(skippedTask))
+                .forEach(conflict -> conflicts.add(TaskJsonLines.toJson(null, conflict)));
+
+        var body = new JsonObject();
+        body.addProperty("error", conflicts.isEmpty()
+                ? "Zadanie zostało w międzyczasie zmienione"
+                : "Termin jest zajęty");
+        body.add("conflicts", conflicts);
+
+        return body;
+    }
+
+    /**
+     * @param tasks given tasks of a weekday
+     * @return a JSON object with the numbers of the planned and done tasks, the achieved and the possible points
+     */
+    private JsonObject countPoints(List<SingleTask> tasks) {
+        var totals = tasks.stream()
+                .map(CompletionTotals::of)
+                .reduce(CompletionTotals.EMPTY, CompletionTotals::plus);
+
+        var points = new JsonObject();
+        points.addProperty("plannedTasks", totals.getPlannedTasks());
+        points.addProperty("doneTasks", totals.getDoneTasks());
+        points.addProperty("points", totals.getPoints());
+        points.addProperty("possiblePoints", totals.getPossiblePoints());
+
+        return points;
+    }
+
+    /**
+     * @param exchange a given request
+     * @return a task read from the body of the request
+     * @throws IOException              when the body can't be read
+     * @throws IllegalArgumentException when the body is too long or isn't a correct task
+     */
+    private SingleTask readTask(HttpExchange exchange) throws IOException {
+        var body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) throw new IllegalArgumentException("Treść żądania jest za długa");
+
+        return TaskJsonLines.fromLine(new String(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param exchange a given request
+     * @return the parameters of the query of the request as the arguments of the {@link CommandOptions}, e.g.
+     * {@code --day MONDAY}
+     */
+    private List<String> readParameters(HttpExchange exchange) {
+        var query = exchange.getRequestURI().getRawQuery();
+        var arguments = new ArrayList<String>();
+        if ((query == null) || query.isEmpty()) return arguments;
+
+        for (String parameter : query.split("&")) {
+            var separator = parameter.indexOf('=');
+            if (separator < 0) throw new IllegalArgumentException("Brak wartości parametru: " + parameter);
+
+            arguments.add("--" + URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8));
+            arguments.add(URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+
+        return arguments;
+    }
+
+    /**
+     * @param exchange a given request
+     * @param status   a given status of the response
+     * @param body     a given body of the response
+     * @throws IOException when the response can't be sent
+     */
+    private void send(HttpExchange exchange, int status, JsonElement body) throws IOException {
+        var bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Sends an error with the given message. When the response can't be sent, e.g. its headers were already sent, the
+     * error is only logged.
+     *
+     * @param exchange a given request
+     * @param status   a given status of the response
+     * @param message  a given message of the error
+     */
+    private void sendError(HttpExchange exchange, int status, String message) {
+        var body = new JsonObject();
+        body.addProperty("error", message);
+
+        try {
+            send(exchange, status, body);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "HTTP API error was not sent: " + message, e);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,38 @@
+package com.floweektracker.api;
+
+import com.floweektracker.model.SingleTask;
+import com.floweektracker.service.*;
+
+/**
+ * Represents {@link TaskChanges} applied directly to the {@link TasksService} when no window is open, e.g. in tests.
+ * The changes are applied one by one, so an edit, which deletes and adds a task, isn't interleaved with other changes.
+ * <br><br>
+ * Fields: {@link #tasksService}, {@link #namesService}
+ * <br><br>
+ * Methods: {@link #addTask(SingleTask)}, {@link #editTask(SingleTask, SingleTask)}, {@link #deleteTask(SingleTask)}
+ */
+public class SerializedTaskChanges implements TaskChanges {
+    private final TasksService tasksService = TasksService.getService();
+    private final TaskNamesService namesService = TaskNamesService.getService();
+
+    @Override
+    public synchronized boolean addTask(SingleTask task) {
+        if (!tasksService.addTask(task)) return false;
+
+        namesService.addTaskName(task.getTaskName());
+        return true;
+    }
+
+    @Override
+    public synchronized boolean editTask(SingleTask task, SingleTask editedTask) {
+        if (!tasksService.editTask(task, editedTask)) return false;
+
+        namesService.addTaskName(editedTask.getTaskName());
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteTask(SingleTask task) {
+        return tasksService.deleteTask(task);
+    }
+}
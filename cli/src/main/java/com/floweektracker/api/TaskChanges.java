@@ -0,0 +1,34 @@
+package com.floweektracker.api;
+
+import com.floweektracker.model.SingleTask;
+
+/**
+ * Represents the way in which the {@link HttpApiServer} changes the tasks of the planner. The changes come from many
+ * threads at once, so each implementation decides where they are applied: the {@link SerializedTaskChanges} applies
+ * them one by one to the {@link com.floweektracker.service.TasksService}, and the window applies them on the EDT
+ * together with its views. New task names are added to the task names by the implementation.
+ * <br><br>
+ * Methods: {@link #addTask(SingleTask)}, {@link #editTask(SingleTask, SingleTask)}, {@link #deleteTask(SingleTask)}
+ *
+ * @see com.floweektracker.controller.HttpApiController
+ */
+public interface TaskChanges {
+    /**
+     * @param task a given task
+     * @return true if the task was added, false if its time is occupied
+     */
+    boolean addTask(SingleTask task);
+
+    /**
+     * @param task       a given task of the planner
+     * @param editedTask a given task replacing it
+     * @return true if the task was replaced, false if it isn't in the planner anymore or the time is occupied
+     */
+    boolean editTask(SingleTask task, SingleTask editedTask);
+
+    /**
+     * @param task a given task of the planner
+     * @return true if the task was deleted, false if it isn't in the planner anymore
+     */
+    boolean deleteTask(SingleTask task);
+}
@@ -0,0 +1,15 @@
+/**
+ * Api package contains the local HTTP API of the application, which lists, adds, edits and deletes tasks and shows the
+ * points of the weekdays as JSON. It uses only the model and the services.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>HttpApiServer</b> - the HTTP server bound to the loopback address, handling each request on a virtual thread</li>
+ *     <li><b>SerializedTaskChanges</b> - the changes of the tasks applied one by one directly to the tasks service</li>
+ *     <li><b>TaskChanges</b> - an interface representing the way in which the server changes the tasks</li>
+ * </ul>
+ *
+ * @see com.floweektracker.service
+ * @see com.floweektracker.controller.HttpApiController
+ */
+package com.floweektracker.api;
@@ -0,0 +1,559 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import com.floweektracker.model.TaskQuery.TaskQueryBuilder;
+import com.floweektracker.repository.*;
+import com.floweektracker.service.*;
+import com.floweektracker.util.*;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Represents the command line of the application, which runs a single command against the data folder without
+ * starting Swing, e.g. from scripts or a scheduler. Only the core of the application is used: the repositories are set
+ * up for the data folder and the tasks are changed by the {@link TasksService}, like in the window. The data folder is
+ * locked by the {@link DataFolderLock} for the time of the command, so a command never races a running window
+ * and fails with {@link ExitCode#LOCKED} instead. The errors reported by the core through the {@link ErrorReporter}
+ * are printed to the error stream. Tasks are listed, exported and imported one by one, so a history of many years
+ * isn't kept in the memory at once. They are exported and imported in one of the {@link TaskFormat}s, and the
+ * imported tasks are added to the planner in batches.
+ * <br><br>
+ * Commands: {@code add}, {@code list}, {@code export}, {@code import}, {@code stats}, {@code reset-week} and
+ * {@code help}. Each of them accepts {@code --data <folder>}, which is the {@link DataFolders#getDefaultFolder()}
+ * when it isn't given.
+ * <br><br>
+ * Fields: {@link #VALUE_OPTIONS}, {@link #FLAG_OPTIONS}, {@link #USAGE}, {@link #BUFFER_SIZE},
+ * {@link #IMPORT_BATCH_SIZE}, {@link #in}, {@link #out}, {@link #err}, {@link #reportedErrors}
+ * <br><br>
+ * Methods: {@link #isCommand(String[])}, {@link #execute(String[])}, {@link #runCommand(String, CommandOptions)},
+ * {@link #addTask(CommandOptions)}, {@link #listTasks(CommandOptions)}, {@link #exportTasks(CommandOptions)},
+ * {@link #importTasks(CommandOptions)}, {@link #addImportedTasks(List, List)}, {@link #showStatistics(CommandOptions)},
+ * {@link #resetWeek(CommandOptions)}
+ *
+ * @see com.floweektracker.Main
+ */
+public class CommandLine {
+    /**
+     * Contains names of the options with a value accepted by each command.
+     */
+    private static final Map<String, Set<String>> VALUE_OPTIONS = Map.of(
+            "add", Set.of("data", "day", "time", "name", "description", "priority", "duration", "done"),
+            "list", Set.of("data", "day", "week", "min-priority", "max-priority", "done", "name"),
+            "export", Set.of("data", "from", "to", "output", "format"),
+            "import", Set.of("data", "input", "format"),
+            "stats", Set.of("data", "from", "to", "name"),
+            "reset-week", Set.of("data"),
+            "help", Set.of()
+    );
+    /**
+     * Contains names of the flags accepted by each command.
+     */
+    private static final Map<String, Set<String>> FLAG_OPTIONS = Map.of("reset-week", Set.of("force"));
+    private static final String USAGE = """
+            Użycie: floweektracker <polecenie> [opcje] [--data <folder>]
+              add --day <dzień> --time <HH:mm> --name <nazwa> [--priority 1-10] [--description <opis>]
+                  [--duration <minuty>] [--done tak|nie]
+              list [--day <dzień>]... [--week <rrrr-Wtt>] [--min-priority <n>] [--max-priority <n>]
+                  [--done tak|nie] [--name <fragment>]
+              export [--from <rrrr-Wtt>] [--to <rrrr-Wtt>] [--output <plik>] [--format jsonl|csv|ics]
+              import [--input <plik>] [--format jsonl|csv|ics]
+              stats [--from <rrrr-Wtt>] [--to <rrrr-Wtt>] [--name <nazwa>]
+              reset-week [--force]
+              help
+            Kody wyjścia: 0 - sukces, 1 - błąd danych, 2 - błędne polecenie, 3 - zajęty termin,
+              4 - folder danych jest używany przez uruchomioną aplikację""";
+    /**
+     * Represents a size of the buffers of the exported and imported files in characters.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * Represents a number of the imported tasks added to the planner at once.
+     *
+     * @see TasksService#addTasks(Collection)
+     */
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    private final InputStream in;
+    private final PrintStream out;
+    private final PrintStream err;
+    /**
+     * Represents a number of the errors reported by the core during the command, which make the command fail.
+     */
+    private int reportedErrors;
+
+    /**
+     * Creates a command line reading and writing the given streams.
+     *
+     * @param in  a given input, from which the tasks are imported when no file is given
+     * @param out a given output of the results
+     * @param err a given output of the errors and the messages
+     */
+    public CommandLine(@NonNull InputStream in, @NonNull PrintStream out, @NonNull PrintStream err) {
+        this.in = in;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * @param args given arguments of the application
+     * @return true if the first argument is a command of the command line, otherwise false
+     * @see com.floweektracker.Main#main(String[])
+     */
+    public static boolean isCommand(String[] args) {
+        return (args != null) && (args.length > 0) && VALUE_OPTIONS.containsKey(args[0]);
+    }
+
+    /**
+     * Runs the command from the given arguments. The data folder is locked and the repositories are set up before the
+     * command runs, and the lock is released after it, whatever the result is.
+     *
+     * @param args given arguments, where the first one is the command
+     * @return an exit code of the command
+     */
+    public ExitCode execute(@NonNull String[] args) {
+        if (!isCommand(args)) {
+            err.println(USAGE);
+            return ExitCode.USAGE;
+        }
+        if (args[0].equals("help")) {
+            out.println(USAGE);
+            return ExitCode.OK;
+        }
+
+        CommandOptions options;
+        File dataFolder;
+        try {
+            options = CommandOptions.parse(Arrays.asList(args).subList(1, args.length), VALUE_OPTIONS.get(args[0]),
+                    FLAG_OPTIONS.getOrDefault(args[0], Set.of()));
+            dataFolder = (options.getFile("data") != null)
+                    ? options.getFile("data")
+                    : DataFolders.getDefaultFolder();
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return ExitCode.USAGE;
+        }
+
+        if (!dataFolder.isDirectory()) {
+            err.println("Folder danych nie istnieje: " + dataFolder.getAbsolutePath());
+            return ExitCode.FAILURE;
+        }
+
+        var folderLock = DataFolderLock.getInstance();
+        if (!folderLock.tryAcquire(dataFolder)) {
+            err.println("Folder danych jest używany przez uruchomioną aplikację: " + dataFolder.getAbsolutePath());
+            return ExitCode.LOCKED;
+        }
+
+        reportedErrors = 0;
+        ErrorReporter.setHandler((title, message) -> {
+            reportedErrors++;
+            err.println(title + ": " + message);
+        });
+
+        try {
+            if (!RepositoryConfigurator.getConfigurator().setUpRepositories(dataFolder)) return ExitCode.FAILURE;
+
+            var exitCode = runCommand(args[0], options);
+            return ((exitCode == ExitCode.OK) && (reportedErrors > 0)) ? ExitCode.FAILURE : exitCode;
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return ExitCode.USAGE;
+        } catch (IOException | UncheckedIOException e) {
+            err.println("Błąd odczytu lub zapisu: " + e.getMessage());
+            return ExitCode.FAILURE;
+        } finally {
+            ErrorReporter.resetHandler();
+            folderLock.release();
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param command a given name of the command
+     * @param options given options of the command
+     * @return an exit code of the command
+     * @throws IOException when the input or the output can't be read or written
+     */
+    private ExitCode runCommand(String command, CommandOptions options) throws IOException {
+        return switch (command) {
+            case "add" -> addTask(options);
+            case "list" -> listTasks(options);
+            case "export" -> exportTasks(options);
+            case "import" -> importTasks(options);
+            case "stats" -> showStatistics(options);
+            case "reset-week" -> resetWeek(options);
+            default -> throw new IllegalArgumentException("Nieznane polecenie: " + command);
+        };
+    }
+
+    /**
+     * Adds a task with the given options to the planner and its name to the task names, and then saves both.
+     *
+     * @param options given options of the task
+     * @return {@link ExitCode#CONFLICT} when the time of the task is occupied, otherwise {@link ExitCode#OK}
+     */
+    private ExitCode addTask(CommandOptions options) {
+        var weekdays = options.getWeekdays();
+        if (weekdays.size() != 1) throw new IllegalArgumentException("Podaj jeden dzień tygodnia (--day)");
+
+        var time = options.getTime("time");
+        if (time == null) throw new IllegalArgumentException("Brak wymaganej opcji --time");
+
+        var name = options.getRequired("name").strip();
+        var priority = options.getInt("priority", 1);
+        if (name.isEmpty()) throw new IllegalArgumentException("Nazwa zadania nie może być pusta");
+        if ((priority < 1) || (priority > 10)) throw new IllegalArgumentException("Priorytet powinien być od 1 do 10");
+
+        SingleTask task;
+        try {
+            task = new SingleTask(name, options.get("description"), time, Boolean.TRUE.equals(options.getDone()),
+                    weekdays.iterator().next(), (byte) priority, options.getInt("duration", 0));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Zadanie powinno trwać najwyżej do północy");
+        }
+
+        var tasksService = TasksService.getService();
+        if (!tasksService.addTask(task)) {
+            err.println("Termin zadania jest zajęty przez: " + tasksService.findConflicts(task).stream()
+                    .map(this::formatTask)
+                    .toList());
+            return ExitCode.CONFLICT;
+        }
+
+        TaskNamesService.getService().addTaskName(name);
+        saveTasks();
+        out.println(formatTask(task));
+
+        return ExitCode.OK;
+    }
+
+    /**
+     * Prints the tasks of the planner, or of an archived week, which match the given options, one task per line.
+     *
+     * @param options given options of the listed tasks
+     * @return {@link ExitCode#FAILURE} when the given week isn't archived, otherwise {@link ExitCode#OK}
+     * @throws IOException when the output can't be opened
+     */
+    private ExitCode listTasks(CommandOptions options) throws IOException {
+        var minPriority = options.getInt("min-priority", 1);
+        var maxPriority = options.getInt("max-priority", 10);
+        if ((minPriority < 1) || (maxPriority > 10) || (minPriority > maxPriority))
+            throw new IllegalArgumentException("Zakres priorytetów powinien mieścić się od 1 do 10");
+
+        var query = new TaskQueryBuilder()
+                .withWeekdays(options.getWeekdays())
+                .withPriorityRange(minPriority, maxPriority)
+                .withDone(options.getDone())
+                .withNameFragment(options.get("name"))
+                .build();
+
+        var week = options.getWeek("week");
+        Stream<SingleTask> tasks;
+        if (week == null) tasks = TaskQueryService.getService().find(query).stream();
+        else {
+            var schedule = WeekHistoryRepository.getRepository().loadWeek(week);
+            if (schedule == null) {
+                err.println("Tydzień " + week + " nie jest zarchiwizowany");
+                return ExitCode.FAILURE;
+            }
+
+            tasks = streamTasks(schedule).filter(query::matches);
+        }
+
+        var writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(openOutput(null), out.charset())));
+        tasks.forEach(task -> writer.println(formatTask(task)));
+        writer.close();
+
+        return ExitCode.OK;
+    }
+
+    /**
+     * Exports the tasks of the planner, or of a range of the archived weeks, in the given {@link TaskFormat}. The
+     * archived weeks are read one by one and each task is written at once through the buffer. A file is written in
+     * UTF-8, and the {@link #out} in its own charset.
+     *
+     * @param options given options of the export
+     * @return {@link ExitCode#OK}
+     * @throws IOException when the output can't be written
+     */
+    private ExitCode exportTasks(CommandOptions options) throws IOException {
+        var from = options.getWeek("from");
+        var to = options.getWeek("to");
+        var historyRepository = WeekHistoryRepository.getRepository();
+        var exported = 0;
+
+        var file = options.getFile("output");
+        var format = TaskFormat.of(options.get("format"), file);
+        try (var writer = new BufferedWriter(new OutputStreamWriter(openOutput(file),
+                (file != null) ? StandardCharsets.UTF_8 : out.charset()), BUFFER_SIZE)) {
+            var taskWriter = format.createWriter(writer);
+
+            if ((from == null) && (to == null)) {
+                var week = Objects.requireNonNullElse(historyRepository.loadCurrentWeek(), IsoWeek.current());
+                exported = writeTasks(taskWriter, week, TasksService.getService().getSnapshot());
+            } else if (!historyRepository.getWeeks().isEmpty()) {
+                var weeks = historyRepository.getWeeks();
+                var range = historyRepository.streamWeeks(Objects.requireNonNullElse(from, weeks.first()),
+                        Objects.requireNonNullElse(to, weeks.last()));
+
+                for (var iterator = range.iterator(); iterator.hasNext(); ) {
+                    var entry = iterator.next();
+                    exported += writeTasks(taskWriter, entry.getKey(), entry.getValue());
+                }
+            }
+
+            taskWriter.finish();
+        }
+
+        err.println("Wyeksportowano zadań: " + exported);
+        return ExitCode.OK;
+    }
+
+    /**
+     * Imports the tasks in the given {@link TaskFormat} into the planner. The tasks are read one by one and added in
+     * batches of {@link #IMPORT_BATCH_SIZE}, so only a single batch is kept in the memory. Tasks whose time is occupied
+     * and invalid tasks are skipped and reported. The planner and the task names are saved once, at the end.
+     *
+     * @param options given options of the import
+     * @return {@link ExitCode#FAILURE} when a task is invalid, {@link ExitCode#CONFLICT} when a task was skipped
+     * because of its time, otherwise {@link ExitCode#OK}
+     * @throws IOException when the input can't be read
+     */
+    private ExitCode importTasks(CommandOptions options) throws IOException {
+        var input = options.getFile("input");
+        var format = TaskFormat.of(options.get("format"), input);
+        var batch = new ArrayList<SingleTask>(IMPORT_BATCH_SIZE);
+        var lineNumbers = new ArrayList<Integer>(IMPORT_BATCH_SIZE);
+        int added = 0, conflicts = 0, invalid = 0;
+
+        try (var reader = format.createReader(new BufferedReader(new InputStreamReader(
+                (input != null) ? Files.newInputStream(input.toPath()) : in, StandardCharsets.UTF_8), BUFFER_SIZE))) {
+            while (true) {
+                SingleTask task;
+                try {
+                    task = reader.read();
+                } catch (IllegalArgumentException e) {
+                    invalid++;
+                    err.println("Wiersz " + reader.getRecordLineNumber() + ": " + e.getMessage());
+                    continue;
+                }
+
+                if (task != null) {
+                    batch.add(task);
+                    lineNumbers.add(reader.getRecordLineNumber());
+                }
+                if ((task == null) || (batch.size() == IMPORT_BATCH_SIZE)) {
+                    var rejected = addImportedTasks(batch, lineNumbers);
+                    added += batch.size() - rejected;
+                    conflicts += rejected;
+                    batch.clear();
+                    lineNumbers.clear();
+                }
+                if (task == null) break;
+            }
+        }
+
+        if (added > 0) saveTasks();
+        out.printf("Zaimportowano zadań: %d, pominięto zajętych: %d, niepoprawnych: %d%n", added, conflicts, invalid);
+
+        if (invalid > 0) return ExitCode.FAILURE;
+        return (conflicts > 0) ? ExitCode.CONFLICT : ExitCode.OK;
+    }
+
+    /**
+     * Prints totals of the archived weeks. Without options, the stored statistics are printed with the totals of the
+     * weekdays and the best streaks. With a range of the weeks or a task name, the history is streamed through
+     * {@link StatisticsService#query(IsoWeek, IsoWeek, Predicate)}.
+     *
+     * @param options given options of the statistics
+     * @return {@link ExitCode#OK}
+     */
+    private ExitCode showStatistics(CommandOptions options) {
+        var statisticsService = StatisticsService.getService();
+        var from = options.getWeek("from");
+        var to = options.getWeek("to");
+        var name = options.get("name");
+
+        if ((from == null) && (to == null) && (name == null)) {
+            printTotals("Wszystkie tygodnie", statisticsService.getTotals());
+            for (WeekDays weekday : WeekDays.values()) {
+                printTotals(weekday.getWeekdayPL(), statisticsService.getTotals(weekday));
+            }
+            statisticsService.getBestStreaks(5).forEach(streak ->
+                    out.printf("Seria: %s - najdłuższa %d, obecna %d%n", streak.getTaskName(), streak.getBest(),
+                            statisticsService.getCurrentStreak(streak.getTaskName())));
+
+            return ExitCode.OK;
+        }
+
+        var weeks = WeekHistoryRepository.getRepository().getWeeks();
+        var totals = weeks.isEmpty() ? CompletionTotals.EMPTY : statisticsService.query(
+                Objects.requireNonNullElse(from, weeks.first()),
+                Objects.requireNonNullElse(to, weeks.last()),
+                task -> (name == null) || TextNormalizer.fold(name).equals(TextNormalizer.fold(task.getTaskName()))
+        );
+        printTotals((name != null) ? name : "Wybrane tygodnie", totals);
+
+        return ExitCode.OK;
+    }
+
+    /**
+     * Makes the week rollover like the window does: when the week of the planner has finished, it is archived, the
+     * tasks are marked as not done, the recurring templates are expanded for the current week and the planner is
+     * saved. When the week hasn't finished, the tasks are reset only with the {@code --force} flag, without archiving.
+     *
+     * @param options given options of the reset
+     * @return {@link ExitCode#FAILURE} when the finished week can't be archived, otherwise {@link ExitCode#OK}
+     * @see com.floweektracker.controller.WeekRolloverController
+     */
+    private ExitCode resetWeek(CommandOptions options) {
+        var rolloverService = WeekRolloverService.getService();
+        var tasksService = TasksService.getService();
+        var templateService = RecurringTemplateService.getService();
+        var currentWeek = IsoWeek.current();
+        var finishedWeek = rolloverService.findFinishedWeek(currentWeek);
+
+        if ((finishedWeek == null) && !options.has("force")) {
+            out.println("Tydzień " + currentWeek + " jeszcze trwa, użyj --force, aby mimo to zresetować zadania");
+            return ExitCode.OK;
+        }
+
+        var schedule = tasksService.getSnapshot();
+        if ((finishedWeek != null) && !rolloverService.archiveWeek(finishedWeek, schedule)) return ExitCode.FAILURE;
+
+        var resetTasks = tasksService.replaceTasks(rolloverService.prepareResetTasks(schedule));
+        templateService.load();
+        templateService.expandWeek(currentWeek);
+        templateService.saveTemplates(templateService.getTemplatesCopy());
+        if (!rolloverService.completeRollover(currentWeek, tasksService.getSnapshot())) return ExitCode.FAILURE;
+
+        if (finishedWeek != null) out.println("Zarchiwizowano tydzień " + finishedWeek);
+        out.println("Oznaczono jako niewykonane zadań: " + resetTasks);
+
+        return ExitCode.OK;
+    }
+
+    /**
+     * Adds the given batch of the imported tasks to the planner at once and their names to the task names. The tasks
+     * whose time is occupied are reported with their lines.
+     *
+     * @param batch       given imported tasks
+     * @param lineNumbers given numbers of the lines of the tasks, in the same order
+     * @return a number of the tasks which weren't added because of their time
+     * @see TasksService#addTasks(Collection)
+     */
+    private int addImportedTasks(List<SingleTask> batch, List<Integer> lineNumbers) {
+        if (batch.isEmpty()) return 0;
+
+        var namesService = TaskNamesService.getService();
+        var rejectedTasks = TasksService.getService().addTasks(batch).iterator();
+        var rejectedTask = rejectedTasks.hasNext() ? rejectedTasks.next() : null;
+        var rejected = 0;
+
+        for (int i = 0; i < batch.size(); i++) {
+            var task = batch.get(i);
+
+            if (task != rejectedTask) namesService.addTaskName(task.getTaskName());
+            else {
+                rejected++;
+                err.println("Wiersz " + lineNumbers.get(i) + ": termin jest zajęty - " + formatTask(task));
+                rejectedTask = rejectedTasks.hasNext() ? rejectedTasks.next() : null;
+            }
+        }
+
+        return rejected;
+    }
+
+    /**
+     * Saves the snapshot of the planner and the task names. The command runs on a single thread, so the snapshot is
+     * the actual state of the planner.
+     */
+    private void saveTasks() {
+        var tasksService = TasksService.getService();
+
+        tasksService.savePlanner(tasksService.getSnapshot());
+        TaskNamesService.getService().saveTaskNames();
+    }
+
+    /**
+     * @param writer   a given writer of the exported tasks
+     * @param week     a given week of the schedule
+     * @param schedule a given snapshot of the schedule
+     * @return a number of the written tasks
+     * @throws IOException when the tasks can't be written
+     */
+    private int writeTasks(TaskWriter writer, IsoWeek week, ScheduleSnapshot schedule) throws IOException {
+        var written = 0;
+
+        for (var iterator = streamTasks(schedule).iterator(); iterator.hasNext(); written++) {
+            writer.write(week, iterator.next());
+        }
+
+        return written;
+    }
+
+    /**
+     * @param schedule a given snapshot of the schedule
+     * @return a stream of the tasks of the schedule in the order of the weekdays and the times
+     */
+    private Stream<SingleTask> streamTasks(ScheduleSnapshot schedule) {
+        return Arrays.stream(WeekDays.values())
+                .flatMap(weekday -> schedule.getTasksFromWeekday(weekday).values().stream());
+    }
+
+    /**
+     * @param file a given output file, or null for the {@link #out}
+     * @return a stream writing the channel of the file, or the {@link #out} which is only flushed when the stream is
+     * closed
+     * @throws IOException when the file can't be opened
+     */
+    private OutputStream openOutput(File file) throws IOException {
+        if (file != null) return Files.newOutputStream(file.toPath());
+
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                CommandLine.this.out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() {
+                CommandLine.this.out.flush();
+            }
+        };
+    }
+
+    /**
+     * @param task a given task
+     * @return a line with the weekday, the time, the priority, the done status, the duration, the name and the
+     * description of the task separated by tabs
+     */
+    private String formatTask(SingleTask task) {
+        return String.join("\t",
+                task.getWeekday().getWeekdayPL(),
+                task.getTime().toString(),
+                String.valueOf(task.getPriority()),
+                task.isDone() ? "tak" : "nie",
+                String.valueOf(task.getDurationMinutes()),
+                task.getTaskName(),
+                Objects.requireNonNullElse(task.getDescription(), "")
+        );
+    }
+
+    /**
+     * @param label  a given label of the totals
+     * @param totals given totals of the tasks
+     */
+    private void printTotals(String label, CompletionTotals totals) {
+        out.printf(Locale.ROOT, "%s: wykonano %d z %d zadań (%.1f%%), punkty %d z %d (%.1f%%)%n", label,
+                totals.getDoneTasks(), totals.getPlannedTasks(), totals.getCompletionRate() * 100,
+                totals.getPoints(), totals.getPossiblePoints(), totals.getPointsRate() * 100);
+    }
+    //endregion
+}
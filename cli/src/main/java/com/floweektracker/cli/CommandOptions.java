@@ -0,0 +1,189 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import lombok.NonNull;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Represents options of a command of the {@link CommandLine}. Options with a value are given as {@code --name value}
+ * and flags as {@code --name}. Each option can be given once, except the weekdays, which are collected. Unknown
+ * options, missing values and values which can't be converted are rejected by an {@link IllegalArgumentException},
+ * whose message is shown to the user.
+ * <br><br>
+ * Fields: {@link #values}, {@link #flags}
+ * <br><br>
+ * Methods: {@link #parse(List, Set, Set)}, {@link #has(String)}, {@link #get(String)}, {@link #getRequired(String)},
+ * {@link #getWeekdays()}, {@link #getTime(String)}, {@link #getWeek(String)}, {@link #getInt(String, int)},
+ * {@link #getDone()}, {@link #getFile(String)}, {@link #parseWeekday(String)}
+ */
+public class CommandOptions {
+    /**
+     * Contains values of the options by their names without the leading dashes.
+     */
+    private final Map<String, List<String>> values = new HashMap<>();
+    private final Set<String> flags = new HashSet<>();
+
+    private CommandOptions() {}
+
+    /**
+     * @param args         given arguments of the command without its name
+     * @param valueOptions names of the options with a value which the command accepts
+     * @param flagOptions  names of the flags which the command accepts
+     * @return parsed options
+     * @throws IllegalArgumentException when an option is unknown, repeated or its value is missing
+     */
+    public static CommandOptions parse(@NonNull List<String> args, @NonNull Set<String> valueOptions,
+                                       @NonNull Set<String> flagOptions) {
+        var options = new CommandOptions();
+
+        for (int index = 0; index < args.size(); index++) {
+            var arg = args.get(index);
+            var name = arg.startsWith("--") ? arg.substring(2) : null;
+
+            if ((name != null) && flagOptions.contains(name)) options.flags.add(name);
+            else if ((name != null) && valueOptions.contains(name)) {
+                if (++index >= args.size()) throw new IllegalArgumentException("Brak wartości opcji " + arg);
+                if (options.values.containsKey(name) && !name.equals("day"))
+                    throw new IllegalArgumentException("Opcja " + arg + " została podana kilka razy");
+
+                options.values.computeIfAbsent(name, _ -> new ArrayList<>()).add(args.get(index));
+            } else throw new IllegalArgumentException("Nieznana opcja: " + arg);
+        }
+
+        return options;
+    }
+
+    /**
+     * @param name a given name of an option or a flag
+     * @return true if the option or the flag is given, otherwise false
+     */
+    public boolean has(String name) {
+        return flags.contains(name) || values.containsKey(name);
+    }
+
+    /**
+     * @param name a given name of an option
+     * @return a value of the option or null when it isn't given
+     */
+    public String get(String name) {
+        var optionValues = values.get(name);
+
+        return (optionValues != null) ? optionValues.getFirst() : null;
+    }
+
+    /**
+     * @param name a given name of an option
+     * @return a value of the option
+     * @throws IllegalArgumentException when the option isn't given
+     */
+    public String getRequired(String name) {
+        var value = get(name);
+        if (value == null) throw new IllegalArgumentException("Brak wymaganej opcji --" + name);
+
+        return value;
+    }
+
+    /**
+     * @return weekdays of all {@code --day} options, or an empty set when none is given
+     * @throws IllegalArgumentException when a weekday is unknown
+     */
+    public Set<WeekDays> getWeekdays() {
+        var weekdays = EnumSet.noneOf(WeekDays.class);
+        values.getOrDefault("day", List.of()).forEach(day -> weekdays.add(parseWeekday(day)));
+
+        return weekdays;
+    }
+
+    /**
+     * @param name a given name of an option
+     * @return a time of the option in the form {@code HH:mm}, or null when it isn't given
+     * @throws IllegalArgumentException when the time is invalid
+     */
+    public LocalTime getTime(String name) {
+        var value = get(name);
+        if (value == null) return null;
+
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Niepoprawna godzina: " + value);
+        }
+    }
+
+    /**
+     * @param name a given name of an option
+     * @return a week of the option in the form {@code yyyy-Www}, or null when it isn't given
+     * @throws IllegalArgumentException when the week is invalid
+     */
+    public IsoWeek getWeek(String name) {
+        var value = get(name);
+        if (value == null) return null;
+
+        var week = IsoWeek.parse(value);
+        if (week == null) throw new IllegalArgumentException("Niepoprawny tydzień: " + value + " (np. 2025-W07)");
+
+        return week;
+    }
+
+    /**
+     * @param name         a given name of an option
+     * @param defaultValue a value returned when the option isn't given
+     * @return a number of the option
+     * @throws IllegalArgumentException when the value isn't a number
+     */
+    public int getInt(String name, int defaultValue) {
+        var value = get(name);
+        if (value == null) return defaultValue;
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Niepoprawna liczba: " + value);
+        }
+    }
+
+    /**
+     * @return the done status of the {@code --done} option, which is {@code tak} or {@code nie}, or null when it isn't
+     * given
+     * @throws IllegalArgumentException when the status is neither of them
+     */
+    public Boolean getDone() {
+        var value = get("done");
+        if (value == null) return null;
+
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "tak", "true" -> true;
+            case "nie", "false" -> false;
+            default -> throw new IllegalArgumentException("Niepoprawny status wykonania: " + value + " (tak/nie)");
+        };
+    }
+
+    /**
+     * @param name a given name of an option
+     * @return a file of the option, or null when it isn't given or is {@code -}, i.e. the standard stream
+     */
+    public File getFile(String name) {
+        var value = get(name);
+
+        return ((value == null) || value.equals("-")) ? null : new File(value);
+    }
+
+    /**
+     * @param day a given Polish or English name of a weekday, in any letter case
+     * @return a weekday with the given name
+     * @throws IllegalArgumentException when the weekday is unknown
+     */
+    public static WeekDays parseWeekday(String day) {
+        var weekday = WeekDays.valueOfName(WeekDays.POLISH, day);
+        if (weekday != null) return weekday;
+
+        return Arrays.stream(WeekDays.values())
+                .filter(value -> value.name().equalsIgnoreCase(day))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Nieznany dzień tygodnia: " + day));
+    }
+}
@@ -0,0 +1,32 @@
+package com.floweektracker.cli;
+
+import lombok.*;
+
+/**
+ * Represents exit codes of the commands of the {@link CommandLine}, so scripts can tell why a command failed.
+ * <br><br>
+ * Fields: {@link #code}
+ */
+@Getter
+@AllArgsConstructor
+public enum ExitCode {
+    OK(0),
+    /**
+     * The data couldn't be read or saved, or the input contained invalid tasks.
+     */
+    FAILURE(1),
+    /**
+     * The command or its options are unknown or invalid.
+     */
+    USAGE(2),
+    /**
+     * At least one task wasn't added, because its time is occupied by another task.
+     */
+    CONFLICT(3),
+    /**
+     * The data folder is used by a running instance of the application.
+     */
+    LOCKED(4);
+
+    private final int code;
+}
@@ -0,0 +1,206 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.*;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Represents the CSV format of the exported tasks, e.g. for a spreadsheet. The first record is the {@link #HEADER} and
+ * each next record is one task, with the same values as in the {@link TaskJsonLines}. The values are separated by
+ * commas and quoted when needed as described in RFC 4180, so a description may contain commas, quotes and new lines.
+ * The imported columns are found by their names in the header, so they may be in any order, and only the weekday, the
+ * time and the name are required.
+ * <br><br>
+ * Fields: {@link #HEADER}
+ * <br><br>
+ * Methods: {@link #writer(Writer)}, {@link #reader(BufferedReader)}, {@link #toRecord(IsoWeek, SingleTask)},
+ * {@link #fromRecord(Map, List)}, {@link #quote(String)}, {@link #readRecord(TaskReader, String, int)}
+ *
+ * @see TaskFormat#CSV
+ */
+@UtilityClass
+public class TaskCsv {
+    /**
+     * Contains names of the columns of the exported tasks.
+     */
+    public static final List<String> HEADER = List.of("week", "weekday", "time", "name", "description", "priority",
+            "done", "duration");
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * @param writer a given writer of the exported tasks
+     * @return a writer of the tasks, which has already written the {@link #HEADER}
+     * @throws IOException when the header can't be written
+     */
+    public static TaskWriter writer(@NonNull Writer writer) throws IOException {
+        writer.write(String.join(",", HEADER));
+        writer.write(LINE_SEPARATOR);
+
+        return (week, task) -> {
+            writer.write(toRecord(week, task));
+            writer.write(LINE_SEPARATOR);
+        };
+    }
+
+    /**
+     * @param reader a given reader of the imported tasks, which starts with a header
+     * @return a reader of the tasks, which skips the blank lines; its first read fails with an {@link IOException} when
+     * the header is missing the weekday, the time or the name
+     */
+    public static TaskReader reader(@NonNull BufferedReader reader) {
+        return new TaskReader(reader) {
+            private final Map<String, Integer> columns = new HashMap<>();
+
+            @Override
+            public SingleTask read() throws IOException {
+                if (columns.isEmpty() && !readHeader()) return null;
+
+                var record = readRecord(this, readNonBlankLine(), getRecordLineNumber());
+                return (record == null) ? null : fromRecord(columns, record);
+            }
+
+            private boolean readHeader() throws IOException {
+                var header = readRecord(this, readNonBlankLine(), getRecordLineNumber());
+                if (header == null) return false;
+
+                for (int i = 0; i < header.size(); i++) {
+                    columns.putIfAbsent(header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.keySet().containsAll(List.of("weekday", "time", "name")))
+                    throw new IOException("Nagłówek CSV powinien zawierać kolumny weekday, time i name");
+
+                return true;
+            }
+
+            private String readNonBlankLine() throws IOException {
+                var line = readLine();
+                while ((line != null) && line.isBlank()) line = readLine();
+                startRecord(getLineNumber());
+
+                return line;
+            }
+        };
+    }
+
+    /**
+     * @param week a given week of the task, or null when it is unknown
+     * @param task a given task
+     * @return a single record of CSV representing the task, without the line separator
+     */
+    public static String toRecord(IsoWeek week, @NonNull SingleTask task) {
+        return String.join(",",
+                (week != null) ? week.toString() : "",
+                task.getWeekday().name(),
+                task.getTime().toString(),
+                quote(task.getTaskName()),
+                quote(Objects.requireNonNullElse(task.getDescription(), "")),
+                String.valueOf(task.getPriority()),
+                String.valueOf(task.isDone()),
+                String.valueOf(task.getDurationMinutes())
+        );
+    }
+
+    /**
+     * @param columns given positions of the columns by their names
+     * @param record  given values of a record
+     * @return a task read from the record; its week is skipped
+     * @throws IllegalArgumentException when the record isn't a correct task
+     */
+    public static SingleTask fromRecord(@NonNull Map<String, Integer> columns, @NonNull List<String> record) {
+        var values = new HashMap<String, String>();
+        columns.forEach((column, position) -> {
+            if ((position < record.size()) && !record.get(position).isEmpty())
+                values.put(column, record.get(position));
+        });
+
+        try {
+            var name = values.get("name");
+            var priority = Integer.parseInt(values.getOrDefault("priority", "1").strip());
+            if ((name == null) || name.isBlank() || (priority < 1) || (priority > 10))
+                throw new IllegalArgumentException();
+
+            return new SingleTask(
+                    name,
+                    values.get("description"),
+                    LocalTime.parse(values.get("time").strip()),
+                    switch (values.getOrDefault("done", "false").strip().toLowerCase(Locale.ROOT)) {
+                        case "tak", "true" -> true;
+                        case "nie", "false" -> false;
+                        default -> throw new IllegalArgumentException();
+                    },
+                    CommandOptions.parseWeekday(values.get("weekday").strip()),
+                    (byte) priority,
+                    Integer.parseInt(values.getOrDefault("duration", "0").strip())
+            );
+        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Niepoprawne zadanie: " + String.join(",", record));
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param value a given value
+     * @return the value, which is quoted when it contains a comma, a quote or a new line
+     */
+    private static String quote(String value) {
+        if (value.chars().noneMatch(character -> (character == ',') || (character == '"') || (character == '\n')
+                || (character == '\r'))) return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads a record starting with the given line. When a quoted value contains new lines, the next lines are read by
+     * the given reader until the value is closed.
+     *
+     * @param reader     a given reader of the next lines
+     * @param line       a given first line of the record, or null at the end of the reader
+     * @param lineNumber a given number of the first line, used in the messages
+     * @return values of the record, or null when the given line is null
+     * @throws IOException when the next lines can't be read, or the record is longer than
+     *                     {@link TaskReader#MAX_RECORD_LENGTH}
+     */
+    private static List<String> readRecord(TaskReader reader, String line, int lineNumber) throws IOException {
+        if (line == null) return null;
+
+        var values = new ArrayList<String>();
+        var value = new StringBuilder();
+        var quoted = false;
+        var length = 0;
+
+        while (true) {
+            length += line.length();
+            if (length > TaskReader.MAX_RECORD_LENGTH)
+                throw new IOException("Wiersz " + lineNumber + ": rekord CSV jest zbyt długi");
+
+            for (int i = 0; i < line.length(); i++) {
+                var character = line.charAt(i);
+
+                if (quoted) {
+                    if (character != '"') value.append(character);
+                    else if ((i + 1 < line.length()) && (line.charAt(i + 1) == '"')) value.append(line.charAt(++i));
+                    else quoted = false;
+                } else if (character == '"') quoted = true;
+                else if (character == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else value.append(character);
+            }
+
+            if (!quoted) break;
+
+            line = reader.readLine();
+            if (line == null) throw new IllegalArgumentException("Niezamknięty cudzysłów w rekordzie CSV");
+            value.append('\n');
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+    //endregion
+}
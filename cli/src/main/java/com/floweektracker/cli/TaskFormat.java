@@ -0,0 +1,79 @@
+package com.floweektracker.cli;
+
+import lombok.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Represents formats in which the {@link CommandLine} exports and imports the tasks. The format is given by the
+ * {@code --format} option, or found by the extension of the file, and it is {@link #JSONL} by default.
+ * <br><br>
+ * Fields: {@link #extension}
+ * <br><br>
+ * Methods: {@link #of(String, File)}, {@link #createWriter(Writer)}, {@link #createReader(BufferedReader)}
+ */
+@Getter
+@AllArgsConstructor
+public enum TaskFormat {
+    /**
+     * @see TaskJsonLines
+     */
+    JSONL(".jsonl"),
+    /**
+     * @see TaskCsv
+     */
+    CSV(".csv"),
+    /**
+     * @see TaskICalendar
+     */
+    ICS(".ics");
+
+    private final String extension;
+
+    /**
+     * @param name a given name of the format, or null when it isn't given
+     * @param file a given exported or imported file, or null for the standard stream
+     * @return the format with the given name, or the format of the extension of the file, or {@link #JSONL}
+     * @throws IllegalArgumentException when the name isn't a name of any format
+     */
+    public static TaskFormat of(String name, File file) {
+        if (name != null) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Nieznany format: " + name + " (jsonl, csv, ics)"));
+        }
+
+        var fileName = (file != null) ? file.getName().toLowerCase(Locale.ROOT) : "";
+        return Arrays.stream(values())
+                .filter(format -> fileName.endsWith(format.extension))
+                .findFirst()
+                .orElse(JSONL);
+    }
+
+    /**
+     * @param writer a given writer of the exported tasks
+     * @return a writer of the tasks in this format
+     * @throws IOException when the beginning of the exported tasks can't be written
+     */
+    public TaskWriter createWriter(@NonNull Writer writer) throws IOException {
+        return switch (this) {
+            case JSONL -> TaskJsonLines.writer(writer);
+            case CSV -> TaskCsv.writer(writer);
+            case ICS -> TaskICalendar.writer(writer);
+        };
+    }
+
+    /**
+     * @param reader a given reader of the imported tasks
+     * @return a reader of the tasks in this format
+     */
+    public TaskReader createReader(@NonNull BufferedReader reader) {
+        return switch (this) {
+            case JSONL -> TaskJsonLines.reader(reader);
+            case CSV -> TaskCsv.reader(reader);
+            case ICS -> TaskICalendar.reader(reader);
+        };
+    }
+}
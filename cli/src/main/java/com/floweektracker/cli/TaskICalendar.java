@@ -0,0 +1,273 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.*;
+import java.time.*;
+import java.time.format.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Represents the iCalendar format of the exported tasks (RFC 5545), e.g. for a calendar application. Each task is an
+ * event starting at its date in its week and its time, in the local time without a time zone, and lasting for its
+ * duration. The priority and the done status are written in the properties {@link #PRIORITY_PROPERTY} and
+ * {@link #DONE_PROPERTY}, so the tasks are imported without changes; events of other applications are imported with
+ * the priority mapped from the {@code PRIORITY} property. The lines are folded at 75 bytes, and the nested components,
+ * e.g. alarms, are skipped when importing.
+ * <br><br>
+ * Fields: {@link #PRIORITY_PROPERTY}, {@link #DONE_PROPERTY}
+ * <br><br>
+ * Methods: {@link #writer(Writer)}, {@link #reader(BufferedReader)}, {@link #writeEvent(Writer, IsoWeek, SingleTask,
+ * String)}, {@link #fromEvent(Map)}, {@link #writeLine(Writer, String)}, {@link #escape(String)},
+ * {@link #unescape(String)}, {@link #parseDateTime(String)}
+ *
+ * @see TaskFormat#ICS
+ */
+@UtilityClass
+public class TaskICalendar {
+    /**
+     * Represents a name of the property with the priority of the task, from 1 to 10.
+     */
+    public static final String PRIORITY_PROPERTY = "X-FLOWEEKTRACKER-PRIORITY";
+    /**
+     * Represents a name of the property with the done status of the task, {@code TRUE} or {@code FALSE}.
+     */
+    public static final String DONE_PROPERTY = "X-FLOWEEKTRACKER-DONE";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_BYTES = 75;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    /**
+     * @param writer a given writer of the exported tasks
+     * @return a writer of the tasks, which has already written the beginning of the calendar and writes its end when
+     * it is finished
+     * @throws IOException when the beginning can't be written
+     */
+    public static TaskWriter writer(@NonNull Writer writer) throws IOException {
+        var stamp = DATE_TIME_FORMAT.format(LocalDateTime.now(ZoneOffset.UTC)) + "Z";
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//FloWeekTracker//PL");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+
+        return new TaskWriter() {
+            @Override
+            public void write(IsoWeek week, SingleTask task) throws IOException {
+                writeEvent(writer, Objects.requireNonNullElseGet(week, IsoWeek::current), task, stamp);
+            }
+
+            @Override
+            public void finish() throws IOException {
+                writeLine(writer, "END:VCALENDAR");
+            }
+        };
+    }
+
+    /**
+     * @param reader a given reader of the imported calendar
+     * @return a reader of the tasks from the events of the calendar
+     */
+    public static TaskReader reader(@NonNull BufferedReader reader) {
+        return new TaskReader(reader) {
+            private String nextLine;
+            private int unfoldedLineNumber;
+
+            @Override
+            public SingleTask read() throws IOException {
+                Map<String, String> properties = null;
+                var nestedComponents = 0;
+
+                for (var line = readUnfoldedLine(); line != null; line = readUnfoldedLine()) {
+                    var upperCaseLine = line.toUpperCase(Locale.ROOT);
+
+                    if (properties == null) {
+                        if (upperCaseLine.equals("BEGIN:VEVENT")) {
+                            startRecord(unfoldedLineNumber);
+                            properties = new HashMap<>();
+                        }
+                    } else if (upperCaseLine.startsWith("BEGIN:")) nestedComponents++;
+                    else if (upperCaseLine.startsWith("END:") && (nestedComponents > 0)) nestedComponents--;
+                    else if (upperCaseLine.equals("END:VEVENT")) return fromEvent(properties);
+                    else if (nestedComponents == 0) {
+                        var separator = line.indexOf(':');
+                        if (separator < 0) continue;
+
+                        var name = line.substring(0, separator);
+                        var parameters = name.indexOf(';');
+                        properties.putIfAbsent(((parameters < 0) ? name : name.substring(0, parameters))
+                                .toUpperCase(Locale.ROOT), line.substring(separator + 1));
+                    }
+                }
+
+                if (properties != null) throw new IllegalArgumentException("Niezakończone wydarzenie kalendarza");
+                return null;
+            }
+
+            /**
+             * @return a next line joined with its folded continuation lines, or null at the end of the reader
+             */
+            private String readUnfoldedLine() throws IOException {
+                var line = (nextLine != null) ? nextLine : readLine();
+                if (line == null) return null;
+
+                unfoldedLineNumber = (nextLine != null) ? getLineNumber() - 1 : getLineNumber();
+                var unfolded = new StringBuilder(line);
+                for (nextLine = readLine(); (nextLine != null) && !nextLine.isEmpty()
+                        && ((nextLine.charAt(0) == ' ') || (nextLine.charAt(0) == '\t')); nextLine = readLine()) {
+                    if (unfolded.length() + nextLine.length() > MAX_RECORD_LENGTH)
+                        throw new IOException("Wiersz " + unfoldedLineNumber + ": wiersz kalendarza jest zbyt długi");
+
+                    unfolded.append(nextLine, 1, nextLine.length());
+                }
+
+                return unfolded.toString();
+            }
+        };
+    }
+
+    /**
+     * @param properties given values of the properties of an event by their names
+     * @return a task read from the event
+     * @throws IllegalArgumentException when the event isn't a correct task
+     */
+    public static SingleTask fromEvent(@NonNull Map<String, String> properties) {
+        try {
+            var name = unescape(properties.get("SUMMARY"));
+            var start = parseDateTime(properties.get("DTSTART"));
+            var duration = 0L;
+            if (properties.containsKey("DURATION")) duration = Duration.parse(properties.get("DURATION")).toMinutes();
+            else if (properties.containsKey("DTEND"))
+                duration = ChronoUnit.MINUTES.between(start, parseDateTime(properties.get("DTEND")));
+
+            int priority;
+            if (properties.containsKey(PRIORITY_PROPERTY)) {
+                priority = Integer.parseInt(properties.get(PRIORITY_PROPERTY));
+            } else {
+                var calendarPriority = Integer.parseInt(properties.getOrDefault("PRIORITY", "0"));
+                priority = ((calendarPriority >= 1) && (calendarPriority <= 9)) ? 10 - calendarPriority : 1;
+            }
+            if ((name == null) || name.isBlank() || (priority < 1) || (priority > 10))
+                throw new IllegalArgumentException();
+
+            return new SingleTask(
+                    name,
+                    unescape(properties.get("DESCRIPTION")),
+                    start.toLocalTime(),
+                    Boolean.parseBoolean(properties.get(DONE_PROPERTY)),
+                    WeekDays.getWeekdayAt(start.getDayOfWeek().getValue() - 1),
+                    (byte) priority,
+                    Math.toIntExact(duration)
+            );
+        } catch (IllegalArgumentException | ArithmeticException | NullPointerException | DateTimeException e) {
+            throw new IllegalArgumentException("Niepoprawne wydarzenie: " + properties.get("SUMMARY"));
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param writer a given writer of the calendar
+     * @param week   a given week of the task
+     * @param task   a given task
+     * @param stamp  a given time of the export in UTC
+     * @throws IOException when the event can't be written
+     */
+    private static void writeEvent(Writer writer, IsoWeek week, SingleTask task, String stamp) throws IOException {
+        var start = week.getDate(task.getWeekday()).atTime(task.getTime());
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + week + "-" + task.getWeekday() + "-" + task.getTime().toString().replace(":", "")
+                + "@floweektracker");
+        writeLine(writer, "DTSTAMP:" + stamp);
+        writeLine(writer, "DTSTART:" + DATE_TIME_FORMAT.format(start));
+        if (task.getDurationMinutes() > 0) writeLine(writer, "DURATION:PT" + task.getDurationMinutes() + "M");
+        writeLine(writer, "SUMMARY:" + escape(task.getTaskName()));
+        if (task.getDescription() != null) writeLine(writer, "DESCRIPTION:" + escape(task.getDescription()));
+        writeLine(writer, "PRIORITY:" + Math.max(1, 10 - task.getPriority()));
+        writeLine(writer, PRIORITY_PROPERTY + ":" + task.getPriority());
+        writeLine(writer, DONE_PROPERTY + ":" + String.valueOf(task.isDone()).toUpperCase(Locale.ROOT));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    /**
+     * Writes the given line folded into lines of at most {@link #MAX_LINE_BYTES} bytes of UTF-8. The continuation
+     * lines start with a space, and a character is never split between the lines.
+     *
+     * @param writer a given writer of the calendar
+     * @param line   a given content line
+     * @throws IOException when the line can't be written
+     */
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int segmentStart = 0, segmentBytes = 0;
+
+        for (int i = 0; i < line.length(); ) {
+            var codePoint = line.codePointAt(i);
+            var bytes = (codePoint < 0x80) ? 1 : (codePoint < 0x800) ? 2 : (codePoint < 0x10000) ? 3 : 4;
+
+            if (segmentBytes + bytes > MAX_LINE_BYTES) {
+                writer.write(line, segmentStart, i - segmentStart);
+                writer.write(LINE_SEPARATOR);
+                writer.write(' ');
+                segmentStart = i;
+                segmentBytes = 1;
+            }
+
+            segmentBytes += bytes;
+            i += Character.charCount(codePoint);
+        }
+
+        writer.write(line, segmentStart, line.length() - segmentStart);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * @param text a given text
+     * @return the text with the backslashes, semicolons, commas and new lines escaped as a value of the TEXT type
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * @param text a given value of the TEXT type, or null
+     * @return the value without the escaping, or null when it is null
+     */
+    private static String unescape(String text) {
+        if (text == null) return null;
+
+        var unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            var character = text.charAt(i);
+            if ((character != '\\') || (i + 1 == text.length())) {
+                unescaped.append(character);
+                continue;
+            }
+
+            var escaped = text.charAt(++i);
+            unescaped.append(((escaped == 'n') || (escaped == 'N')) ? '\n' : escaped);
+        }
+
+        return unescaped.toString();
+    }
+
+    /**
+     * @param value a given value of the DATE-TIME type, in the local time or in UTC with the {@code Z} suffix
+     * @return a local date and time, converted from UTC to the system time zone when needed
+     * @throws DateTimeParseException when the value isn't a DATE-TIME
+     */
+    private static LocalDateTime parseDateTime(String value) {
+        if (!value.endsWith("Z")) return LocalDateTime.parse(value, DATE_TIME_FORMAT);
+
+        return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMAT)
+                .atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+    //endregion
+}
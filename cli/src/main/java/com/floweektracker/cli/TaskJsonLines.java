@@ -0,0 +1,128 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import com.google.gson.*;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.*;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Represents the format of the exported tasks, in which each line is a single JSON object of one task: its week, the
+ * weekday, the time, the name, the description, the priority, the done status and the duration. A line doesn't depend
+ * on the other lines, so a history of any length is written and read line by line, without keeping it in the memory.
+ * The names are written as text, not as the ids of the {@link TaskNameDictionary}, so the file can be imported into
+ * another data folder. The same objects are sent and received by the {@link com.floweektracker.api.HttpApiServer}.
+ * <br><br>
+ * Methods: {@link #writer(Writer)}, {@link #reader(BufferedReader)}, {@link #toLine(IsoWeek, SingleTask)},
+ * {@link #toJson(IsoWeek, SingleTask)}, {@link #fromLine(String)}, {@link #readString(JsonObject, String)}
+ *
+ * @see CommandLine
+ */
+@UtilityClass
+public class TaskJsonLines {
+    private static final Gson GSON = new Gson();
+
+    /**
+     * @param writer a given writer of the exported tasks
+     * @return a writer of the tasks, one line per task
+     * @see TaskFormat#JSONL
+     */
+    public static TaskWriter writer(@NonNull Writer writer) {
+        return (week, task) -> {
+            writer.write(toLine(week, task));
+            writer.write(System.lineSeparator());
+        };
+    }
+
+    /**
+     * @param reader a given reader of the imported tasks
+     * @return a reader of the tasks, one line per task, which skips the blank lines
+     * @see TaskFormat#JSONL
+     */
+    public static TaskReader reader(@NonNull BufferedReader reader) {
+        return new TaskReader(reader) {
+            @Override
+            public SingleTask read() throws IOException {
+                var line = readLine();
+                while ((line != null) && line.isBlank()) line = readLine();
+                if (line == null) return null;
+
+                startRecord(getLineNumber());
+                return fromLine(line);
+            }
+        };
+    }
+
+    /**
+     * @param week a given week of the task, or null when it is unknown
+     * @param task a given task
+     * @return a single line of JSON representing the task, without the line separator
+     */
+    public static String toLine(IsoWeek week, @NonNull SingleTask task) {
+        return GSON.toJson(toJson(week, task));
+    }
+
+    /**
+     * @param week a given week of the task, or null when it is unknown
+     * @param task a given task
+     * @return a JSON object representing the task, e.g. an element of a response of the
+     * {@link com.floweektracker.api.HttpApiServer}
+     */
+    public static JsonObject toJson(IsoWeek week, @NonNull SingleTask task) {
+        var json = new JsonObject();
+
+        if (week != null) json.addProperty("week", week.toString());
+        json.addProperty("weekday", task.getWeekday().name());
+        json.addProperty("time", task.getTime().toString());
+        json.addProperty("name", task.getTaskName());
+        if (task.getDescription() != null) json.addProperty("description", task.getDescription());
+        json.addProperty("priority", task.getPriority());
+        json.addProperty("done", task.isDone());
+        if (task.getDurationMinutes() > 0) json.addProperty("duration", task.getDurationMinutes());
+
+        return json;
+    }
+
+    /**
+     * @param line a given line written by {@link #toLine(IsoWeek, SingleTask)}, or any other JSON text of a task
+     * @return a task read from the line; its week is skipped
+     * @throws IllegalArgumentException when the line isn't a JSON object of a correct task
+     */
+    public static SingleTask fromLine(@NonNull String line) {
+        try {
+            var json = JsonParser.parseString(line).getAsJsonObject();
+            var name = readString(json, "name");
+            var priority = json.has("priority") ? json.get("priority").getAsInt() : 1;
+            if ((name == null) || name.isBlank() || (priority < 1) || (priority > 10)) throw new IllegalArgumentException();
+
+            return new SingleTask(
+                    name,
+                    readString(json, "description"),
+                    LocalTime.parse(readString(json, "time")),
+                    json.has("done") && json.get("done").getAsBoolean(),
+                    CommandOptions.parseWeekday(readString(json, "weekday")),
+                    (byte) priority,
+                    json.has("duration") ? json.get("duration").getAsInt() : 0
+            );
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | IllegalArgumentException |
+                 NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Niepoprawne zadanie: " + line);
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param json a given JSON object
+     * @param name a given name of a property
+     * @return a text of the property or null when it is missing or null
+     */
+    private static String readString(JsonObject json, String name) {
+        var element = json.get(name);
+
+        return ((element == null) || element.isJsonNull()) ? null : element.getAsString();
+    }
+    //endregion
+}
@@ -0,0 +1,76 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.SingleTask;
+import lombok.*;
+
+import java.io.*;
+
+/**
+ * Represents a reader of the imported tasks in one of the {@link TaskFormat}s. The tasks are read one by one from the
+ * underlying reader, so a file of any length is imported without keeping it in the memory. An invalid task doesn't
+ * stop the reading: it is reported by an exception and the next call reads the next task.
+ * <br><br>
+ * Fields: {@link #MAX_RECORD_LENGTH}, {@link #reader}, {@link #lineNumber}, {@link #recordLineNumber}
+ * <br><br>
+ * Methods: {@link #read()}, {@link #readLine()}, {@link #startRecord(int)}, {@link #close()}
+ *
+ * @see CommandLine
+ */
+public abstract class TaskReader implements Closeable {
+    /**
+     * Represents the maximal number of characters of a record spanning many lines, e.g. a quoted value of the CSV
+     * format which isn't closed, so such a file doesn't fill the memory.
+     */
+    protected static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private final BufferedReader reader;
+    /**
+     * Represents a number of the lines read so far.
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private int lineNumber;
+    /**
+     * Represents a number of the line in which the last read task starts.
+     */
+    @Getter
+    private int recordLineNumber;
+
+    /**
+     * @param reader a given reader of the imported tasks
+     */
+    protected TaskReader(@NonNull BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return a next task, or null when there are no more tasks
+     * @throws IllegalArgumentException when the next task is invalid; it is skipped
+     * @throws IOException              when the reader can't be read or a record is longer than
+     *                                  {@link #MAX_RECORD_LENGTH}
+     */
+    public abstract SingleTask read() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    //region helper methods
+    /**
+     * @return a next line without the line separator, or null at the end of the reader
+     * @throws IOException when the reader can't be read
+     */
+    protected String readLine() throws IOException {
+        var line = reader.readLine();
+        if (line != null) lineNumber++;
+
+        return line;
+    }
+
+    /**
+     * @param lineNumber a given number of the line in which the next task starts, e.g. the last read line
+     */
+    protected void startRecord(int lineNumber) {
+        recordLineNumber = lineNumber;
+    }
+    //endregion
+}
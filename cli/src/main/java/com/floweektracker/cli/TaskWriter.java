@@ -0,0 +1,29 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+
+import java.io.IOException;
+
+/**
+ * Represents a writer of the exported tasks in one of the {@link TaskFormat}s. Each task is written at once to the
+ * underlying writer, so the exported tasks aren't collected in the memory.
+ * <br><br>
+ * Methods: {@link #write(IsoWeek, SingleTask)}, {@link #finish()}
+ *
+ * @see CommandLine
+ */
+public interface TaskWriter {
+    /**
+     * @param week a given week of the task
+     * @param task a given task
+     * @throws IOException when the task can't be written
+     */
+    void write(IsoWeek week, SingleTask task) throws IOException;
+
+    /**
+     * Writes the end of the exported tasks, e.g. the end of the calendar. The underlying writer isn't closed.
+     *
+     * @throws IOException when the end can't be written
+     */
+    default void finish() throws IOException {}
+}
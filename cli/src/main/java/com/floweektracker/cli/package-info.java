@@ -0,0 +1,21 @@
+/**
+ * Cli package contains the command line of the application, which runs a single command against the data folder
+ * without starting Swing. It uses only the model, the repositories and the services.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>CommandLine</b> - runs the commands adding, listing, exporting and importing tasks, showing statistics and resetting the week</li>
+ *     <li><b>CommandOptions</b> - options of a command given as names with values and flags</li>
+ *     <li><b>ExitCode</b> - an enum representing the exit codes of the commands</li>
+ *     <li><b>TaskCsv</b> - the CSV format of the exported tasks with a header and one task in each record</li>
+ *     <li><b>TaskFormat</b> - an enum representing the formats in which the tasks are exported and imported</li>
+ *     <li><b>TaskICalendar</b> - the iCalendar format of the exported tasks with one event for each task</li>
+ *     <li><b>TaskJsonLines</b> - the format of the exported tasks with a single JSON object of a task in each line</li>
+ *     <li><b>TaskReader</b> - a reader of the imported tasks, which reads them one by one</li>
+ *     <li><b>TaskWriter</b> - a writer of the exported tasks, which writes them one by one</li>
+ * </ul>
+ *
+ * @see com.floweektracker.service
+ * @see com.floweektracker.repository
+ */
+package com.floweektracker.cli;
@@ -0,0 +1,16 @@
+/**
+ * <p>This module provides the command line and the local HTTP API of the FloWeek Tracker application, which run
+ * against the data folder with the {@code FloWeekTracker.core} module only, without starting Swing.</p>
+ *
+ * @author Maria Szewczyk
+ * @since 2024
+ */
+module FloWeekTracker.cli {
+    requires FloWeekTracker.core;
+    requires com.google.gson;
+    requires jdk.httpserver;
+    requires static lombok;
+
+    exports com.floweektracker.cli;
+    exports com.floweektracker.api;
+}
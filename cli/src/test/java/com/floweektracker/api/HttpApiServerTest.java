@@ -0,0 +1,216 @@
+package com.floweektracker.api;
+
+import com.floweektracker.model.*;
+import com.floweektracker.service.TasksService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpApiServerTest {
+    private static final String TASK = """
+            {"weekday":"SUNDAY","time":"23:41","name":"Zadanie z API","priority":6,"duration":10}""";
+    private final HttpApiServer server = HttpApiServer.getServer();
+    private final TasksService tasksService = TasksService.getService();
+    @TempDir
+    private File dataFolder;
+    private File tokenFile;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tokenFile = new File(dataFolder, HttpApiServer.TOKEN_FILE_NAME);
+        assertTrue(server.start(0, new SerializedTaskChanges(), tokenFile));
+        token = Files.readString(tokenFile.toPath());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+
+        for (var time : new LocalTime[]{LocalTime.of(23, 41), LocalTime.of(23, 45)}) {
+            var task = tasksService.getTaskByEventTime(WeekDays.SUNDAY, time);
+            if (task != null) tasksService.deleteTask(task);
+        }
+    }
+
+    @Test
+    void shouldReleasePortWhenStopped() {
+        //given+when
+        server.stop();
+
+        //then
+        assertAll(
+                () -> assertThat(server.getPort(), is(-1)),
+                () -> assertFalse(tokenFile.exists())
+        );
+    }
+
+    @Test
+    void shouldAddTaskAndListItByName() throws IOException {
+        //given
+        var added = send("POST", "/api/tasks", TASK);
+
+        //when
+        var listed = send("GET", "/api/tasks?day=niedziela&name=z%20api", null);
+
+        //then
+        assertAll(
+                () -> assertThat(added.status(), is(201)),
+                () -> assertThat(listed.status(), is(200)),
+                () -> assertThat(listed.body(), containsString("\"name\":\"Zadanie z API\"")),
+                () -> assertThat(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41)).getPriority(),
+                        is((byte) 6))
+        );
+    }
+
+    @Test
+    void shouldReturnConflictWhenTimeIsOccupied() throws IOException {
+        //given
+        send("POST", "/api/tasks", TASK);
+
+        //when
+        var response = send("POST", "/api/tasks", TASK.replace("23:41", "23:45").replace("z API", "Drugie"));
+
+        //then
+        assertAll(
+                () -> assertThat(response.status(), is(409)),
+                () -> assertThat(response.body(), containsString("\"conflicts\"")),
+                () -> assertNull(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 45)))
+        );
+    }
+
+    @Test
+    void shouldEditAndDeleteTaskByItsTime() throws IOException {
+        //given
+        send("POST", "/api/tasks", TASK);
+
+        //when
+        var edited = send("PUT", "/api/tasks/SUNDAY/23:41", TASK.replace("23:41", "23:45"));
+        var missing = send("GET", "/api/tasks/SUNDAY/23:41", null);
+        var deleted = send("DELETE", "/api/tasks/SUNDAY/23:45", null);
+
+        //then
+        assertAll(
+                () -> assertThat(edited.status(), is(200)),
+                () -> assertThat(missing.status(), is(404)),
+                () -> assertThat(deleted.status(), is(204)),
+                () -> assertNull(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 45)))
+        );
+    }
+
+    @Test
+    void shouldReturnPointsOfWeekday() throws IOException {
+        //given
+        send("POST", "/api/tasks", TASK.replace("\"priority\"", "\"done\":true,\"priority\""));
+
+        //when
+        var response = send("GET", "/api/points/SUNDAY", null);
+
+        //then
+        assertAll(
+                () -> assertThat(response.status(), is(200)),
+                () -> assertThat(response.body(), containsString("\"points\":")),
+                () -> assertThat(response.body(), containsString("\"possiblePoints\":"))
+        );
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() throws IOException {
+        assertAll(
+                () -> assertThat(send("POST", "/api/tasks", "to nie jest zadanie").status(), is(400)),
+                () -> assertThat(send("GET", "/api/tasks?max-priority=11", null).status(), is(400)),
+                () -> assertThat(send("GET", "/api/tasks/SUNDAY/25:00", null).status(), is(400)),
+                () -> assertThat(send("OPTIONS", "/api/tasks", null).status(), is(405))
+        );
+    }
+
+    @Test
+    void shouldRejectRequestsFromOutsideOfScriptsOfUser() throws IOException {
+        //given
+        var host = "Host: 127.0.0.1:" + server.getPort();
+        var authorization = "Authorization: Bearer " + token;
+
+        //when+then
+        assertAll(
+                () -> assertThat(sendRaw("GET", "Host: evil.example:" + server.getPort(), authorization), is(403)),
+                () -> assertThat(sendRaw("GET", "Host: 127.0.0.1:1", authorization), is(403)),
+                () -> assertThat(sendRaw("GET", host, authorization, "Origin: http://evil.example"), is(403)),
+                () -> assertThat(sendRaw("GET", host), is(401)),
+                () -> assertThat(sendRaw("GET", host, "Authorization: Bearer " + token + "x"), is(401)),
+                () -> assertThat(sendRaw("GET", "Host: localhost:" + server.getPort(), authorization), is(200))
+        );
+    }
+
+    @Test
+    void shouldRejectBodyWhichIsNotJson() throws IOException {
+        //given
+        var connection = open("POST", "/api/tasks");
+        connection.setRequestProperty("Content-Type", "text/plain");
+
+        //when
+        var response = send(connection, TASK);
+
+        //then
+        assertAll(
+                () -> assertThat(response.status(), is(415)),
+                () -> assertNull(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41)))
+        );
+    }
+
+    private Response send(String method, String path, String body) throws IOException {
+        var connection = open(method, path);
+        if (body != null) connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+
+        return send(connection, body);
+    }
+
+    private HttpURLConnection open(String method, String path) throws IOException {
+        var connection = (HttpURLConnection) URI.create("http://127.0.0.1:" + server.getPort() + path).toURL()
+                .openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Authorization", "Bearer " + token);
+
+        return connection;
+    }
+
+    private Response send(HttpURLConnection connection, String body) throws IOException {
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (var output = connection.getOutputStream()) {
+                output.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        var status = connection.getResponseCode();
+        var input = (status >= 400) ? connection.getErrorStream() : connection.getInputStream();
+        try (var stream = (input != null) ? input : InputStream.nullInputStream()) {
+            return new Response(status, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    //the Host and Origin headers can't be set by the HttpURLConnection, so they are sent by a socket
+    private int sendRaw(String method, String... headers) throws IOException {
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            var request = method + " /api/tasks HTTP/1.1\r\n" + String.join("\r\n", headers)
+                    + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.UTF_8));
+
+            var statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private record Response(int status, String body) {}
+}
@@ -0,0 +1,246 @@
+package com.floweektracker.cli;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import com.floweektracker.service.TasksService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandLineTest {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final TasksService tasksService = TasksService.getService();
+    @TempDir
+    private File dataFolder;
+
+    @AfterEach
+    void tearDown() {
+        var task = tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41));
+        if (task != null) tasksService.deleteTask(task);
+
+        PlannerRepository.getRepository().setFile(null);
+        PlannerRepository.getRepository().setSchedule(null);
+        TaskNamesRepository.getRepository().setFile(null);
+        WeekHistoryRepository.getRepository().setDirectory(null);
+    }
+
+    @Test
+    void shouldRecognizeOnlyCommands() {
+        assertAll(
+                () -> assertTrue(CommandLine.isCommand(new String[]{"list"})),
+                () -> assertTrue(CommandLine.isCommand(new String[]{"reset-week", "--force"})),
+                () -> assertFalse(CommandLine.isCommand(new String[]{"true"})),
+                () -> assertFalse(CommandLine.isCommand(new String[]{})),
+                () -> assertFalse(CommandLine.isCommand(null))
+        );
+    }
+
+    @Test
+    void shouldReturnUsageWhenOptionIsUnknown() {
+        //given+when
+        var exitCode = execute("list", "--data", dataFolder.getPath(), "--unknown");
+
+        //then
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.USAGE)),
+                () -> assertThat(err.toString(StandardCharsets.UTF_8), containsString("--unknown"))
+        );
+    }
+
+    @Test
+    void shouldFailWhenDataFolderDoesNotExist() {
+        //given+when
+        var exitCode = execute("list", "--data", new File(dataFolder, "missing").getPath());
+
+        //then
+        assertThat(exitCode, is(ExitCode.FAILURE));
+    }
+
+    @Test
+    void shouldReturnLockedWhenDataFolderIsUsedByRunningInstance() throws IOException {
+        //given
+        try (var channel = FileChannel.open(dataFolder.toPath().resolve(".lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE); var _ = channel.lock()) {
+            //when
+            var exitCode = execute("list", "--data", dataFolder.getPath());
+
+            //then
+            assertAll(
+                    () -> assertThat(exitCode, is(ExitCode.LOCKED)),
+                    () -> assertThat(out.size(), is(0))
+            );
+        }
+    }
+
+    @Test
+    void shouldAddTaskAndListItByName() {
+        //given
+        var addExitCode = execute("add", "--data", dataFolder.getPath(), "--day", "Niedziela", "--time", "23:41",
+                "--name", "Zadanie z wiersza poleceń", "--priority", "7");
+        out.reset();
+
+        //when
+        var listExitCode = execute("list", "--data", dataFolder.getPath(), "--name", "wiersza polecen");
+
+        //then
+        assertAll(
+                () -> assertThat(addExitCode, is(ExitCode.OK)),
+                () -> assertThat(listExitCode, is(ExitCode.OK)),
+                () -> assertThat(out.toString(StandardCharsets.UTF_8), startsWith("Niedziela\t23:41\t7\tnie")),
+                () -> assertTrue(new File(dataFolder, "Planner.json").exists())
+        );
+    }
+
+    @Test
+    void shouldReturnConflictWhenTimeIsOccupied() {
+        //given
+        execute("add", "--data", dataFolder.getPath(), "--day", "sunday", "--time", "23:41", "--name", "Pierwsze");
+
+        //when
+        var exitCode = execute("add", "--data", dataFolder.getPath(), "--day", "sunday", "--time", "23:41",
+                "--name", "Drugie");
+
+        //then
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.CONFLICT)),
+                () -> assertThat(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41)).getTaskName(),
+                        is("Pierwsze"))
+        );
+    }
+
+    @Test
+    void shouldExportArchivedWeeksLineByLine() throws IOException {
+        //given
+        var task = new SingleTask("Archiwalne", "opis", LocalTime.of(6, 30), true, WeekDays.MONDAY, (byte) 3, 45);
+        var historyRepository = WeekHistoryRepository.getRepository();
+        historyRepository.setDirectory(new File(dataFolder, "history"));
+        historyRepository.saveWeek(new IsoWeek(2025, 7), ScheduleSnapshot.of(Map.of(task.getWeekday(),
+                Map.of(task.getTime(), task))));
+        historyRepository.saveWeek(new IsoWeek(2025, 8), ScheduleSnapshot.EMPTY);
+        var output = new File(dataFolder, "export.jsonl");
+
+        //when
+        var exitCode = execute("export", "--data", dataFolder.getPath(), "--from", "2025-W01", "--output",
+                output.getPath());
+
+        //then
+        var lines = Files.readAllLines(output.toPath());
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.OK)),
+                () -> assertThat(lines, hasSize(1)),
+                () -> assertThat(lines.getFirst(), containsString("\"week\":\"2025-W07\"")),
+                () -> assertThat(TaskJsonLines.fromLine(lines.getFirst()), is(task))
+        );
+    }
+
+    @Test
+    void shouldImportValidLinesAndReportInvalidOnes() {
+        //given
+        var input = """
+                {"weekday":"SUNDAY","time":"23:41","name":"Zaimportowane","priority":2}
+                to nie jest zadanie
+                """;
+
+        //when
+        var exitCode = new CommandLine(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8))
+                .execute(new String[]{"import", "--data", dataFolder.getPath()});
+
+        //then
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.FAILURE)),
+                () -> assertThat(err.toString(StandardCharsets.UTF_8), containsString("Wiersz 2")),
+                () -> assertThat(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41)).getTaskName(),
+                        is("Zaimportowane"))
+        );
+    }
+
+    @Test
+    void shouldExportTasksToCalendarAndImportThemBack() throws IOException {
+        //given
+        var task = new SingleTask("Długie zadanie; z przecinkiem, i \"cudzysłowem\" ".repeat(3).strip(),
+                "pierwsza linia\ndruga linia", LocalTime.of(23, 41), true, WeekDays.SUNDAY, (byte) 8, 15);
+        tasksService.addTask(task);
+        var output = new File(dataFolder, "export.ics");
+        execute("export", "--data", dataFolder.getPath(), "--output", output.getPath());
+        tasksService.deleteTask(task);
+
+        //when
+        var exitCode = execute("import", "--data", dataFolder.getPath(), "--input", output.getPath());
+
+        //then
+        var lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.OK)),
+                () -> assertThat(lines.getFirst(), is("BEGIN:VCALENDAR")),
+                () -> assertThat(lines, everyItem(hasLength(lessThanOrEqualTo(75)))),
+                () -> assertThat(tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41)), is(task))
+        );
+    }
+
+    @Test
+    void shouldImportCsvInBatchesAndReportOccupiedTimes() {
+        //given
+        var input = """
+                name,weekday,time,description,priority
+                Zaimportowane,niedziela,23:41,"opis, z przecinkiem
+                w dwóch liniach",4
+                Zajęte,SUNDAY,23:41,,1
+                Niepoprawne,SUNDAY,25:00,,1
+                """;
+
+        //when
+        var exitCode = new CommandLine(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8))
+                .execute(new String[]{"import", "--data", dataFolder.getPath(), "--format", "csv"});
+
+        //then
+        var task = tasksService.getTaskByEventTime(WeekDays.SUNDAY, LocalTime.of(23, 41));
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.FAILURE)),
+                () -> assertThat(err.toString(StandardCharsets.UTF_8), containsString("Wiersz 4: termin jest zajęty")),
+                () -> assertThat(err.toString(StandardCharsets.UTF_8), containsString("Wiersz 5")),
+                () -> assertThat(task.getTaskName(), is("Zaimportowane")),
+                () -> assertThat(task.getDescription(), is("opis, z przecinkiem\nw dwóch liniach"))
+        );
+    }
+
+    @Test
+    void shouldReturnConflictWhenImportedTaskOverlapsExistingTask() {
+        //given
+        var existingTask = new SingleTask("Istniejące", null, LocalTime.of(23, 41), false, WeekDays.SUNDAY, (byte) 5, 15);
+        tasksService.addTask(existingTask);
+        var input = """
+                name,weekday,time,priority,duration
+                Nakładające,SUNDAY,23:50,1,5
+                """;
+
+        //when
+        var exitCode = new CommandLine(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8))
+                .execute(new String[]{"import", "--data", dataFolder.getPath(), "--format", "csv"});
+
+        //then
+        assertAll(
+                () -> assertThat(exitCode, is(ExitCode.CONFLICT)),
+                () -> assertThat(err.toString(StandardCharsets.UTF_8), containsString("Wiersz 2: termin jest zajęty")),
+                () -> assertThat(tasksService.getTasksFromWeekday(WeekDays.SUNDAY), contains(existingTask))
+        );
+    }
+
+    private ExitCode execute(String... args) {
+        return new CommandLine(InputStream.nullInputStream(), new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8)).execute(args);
+    }
+}
@@ -0,0 +1,65 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+/**
+ * Represents totals of the tasks over a period, e.g. a week, a weekday or the whole history. It is immutable, so the
+ * totals are added by {@link #plus(CompletionTotals)}.
+ * <br><br>
+ * Fields: {@link #EMPTY}, {@link #plannedTasks}, {@link #doneTasks}, {@link #points}, {@link #possiblePoints}
+ * <br><br>
+ * Methods: {@link #of(SingleTask)}, {@link #plus(CompletionTotals)}, {@link #getCompletionRate()},
+ * {@link #getPointsRate()}
+ */
+@Value
+public class CompletionTotals {
+    /**
+     * Represents totals without any task.
+     */
+    public static final CompletionTotals EMPTY = new CompletionTotals(0, 0, 0, 0);
+    long plannedTasks;
+    long doneTasks;
+    /**
+     * Represents a sum of the {@link SingleTask#calculatePoints()} of the tasks.
+     */
+    long points;
+    /**
+     * Represents a sum of the {@link SingleTask#getPriority()} of the tasks.
+     */
+    long possiblePoints;
+
+    /**
+     * @param task a given task
+     * @return totals of the given task
+     */
+    public static CompletionTotals of(@NonNull SingleTask task) {
+        return new CompletionTotals(1, task.isDone() ? 1 : 0, task.calculatePoints(), task.getPriority());
+    }
+
+    /**
+     * @param other given totals
+     * @return a sum of these and the given totals
+     */
+    public CompletionTotals plus(@NonNull CompletionTotals other) {
+        return new CompletionTotals(
+                plannedTasks + other.plannedTasks,
+                doneTasks + other.doneTasks,
+                points + other.points,
+                possiblePoints + other.possiblePoints
+        );
+    }
+
+    /**
+     * @return a ratio of the done tasks to the planned tasks between 0 and 1, or 0 when no task was planned
+     */
+    public double getCompletionRate() {
+        return (plannedTasks == 0) ? 0 : (double) doneTasks / plannedTasks;
+    }
+
+    /**
+     * @return a ratio of the achieved points to the possible points between 0 and 1, or 0 when no task was planned
+     */
+    public double getPointsRate() {
+        return (possiblePoints == 0) ? 0 : (double) points / possiblePoints;
+    }
+}
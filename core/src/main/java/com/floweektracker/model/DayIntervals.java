@@ -0,0 +1,188 @@
+package com.floweektracker.model;
+
+import lombok.NonNull;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Represents an immutable interval tree of the tasks of a single weekday, in which each task occupies the minutes from
+ * {@link SingleTask#getStartMinute()} to {@link SingleTask#getEndMinute()}. The tasks are kept in arrays sorted by
+ * their start, and the tree is implicit: the node of a range of the arrays is its middle element, and the
+ * {@link #maxEnds} keep the latest end in the subtree of each node. Thanks to that the tasks overlapping a given range
+ * are found without checking the whole day, in O(log n + k) when the tasks don't overlap each other, which the planner
+ * keeps, and in O((k + 1) log n) otherwise. The tree is built in O(n) from tasks already sorted by time, once per
+ * changed weekday of a {@link ScheduleSnapshot}.
+ * <br><br>
+ * Fields: {@link #EMPTY}, {@link #tasks}, {@link #starts}, {@link #ends}, {@link #maxEnds}, {@link #prefixMaxEnds}
+ * <br><br>
+ * Methods: {@link #of(NavigableMap)}, {@link #findOverlapping(int, int)}, {@link #isOverlapping(int, int)},
+ * {@link #findFreeSlot(int, int)}, {@link #size()}, {@link #build(int, int)},
+ * {@link #collectOverlapping(int, int, int, int, List)}, {@link #findFirstStartFrom(int)}
+ *
+ * @see com.floweektracker.service.TasksService
+ */
+public final class DayIntervals {
+    /**
+     * Represents a day without any task.
+     */
+    public static final DayIntervals EMPTY = of(Collections.emptyNavigableMap());
+    private final SingleTask[] tasks;
+    private final int[] starts;
+    private final int[] ends;
+    /**
+     * Contains the latest end in the subtree of each node of the implicit tree.
+     *
+     * @see #build(int, int)
+     */
+    private final int[] maxEnds;
+    /**
+     * Contains the latest end of the tasks up to each index, used to skip the occupied time by
+     * {@link #findFreeSlot(int, int)}.
+     */
+    private final int[] prefixMaxEnds;
+
+    private DayIntervals(SingleTask[] tasks) {
+        this.tasks = tasks;
+        this.starts = new int[tasks.length];
+        this.ends = new int[tasks.length];
+        this.maxEnds = new int[tasks.length];
+        this.prefixMaxEnds = new int[tasks.length];
+
+        for (int i = 0; i < tasks.length; i++) {
+            starts[i] = tasks[i].getStartMinute();
+            ends[i] = tasks[i].getEndMinute();
+            prefixMaxEnds[i] = (i > 0) ? Math.max(prefixMaxEnds[i - 1], ends[i]) : ends[i];
+        }
+
+        build(0, tasks.length);
+    }
+
+    /**
+     * @param tasks given tasks of a weekday sorted by time
+     * @return an interval tree of the given tasks
+     */
+    public static DayIntervals of(@NonNull NavigableMap<LocalTime, SingleTask> tasks) {
+        return new DayIntervals(tasks.values().toArray(SingleTask[]::new));
+    }
+
+    /**
+     * @param from a given first minute of the range
+     * @param to   a given minute after the range
+     * @return a list of the tasks which occupy any minute of the range, sorted by their start
+     */
+    public List<SingleTask> findOverlapping(int from, int to) {
+        var overlapping = new ArrayList<SingleTask>();
+        if (from < to) collectOverlapping(0, tasks.length, from, to, overlapping);
+
+        return overlapping;
+    }
+
+    /**
+     * @param from a given first minute of the range
+     * @param to   a given minute after the range
+     * @return true if any task occupies any minute of the range, otherwise false
+     */
+    public boolean isOverlapping(int from, int to) {
+        if (from >= to) return false;
+
+        var lo = 0;
+        var hi = tasks.length;
+
+        while (lo < hi) {
+            var mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] <= from) return false;
+            if ((starts[mid] < to) && (ends[mid] > from)) return true;
+
+            var left = (lo + mid) >>> 1;
+            if ((lo < mid) && (maxEnds[left] > from)) hi = mid;
+            else if (starts[mid] < to) lo = mid + 1;
+            else return false;
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the first free gap of the given length, which starts not earlier than the given minute and ends not later
+     * than at midnight. The tasks which start before the minute are skipped at once by the {@link #prefixMaxEnds}, and
+     * then only the tasks before the found gap are walked.
+     *
+     * @param minutes    a given length of the gap, at least 1
+     * @param fromMinute a given minute from which the gap is searched
+     * @return a minute at which the found gap starts, or -1 when there isn't any
+     */
+    public int findFreeSlot(int minutes, int fromMinute) {
+        if (minutes < 1) throw new IllegalArgumentException("Free slot should last at least one minute");
+
+        var index = findFirstStartFrom(fromMinute);
+        var slotStart = (index > 0) ? Math.max(fromMinute, prefixMaxEnds[index - 1]) : fromMinute;
+
+        for (; index < tasks.length; index++) {
+            if (starts[index] - slotStart >= minutes) return slotStart;
+            slotStart = Math.max(slotStart, ends[index]);
+        }
+
+        return (SingleTask.MINUTES_PER_DAY - slotStart >= minutes) ? slotStart : -1;
+    }
+
+    /**
+     * @return a number of the tasks
+     */
+    public int size() {
+        return tasks.length;
+    }
+
+    //region helper methods
+    /**
+     * Computes the {@link #maxEnds} of the subtree of the given range of the arrays.
+     *
+     * @param lo a given first index of the range
+     * @param hi a given index after the range
+     * @return the latest end in the subtree, or -1 when the range is empty
+     */
+    private int build(int lo, int hi) {
+        if (lo >= hi) return -1;
+
+        var mid = (lo + hi) >>> 1;
+        maxEnds[mid] = Math.max(ends[mid], Math.max(build(lo, mid), build(mid + 1, hi)));
+
+        return maxEnds[mid];
+    }
+
+    /**
+     * Adds the tasks of the subtree of the given range of the arrays which overlap the given minutes, in their order.
+     * Subtrees whose latest end is before the minutes, and right subtrees of the tasks starting after them, are
+     * skipped.
+     *
+     * @param lo          a given first index of the range
+     * @param hi          a given index after the range
+     * @param from        a given first minute
+     * @param to          a given minute after the minutes
+     * @param overlapping a given list to which the tasks are added
+     */
+    private void collectOverlapping(int lo, int hi, int from, int to, List<SingleTask> overlapping) {
+        if (lo >= hi) return;
+
+        var mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= from) return;
+
+        collectOverlapping(lo, mid, from, to, overlapping);
+        if (starts[mid] >= to) return;
+
+        if (ends[mid] > from) overlapping.add(tasks[mid]);
+        collectOverlapping(mid + 1, hi, from, to, overlapping);
+    }
+
+    /**
+     * @param minute a given minute
+     * @return an index of the first task which starts at the given minute or later, or the number of the tasks when
+     * there isn't any
+     */
+    private int findFirstStartFrom(int minute) {
+        var index = Arrays.binarySearch(starts, minute);
+
+        return (index >= 0) ? index : -(index + 1);
+    }
+    //endregion
+}
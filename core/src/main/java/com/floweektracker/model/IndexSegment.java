@@ -0,0 +1,73 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.*;
+
+/**
+ * Represents a part of the search index which belongs to one archived week and is stored next to it, so the archived
+ * weeks don't have to be read and tokenized again. The {@link #postings} map each term to pairs of an index in the
+ * {@link #documents} and a weight of the term in that document. The documents reference the task names by their ids in
+ * the {@link TaskNameDictionary}.
+ * <br><br>
+ * Fields: {@link #FORMAT_VERSION}, {@link #version}, {@link #documents}, {@link #postings}
+ * <br><br>
+ * Methods: {@link #of(Map)}, {@link #toDocuments()}
+ *
+ * @see com.floweektracker.repository.SearchIndexRepository
+ */
+@Value
+public class IndexSegment {
+    /**
+     * Represents the actual version of the format of the segments. Segments of other versions are created again.
+     */
+    public static final int FORMAT_VERSION = 2;
+    int version;
+    List<TaskReference> documents;
+    /**
+     * Contains flattened pairs {@code [document, weight, document, weight, ...]} for each term.
+     */
+    Map<String, int[]> postings;
+
+    /**
+     * @param documents given documents with the weights of their terms
+     * @return a segment with the inverted postings of the given documents
+     */
+    public static IndexSegment of(@NonNull Map<TaskReference, Map<String, Integer>> documents) {
+        var references = new ArrayList<TaskReference>(documents.size());
+        var pairs = new TreeMap<String, List<Integer>>();
+
+        documents.forEach((reference, termWeights) -> {
+            var index = references.size();
+            references.add(reference);
+            termWeights.forEach((term, weight) -> {
+                var termPairs = pairs.computeIfAbsent(term, _ -> new ArrayList<>());
+                termPairs.add(index);
+                termPairs.add(weight);
+            });
+        });
+
+        var postings = new TreeMap<String, int[]>();
+        pairs.forEach((term, termPairs) -> postings.put(term, termPairs.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new IndexSegment(FORMAT_VERSION, List.copyOf(references), postings);
+    }
+
+    /**
+     * @return the documents of the segment with the weights of their terms, ready to be added to the index
+     */
+    public Map<TaskReference, Map<String, Integer>> toDocuments() {
+        var result = new HashMap<TaskReference, Map<String, Integer>>();
+        if ((documents == null) || (postings == null)) return result;
+
+        postings.forEach((term, pairs) -> {
+            for (int i = 0; i + 1 < pairs.length; i += 2) {
+                if ((pairs[i] < 0) || (pairs[i] >= documents.size())) continue;
+
+                result.computeIfAbsent(documents.get(pairs[i]), _ -> new HashMap<>()).put(term, pairs[i + 1]);
+            }
+        });
+
+        return result;
+    }
+}
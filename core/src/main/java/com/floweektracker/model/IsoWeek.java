@@ -0,0 +1,110 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a week of the year according to the ISO-8601 standard, e.g. {@code 2025-W07}. It is used as a key of the
+ * archived weeks in the history.
+ * <br><br>
+ * Fields: {@link #year}, {@link #week}, {@link #PATTERN}
+ * <br><br>
+ * Methods: {@link #of(LocalDate)}, {@link #current()}, {@link #parse(String)}, {@link #previous()}, {@link #next()},
+ * {@link #getMonday()}, {@link #getDate(WeekDays)}, {@link #compareTo(IsoWeek)}, {@link #toString()}
+ */
+@Value
+public class IsoWeek implements Comparable<IsoWeek> {
+    /**
+     * Represents a pattern of the text form of the week.
+     *
+     * @see #parse(String)
+     */
+    private static final Pattern PATTERN = Pattern.compile("(\\d{4})-W(\\d{2})");
+    /**
+     * Represents a week-based year, which may differ from the calendar year at the turn of the year.
+     */
+    int year;
+    /**
+     * Represents a number of the week in the {@link #year}, between 1 and 53.
+     */
+    int week;
+
+    /**
+     * @param date a given date
+     * @return a week which contains the given date
+     */
+    public static IsoWeek of(@NonNull LocalDate date) {
+        return new IsoWeek(date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    /**
+     * @return a week which contains the current date
+     */
+    public static IsoWeek current() {
+        return of(LocalDate.now());
+    }
+
+    /**
+     * @param text a given text in the form {@code yyyy-Www}
+     * @return a week represented by the given text or null when the text isn't a valid week
+     */
+    public static IsoWeek parse(String text) {
+        if (text == null) return null;
+
+        var matcher = PATTERN.matcher(text);
+        if (!matcher.matches()) return null;
+
+        var year = Integer.parseInt(matcher.group(1));
+        var week = Integer.parseInt(matcher.group(2));
+        var weeksInYear = LocalDate.of(year, 6, 1).range(IsoFields.WEEK_OF_WEEK_BASED_YEAR).getMaximum();
+
+        return ((week >= 1) && (week <= weeksInYear)) ? new IsoWeek(year, week) : null;
+    }
+
+    /**
+     * @return a week before this one
+     */
+    public IsoWeek previous() {
+        return of(getMonday().minusWeeks(1));
+    }
+
+    /**
+     * @return a week after this one
+     */
+    public IsoWeek next() {
+        return of(getMonday().plusWeeks(1));
+    }
+
+    /**
+     * @return a date of the Monday of this week
+     */
+    public LocalDate getMonday() {
+        return LocalDate.of(year, 6, 1)
+                .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, week)
+                .with(ChronoField.DAY_OF_WEEK, DayOfWeek.MONDAY.getValue());
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @return a date of the given weekday in this week
+     */
+    public LocalDate getDate(@NonNull WeekDays weekday) {
+        return getMonday().plusDays(weekday.getPosition());
+    }
+
+    @Override
+    public int compareTo(@NonNull IsoWeek other) {
+        return (year != other.year) ? Integer.compare(year, other.year) : Integer.compare(week, other.week);
+    }
+
+    /**
+     * @return a text form of the week, e.g. {@code 2025-W07}
+     */
+    @Override
+    public String toString() {
+        return "%04d-W%02d".formatted(year, week);
+    }
+}
@@ -6,7 +6,8 @@ import lombok.*;
  * Represents the names of the panels used in the application.
  * <br><br>
  * ENUMS: {@link #BUTTONS_PANEL}, {@link #DESCRIPTION_PANEL}, {@link #PRIORITY_PANEL}, {@link #TIME_PANEL},
- * {@link #PLAIN}, {@link #WEEKDAYS_PANEL}, {@link #TASKS_PANEL}, {@link #STATUS_PANEL}
+ * {@link #PLAIN}, {@link #WEEKDAYS_PANEL}, {@link #TASKS_PANEL}, {@link #STATUS_PANEL}, {@link #RECURRENCE_PANEL},
+ * {@link #DURATION_PANEL}
  * <br><br>
  * FIELDS: {@link #panelName}
  */
@@ -20,7 +21,9 @@ public enum PanelNames {
     PLAIN("plain"),
     WEEKDAYS_PANEL("weekdaysPanel"),
     TASKS_PANEL("tasksPanel"),
-    STATUS_PANEL("statusPanel");
+    STATUS_PANEL("statusPanel"),
+    RECURRENCE_PANEL("recurrencePanel"),
+    DURATION_PANEL("durationPanel");
 
     /**
      * Contains a {@link String} representing the name of a panel.
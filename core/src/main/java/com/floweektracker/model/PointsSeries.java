@@ -0,0 +1,87 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents a series of the points over time which is drawn by the chart of the history. Dates are stored as epoch
+ * days, so they can be used directly as x values.
+ * <br><br>
+ * Fields: {@link #EMPTY}, {@link #days}, {@link #points}, {@link #possiblePoints}
+ * <br><br>
+ * Methods: {@link #weekly(List)}, {@link #daily(List)}, {@link #size()}, {@link #getMaxValue()}
+ */
+@Value
+public class PointsSeries {
+    /**
+     * Represents a series without any point.
+     */
+    public static final PointsSeries EMPTY = new PointsSeries(new double[0], new double[0], new double[0]);
+    double[] days;
+    double[] points;
+    double[] possiblePoints;
+
+    /**
+     * @param summaries given summaries of the weeks in the chronological order
+     * @return a series with one point per week, placed on its Monday
+     */
+    public static PointsSeries weekly(@NonNull List<WeekSummary> summaries) {
+        var size = summaries.size();
+        var days = new double[size];
+        var points = new double[size];
+        var possiblePoints = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            var summary = summaries.get(i);
+            days[i] = summary.getWeek().getMonday().toEpochDay();
+            points[i] = summary.getPoints();
+            possiblePoints[i] = summary.getPossiblePoints();
+        }
+
+        return new PointsSeries(days, points, possiblePoints);
+    }
+
+    /**
+     * @param summaries given summaries of the weeks in the chronological order
+     * @return a series with one point per day of each week
+     */
+    public static PointsSeries daily(@NonNull List<WeekSummary> summaries) {
+        var weekdays = WeekDays.values();
+        var size = summaries.size() * weekdays.length;
+        var days = new double[size];
+        var points = new double[size];
+        var possiblePoints = new double[size];
+        var i = 0;
+
+        for (WeekSummary summary : summaries) {
+            for (WeekDays weekday : weekdays) {
+                var totals = summary.getTotals(weekday);
+                days[i] = summary.getWeek().getDate(weekday).toEpochDay();
+                points[i] = totals.getPoints();
+                possiblePoints[i] = totals.getPossiblePoints();
+                i++;
+            }
+        }
+
+        return new PointsSeries(days, points, possiblePoints);
+    }
+
+    /**
+     * @return a number of the points in the series
+     */
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * @return the highest value of the {@link #points} and the {@link #possiblePoints}, or 0 for an empty series
+     */
+    public double getMaxValue() {
+        var max = 0.0;
+        for (double value : possiblePoints) max = Math.max(max, value);
+        for (double value : points) max = Math.max(max, value);
+
+        return max;
+    }
+}
@@ -0,0 +1,114 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Represents a template of a task which repeats every week on the chosen weekdays, e.g. "every weekday at 07:00". The
+ * template is stored apart from the planner and only its occurrences of a single week are created as
+ * {@link SingleTask} objects, by {@link #expand(IsoWeek)}, so no occurrences of other weeks are kept anywhere. Single
+ * occurrences can be changed or skipped by the {@link #overrides}. It is immutable, so each change creates a new
+ * template with the same {@link #id}.
+ * <br><br>
+ * Fields: {@link #id}, {@link #taskName}, {@link #description}, {@link #time}, {@link #weekdays}, {@link #priority},
+ * {@link #overrides}
+ * <br><br>
+ * Methods: {@link #expand(IsoWeek)}, {@link #withOverride(TemplateOverride)}, {@link #withoutOverridesBefore(IsoWeek)},
+ * {@link #findOverride(IsoWeek, WeekDays)}
+ *
+ * @see com.floweektracker.service.RecurringTemplateService
+ */
+@Value
+public class RecurringTemplate {
+    /**
+     * Represents a number which identifies the template, also after its changes.
+     */
+    int id;
+    @NonNull String taskName;
+    String description;
+    @NonNull LocalTime time;
+    /**
+     * Contains the weekdays on which the task repeats, in the order of the week.
+     */
+    @NonNull List<WeekDays> weekdays;
+    byte priority;
+    /**
+     * Contains changes of single occurrences, at most one for each week and weekday.
+     */
+    @NonNull List<TemplateOverride> overrides;
+
+    /**
+     * Creates the tasks of the given week, which aren't done. Occurrences changed by the {@link #overrides} get their
+     * values, and the skipped ones aren't created.
+     *
+     * @param week a given week
+     * @return a list of the tasks of the given week, in the order of the weekdays
+     * @throws IllegalArgumentException when the time or the priority of an occurrence isn't correct
+     */
+    public List<SingleTask> expand(@NonNull IsoWeek week) {
+        var tasks = new ArrayList<SingleTask>(weekdays.size());
+
+        for (WeekDays weekday : weekdays) {
+            var override = findOverride(week, weekday);
+
+            if (override == null) {
+                tasks.add(new SingleTask(taskName, description, time, false, weekday, priority));
+            } else if (!override.isSkipped()) {
+                tasks.add(new SingleTask(
+                        taskName,
+                        Objects.requireNonNullElse(override.getDescription(), description),
+                        Objects.requireNonNullElse(override.getTime(), time),
+                        false,
+                        weekday,
+                        (override.getPriority() != 0) ? override.getPriority() : priority
+                ));
+            }
+        }
+
+        return tasks;
+    }
+
+    /**
+     * @param override a given override
+     * @return a copy of the template with the given override, which replaces the previous override of the same week
+     * and weekday
+     */
+    public RecurringTemplate withOverride(@NonNull TemplateOverride override) {
+        var newOverrides = new ArrayList<TemplateOverride>(overrides.size() + 1);
+
+        for (TemplateOverride oldOverride : overrides) {
+            if (!oldOverride.isFor(override.getWeek(), override.getWeekday())) newOverrides.add(oldOverride);
+        }
+        newOverrides.add(override);
+
+        return new RecurringTemplate(id, taskName, description, time, weekdays, priority, List.copyOf(newOverrides));
+    }
+
+    /**
+     * @param week a given week
+     * @return a copy of the template without the overrides of the weeks before the given one, which can't be expanded
+     * anymore, or this template when there aren't any
+     */
+    public RecurringTemplate withoutOverridesBefore(@NonNull IsoWeek week) {
+        var newOverrides = overrides.stream().filter(override -> override.getWeek().compareTo(week) >= 0).toList();
+
+        return (newOverrides.size() == overrides.size())
+                ? this
+                : new RecurringTemplate(id, taskName, description, time, weekdays, priority, newOverrides);
+    }
+
+    /**
+     * @param week    a given week
+     * @param weekday a given weekday
+     * @return an override of the occurrence of the given weekday in the given week, or null when there isn't any
+     */
+    public TemplateOverride findOverride(@NonNull IsoWeek week, @NonNull WeekDays weekday) {
+        for (TemplateOverride override : overrides) {
+            if (override.isFor(week, weekday)) return override;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a reminder of a task of the planner, which is due some minutes before the next occurrence of the task.
+ * <br><br>
+ * Fields: {@link #task}, {@link #taskDateTime}, {@link #due}
+ *
+ * @see com.floweektracker.service.ReminderService
+ */
+@Value
+public class Reminder {
+    @NonNull SingleTask task;
+    /**
+     * Represents the date and the time of the next occurrence of the {@link #task}.
+     */
+    @NonNull LocalDateTime taskDateTime;
+    /**
+     * Represents the date and the time at which the reminder should be shown.
+     */
+    @NonNull LocalDateTime due;
+}
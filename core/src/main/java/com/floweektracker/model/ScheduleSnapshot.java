@@ -0,0 +1,160 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Represents an immutable point-in-time view of the schedule. It can be read by any thread, e.g. by savers, exporters
+ * or statistics jobs, without blocking the event dispatch thread. Each weekday has its own unmodifiable map of copied
+ * tasks sorted by time, so the next snapshot can share the maps of weekdays which didn't change. The interval trees of
+ * the weekdays are built lazily and shared in the same way.
+ * <br><br>
+ * Fields: {@link #EMPTY}, {@link #version}, {@link #tasks}, {@link #intervals}
+ * <br><br>
+ * Methods: {@link #of(Map)}, {@link #withWeekday(WeekDays, Map)}, {@link #getTasksFromWeekday(WeekDays)},
+ * {@link #getIntervals(WeekDays)},
+ * {@link #getTaskByEventTime(WeekDays, LocalTime)}, {@link #collectSortedTimes()}, {@link #countTasks()},
+ * {@link #toScheduleMap()}
+ */
+@Getter
+public final class ScheduleSnapshot {
+    /**
+     * Represents a snapshot of the schedule without any task.
+     *
+     * @see com.floweektracker.service.TasksService
+     */
+    public static final ScheduleSnapshot EMPTY = createEmptySnapshot();
+    /**
+     * Represents a number of changes of the schedule made before this snapshot was created.
+     */
+    private final long version;
+    /**
+     * Contains unmodifiable maps of tasks for each weekday. The maps are sorted by time.
+     */
+    private final Map<WeekDays, NavigableMap<LocalTime, SingleTask>> tasks;
+    /**
+     * Contains interval trees of the weekdays indexed by their positions, or nulls when they weren't built yet. Two
+     * threads can build the same tree at once, but the trees are immutable, so either of them can be kept.
+     *
+     * @see #getIntervals(WeekDays)
+     */
+    @Getter(AccessLevel.NONE)
+    private final DayIntervals[] intervals;
+
+    private ScheduleSnapshot(long version, Map<WeekDays, NavigableMap<LocalTime, SingleTask>> tasks,
+                             DayIntervals[] intervals) {
+        this.version = version;
+        this.tasks = Collections.unmodifiableMap(tasks);
+        this.intervals = intervals;
+    }
+
+    /**
+     * @return a snapshot with an empty map for each weekday
+     * @see #EMPTY
+     */
+    private static ScheduleSnapshot createEmptySnapshot() {
+        var tasks = new EnumMap<WeekDays, NavigableMap<LocalTime, SingleTask>>(WeekDays.class);
+        for (WeekDays weekday : WeekDays.values()) tasks.put(weekday, Collections.emptyNavigableMap());
+
+        return new ScheduleSnapshot(0, tasks, new DayIntervals[WeekDays.values().length]);
+    }
+
+    /**
+     * Creates a snapshot with copies of the tasks from the given schedule, e.g. a schedule loaded from a file.
+     *
+     * @param schedule a given schedule
+     * @return a snapshot of the given schedule
+     * @see com.floweektracker.repository.WeekHistoryRepository
+     */
+    public static ScheduleSnapshot of(Map<WeekDays, ? extends Map<LocalTime, SingleTask>> schedule) {
+        var snapshot = EMPTY;
+        if (schedule == null) return snapshot;
+
+        for (WeekDays weekday : WeekDays.values()) {
+            if (schedule.get(weekday) != null) snapshot = snapshot.withWeekday(weekday, schedule.get(weekday));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Creates a next snapshot, in which the tasks of the given weekday are replaced with copies of the given tasks.
+     * Maps and interval trees of other weekdays are shared with this snapshot.
+     *
+     * @param weekday      a given weekday which changed
+     * @param weekdayTasks actual tasks of the given weekday
+     * @return a new snapshot with an incremented {@link #version}
+     * @see com.floweektracker.service.TasksService
+     */
+    public ScheduleSnapshot withWeekday(WeekDays weekday, Map<LocalTime, SingleTask> weekdayTasks) {
+        var copiedTasks = new TreeMap<LocalTime, SingleTask>();
+        if (weekdayTasks != null) weekdayTasks.forEach((time, task) -> copiedTasks.put(time, task.copy()));
+
+        var newTasks = new EnumMap<>(tasks);
+        newTasks.put(weekday, Collections.unmodifiableNavigableMap(copiedTasks));
+        var newIntervals = intervals.clone();
+        newIntervals[weekday.getPosition()] = null;
+
+        return new ScheduleSnapshot(version + 1, newTasks, newIntervals);
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @return an unmodifiable map of the tasks from the given weekday sorted by time
+     */
+    public NavigableMap<LocalTime, SingleTask> getTasksFromWeekday(WeekDays weekday) {
+        return tasks.get(weekday);
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @return an interval tree of the tasks from the given weekday, which is built at the first call
+     * @see DayIntervals
+     */
+    public DayIntervals getIntervals(WeekDays weekday) {
+        var dayIntervals = intervals[weekday.getPosition()];
+
+        if (dayIntervals == null) {
+            dayIntervals = DayIntervals.of(tasks.get(weekday));
+            intervals[weekday.getPosition()] = dayIntervals;
+        }
+
+        return dayIntervals;
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @param time    a given time
+     * @return a task from the given weekday and time or null
+     */
+    public SingleTask getTaskByEventTime(WeekDays weekday, LocalTime time) {
+        return tasks.get(weekday).get(time);
+    }
+
+    /**
+     * @return a {@link TreeSet} with all the times of the tasks in the snapshot
+     */
+    public TreeSet<LocalTime> collectSortedTimes() {
+        return tasks.values().stream()
+                .flatMap(weekdayTasks -> weekdayTasks.keySet().stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @return a number of all tasks in the snapshot
+     */
+    public int countTasks() {
+        return tasks.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * @return an unmodifiable map of the tasks in the form used by the
+     * {@link com.floweektracker.repository.PlannerRepository}
+     */
+    public Map<WeekDays, Map<LocalTime, SingleTask>> toScheduleMap() {
+        return Collections.unmodifiableMap(new EnumMap<WeekDays, Map<LocalTime, SingleTask>>(tasks));
+    }
+}
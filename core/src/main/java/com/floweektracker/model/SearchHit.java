@@ -0,0 +1,26 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.Comparator;
+
+/**
+ * Represents a task found by the search with its score. Hits are ordered by the {@link #RANKING}.
+ * <br><br>
+ * Fields: {@link #RANKING}, {@link #reference}, {@link #score}
+ *
+ * @see com.floweektracker.service.SearchService
+ */
+@Value
+public class SearchHit {
+    /**
+     * Orders hits from the highest score. Hits with the same score are ordered from the planner to the oldest archived
+     * week, and then by the weekday and the time.
+     */
+    public static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::getScore).reversed()
+            .thenComparing(hit -> hit.getReference().getWeek(), Comparator.nullsFirst(Comparator.<IsoWeek>reverseOrder()))
+            .thenComparing(hit -> hit.getReference().getWeekday())
+            .thenComparing(hit -> hit.getReference().getTime());
+    @NonNull TaskReference reference;
+    double score;
+}
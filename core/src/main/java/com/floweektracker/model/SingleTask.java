@@ -0,0 +1,184 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * Represents the {@link SingleTask} object in the application. Contains field with information about the task and
+ * access methods for it. The name of the task is stored as its id in the {@link TaskNameDictionary}, so the tasks with
+ * the same name share it and are compared by an integer. A task can have a duration; a task without it occupies only
+ * the minute of its {@link #time}.
+ * <br><br>
+ * Fields: {@link #MINUTES_PER_DAY}, {@link #taskNameId}, {@link #description}, {@link #time}, {@link #isDone},
+ * {@link #weekday}, {@link #priority}, {@link #durationMinutes}
+ * <br><br>
+ * Methods: {@link #getTaskNameId()}, {@link #getTaskName()}, {@link #setTaskName(String)}, {@link #calculatePoints()},
+ * {@link #copy}, {@link #getStartMinute()}, {@link #getEndMinute()},
+ * {@link #setPriority(byte)}, {@link #areEventTimeAndPriorityCorrect(LocalTime, WeekDays, byte)},
+ * {@link #isDurationCorrect(LocalTime, int)}
+ */
+@Data
+public class SingleTask {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    /**
+     * Represents an id of the name of the task in the {@link TaskNameDictionary}.
+     *
+     * @see #getTaskName()
+     * @see #setTaskName(String)
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private int taskNameId;
+    private String description;
+    private LocalTime time;
+    private boolean isDone;
+    private WeekDays weekday;
+    @Setter(AccessLevel.NONE)
+    private byte priority;
+    /**
+     * Represents a number of minutes the task lasts, or 0 when the task has no duration. The task ends not later than
+     * at midnight.
+     *
+     * @see #getEndMinute()
+     */
+    @Setter(AccessLevel.NONE)
+    private int durationMinutes;
+
+    /**
+     * Public constructor for the {@link SingleTask} object. Checks if the {@link #time}, {@link #weekday} and
+     * {@link #priority} are correct. If not, throws and {@link IllegalArgumentException}.
+     *
+     * @param taskName    a name of the task
+     * @param description a description of the task
+     * @param time        a time of the task
+     * @param isDone      a flag if the task is done
+     * @param weekday     a day of the week
+     * @param priority    a priority of the task
+     * @see #areEventTimeAndPriorityCorrect(LocalTime, WeekDays, byte)
+     * @see com.floweektracker.service.TasksService
+     */
+    public SingleTask(String taskName, String description, LocalTime time, boolean isDone, WeekDays weekday, byte priority) {
+        this(taskName, description, time, isDone, weekday, priority, 0);
+    }
+
+    /**
+     * Public constructor for the {@link SingleTask} object with a duration. Checks if the {@link #time},
+     * {@link #weekday}, {@link #priority} and {@link #durationMinutes} are correct. If not, throws and
+     * {@link IllegalArgumentException}.
+     *
+     * @param taskName        a name of the task
+     * @param description     a description of the task
+     * @param time            a time of the task
+     * @param isDone          a flag if the task is done
+     * @param weekday         a day of the week
+     * @param priority        a priority of the task
+     * @param durationMinutes a number of minutes the task lasts, or 0 when it has no duration
+     * @see #isDurationCorrect(LocalTime, int)
+     */
+    public SingleTask(String taskName, String description, LocalTime time, boolean isDone, WeekDays weekday,
+                      byte priority, int durationMinutes) {
+        if (!areEventTimeAndPriorityCorrect(time, weekday, priority))
+            throw new IllegalArgumentException("Event time shouldn't be null");
+        if (!isDurationCorrect(time, durationMinutes))
+            throw new IllegalArgumentException("Task should end not later than at midnight");
+
+        this.taskNameId = TaskNameDictionary.getDictionary().intern(taskName);
+        this.description = description;
+        this.time = time;
+        this.isDone = isDone;
+        this.weekday = weekday;
+        this.priority = priority;
+        this.durationMinutes = durationMinutes;
+    }
+
+    /**
+     * Checks if the {@link #time}, {@link #weekday} are not null, and if the {@link #priority} is in the range.
+     *
+     * @param time     a time of the task
+     * @param weekday  a day of the week
+     * @param priority a priority of the task
+     * @return true if event time is not null, otherwise false
+     * @see SingleTask(String, String, LocalTime, boolean, WeekDays, byte)
+     */
+    private boolean areEventTimeAndPriorityCorrect(LocalTime time, WeekDays weekday, byte priority) {
+        var isEventTimeNotNull = (time != null) && (weekday != null);
+        var isPriorityInRange = (priority >= 1) && (priority <= 10);
+
+        return isEventTimeNotNull && isPriorityInRange;
+    }
+
+    /**
+     * @param time            a time of the task
+     * @param durationMinutes a number of minutes the task lasts
+     * @return true if the duration isn't negative and the task ends not later than at midnight, otherwise false
+     */
+    private boolean isDurationCorrect(LocalTime time, int durationMinutes) {
+        return (durationMinutes >= 0) && (durationMinutes <= MINUTES_PER_DAY - time.toSecondOfDay() / 60);
+    }
+
+    /**
+     * @return a minute of the day at which the task starts
+     */
+    public int getStartMinute() {
+        return time.toSecondOfDay() / 60;
+    }
+
+    /**
+     * @return a minute of the day before which the task ends; a task without a duration ends after one minute
+     * @see com.floweektracker.model.DayIntervals
+     */
+    public int getEndMinute() {
+        return getStartMinute() + Math.max(durationMinutes, 1);
+    }
+
+    /**
+     * @return an id of the name of the task, resolved by the {@link TaskNameDictionary}, so the tasks whose names were
+     * merged have the same id and are equal
+     */
+    public int getTaskNameId() {
+        return TaskNameDictionary.getDictionary().resolve(taskNameId);
+    }
+
+    /**
+     * @return a name of the task from the {@link TaskNameDictionary}
+     */
+    @ToString.Include(name = "taskName", rank = 1)
+    public String getTaskName() {
+        return TaskNameDictionary.getDictionary().getName(taskNameId);
+    }
+
+    /**
+     * @param taskName a given name of the task, which is added to the {@link TaskNameDictionary} when it is a new one
+     */
+    public void setTaskName(String taskName) {
+        this.taskNameId = TaskNameDictionary.getDictionary().intern(taskName);
+    }
+
+    /**
+     * @return {#link priority} if the task is done, otherwise 0
+     */
+    public byte calculatePoints() {
+        return this.isDone() ? priority : 0;
+    }
+
+    /**
+     * Creates a copy of the current {@link SingleTask} instance.
+     *
+     * @return a new instance of {@link SingleTask} with the same values as the current instance
+     */
+    public SingleTask copy() {
+        return new SingleTask(getTaskName(), this.description, this.time, this.isDone, this.weekday, this.priority,
+                this.durationMinutes);
+    }
+
+    /**
+     * Set given priority to the {@link #priority} field. Throws an {@link IllegalArgumentException} if the priority is
+     * out of range.
+     *
+     * @param priority a priority of the task
+     */
+    public void setPriority(byte priority) {
+        if ((priority < 1) || (priority > 10)) throw new IllegalArgumentException("Priority is out of range");
+        else this.priority = priority;
+    }
+}
\ No newline at end of file
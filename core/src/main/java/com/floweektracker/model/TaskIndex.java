@@ -0,0 +1,251 @@
+package com.floweektracker.model;
+
+import com.floweektracker.util.*;
+import lombok.NonNull;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Represents secondary indexes of the tasks, which execute a {@link TaskQuery} without checking each task. Each task
+ * gets a slot, i.e. a bit position, and each predicate of the query is a {@link BitSet} of the matching slots: the
+ * weekdays and the priorities have their buckets, the done tasks have their own set, the times are kept sorted for
+ * each weekday, and the names are kept in a {@link NameTrie}, so all names with a prefix are a single range of it. A
+ * fragment of the name is checked once for each distinct name instead of each task. The sets of the predicates are
+ * intersected, and only the tasks left are sorted. The indexes are updated incrementally by adding and removing single
+ * tasks, and the slots of the removed tasks are reused. Tasks are identified by their weekday and time. All methods are
+ * synchronized, so it can be updated by the snapshot listener and queried by a background thread.
+ * <br><br>
+ * Fields: {@link #tasks}, {@link #slots}, {@link #usedSlots}, {@link #weekdaySlots}, {@link #prioritySlots},
+ * {@link #doneSlots}, {@link #nameSlots}, {@link #foldedNames}, {@link #names}
+ * <br><br>
+ * Methods: {@link #add(SingleTask)}, {@link #remove(SingleTask)}, {@link #clear()}, {@link #size()},
+ * {@link #find(TaskQuery)}, {@link #count(TaskQuery)}, {@link #findSlots(TaskQuery)},
+ * {@link #findTimeSlots(TaskQuery)}, {@link #findNameSlots(String)}, {@link #findFragmentSlots(String)}
+ *
+ * @see com.floweektracker.service.TaskQueryService
+ */
+public class TaskIndex {
+    /**
+     * Contains the indexed tasks by their slots, with null in the free slots.
+     */
+    private final List<SingleTask> tasks = new ArrayList<>();
+    /**
+     * Contains the slots of the tasks of each weekday sorted by their time.
+     */
+    private final Map<WeekDays, NavigableMap<LocalTime, Integer>> slots = new EnumMap<>(WeekDays.class);
+    private final BitSet usedSlots = new BitSet();
+    private final Map<WeekDays, BitSet> weekdaySlots = new EnumMap<>(WeekDays.class);
+    /**
+     * Contains the slots of the tasks of each priority, at the index of the priority.
+     */
+    private final BitSet[] prioritySlots = new BitSet[11];
+    private final BitSet doneSlots = new BitSet();
+    private final Map<String, BitSet> nameSlots = new HashMap<>();
+    /**
+     * Contains the names of the {@link #nameSlots} folded by the {@link TextNormalizer}, so a fragment of the name is
+     * compared without folding the names again for each query.
+     */
+    private final Map<String, String> foldedNames = new HashMap<>();
+    /**
+     * Contains the names of the indexed tasks, so the names with a given prefix are found without checking all names.
+     */
+    private final NameTrie names = new NameTrie();
+
+    /**
+     * Creates empty indexes.
+     */
+    public TaskIndex() {
+        for (WeekDays weekday : WeekDays.values()) {
+            slots.put(weekday, new TreeMap<>());
+            weekdaySlots.put(weekday, new BitSet());
+        }
+        for (int priority = 0; priority < prioritySlots.length; priority++) prioritySlots[priority] = new BitSet();
+    }
+
+    /**
+     * Adds the given task to all indexes. A task which is indexed at the same weekday and time is replaced.
+     *
+     * @param task a given task
+     */
+    public synchronized void add(@NonNull SingleTask task) {
+        remove(task);
+
+        var slot = usedSlots.nextClearBit(0);
+        if (slot == tasks.size()) tasks.add(task);
+        else tasks.set(slot, task);
+
+        usedSlots.set(slot);
+        slots.get(task.getWeekday()).put(task.getTime(), slot);
+        weekdaySlots.get(task.getWeekday()).set(slot);
+        prioritySlots[task.getPriority()].set(slot);
+        doneSlots.set(slot, task.isDone());
+
+        var name = task.getTaskName();
+        if (name != null) {
+            nameSlots.computeIfAbsent(name, _ -> new BitSet()).set(slot);
+            foldedNames.computeIfAbsent(name, TextNormalizer::fold);
+            names.add(name);
+        }
+    }
+
+    /**
+     * Removes the task at the weekday and the time of the given task from all indexes.
+     *
+     * @param task a given task
+     * @return true if a task was indexed at the weekday and the time, otherwise false
+     */
+    public synchronized boolean remove(@NonNull SingleTask task) {
+        var slot = slots.get(task.getWeekday()).remove(task.getTime());
+        if (slot == null) return false;
+
+        var indexed = tasks.set(slot, null);
+        usedSlots.clear(slot);
+        weekdaySlots.get(indexed.getWeekday()).clear(slot);
+        prioritySlots[indexed.getPriority()].clear(slot);
+        doneSlots.clear(slot);
+
+        var name = indexed.getTaskName();
+        var sameNameSlots = (name != null) ? nameSlots.get(name) : null;
+        if (sameNameSlots != null) {
+            sameNameSlots.clear(slot);
+            if (sameNameSlots.isEmpty()) {
+                nameSlots.remove(name);
+                foldedNames.remove(name);
+                names.remove(name);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes all tasks from the indexes.
+     */
+    public synchronized void clear() {
+        tasks.clear();
+        slots.values().forEach(Map::clear);
+        usedSlots.clear();
+        weekdaySlots.values().forEach(BitSet::clear);
+        Arrays.stream(prioritySlots).forEach(BitSet::clear);
+        doneSlots.clear();
+        nameSlots.clear();
+        foldedNames.clear();
+        names.clear();
+    }
+
+    /**
+     * @return a number of the indexed tasks
+     */
+    public synchronized int size() {
+        return usedSlots.cardinality();
+    }
+
+    /**
+     * @param query a given query
+     * @return tasks matching the given query in its order, limited to its limit
+     */
+    public synchronized List<SingleTask> find(@NonNull TaskQuery query) {
+        var found = findSlots(query);
+        var matchingTasks = new ArrayList<SingleTask>(found.cardinality());
+
+        for (int slot = found.nextSetBit(0); slot >= 0; slot = found.nextSetBit(slot + 1)) {
+            matchingTasks.add(tasks.get(slot));
+        }
+
+        return matchingTasks.stream()
+                .sorted(query.getOrder().getComparator())
+                .limit(query.getLimit())
+                .toList();
+    }
+
+    /**
+     * @param query a given query
+     * @return a number of the tasks matching the given query, not limited to its limit
+     */
+    public synchronized int count(@NonNull TaskQuery query) {
+        return findSlots(query).cardinality();
+    }
+
+    //region helper methods
+    /**
+     * Intersects the slots of each predicate of the given query. Predicates which aren't set are skipped.
+     *
+     * @param query a given query
+     * @return slots of the tasks matching the query
+     */
+    private BitSet findSlots(TaskQuery query) {
+        var found = (BitSet) usedSlots.clone();
+
+        if (!query.getWeekdays().isEmpty()) {
+            var weekdays = new BitSet();
+            query.getWeekdays().forEach(weekday -> weekdays.or(weekdaySlots.get(weekday)));
+            found.and(weekdays);
+        }
+
+        if ((query.getMinPriority() > 1) || (query.getMaxPriority() < 10)) {
+            var priorities = new BitSet();
+            for (int priority = query.getMinPriority(); priority <= query.getMaxPriority(); priority++) {
+                priorities.or(prioritySlots[priority]);
+            }
+            found.and(priorities);
+        }
+
+        if (query.getDone() != null) {
+            if (query.getDone()) found.and(doneSlots);
+            else found.andNot(doneSlots);
+        }
+
+        if ((query.getFromTime() != null) || (query.getToTime() != null)) found.and(findTimeSlots(query));
+        if (query.hasNamePrefix() && !found.isEmpty()) found.and(findNameSlots(query.getNamePrefix()));
+        if (query.hasNameFragment() && !found.isEmpty()) found.and(findFragmentSlots(query.getNameFragment()));
+
+        return found;
+    }
+
+    /**
+     * @param query a given query with a time range
+     * @return slots of the tasks of the weekdays of the query whose time is in the time range
+     */
+    private BitSet findTimeSlots(TaskQuery query) {
+        var from = (query.getFromTime() != null) ? query.getFromTime() : LocalTime.MIN;
+        var to = (query.getToTime() != null) ? query.getToTime() : LocalTime.MAX;
+        var weekdays = query.getWeekdays().isEmpty() ? EnumSet.allOf(WeekDays.class) : query.getWeekdays();
+        var found = new BitSet();
+
+        weekdays.forEach(weekday -> slots.get(weekday).subMap(from, true, to, true).values().forEach(found::set));
+
+        return found;
+    }
+
+    /**
+     * @param prefix a given beginning of the names
+     * @return slots of the tasks whose names start with the given prefix
+     */
+    private BitSet findNameSlots(String prefix) {
+        var found = new BitSet();
+        var first = names.indexOfPrefix(prefix);
+        if (first < 0) return found;
+
+        var last = first + names.countWithPrefix(prefix);
+        for (int index = first; index < last; index++) found.or(nameSlots.get(names.get(index)));
+
+        return found;
+    }
+
+    /**
+     * @param fragment a given part of the names
+     * @return slots of the tasks whose names contain the given fragment, ignoring case and Polish diacritics
+     */
+    private BitSet findFragmentSlots(String fragment) {
+        var foldedFragment = TextNormalizer.fold(fragment);
+        var found = new BitSet();
+
+        nameSlots.forEach((name, sameNameSlots) -> {
+            if (foldedNames.get(name).contains(foldedFragment)) found.or(sameNameSlots);
+        });
+
+        return found;
+    }
+    //endregion
+}
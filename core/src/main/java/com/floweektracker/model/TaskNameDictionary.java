@@ -0,0 +1,230 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.*;
+
+/**
+ * Represents a dictionary of the task names, which gives each name a small integer id. The tasks, the planner file,
+ * the archived weeks and the search index store only the ids, so each name is kept in the memory and in the files
+ * once, comparing names of the tasks is comparing integers, and renaming a name is a single change of the dictionary.
+ * Merging a name into another one makes its id an alias of the other id in the {@link #targets}, so the tasks of both
+ * names get the same name at once too. Ids are never reused, so the dictionary only grows. Names are read without
+ * locking from the {@link #names} and {@link #targets} arrays, which are replaced whenever they grow. It is a
+ * singleton.
+ * <br><br>
+ * Fields: {@link #dictionary}, {@link #NO_NAME}, {@link #names}, {@link #targets}, {@link #ids}, {@link #size},
+ * {@link #version}
+ * <br><br>
+ * Methods: {@link #intern(String)}, {@link #getName(int)}, {@link #getId(String)}, {@link #resolve(int)},
+ * {@link #rename(int, String)}, {@link #merge(int, int)}, {@link #size()}, {@link #getVersion()}, {@link #toList()},
+ * {@link #load(List)}, {@link #append(String, int)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskNameDictionary {
+    /**
+     * A singleton instance of the dictionary.
+     *
+     * @see SingleTask
+     * @see com.floweektracker.repository.TaskNameDictionaryRepository
+     */
+    @Getter
+    private static final TaskNameDictionary dictionary = new TaskNameDictionary();
+    /**
+     * Represents an id of the null name.
+     */
+    public static final int NO_NAME = -1;
+    /**
+     * Contains the names at the positions of their ids. Only the first {@link #size} elements are used.
+     */
+    private volatile String[] names = new String[64];
+    /**
+     * Contains the ids whose names are used for the ids at the positions, i.e. each id itself or, for a merged id, the
+     * id it was merged into.
+     */
+    private volatile int[] targets = new int[64];
+    /**
+     * Contains the ids of the names, without the names of the merged ids.
+     */
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile int size;
+    /**
+     * Represents a number of the changes of the dictionary, so the repository can skip saving an unchanged one.
+     */
+    private volatile long version;
+
+    /**
+     * @param name a given task name
+     * @return an id of the given name, which is added to the dictionary when it isn't there yet, or {@link #NO_NAME}
+     * when the name is null
+     */
+    public synchronized int intern(String name) {
+        if (name == null) return NO_NAME;
+
+        var id = ids.get(name);
+        if (id != null) return id;
+
+        ids.put(name, size);
+
+        return append(name, size);
+    }
+
+    /**
+     * @param id a given id
+     * @return a name of the given id, or null when the id is {@link #NO_NAME}
+     * @throws IndexOutOfBoundsException when the id isn't in the dictionary
+     */
+    public String getName(int id) {
+        if (id == NO_NAME) return null;
+
+        Objects.checkIndex(id, size);
+
+        return names[targets[id]];
+    }
+
+    /**
+     * @param name a given task name
+     * @return an id of the given name, or {@link #NO_NAME} when it isn't in the dictionary
+     */
+    public synchronized int getId(String name) {
+        return ids.getOrDefault(name, NO_NAME);
+    }
+
+    /**
+     * @param id a given id
+     * @return the id whose name is used for the given id, which differs from it only when the given id was merged, or
+     * {@link #NO_NAME} when the id is {@link #NO_NAME}
+     * @throws IndexOutOfBoundsException when the id isn't in the dictionary
+     */
+    public int resolve(int id) {
+        if (id == NO_NAME) return NO_NAME;
+
+        Objects.checkIndex(id, size);
+
+        return targets[id];
+    }
+
+    /**
+     * Changes the name of the given id, so all tasks referencing it are renamed at once.
+     *
+     * @param id      a given id
+     * @param newName a given new name, which can't be already in the dictionary
+     * @return true if the name is changed, false if the new name is null or it already has an id
+     */
+    public synchronized boolean rename(int id, String newName) {
+        var target = resolve(id);
+        if ((newName == null) || ids.containsKey(newName)) return false;
+
+        var newNames = names;
+        ids.remove(newNames[target]);
+        newNames[target] = newName;
+        ids.put(newName, target);
+
+        names = newNames;
+        version++;
+
+        return true;
+    }
+
+    /**
+     * Merges the given source id into the given target id, so all tasks referencing the source id, and the ids merged
+     * into it before, get the name of the target id at once. The name of the source id is removed from the dictionary
+     * and it gets a new id when it is interned again.
+     *
+     * @param sourceId a given id which is merged
+     * @param targetId a given id whose name is kept
+     * @return true if the ids are merged, false if they already have the same name
+     */
+    public synchronized boolean merge(int sourceId, int targetId) {
+        var source = resolve(sourceId);
+        var target = resolve(targetId);
+        if (source == target) return false;
+
+        var newTargets = targets;
+        for (int id = 0; id < size; id++) {
+            if (newTargets[id] == source) newTargets[id] = target;
+        }
+        ids.remove(names[source]);
+
+        targets = newTargets;
+        version++;
+
+        return true;
+    }
+
+    /**
+     * @return a number of the names
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a number of the changes of the dictionary
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return a copy of the names ordered by their ids, in which a merged id has the same name as its target
+     */
+    public synchronized List<String> toList() {
+        var list = new ArrayList<String>(size);
+        for (int id = 0; id < size; id++) list.add(names[targets[id]]);
+
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Loads the names saved by {@link #toList()}. A name which appears again later in the list is loaded as a merged
+     * id of its first appearance. The names which are already in the dictionary must have the same ids as in the given
+     * list, which is always true when the dictionary is loaded before any name is interned.
+     *
+     * @param loadedNames given names ordered by their ids
+     * @return true if the names are loaded, false if the ids of the given names differ from the actual ones
+     */
+    public synchronized boolean load(@NonNull List<String> loadedNames) {
+        var common = Math.min(size, loadedNames.size());
+        for (int id = 0; id < common; id++) {
+            if (!getName(id).equals(loadedNames.get(id))) return false;
+        }
+
+        for (int id = common; id < loadedNames.size(); id++) {
+            var name = loadedNames.get(id);
+            if (name == null) return false;
+
+            var target = ids.get(name);
+            if (target != null) append(name, target);
+            else if (intern(name) != id) return false;
+        }
+
+        return true;
+    }
+
+    //region helper methods
+    /**
+     * Adds the given name at the next id, growing the arrays when they are full.
+     *
+     * @param name   a given name
+     * @param target an id whose name is used for the new id
+     * @return the new id
+     */
+    private int append(String name, int target) {
+        var newNames = names;
+        var newTargets = targets;
+        if (size == newNames.length) {
+            newNames = Arrays.copyOf(newNames, size * 2);
+            newTargets = Arrays.copyOf(newTargets, size * 2);
+        }
+        newNames[size] = name;
+        newTargets[size] = target;
+
+        names = newNames;
+        targets = newTargets;
+        version++;
+
+        return size++;
+    }
+    //endregion
+}
@@ -0,0 +1,49 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * Represents how often and how recently a task name was used in the planner, i.e. how many tasks with the name were
+ * planned and when the last of them was planned.
+ * <br><br>
+ * Fields: {@link #RANKING}, {@link #taskName}, {@link #count}, {@link #lastUsed}
+ * <br><br>
+ * Methods: {@link #unused(String)}, {@link #use(int, LocalDate)}
+ */
+@Value
+public class TaskNameUsage {
+    /**
+     * Orders the usages from the most used, then from the most recently used, and then alphabetically.
+     */
+    public static final Comparator<TaskNameUsage> RANKING = Comparator.comparingInt(TaskNameUsage::getCount).reversed()
+            .thenComparing(TaskNameUsage::getLastUsed, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TaskNameUsage::getTaskName);
+    String taskName;
+    int count;
+    /**
+     * Represents a date of the last use, or null when the name wasn't used.
+     */
+    LocalDate lastUsed;
+
+    /**
+     * @param taskName a given task name
+     * @return a usage of the given name which wasn't used yet
+     */
+    public static TaskNameUsage unused(@NonNull String taskName) {
+        return new TaskNameUsage(taskName, 0, null);
+    }
+
+    /**
+     * @param times a given number of the uses
+     * @param date  a given date of the uses
+     * @return a usage with the given uses added; the {@link #lastUsed} doesn't move back when the date is earlier
+     */
+    public TaskNameUsage use(int times, @NonNull LocalDate date) {
+        var newLastUsed = ((lastUsed == null) || date.isAfter(lastUsed)) ? date : lastUsed;
+
+        return new TaskNameUsage(taskName, count + times, newLastUsed);
+    }
+}
@@ -0,0 +1,218 @@
+package com.floweektracker.model;
+
+import com.floweektracker.util.TextNormalizer;
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Represents a query over the tasks of the planner, i.e. predicates on the weekday, the time range, the priority range,
+ * the done status, the beginning of the name and a fragment of the name, together with the order and the limit of the
+ * found tasks. Predicates
+ * which aren't set match every task. The query is immutable and is created by the {@link TaskQueryBuilder}. It is
+ * executed by the {@link TaskIndex}, and {@link #matches(SingleTask)} checks a single task in the same way.
+ * <br><br>
+ * Fields: {@link #ALL}, {@link #weekdays}, {@link #fromTime}, {@link #toTime}, {@link #minPriority},
+ * {@link #maxPriority}, {@link #done}, {@link #namePrefix}, {@link #nameFragment}, {@link #order}, {@link #limit}
+ * <br><br>
+ * Methods: {@link #matches(SingleTask)}, {@link #hasNamePrefix()}, {@link #hasNameFragment()}
+ *
+ * @see com.floweektracker.service.TaskQueryService
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskQuery {
+    /**
+     * Represents a query which matches all tasks in the order of the schedule.
+     */
+    public static final TaskQuery ALL = new TaskQueryBuilder().build();
+    /**
+     * Contains the weekdays of the tasks, or is empty when the tasks of all weekdays match.
+     */
+    Set<WeekDays> weekdays;
+    /**
+     * Represents the earliest time of the tasks, inclusive, or null when there isn't any.
+     */
+    LocalTime fromTime;
+    /**
+     * Represents the latest time of the tasks, inclusive, or null when there isn't any.
+     */
+    LocalTime toTime;
+    byte minPriority;
+    byte maxPriority;
+    /**
+     * Represents the done status of the tasks, or null when both done and not done tasks match.
+     */
+    Boolean done;
+    /**
+     * Represents the beginning of the names of the tasks, compared ignoring case and Polish diacritics, or null when
+     * all names match.
+     */
+    String namePrefix;
+    /**
+     * Represents a part of the names of the tasks, compared ignoring case and Polish diacritics, or null when all names
+     * match.
+     */
+    String nameFragment;
+    Order order;
+    int limit;
+
+    /**
+     * Represents the order of the found tasks. Tasks which are equal by the order are in the order of the schedule.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Order {
+        SCHEDULE(Comparator.comparing((SingleTask task) -> task.getWeekday().getPosition())
+                .thenComparing(SingleTask::getTime)),
+        PRIORITY(Comparator.comparing(SingleTask::getPriority).reversed().thenComparing(SCHEDULE.comparator)),
+        NAME(Comparator.comparing((SingleTask task) -> TextNormalizer.fold(task.getTaskName()))
+                .thenComparing(SCHEDULE.comparator));
+
+        private final Comparator<SingleTask> comparator;
+    }
+
+    /**
+     * Checks the given task against all predicates of the query, without the {@link TaskIndex}.
+     *
+     * @param task a given task
+     * @return true if the task matches the query, otherwise false
+     */
+    public boolean matches(SingleTask task) {
+        if (task == null) return false;
+        if (!weekdays.isEmpty() && !weekdays.contains(task.getWeekday())) return false;
+        if ((fromTime != null) && task.getTime().isBefore(fromTime)) return false;
+        if ((toTime != null) && task.getTime().isAfter(toTime)) return false;
+        if ((task.getPriority() < minPriority) || (task.getPriority() > maxPriority)) return false;
+        if ((done != null) && (task.isDone() != done)) return false;
+
+        var foldedName = TextNormalizer.fold(task.getTaskName());
+        if (hasNamePrefix() && !foldedName.startsWith(TextNormalizer.fold(namePrefix))) return false;
+
+        return !hasNameFragment() || foldedName.contains(TextNormalizer.fold(nameFragment));
+    }
+
+    /**
+     * @return true if the names of the tasks are checked, otherwise false
+     */
+    public boolean hasNamePrefix() {
+        return namePrefix != null;
+    }
+
+    /**
+     * @return true if the names of the tasks are checked for a fragment, otherwise false
+     */
+    public boolean hasNameFragment() {
+        return nameFragment != null;
+    }
+
+    /**
+     * Builder of the {@link TaskQuery}, in which each method sets a single predicate, the order or the limit.
+     */
+    public static class TaskQueryBuilder {
+        private final Set<WeekDays> weekdays = EnumSet.noneOf(WeekDays.class);
+        private LocalTime fromTime;
+        private LocalTime toTime;
+        private int minPriority = 1;
+        private int maxPriority = 10;
+        private Boolean done;
+        private String namePrefix;
+        private String nameFragment;
+        private Order order = Order.SCHEDULE;
+        private int limit = Integer.MAX_VALUE;
+
+        /**
+         * @param weekdays given weekdays of the tasks; no weekdays mean all of them
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withWeekdays(@NonNull Collection<WeekDays> weekdays) {
+            this.weekdays.clear();
+            this.weekdays.addAll(weekdays);
+            return this;
+        }
+
+        /**
+         * @param fromTime a given earliest time, inclusive, or null when there isn't any
+         * @param toTime   a given latest time, inclusive, or null when there isn't any
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withTimeRange(LocalTime fromTime, LocalTime toTime) {
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+            return this;
+        }
+
+        /**
+         * @param minPriority a given lowest priority, inclusive
+         * @param maxPriority a given highest priority, inclusive
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withPriorityRange(int minPriority, int maxPriority) {
+            this.minPriority = minPriority;
+            this.maxPriority = maxPriority;
+            return this;
+        }
+
+        /**
+         * @param done a given done status, or null when both statuses match
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withDone(Boolean done) {
+            this.done = done;
+            return this;
+        }
+
+        /**
+         * @param namePrefix a given beginning of the names; a null or blank one matches all names
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withNamePrefix(String namePrefix) {
+            this.namePrefix = ((namePrefix != null) && !namePrefix.isBlank()) ? namePrefix.strip() : null;
+            return this;
+        }
+
+        /**
+         * @param nameFragment a given part of the names; a null or blank one matches all names
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withNameFragment(String nameFragment) {
+            this.nameFragment = ((nameFragment != null) && !nameFragment.isBlank()) ? nameFragment.strip() : null;
+            return this;
+        }
+
+        /**
+         * @param order a given order of the found tasks
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder sortedBy(@NonNull Order order) {
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * @param limit a given maximal number of the found tasks
+         * @return the current TaskQueryBuilder instance
+         */
+        public TaskQueryBuilder withLimit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * @return a new query with the set predicates, order and limit
+         * @throws IllegalArgumentException when the time range or the priority range is empty, a priority is out of the
+         *                                  range from 1 to 10 or the limit is negative
+         */
+        public TaskQuery build() {
+            if ((fromTime != null) && (toTime != null) && fromTime.isAfter(toTime))
+                throw new IllegalArgumentException("Start of the time range should be before its end");
+            if ((minPriority < 1) || (maxPriority > 10) || (minPriority > maxPriority))
+                throw new IllegalArgumentException("Priority range should be within 1 and 10");
+            if (limit < 0) throw new IllegalArgumentException("Limit of the tasks shouldn't be negative");
+
+            return new TaskQuery(Collections.unmodifiableSet(EnumSet.copyOf(weekdays)), fromTime, toTime,
+                    (byte) minPriority, (byte) maxPriority, done, namePrefix, nameFragment, order, limit);
+        }
+    }
+}
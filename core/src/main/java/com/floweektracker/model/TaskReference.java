@@ -0,0 +1,48 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * Represents a reference to a task in the planner or in an archived week. It is used as a document of the search
+ * index, so it contains the id of the name of the task in the {@link TaskNameDictionary}, and the name is displayed in
+ * the results without reading the week.
+ * <br><br>
+ * Fields: {@link #week}, {@link #weekday}, {@link #time}, {@link #taskNameId}
+ * <br><br>
+ * Methods: {@link #of(IsoWeek, SingleTask)}, {@link #getTaskName()}, {@link #isArchived()}
+ */
+@Value
+public class TaskReference {
+    /**
+     * Represents an archived week of the task, or null when the task is in the planner.
+     */
+    IsoWeek week;
+    WeekDays weekday;
+    LocalTime time;
+    int taskNameId;
+
+    /**
+     * @param week a given archived week or null for the planner
+     * @param task a given task
+     * @return a reference to the given task
+     */
+    public static TaskReference of(IsoWeek week, @NonNull SingleTask task) {
+        return new TaskReference(week, task.getWeekday(), task.getTime(), task.getTaskNameId());
+    }
+
+    /**
+     * @return a name of the task from the {@link TaskNameDictionary}
+     */
+    public String getTaskName() {
+        return TaskNameDictionary.getDictionary().getName(taskNameId);
+    }
+
+    /**
+     * @return true if the task is in an archived week, otherwise false
+     */
+    public boolean isArchived() {
+        return week != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+/**
+ * Represents a streak of a task name, i.e. a number of the consecutive weeks in which a task with the name was done at
+ * least once.
+ * <br><br>
+ * Fields: {@link #NONE}, {@link #taskName}, {@link #current}, {@link #best}, {@link #lastWeek}
+ * <br><br>
+ * Methods: {@link #extend(IsoWeek)}, {@link #getCurrent(IsoWeek)}
+ */
+@Value
+public class TaskStreak {
+    /**
+     * Represents a streak of a task name which was never done.
+     */
+    public static final TaskStreak NONE = new TaskStreak(null, 0, 0, null);
+    String taskName;
+    /**
+     * Represents a length of the streak which ends in the {@link #lastWeek}.
+     */
+    int current;
+    int best;
+    /**
+     * Represents the last week in which the task was done.
+     */
+    IsoWeek lastWeek;
+
+    /**
+     * @param week a given week, not earlier than the {@link #lastWeek}, in which the task was done
+     * @return a streak extended by the given week or a new streak when the given week doesn't follow the
+     * {@link #lastWeek}
+     */
+    public TaskStreak extend(@NonNull IsoWeek week) {
+        if (week.equals(lastWeek)) return this;
+
+        var length = week.previous().equals(lastWeek) ? current + 1 : 1;
+
+        return new TaskStreak(taskName, length, Math.max(best, length), week);
+    }
+
+    /**
+     * @param latestWeek the latest archived week
+     * @return a length of the streak which lasts until the given week, or 0 when it was broken
+     */
+    public int getCurrent(IsoWeek latestWeek) {
+        return ((lastWeek != null) && lastWeek.equals(latestWeek)) ? current : 0;
+    }
+}
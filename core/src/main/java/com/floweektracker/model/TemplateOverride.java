@@ -0,0 +1,47 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * Represents a change of a single occurrence of a {@link RecurringTemplate}, e.g. a meeting moved to another hour in
+ * one week or a training skipped on one day. Fields which are null, or the priority which is 0, keep the values of the
+ * template.
+ * <br><br>
+ * Fields: {@link #week}, {@link #weekday}, {@link #skipped}, {@link #time}, {@link #description}, {@link #priority}
+ * <br><br>
+ * Methods: {@link #skip(IsoWeek, WeekDays)}, {@link #isFor(IsoWeek, WeekDays)}
+ *
+ * @see RecurringTemplate#expand(IsoWeek)
+ */
+@Value
+public class TemplateOverride {
+    @NonNull IsoWeek week;
+    @NonNull WeekDays weekday;
+    /**
+     * Represents whether the occurrence isn't added to the planner at all.
+     */
+    boolean skipped;
+    LocalTime time;
+    String description;
+    byte priority;
+
+    /**
+     * @param week    a given week
+     * @param weekday a given weekday
+     * @return an override which skips the occurrence of the given weekday in the given week
+     */
+    public static TemplateOverride skip(IsoWeek week, WeekDays weekday) {
+        return new TemplateOverride(week, weekday, true, null, null, (byte) 0);
+    }
+
+    /**
+     * @param week    a given week
+     * @param weekday a given weekday
+     * @return true if the override changes the occurrence of the given weekday in the given week, otherwise false
+     */
+    public boolean isFor(IsoWeek week, WeekDays weekday) {
+        return this.week.equals(week) && (this.weekday == weekday);
+    }
+}
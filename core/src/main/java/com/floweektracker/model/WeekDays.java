@@ -0,0 +1,184 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the days of the week, along with utility methods for day name retrieval.
+ * <br><br>
+ * ENUMS: {@link #MONDAY}, {@link #TUESDAY}, {@link #WEDNESDAY}, {@link #THURSDAY}, {@link #FRIDAY}, {@link #SATURDAY},
+ * {@link #SUNDAY}
+ * <br><br>
+ * FIELDS: {@link #weekdayPL}, {@link #position}, {@link #POLISH}, {@link #BY_POSITION}, {@link #LISTED_WEEKDAYS},
+ * {@link #NAMES}, {@link #BY_NAME}
+ * <br><br>
+ * GETTERS: {@link #getWeekdaysPL()}, {@link #getWeekdayAt(int)}, {@link #valueOfPL(String)},
+ * {@link #getListedWeekdays()}, {@link #getName(Locale)}, {@link #getNames(Locale)},
+ * {@link #valueOfName(Locale, String)}
+ * <br><br>
+ * OTHER METHODS: {@link #registerNames(Locale, List)}, {@link #toKey(Locale, String)}
+ * <br><br>
+ * All lookups use tables computed once, so resolving a weekday costs an array index or a single hash lookup. Names in
+ * other display languages can be added by {@link #registerNames(Locale, List)}.
+ */
+@Getter
+@AllArgsConstructor
+public enum WeekDays {
+    MONDAY("Poniedziałek", 0),
+    TUESDAY("Wtorek", 1),
+    WEDNESDAY("Środa", 2),
+    THURSDAY("Czwartek", 3),
+    FRIDAY("Piątek", 4),
+    SATURDAY("Sobota", 5),
+    SUNDAY("Niedziela", 6);
+
+    /**
+     * Contains a {@link String} representing the Polish name of the specified weekday.
+     *
+     * @see #WeekDays(String, int)
+     * @see #getWeekdayPL()
+     * @see #valueOfPL(String)
+     * @see #getListedWeekdays()
+     */
+    final String weekdayPL;
+
+    /**
+     * Represents the position of the specified weekday in the week.
+     *
+     * @see #WeekDays(String, int)
+     * @see #getWeekdayAt(int)
+     */
+    final int position;
+
+    //region lookup tables
+    /**
+     * Represents the locale of the Polish names of the weekdays, which are used in the UI.
+     */
+    public static final Locale POLISH = Locale.forLanguageTag("pl");
+    /**
+     * Contains weekdays indexed by their {@link #position}.
+     *
+     * @see #getWeekdayAt(int)
+     */
+    private static final WeekDays[] BY_POSITION = new WeekDays[values().length];
+    /**
+     * Contains an unmodifiable list of all weekdays.
+     *
+     * @see #getListedWeekdays()
+     */
+    private static final List<WeekDays> LISTED_WEEKDAYS = List.of(values());
+    /**
+     * Contains unmodifiable lists of the names of the weekdays, ordered by {@link #position}, for each registered
+     * locale.
+     *
+     * @see #registerNames(Locale, List)
+     * @see #getNames(Locale)
+     */
+    private static final Map<Locale, List<String>> NAMES = new ConcurrentHashMap<>();
+    /**
+     * Contains weekdays by their lower-case names prefixed with the language of the locale.
+     *
+     * @see #toKey(Locale, String)
+     * @see #valueOfName(Locale, String)
+     */
+    private static final Map<String, WeekDays> BY_NAME = new ConcurrentHashMap<>();
+
+    static {
+        for (WeekDays weekday : values()) BY_POSITION[weekday.position] = weekday;
+
+        registerNames(POLISH, Arrays.stream(BY_POSITION).map(weekday -> weekday.weekdayPL).toList());
+    }
+    //endregion
+
+    /**
+     * @return an array of {@link String}s with Polish names of the weekdays
+     */
+    public static String[] getWeekdaysPL() {
+        return getNames(POLISH).toArray(String[]::new);
+    }
+
+    /**
+     * @param position represents the specified weekday in the week
+     * @return a {@link WeekDays} object by the specified position or null when position is out of range
+     */
+    public static WeekDays getWeekdayAt(int position) {
+        return ((position >= 0) && (position < BY_POSITION.length)) ? BY_POSITION[position] : null;
+    }
+
+    /**
+     * @param weekdayPL represents the polish name of the specified weekday
+     * @return a {@link WeekDays} object by the specified polish name or null when weekdayPL is not found
+     */
+    public static WeekDays valueOfPL(String weekdayPL) {
+        var weekday = valueOfName(POLISH, weekdayPL);
+
+        return ((weekday != null) && weekday.weekdayPL.equals(weekdayPL)) ? weekday : null;
+    }
+
+    /**
+     * @return an unmodifiable {@link List} of {@link WeekDays} objects
+     */
+    public static List<WeekDays> getListedWeekdays() {
+        return LISTED_WEEKDAYS;
+    }
+
+    //region localized names
+    /**
+     * Registers the names of the weekdays in the given locale. It replaces names registered earlier for the same
+     * locale.
+     *
+     * @param locale a given locale of the names
+     * @param names  a given list of the names ordered by {@link #position}
+     * @throws IllegalArgumentException when the number of names is different from the number of weekdays
+     */
+    public static void registerNames(@NonNull Locale locale, @NonNull List<String> names) {
+        if (names.size() != BY_POSITION.length) throw new IllegalArgumentException("Names are required for all weekdays");
+
+        var previousNames = NAMES.put(locale, List.copyOf(names));
+        if (previousNames != null) previousNames.forEach(name -> BY_NAME.remove(toKey(locale, name)));
+
+        for (int i = 0; i < names.size(); i++) BY_NAME.put(toKey(locale, names.get(i)), BY_POSITION[i]);
+    }
+
+    /**
+     * @param locale a given locale
+     * @return an unmodifiable list of the names of the weekdays in the given locale or the Polish names when the
+     * locale isn't registered
+     */
+    public static List<String> getNames(Locale locale) {
+        return NAMES.getOrDefault(locale, NAMES.get(POLISH));
+    }
+
+    /**
+     * @param locale a given locale
+     * @return the name of this weekday in the given locale or the Polish name when the locale isn't registered
+     */
+    public String getName(Locale locale) {
+        return getNames(locale).get(position);
+    }
+
+    /**
+     * Finds a weekday by its name in the given locale. The letter case of the name is ignored.
+     *
+     * @param locale a given locale of the name
+     * @param name   a given name of the weekday
+     * @return a {@link WeekDays} object with the given name or null when the name isn't found
+     */
+    public static WeekDays valueOfName(Locale locale, String name) {
+        if ((locale == null) || (name == null)) return null;
+
+        return BY_NAME.get(toKey(locale, name));
+    }
+
+    /**
+     * @param locale a given locale of the name
+     * @param name   a given name of the weekday
+     * @return a key of the {@link #BY_NAME} map
+     */
+    private static String toKey(Locale locale, String name) {
+        return locale.getLanguage() + ":" + name.toLowerCase(locale);
+    }
+    //endregion
+}
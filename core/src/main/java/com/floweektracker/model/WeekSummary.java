@@ -0,0 +1,150 @@
+package com.floweektracker.model;
+
+import lombok.*;
+
+import java.util.*;
+
+/**
+ * Represents a summary of an archived week, which contains only the numbers needed by the statistics, so the weeks
+ * don't have to be read again. The values of the weekdays are stored in arrays indexed by
+ * {@link WeekDays#getPosition()}.
+ * <br><br>
+ * Fields: {@link #week}, {@link #plannedTasks}, {@link #doneTasks}, {@link #points}, {@link #possiblePoints},
+ * {@link #weekdayPlannedTasks}, {@link #weekdayDoneTasks}, {@link #weekdayPoints}, {@link #weekdayPossiblePoints},
+ * {@link #plannedTaskNames}, {@link #doneTaskNames}
+ * <br><br>
+ * Methods: {@link #of(IsoWeek, ScheduleSnapshot)}, {@link #getTotals()}, {@link #getTotals(WeekDays)},
+ * {@link #renameTaskName(String, String)}, {@link #renameTaskName(Set, String, String)}
+ */
+@Value
+public class WeekSummary {
+    IsoWeek week;
+    int plannedTasks;
+    int doneTasks;
+    /**
+     * Represents a sum of the {@link SingleTask#calculatePoints()} of the tasks.
+     */
+    int points;
+    /**
+     * Represents a sum of the {@link SingleTask#getPriority()} of the tasks.
+     */
+    int possiblePoints;
+    int[] weekdayPlannedTasks;
+    int[] weekdayDoneTasks;
+    int[] weekdayPoints;
+    int[] weekdayPossiblePoints;
+    Set<String> plannedTaskNames;
+    Set<String> doneTaskNames;
+
+    /**
+     * Summarizes the given snapshot of the schedule in a single pass over its tasks.
+     *
+     * @param week     a given week
+     * @param schedule a given snapshot of the schedule of the week
+     * @return a summary of the given week
+     */
+    public static WeekSummary of(@NonNull IsoWeek week, @NonNull ScheduleSnapshot schedule) {
+        var size = WeekDays.values().length;
+        var weekdayPlannedTasks = new int[size];
+        var weekdayDoneTasks = new int[size];
+        var weekdayPoints = new int[size];
+        var weekdayPossiblePoints = new int[size];
+        var plannedTaskNames = new TreeSet<String>();
+        var doneTaskNames = new TreeSet<String>();
+
+        for (WeekDays weekday : WeekDays.values()) {
+            var position = weekday.getPosition();
+
+            for (SingleTask task : schedule.getTasksFromWeekday(weekday).values()) {
+                weekdayPlannedTasks[position]++;
+                weekdayPoints[position] += task.calculatePoints();
+                weekdayPossiblePoints[position] += task.getPriority();
+                plannedTaskNames.add(task.getTaskName());
+
+                if (task.isDone()) {
+                    weekdayDoneTasks[position]++;
+                    doneTaskNames.add(task.getTaskName());
+                }
+            }
+        }
+
+        return new WeekSummary(
+                week,
+                Arrays.stream(weekdayPlannedTasks).sum(),
+                Arrays.stream(weekdayDoneTasks).sum(),
+                Arrays.stream(weekdayPoints).sum(),
+                Arrays.stream(weekdayPossiblePoints).sum(),
+                weekdayPlannedTasks,
+                weekdayDoneTasks,
+                weekdayPoints,
+                weekdayPossiblePoints,
+                Collections.unmodifiableSet(plannedTaskNames),
+                Collections.unmodifiableSet(doneTaskNames)
+        );
+    }
+
+    /**
+     * @return totals of the whole week
+     */
+    public CompletionTotals getTotals() {
+        return new CompletionTotals(plannedTasks, doneTasks, points, possiblePoints);
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @return totals of the given weekday in the week
+     */
+    public CompletionTotals getTotals(@NonNull WeekDays weekday) {
+        var position = weekday.getPosition();
+
+        return new CompletionTotals(
+                weekdayPlannedTasks[position],
+                weekdayDoneTasks[position],
+                weekdayPoints[position],
+                weekdayPossiblePoints[position]
+        );
+    }
+
+    /**
+     * @param oldName a given old task name
+     * @param newName a given new task name, which can be already in the summary when the names are merged
+     * @return a summary with the old name replaced by the new one, or this summary when it doesn't contain the old name
+     * @see com.floweektracker.service.StatisticsService#renameTaskName(String, String)
+     */
+    public WeekSummary renameTaskName(@NonNull String oldName, @NonNull String newName) {
+        if ((plannedTaskNames == null) || !plannedTaskNames.contains(oldName)) return this;
+
+        return new WeekSummary(
+                week,
+                plannedTasks,
+                doneTasks,
+                points,
+                possiblePoints,
+                weekdayPlannedTasks,
+                weekdayDoneTasks,
+                weekdayPoints,
+                weekdayPossiblePoints,
+                renameTaskName(plannedTaskNames, oldName, newName),
+                renameTaskName(doneTaskNames, oldName, newName)
+        );
+    }
+
+    //region helper methods
+    /**
+     * @param taskNames given task names
+     * @param oldName   a given old task name
+     * @param newName   a given new task name
+     * @return a sorted copy of the given names with the old name replaced by the new one, or the given names when they
+     * don't contain the old name
+     */
+    private static Set<String> renameTaskName(Set<String> taskNames, String oldName, String newName) {
+        if ((taskNames == null) || !taskNames.contains(oldName)) return taskNames;
+
+        var renamedNames = new TreeSet<>(taskNames);
+        renamedNames.remove(oldName);
+        renamedNames.add(newName);
+
+        return Collections.unmodifiableSet(renamedNames);
+    }
+    //endregion
+}
@@ -0,0 +1,32 @@
+/**
+ * Model package contains classes that represent the data used in the application. These classes help to store and
+ * organize information for the planner and other parts of the program.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>CompletionTotals</b> - totals of the planned and done tasks and their points over a period</li>
+ *     <li><b>DayIntervals</b> - an immutable interval tree of the tasks of a weekday, used to find overlaps and free time</li>
+ *     <li><b>IndexSegment</b> - search index segment of an archived week with the inverted postings of its tasks</li>
+ *     <li><b>IsoWeek</b> - a week of the year according to ISO-8601, used as a key of the archived weeks</li>
+ *     <li><b>PanelNames</b> - an enum representing the names of the main panels</li>
+ *     <li><b>PointsSeries</b> - a series of the achieved and possible points over time drawn by the chart</li>
+ *     <li><b>RecurringTemplate</b> - a task repeating every week on the chosen weekdays, expanded into tasks of a single week</li>
+ *     <li><b>Reminder</b> - represents a reminder of a task</li>
+ *     <li><b>ScheduleSnapshot</b> - an immutable point-in-time view of the schedule, which can be read outside the event dispatch thread</li>
+ *     <li><b>SearchHit</b> - task found by the search with its score and the ranking of the hits</li>
+ *     <li><b>SingleTask</b> - represents a single task in the planner</li>
+ *     <li><b>TaskIndex</b> - bitset indexes of the tasks executing the queries</li>
+ *     <li><b>TaskNameDictionary</b> - a dictionary giving the task names small integer ids</li>
+ *     <li><b>TaskNameUsage</b> - a number of uses and the last use of a task name</li>
+ *     <li><b>TaskQuery</b> - a query over the tasks with predicates, an order and a limit</li>
+ *     <li><b>TaskReference</b> - reference to a task in the planner or in an archived week, used as a document of the search index</li>
+ *     <li><b>TaskStreak</b> - a number of the consecutive weeks in which a task name was done</li>
+ *     <li><b>TemplateOverride</b> - a change or a skip of a single occurrence of a recurring template</li>
+ *     <li><b>WeekDays</b> - an enum representing the days of the week</li>
+ *     <li><b>WeekSummary</b> - a summary of an archived week used by the statistics</li>
+ * </ul>
+ *
+ * @see com.floweektracker.service
+ * @see com.floweektracker.repository
+ */
+package com.floweektracker.model;
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.floweektracker.repository;
+
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+
+/**
+ * Adapter for serializing and deserializing {@link LocalDate} objects into and from JSON file in the ISO format, e.g.
+ * {@code 2025-02-17}.
+ * <br><br>
+ * METHODS: {@link #serialize(LocalDate, Type, JsonSerializationContext)},
+ * {@link #deserialize(JsonElement, Type, JsonDeserializationContext)}
+ */
+public class LocalDateAdapter implements JsonSerializer<LocalDate>, JsonDeserializer<LocalDate> {
+    @Override
+    public JsonElement serialize(LocalDate date, Type typeOfSrc, JsonSerializationContext context) {
+        return new JsonPrimitive(date.toString());
+    }
+
+    @Override
+    public LocalDate deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+        return LocalDate.parse(json.getAsString());
+    }
+}
@@ -2,7 +2,7 @@ package com.floweektracker.repository;
 
 
 import com.floweektracker.model.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.util.ErrorReporter;
 import com.google.gson.*;
 import lombok.*;
 
@@ -12,7 +12,9 @@ import java.util.*;
 
 /**
  * Represents the repository of the planner. Repository is a singleton with no args constructor. This class supports
- * saving and loading operations from a {@link #file} in {@code json} format.
+ * saving and loading operations from a {@link #file} in {@code json} format. Names of the tasks are stored as their ids
+ * in the {@link com.floweektracker.model.TaskNameDictionary}, which is saved by the
+ * {@link TaskNameDictionaryRepository} before the planner.
  * <br><br>
  * Fields: {@link #repository}, {@link #schedule}, {@link #file}, {@link #gson}
  * <br><br>
@@ -25,7 +27,6 @@ public class PlannerRepository {
     /**
      * A singleton instance of the repository.
      *
-     * @see com.floweektracker.Main
      * @see RepositoryConfigurator
      * @see com.floweektracker.service.TasksService
      */
@@ -63,6 +64,7 @@ public class PlannerRepository {
      */
     private final Gson gson = new GsonBuilder()
             .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+            .registerTypeAdapter(SingleTask.class, new SingleTaskAdapter())
             .setPrettyPrinting()
             .create();
 
@@ -72,16 +74,17 @@ public class PlannerRepository {
      * return false.
      *
      * @return true if the file is not empty, false otherwise
-     * @see DialogUtils#showMessageDialog(String, String)
+     * @see ErrorReporter#report(String, String)
      * @see com.floweektracker.service.TasksService
      */
     public boolean savePlanner() {
         try (var writer = new FileWriter(file)) {
             if (schedule == null) throw new NullPointerException("Schedule or file is null");
+            if (!TaskNameDictionaryRepository.getRepository().saveDictionary()) throw new IOException("Names not saved");
 
             gson.toJson(schedule, writer);
         } catch (NullPointerException | IOException e) {
-            DialogUtils.showMessageDialog("Błąd zapisywania", "Lista nazw zadań nie została prawidłowo zapisana");
+            ErrorReporter.report("Błąd zapisywania", "Lista nazw zadań nie została prawidłowo zapisana");
 
             return false;
         }
@@ -95,18 +98,17 @@ public class PlannerRepository {
      * false.
      *
      * @return true if the schedule isn't empty, false otherwise
-     * @see com.floweektracker.Main
      * @see RepositoryConfigurator
-     * @see DialogUtils#showMessageDialog(String, String)
+     * @see ErrorReporter#report(String, String)
      */
     public boolean loadPlanner() {
         if (file == null || !file.exists()) return false;
 
         try (var reader = new FileReader(file)) {
             schedule = gson.fromJson(reader, new HashMap<WeekDays, HashMap<LocalTime, SingleTask>>() {}.getClass().getGenericSuperclass());
-        } catch (NullPointerException | IOException e) {
+        } catch (NullPointerException | IOException | JsonParseException e) {
             schedule = null;
-            DialogUtils.showMessageDialog("Błąd odczytu", "Lista zadań nie została prawidłowo odczytana.");
+            ErrorReporter.report("Błąd odczytu", "Lista zadań nie została prawidłowo odczytana.");
         }
 
         return schedule != null;
@@ -0,0 +1,120 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.*;
+import com.google.gson.*;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Represents the repository of the recurring templates, which is stored apart from the planner, together with the
+ * week whose occurrences were added to the planner. Repository is a singleton with no args constructor. It is used in
+ * the background, so problems are logged instead of being displayed.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #file}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #saveTemplates(StoredTemplates)}, {@link #loadTemplates()}, {@link #isCorrect(RecurringTemplate)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecurringTemplateRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     * @see com.floweektracker.service.RecurringTemplateService
+     */
+    @Getter
+    private static final RecurringTemplateRepository repository = new RecurringTemplateRepository();
+    private static final System.Logger LOGGER = System.getLogger(RecurringTemplateRepository.class.getName());
+    /**
+     * Contains a file where the templates are stored. It can be set by {@link #setFile(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter @Setter
+    private File file;
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+            .create();
+
+    /**
+     * Represents the stored templates and the week whose occurrences were added to the planner.
+     */
+    @Value
+    public static class StoredTemplates {
+        /**
+         * Represents the week whose occurrences were added to the planner, or null when there isn't any yet.
+         */
+        IsoWeek expandedWeek;
+        @NonNull List<RecurringTemplate> templates;
+    }
+
+    /**
+     * Saves the given templates to the {@link #file}. The file is written to a temporary file first and then moved.
+     *
+     * @param templates given templates with their expanded week
+     * @return true if the templates are saved, otherwise false
+     */
+    public synchronized boolean saveTemplates(@NonNull StoredTemplates templates) {
+        if (file == null) return false;
+
+        try {
+            var tempFile = new File(file.getPath() + ".tmp").toPath();
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(templates, writer);
+            }
+
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Recurring templates were not saved", e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Loads the templates from the {@link #file}. Templates which can't be expanded, e.g. written by hand without a
+     * time, are skipped.
+     *
+     * @return the loaded templates, which are empty when the file doesn't exist or can't be read
+     */
+    public synchronized StoredTemplates loadTemplates() {
+        var empty = new StoredTemplates(null, List.of());
+        if ((file == null) || !file.exists()) return empty;
+
+        try (var reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            var stored = gson.fromJson(reader, StoredTemplates.class);
+            if ((stored == null) || (stored.getTemplates() == null)) return empty;
+
+            var templates = stored.getTemplates().stream().filter(RecurringTemplateRepository::isCorrect).toList();
+
+            return new StoredTemplates(stored.getExpandedWeek(), templates);
+        } catch (IOException | JsonParseException | DateTimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Recurring templates were not read", e);
+
+            return empty;
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param template a given template read from the file
+     * @return true if all required values of the template are read, otherwise false
+     */
+    private static boolean isCorrect(RecurringTemplate template) {
+        return (template != null) && (template.getTaskName() != null) && (template.getTime() != null)
+                && (template.getWeekdays() != null) && !template.getWeekdays().contains(null)
+                && (template.getOverrides() != null)
+                && template.getOverrides().stream().allMatch(override -> (override != null)
+                && (override.getWeek() != null) && (override.getWeekday() != null))
+                && (template.getPriority() >= 1) && (template.getPriority() <= 10);
+    }
+    //endregion
+}
@@ -0,0 +1,105 @@
+package com.floweektracker.repository;
+
+import lombok.*;
+
+import java.io.File;
+
+/**
+ * Represents a configurator for the repositories. It is a singleton with no args constructor. It is used to set up the
+ * repositories before the application starts.
+ * <br><br>
+ * FIELDS: {@link #configurator}, {@link #dictionaryRepository}, {@link #plannerRepository},
+ * {@link #taskNamesRepository}, {@link #taskNameUsageRepository}, {@link #historyRepository},
+ * {@link #statisticsRepository}, {@link #searchIndexRepository}, {@link #templateRepository}
+ * <br><br>
+ * METHODS: {@link #setUpRepositories(File)}, {@link #setUpDictionaryRepository(File)},
+ * {@link #setUpPlannerRepository(File)}, {@link #setUpTaskNamesRepository(File)}, {@link #setUpHistoryRepository(File)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RepositoryConfigurator {
+    @Getter(AccessLevel.PUBLIC)
+    private static final RepositoryConfigurator configurator = new RepositoryConfigurator();
+    private final TaskNameDictionaryRepository dictionaryRepository = TaskNameDictionaryRepository.getRepository();
+    private final PlannerRepository plannerRepository = PlannerRepository.getRepository();
+    private final TaskNamesRepository taskNamesRepository = TaskNamesRepository.getRepository();
+    private final TaskNameUsageRepository taskNameUsageRepository = TaskNameUsageRepository.getRepository();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final StatisticsRepository statisticsRepository = StatisticsRepository.getRepository();
+    private final SearchIndexRepository searchIndexRepository = SearchIndexRepository.getRepository();
+    private final RecurringTemplateRepository templateRepository = RecurringTemplateRepository.getRepository();
+
+    /**
+     * Sets up all repositories using the given directory. If the directory is null or doesn't exist, the method return
+     * false. Otherwise, it calls {@link #setUpDictionaryRepository(File)}, {@link #setUpPlannerRepository(File)},
+     * {@link #setUpTaskNamesRepository(File)} and {@link #setUpHistoryRepository(File)} to initialize the
+     * repositories. The dictionary of the task names is loaded first, because the other files reference it.
+     *
+     * @param directory a directory which should be passed to the repository set up methods
+     * @return true if both repositories are successfully set up, otherwise false
+     */
+    public boolean setUpRepositories(File directory) {
+        if (directory == null || !directory.exists()) return false;
+
+        setUpDictionaryRepository(directory);
+        setUpPlannerRepository(directory);
+        setUpTaskNamesRepository(directory);
+        setUpHistoryRepository(directory);
+
+        return (plannerRepository.getFile() != null) && (taskNamesRepository.getFile() != null);
+    }
+
+    /**
+     * Sets up the {@link #dictionaryRepository} using the given directory and loads the dictionary of the task names.
+     *
+     * @param directory a given directory where the dictionary file should be created or located
+     * @see #setUpRepositories(File)
+     */
+    private void setUpDictionaryRepository(File directory) {
+        dictionaryRepository.setFile(new File(directory, "TaskNameDictionary.json"));
+        dictionaryRepository.loadDictionary();
+    }
+
+    /**
+     * Sets up the {@link #plannerRepository} using the given directory. Creates a new planner file, assigns it to the
+     * repository, and then loads planner data from the file. The file of the recurring templates, which are loaded
+     * later, is assigned to the {@link #templateRepository}.
+     *
+     * @param directory a given directory where the planner file should be created or located
+     * @see #setUpRepositories(File)
+     */
+    private void setUpPlannerRepository(File directory) {
+        var plannerFile = new File(directory, "Planner.json");
+        plannerRepository.setFile(plannerFile);
+        plannerRepository.loadPlanner();
+        templateRepository.setFile(new File(directory, "RecurringTemplates.json"));
+    }
+
+    /**
+     * Sets up the {@link #taskNamesRepository} using the given directory. Creates a new task names file, assigns it to
+     * the repository, and then load task names data from the file. The file of the usages of the task names, which are
+     * loaded on demand, is assigned to the {@link #taskNameUsageRepository}.
+     *
+     * @param directory a given directory where the task names file should be created or located
+     * @see #setUpRepositories(File)
+     */
+    private void setUpTaskNamesRepository(File directory) {
+        var taskNamesFile = new File(directory, "TaskNames.json");
+        taskNamesRepository.setFile(taskNamesFile);
+        taskNamesRepository.loadTaskNames();
+        taskNameUsageRepository.setFile(new File(directory, "TaskNamesUsage.json"));
+    }
+
+    /**
+     * Sets up the {@link #historyRepository}, the {@link #statisticsRepository} and the {@link #searchIndexRepository}
+     * using the given directory. Only the list of the archived weeks is read, the weeks themselves, their summaries and
+     * their search index segments are loaded on demand.
+     *
+     * @param directory a given directory where the history folder should be created or located
+     * @see #setUpRepositories(File)
+     */
+    private void setUpHistoryRepository(File directory) {
+        historyRepository.setDirectory(new File(directory, "history"));
+        statisticsRepository.setFile(new File(directory, "Statistics.json"));
+        searchIndexRepository.setDirectory(new File(directory, "history/index"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.*;
+import com.google.gson.*;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalTime;
+
+/**
+ * Represents the repository of the search index segments of the archived weeks. Each week has its own segment file in
+ * the {@link #directory}, e.g. {@code 2025-W07.idx}, which is written once, when the week is archived. Repository is a
+ * singleton with no args constructor. It is used in the background, so problems are logged instead of being displayed.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #SEGMENT_EXTENSION}, {@link #directory}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #setDirectory(File)}, {@link #saveSegment(IsoWeek, IndexSegment)}, {@link #loadSegment(IsoWeek)},
+ * {@link #getSegmentFile(IsoWeek)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchIndexRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     * @see com.floweektracker.service.SearchService
+     */
+    @Getter
+    private static final SearchIndexRepository repository = new SearchIndexRepository();
+    private static final System.Logger LOGGER = System.getLogger(SearchIndexRepository.class.getName());
+    /**
+     * Represents an extension of the segment files.
+     */
+    static final String SEGMENT_EXTENSION = ".idx";
+    /**
+     * Contains a directory where the segment files are stored. It can be set by {@link #setDirectory(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter
+    private File directory;
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+            .create();
+
+    /**
+     * Sets the directory of the segment files and creates it if it doesn't exist.
+     *
+     * @param directory a given directory of the segment files
+     * @see RepositoryConfigurator
+     */
+    public synchronized void setDirectory(File directory) {
+        this.directory = directory;
+
+        if ((directory != null) && !directory.exists() && !directory.mkdirs()) {
+            LOGGER.log(System.Logger.Level.WARNING, "Search index directory was not created: " + directory);
+        }
+    }
+
+    /**
+     * Saves the given segment of the given week. The file is written to a temporary file first and then moved.
+     *
+     * @param week    a given archived week
+     * @param segment a given segment of the week
+     * @return true if the segment is saved, otherwise false
+     */
+    public synchronized boolean saveSegment(@NonNull IsoWeek week, @NonNull IndexSegment segment) {
+        if (directory == null) return false;
+
+        try {
+            if (!TaskNameDictionaryRepository.getRepository().saveDictionary()) throw new IOException("Names not saved");
+
+            var tempFile = Files.createTempFile(directory.toPath(), week.toString(), ".tmp");
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(segment, writer);
+            }
+
+            Files.move(tempFile, getSegmentFile(week).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Search index of " + week + " was not saved", e);
+
+            return false;
+        }
+    }
+
+    /**
+     * @param week a given archived week
+     * @return the segment of the given week, or null when it doesn't exist, can't be read or has an older
+     * {@link IndexSegment#FORMAT_VERSION}
+     */
+    public synchronized IndexSegment loadSegment(@NonNull IsoWeek week) {
+        if (directory == null) return null;
+
+        var segmentFile = getSegmentFile(week);
+        if (!segmentFile.exists()) return null;
+
+        try (var reader = Files.newBufferedReader(segmentFile.toPath(), StandardCharsets.UTF_8)) {
+            var segment = gson.fromJson(reader, IndexSegment.class);
+
+            return ((segment != null) && (segment.getVersion() == IndexSegment.FORMAT_VERSION)) ? segment : null;
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Search index of " + week + " was not read", e);
+
+            return null;
+        }
+    }
+
+    /**
+     * @param week a given week
+     * @return a segment file of the given week in the {@link #directory}
+     */
+    private File getSegmentFile(IsoWeek week) {
+        return new File(directory, week + SEGMENT_EXTENSION);
+    }
+}
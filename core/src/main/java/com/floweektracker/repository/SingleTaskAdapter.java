@@ -0,0 +1,83 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.*;
+import com.google.gson.*;
+
+import java.lang.reflect.Type;
+import java.time.LocalTime;
+
+/**
+ * Adapter for serializing and deserializing {@link SingleTask} objects into and from JSON file. The name of the task is
+ * written as its id in the {@link TaskNameDictionary}, which is saved by the {@link TaskNameDictionaryRepository}.
+ * Files written by older versions of the application contain the name itself, so it is read from the
+ * {@link #TASK_NAME} property when the {@link #TASK_NAME_ID} is missing. The other properties have the same names as
+ * the fields of the task. The {@link LocalTime} is serialized by the context, so the {@link LocalTimeAdapter} has to
+ * be registered too. The {@link #DURATION_MINUTES} are written only for the tasks with a duration.
+ * <br><br>
+ * FIELDS: {@link #TASK_NAME_ID}, {@link #TASK_NAME}, {@link #DURATION_MINUTES}, {@link #dictionary}
+ * <br><br>
+ * METHODS: {@link #serialize(SingleTask, Type, JsonSerializationContext)},
+ * {@link #deserialize(JsonElement, Type, JsonDeserializationContext)}, {@link #readTaskName(JsonObject)}
+ */
+public class SingleTaskAdapter implements JsonSerializer<SingleTask>, JsonDeserializer<SingleTask> {
+    static final String TASK_NAME_ID = "taskNameId";
+    static final String TASK_NAME = "taskName";
+    static final String DURATION_MINUTES = "durationMinutes";
+    private final TaskNameDictionary dictionary = TaskNameDictionary.getDictionary();
+
+    @Override
+    public JsonElement serialize(SingleTask task, Type typeOfSrc, JsonSerializationContext context) {
+        var json = new JsonObject();
+        if (task.getTaskNameId() != TaskNameDictionary.NO_NAME) json.addProperty(TASK_NAME_ID, task.getTaskNameId());
+        json.addProperty("description", task.getDescription());
+        json.add("time", context.serialize(task.getTime(), LocalTime.class));
+        json.addProperty("isDone", task.isDone());
+        json.add("weekday", context.serialize(task.getWeekday(), WeekDays.class));
+        json.addProperty("priority", task.getPriority());
+        if (task.getDurationMinutes() > 0) json.addProperty(DURATION_MINUTES, task.getDurationMinutes());
+
+        return json;
+    }
+
+    /**
+     * @throws JsonParseException when the task isn't an object, its name id isn't in the {@link #dictionary}, or its
+     * time, weekday, priority or duration isn't correct
+     */
+    @Override
+    public SingleTask deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+        if (!json.isJsonObject()) throw new JsonParseException("Task should be an object");
+
+        var object = json.getAsJsonObject();
+        var description = object.get("description");
+        var isDone = object.get("isDone");
+        var priority = object.get("priority");
+        var durationMinutes = object.get(DURATION_MINUTES);
+
+        try {
+            return new SingleTask(
+                    readTaskName(object),
+                    ((description != null) && !description.isJsonNull()) ? description.getAsString() : null,
+                    context.deserialize(object.get("time"), LocalTime.class),
+                    (isDone != null) && isDone.getAsBoolean(),
+                    context.deserialize(object.get("weekday"), WeekDays.class),
+                    (priority != null) ? priority.getAsByte() : 0,
+                    ((durationMinutes != null) && !durationMinutes.isJsonNull()) ? durationMinutes.getAsInt() : 0
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | UnsupportedOperationException e) {
+            throw new JsonParseException("Task is not correct", e);
+        }
+    }
+
+    /**
+     * @param object a given task object
+     * @return the name of the task from the {@link #dictionary} or, in the older format, from the task itself
+     */
+    private String readTaskName(JsonObject object) {
+        var taskNameId = object.get(TASK_NAME_ID);
+        if ((taskNameId != null) && !taskNameId.isJsonNull()) return dictionary.getName(taskNameId.getAsInt());
+
+        var taskName = object.get(TASK_NAME);
+
+        return ((taskName != null) && !taskName.isJsonNull()) ? taskName.getAsString() : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.WeekSummary;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Represents the repository of the summaries of the archived weeks, which are the running aggregates of the
+ * statistics. Thanks to them, the statistics don't have to read the whole history at start. Repository is a singleton
+ * with no args constructor. It is used in the background, so problems are logged instead of being displayed.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #file}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #saveSummaries(Collection)}, {@link #loadSummaries()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StatisticsRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     * @see com.floweektracker.service.StatisticsService
+     */
+    @Getter
+    private static final StatisticsRepository repository = new StatisticsRepository();
+    private static final System.Logger LOGGER = System.getLogger(StatisticsRepository.class.getName());
+    /**
+     * Contains a file where the summaries are stored. It can be set by {@link #setFile(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter @Setter
+    private File file;
+    private final Gson gson = new Gson();
+
+    /**
+     * Saves the given summaries to the {@link #file}. The file is written to a temporary file first and then moved.
+     *
+     * @param summaries given summaries of the archived weeks
+     * @return true if the summaries are saved, otherwise false
+     */
+    public synchronized boolean saveSummaries(@NonNull Collection<WeekSummary> summaries) {
+        if (file == null) return false;
+
+        try {
+            var tempFile = new File(file.getPath() + ".tmp").toPath();
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(summaries, writer);
+            }
+
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Statistics were not saved", e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Loads the summaries from the {@link #file}.
+     *
+     * @return a list of the loaded summaries, which is empty when the file doesn't exist or can't be read
+     */
+    public synchronized List<WeekSummary> loadSummaries() {
+        if ((file == null) || !file.exists()) return List.of();
+
+        try (var reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            List<WeekSummary> summaries = gson.fromJson(reader, new TypeToken<List<WeekSummary>>() {}.getType());
+
+            return (summaries != null) ? summaries.stream().filter(Objects::nonNull).toList() : List.of();
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Statistics were not read", e);
+
+            return List.of();
+        }
+    }
+}
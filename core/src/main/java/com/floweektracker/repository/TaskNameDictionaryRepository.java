@@ -0,0 +1,119 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.TaskNameDictionary;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+
+/**
+ * Represents the repository of the {@link TaskNameDictionary}, which is stored as a list of the names ordered by their
+ * ids. The planner file, the archived weeks and the search index reference the names by the ids, so the dictionary is
+ * saved before each of them by {@link #saveDictionary()}, and only when it changed since the last save. Repository is
+ * a singleton with no args constructor. Problems are logged, and the repositories which call it report them to the
+ * user.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #file}, {@link #dictionary}, {@link #savedVersion}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #setFile(File)}, {@link #saveDictionary()}, {@link #loadDictionary()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskNameDictionaryRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     * @see PlannerRepository
+     * @see WeekHistoryRepository
+     * @see SearchIndexRepository
+     */
+    @Getter
+    private static final TaskNameDictionaryRepository repository = new TaskNameDictionaryRepository();
+    private static final System.Logger LOGGER = System.getLogger(TaskNameDictionaryRepository.class.getName());
+    /**
+     * Contains a file where the dictionary is stored. It can be set by {@link #setFile(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter
+    private File file;
+    private final TaskNameDictionary dictionary = TaskNameDictionary.getDictionary();
+    /**
+     * Represents the {@link TaskNameDictionary#getVersion()} of the last saved or loaded dictionary.
+     */
+    private long savedVersion = -1;
+    private final Gson gson = new Gson();
+
+    /**
+     * Sets the file of the dictionary, so the dictionary is saved again at the next {@link #saveDictionary()}.
+     *
+     * @param file a given file of the dictionary
+     */
+    public synchronized void setFile(File file) {
+        this.file = file;
+        savedVersion = -1;
+    }
+
+    /**
+     * Saves the {@link #dictionary} to the {@link #file} when it changed since the last save. The file is written to a
+     * temporary file first and then moved. When the file isn't set, the names live only in the memory, so there is
+     * nothing to save.
+     *
+     * @return true if the saved dictionary is up-to-date, otherwise false
+     */
+    public synchronized boolean saveDictionary() {
+        if (file == null) return true;
+
+        var version = dictionary.getVersion();
+        if (version == savedVersion) return true;
+
+        try {
+            var tempFile = new File(file.getPath() + ".tmp").toPath();
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(dictionary.toList(), writer);
+            }
+
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedVersion = version;
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Task name dictionary was not saved", e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Loads the names from the {@link #file} to the {@link #dictionary}. It should be called before any file which
+     * references the names is read.
+     *
+     * @return true if the names are loaded or the file doesn't exist yet, otherwise false
+     * @see TaskNameDictionary#load(List)
+     */
+    public synchronized boolean loadDictionary() {
+        if ((file == null) || !file.exists()) return true;
+
+        try (var reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            List<String> names = gson.fromJson(reader, new TypeToken<List<String>>() {}.getType());
+            if ((names != null) && !dictionary.load(names)) {
+                LOGGER.log(System.Logger.Level.WARNING, "Task name dictionary doesn't match the names in the memory");
+
+                return false;
+            }
+
+            savedVersion = dictionary.getVersion();
+
+            return true;
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Task name dictionary was not read", e);
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.TaskNameUsage;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Represents the repository of the usages of the task names, which is stored next to the file of the
+ * {@link TaskNamesRepository}. Repository is a singleton with no args constructor. It is used in the background, so
+ * problems are logged instead of being displayed.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #file}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #saveUsages(Collection)}, {@link #loadUsages()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskNameUsageRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     * @see com.floweektracker.service.TaskNameUsageService
+     */
+    @Getter
+    private static final TaskNameUsageRepository repository = new TaskNameUsageRepository();
+    private static final System.Logger LOGGER = System.getLogger(TaskNameUsageRepository.class.getName());
+    /**
+     * Contains a file where the usages are stored. It can be set by {@link #setFile(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter @Setter
+    private File file;
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+            .create();
+
+    /**
+     * Saves the given usages to the {@link #file}. The file is written to a temporary file first and then moved.
+     *
+     * @param usages given usages of the task names
+     * @return true if the usages are saved, otherwise false
+     */
+    public synchronized boolean saveUsages(@NonNull Collection<TaskNameUsage> usages) {
+        if (file == null) return false;
+
+        try {
+            var tempFile = new File(file.getPath() + ".tmp").toPath();
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(usages, writer);
+            }
+
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Task name usages were not saved", e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Loads the usages from the {@link #file}.
+     *
+     * @return a list of the loaded usages, which is empty when the file can't be read, or null when the file doesn't
+     * exist yet
+     */
+    public synchronized List<TaskNameUsage> loadUsages() {
+        if ((file == null) || !file.exists()) return null;
+
+        try (var reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            List<TaskNameUsage> usages = gson.fromJson(reader, new TypeToken<List<TaskNameUsage>>() {}.getType());
+
+            return (usages != null)
+                    ? usages.stream().filter(usage -> (usage != null) && (usage.getTaskName() != null)).toList()
+                    : List.of();
+        } catch (IOException | JsonParseException | DateTimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Task name usages were not read", e);
+
+            return List.of();
+        }
+    }
+}
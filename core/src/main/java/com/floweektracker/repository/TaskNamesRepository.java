@@ -1,7 +1,7 @@
 package com.floweektracker.repository;
 
 import com.floweektracker.service.TaskNamesService;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.util.ErrorReporter;
 import com.google.gson.*;
 import lombok.*;
 
@@ -21,7 +21,6 @@ public class TaskNamesRepository {
     /**
      * A singleton instance of the repository.
      *
-     * @see com.floweektracker.Main
      * @see RepositoryConfigurator
      * @see com.floweektracker.service.TaskNamesService
      */
@@ -63,7 +62,7 @@ public class TaskNamesRepository {
      * then returns false.
      *
      * @return true if the file is not empty, false otherwise
-     * @see DialogUtils#showMessageDialog(String, String)
+     * @see ErrorReporter#report(String, String)
      * @see TaskNamesService#saveTaskNames()
      */
     public boolean saveTaskNames() {
@@ -72,7 +71,7 @@ public class TaskNamesRepository {
 
             gson.toJson(taskNames, writer);
         } catch (NullPointerException | IOException e) {
-            DialogUtils.showMessageDialog("Błąd zapisywania", "Lista nazw zadań nie została prawidłowo zapisana");
+            ErrorReporter.report("Błąd zapisywania", "Lista nazw zadań nie została prawidłowo zapisana");
 
             return false;
         }
@@ -86,9 +85,8 @@ public class TaskNamesRepository {
      * false.
      *
      * @return true if the {@link #taskNames} isn't empty, false otherwise
-     * @see com.floweektracker.Main
      * @see RepositoryConfigurator
-     * @see DialogUtils#showMessageDialog(String, String)
+     * @see ErrorReporter#report(String, String)
      */
     public boolean loadTaskNames() {
         if (file == null || !file.exists()) return false;
@@ -97,7 +95,7 @@ public class TaskNamesRepository {
             taskNames = gson.fromJson(reader, new TreeSet<String>() {}.getClass().getGenericSuperclass());
         } catch (NullPointerException | IOException e) {
             taskNames = null;
-            DialogUtils.showMessageDialog("Błąd odczytu", "Lista nazw zadań nie została prawidłowo odczytana.");
+            ErrorReporter.report("Błąd odczytu", "Lista nazw zadań nie została prawidłowo odczytana.");
         }
 
         return taskNames != null;
@@ -0,0 +1,322 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.model.*;
+import com.floweektracker.util.ErrorReporter;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import lombok.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Represents the repository of the archived weeks. Each week is stored in its own segment file in the
+ * {@link #directory}, named by its {@link IsoWeek}, e.g. {@code 2025-W07.json}, in the same format as the planner file.
+ * Weeks are loaded on demand and kept in a bounded LRU {@link #cache}, so neither start-up time nor heap usage grows
+ * with the history. Segments are read through buffered readers, and long ranges of weeks can be streamed by
+ * {@link #streamWeeks(IsoWeek, IsoWeek)} without filling the cache. Repository is a singleton with no args constructor.
+ * <br><br>
+ * Fields: {@link #repository}, {@link #SEGMENT_EXTENSION}, {@link #CURRENT_WEEK_FILE}, {@link #DEFAULT_CACHE_CAPACITY},
+ * {@link #directory}, {@link #weeks}, {@link #cache}, {@link #cacheCapacity}, {@link #gson}
+ * <br><br>
+ * Methods: {@link #setDirectory(File)}, {@link #setCacheCapacity(int)}, {@link #saveWeek(IsoWeek, ScheduleSnapshot)},
+ * {@link #loadWeek(IsoWeek)}, {@link #streamWeeks(IsoWeek, IsoWeek)}, {@link #getWeeks()},
+ * {@link #containsWeek(IsoWeek)}, {@link #loadCurrentWeek()}, {@link #saveCurrentWeek(IsoWeek)},
+ * {@link #getCachedWeek(IsoWeek)}, {@link #getSegmentFile(IsoWeek)}, {@link #readSegment(IsoWeek)},
+ * {@link #scanWeeks()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WeekHistoryRepository {
+    /**
+     * A singleton instance of the repository.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter
+    private static final WeekHistoryRepository repository = new WeekHistoryRepository();
+    private static final System.Logger LOGGER = System.getLogger(WeekHistoryRepository.class.getName());
+    /**
+     * Represents an extension of the segment files.
+     */
+    static final String SEGMENT_EXTENSION = ".json";
+    /**
+     * Represents a name of the file which contains the week of the tasks in the planner. It doesn't have the
+     * {@link #SEGMENT_EXTENSION}, so it isn't taken as an archived week.
+     *
+     * @see #loadCurrentWeek()
+     */
+    static final String CURRENT_WEEK_FILE = "current.week";
+    /**
+     * Represents a default number of the weeks kept in the {@link #cache}.
+     */
+    static final int DEFAULT_CACHE_CAPACITY = 16;
+    /**
+     * Contains a directory where the segment files are stored. It can be set by {@link #setDirectory(File)}.
+     *
+     * @see RepositoryConfigurator
+     */
+    @Getter
+    private File directory;
+    /**
+     * Contains the archived weeks found in the {@link #directory}. Only names of the files are read, so it is cheap
+     * even for many years of history.
+     *
+     * @see #scanWeeks()
+     */
+    private final NavigableSet<IsoWeek> weeks = new TreeSet<>();
+    /**
+     * Contains recently used weeks in the access order. The least recently used week is removed when the size exceeds
+     * the {@link #cacheCapacity}.
+     *
+     * @see #loadWeek(IsoWeek)
+     */
+    private final LinkedHashMap<IsoWeek, ScheduleSnapshot> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IsoWeek, ScheduleSnapshot> eldest) {
+            return size() > cacheCapacity;
+        }
+    };
+    @Getter
+    private int cacheCapacity = DEFAULT_CACHE_CAPACITY;
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+            .registerTypeAdapter(SingleTask.class, new SingleTaskAdapter())
+            .setPrettyPrinting()
+            .create();
+
+    /**
+     * Sets the directory of the segment files, creates it if it doesn't exist, clears the {@link #cache} and scans the
+     * archived weeks.
+     *
+     * @param directory a given directory of the segment files
+     * @see RepositoryConfigurator
+     */
+    public synchronized void setDirectory(File directory) {
+        this.directory = directory;
+        cache.clear();
+
+        if ((directory != null) && !directory.exists() && !directory.mkdirs()) {
+            LOGGER.log(System.Logger.Level.WARNING, "History directory was not created: " + directory);
+        }
+
+        scanWeeks();
+    }
+
+    /**
+     * Sets the maximal number of the weeks kept in the {@link #cache}.
+     *
+     * @param cacheCapacity a given capacity, at least 1
+     */
+    public synchronized void setCacheCapacity(int cacheCapacity) {
+        if (cacheCapacity < 1) throw new IllegalArgumentException("Cache capacity should be positive");
+
+        this.cacheCapacity = cacheCapacity;
+        while (cache.size() > cacheCapacity) cache.pollFirstEntry();
+    }
+
+    /**
+     * Saves the given week to its segment file. The file is written to a temporary file first and then moved, so a
+     * segment is never left half-written. When it fails, a message is displayed to the user.
+     *
+     * @param week     a given week
+     * @param schedule a snapshot of the schedule of the given week
+     * @return true if the week is saved, otherwise false
+     */
+    public synchronized boolean saveWeek(@NonNull IsoWeek week, @NonNull ScheduleSnapshot schedule) {
+        if (directory == null) return false;
+
+        var segmentFile = getSegmentFile(week).toPath();
+
+        try {
+            if (!TaskNameDictionaryRepository.getRepository().saveDictionary()) throw new IOException("Names not saved");
+
+            var tempFile = Files.createTempFile(directory.toPath(), week.toString(), ".tmp");
+
+            try (var writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(schedule.toScheduleMap(), writer);
+            }
+
+            Files.move(tempFile, segmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            ErrorReporter.report(
+                    "Błąd zapisywania",
+                    "Tydzień %s nie został prawidłowo zarchiwizowany".formatted(week)
+            );
+
+            return false;
+        }
+
+        weeks.add(week);
+        cache.put(week, schedule);
+
+        return true;
+    }
+
+    /**
+     * Loads the given week from the {@link #cache} or, when it isn't cached, from its segment file.
+     *
+     * @param week a given week
+     * @return a snapshot of the given week or null when the week isn't archived or can't be read
+     */
+    public synchronized ScheduleSnapshot loadWeek(IsoWeek week) {
+        if ((week == null) || !weeks.contains(week)) return null;
+
+        var schedule = cache.get(week);
+        if (schedule != null) return schedule;
+
+        schedule = readSegment(week);
+        if (schedule != null) cache.put(week, schedule);
+
+        return schedule;
+    }
+
+    /**
+     * Streams the archived weeks from the given range in the chronological order. Each week is read only when the
+     * stream reaches it, and the weeks which aren't cached are not added to the {@link #cache}, so even a scan of many
+     * years of history keeps only one week in the memory at once.
+     *
+     * @param from the first week of the range, inclusive
+     * @param to   the last week of the range, inclusive
+     * @return a lazy stream of the weeks and their snapshots; weeks which can't be read are skipped
+     * @see com.floweektracker.service.StatisticsService
+     */
+    public Stream<Map.Entry<IsoWeek, ScheduleSnapshot>> streamWeeks(@NonNull IsoWeek from, @NonNull IsoWeek to) {
+        List<IsoWeek> range;
+
+        synchronized (this) {
+            range = (from.compareTo(to) > 0) ? List.of() : List.copyOf(weeks.subSet(from, true, to, true));
+        }
+
+        return range.stream()
+                .map(week -> {
+                    var schedule = getCachedWeek(week);
+                    if (schedule == null) schedule = readSegment(week);
+
+                    return (schedule != null) ? Map.entry(week, schedule) : null;
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * @return an unmodifiable, sorted set of the archived weeks
+     */
+    public synchronized NavigableSet<IsoWeek> getWeeks() {
+        return Collections.unmodifiableNavigableSet(new TreeSet<>(weeks));
+    }
+
+    /**
+     * @param week a given week
+     * @return true if the given week is archived, otherwise false
+     */
+    public synchronized boolean containsWeek(IsoWeek week) {
+        return weeks.contains(week);
+    }
+
+    /**
+     * Loads the week to which the tasks in the planner belong. It is used to find out whether the week was already
+     * archived, e.g. when the application starts several times in the same week.
+     *
+     * @return the week of the planner or null when it was never saved or can't be read
+     * @see com.floweektracker.service.WeekRolloverService
+     */
+    public synchronized IsoWeek loadCurrentWeek() {
+        if (directory == null) return null;
+
+        try {
+            var file = new File(directory, CURRENT_WEEK_FILE).toPath();
+
+            return Files.exists(file) ? IsoWeek.parse(Files.readString(file, StandardCharsets.UTF_8).trim()) : null;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Current week was not read", e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Saves the week to which the tasks in the planner belong.
+     *
+     * @param week a given week
+     * @return true if the week is saved, otherwise false
+     * @see com.floweektracker.service.WeekRolloverService
+     */
+    public synchronized boolean saveCurrentWeek(@NonNull IsoWeek week) {
+        if (directory == null) return false;
+
+        try {
+            Files.writeString(new File(directory, CURRENT_WEEK_FILE).toPath(), week.toString(), StandardCharsets.UTF_8);
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Current week was not saved", e);
+
+            return false;
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param week a given week
+     * @return a snapshot of the given week from the {@link #cache} or null when it isn't cached
+     * @see #streamWeeks(IsoWeek, IsoWeek)
+     */
+    private synchronized ScheduleSnapshot getCachedWeek(IsoWeek week) {
+        return cache.get(week);
+    }
+
+    /**
+     * @param week a given week
+     * @return a segment file of the given week in the {@link #directory}
+     */
+    File getSegmentFile(IsoWeek week) {
+        return new File(directory, week + SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Reads the segment file of the given week through a buffered reader, so the JSON is parsed while the file is read
+     * without keeping its whole content in memory. When it fails, the problem is logged, because weeks are read in the
+     * background, e.g. by statistics.
+     *
+     * @param week a given week
+     * @return a snapshot of the given week or null when the file can't be read
+     * @see #loadWeek(IsoWeek)
+     * @see #streamWeeks(IsoWeek, IsoWeek)
+     */
+    private ScheduleSnapshot readSegment(IsoWeek week) {
+        try (var reader = Files.newBufferedReader(getSegmentFile(week).toPath(), StandardCharsets.UTF_8)) {
+            var tasksType = TypeToken.getParameterized(HashMap.class, LocalTime.class, SingleTask.class).getType();
+            Map<WeekDays, Map<LocalTime, SingleTask>> schedule = gson.fromJson(
+                    reader, TypeToken.getParameterized(HashMap.class, WeekDays.class, tasksType).getType()
+            );
+
+            return (schedule != null) ? ScheduleSnapshot.of(schedule) : ScheduleSnapshot.EMPTY;
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Week %s was not read".formatted(week), e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Finds the archived weeks by the names of the segment files in the {@link #directory}.
+     *
+     * @see #setDirectory(File)
+     */
+    private void scanWeeks() {
+        weeks.clear();
+
+        var files = (directory != null) ? directory.list() : null;
+        if (files == null) return;
+
+        Arrays.stream(files)
+                .filter(name -> name.endsWith(SEGMENT_EXTENSION))
+                .map(name -> IsoWeek.parse(name.substring(0, name.length() - SEGMENT_EXTENSION.length())))
+                .filter(Objects::nonNull)
+                .forEach(weeks::add);
+    }
+    //endregion
+}
@@ -0,0 +1,24 @@
+/**
+ * Repositories package contains the data access layer responsible for connecting to the JSON-based storage system. Each
+ * repository provides methods for saving and loading structured data models. JSON serialization and deserialization are
+ * responsible for data exchange.
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>LocalDateAdapter</b> - a Gson adapter of the dates</li>
+ *     <li><b>LocalTimeAdapter</b> - a {@code GSON} adapter for {@code LocalTime} which is used for JSON serialization</li>
+ *     <li><b>PlannerRepository</b> - handles reading and writing planner data from/to a JSON file</li>
+ *     <li><b>RecurringTemplateRepository</b> - repository of the recurring templates and their expanded week</li>
+ *     <li><b>RepositoryConfigurator</b> - a configurator for all repositories</li>
+ *     <li><b>SearchIndexRepository</b> - repository of the search index segments of the archived weeks</li>
+ *     <li><b>SingleTaskAdapter</b> - a Gson adapter writing the tasks with the ids of their names</li>
+ *     <li><b>StatisticsRepository</b> - handles reading and writing the summaries of the archived weeks used by the statistics</li>
+ *     <li><b>TaskNameDictionaryRepository</b> - a repository of the dictionary of the task names</li>
+ *     <li><b>TaskNamesRepository</b> - handles reading and writing the list of task names in a JSON file</li>
+ *     <li><b>TaskNameUsageRepository</b> - a repository of the usages of the task names</li>
+ *     <li><b>WeekHistoryRepository</b> - handles reading and writing the archived weeks, one JSON segment file per ISO week, with an LRU cache</li>
+ * </ul>
+ *
+ * @see com.floweektracker.service
+ */
+
+package com.floweektracker.repository;
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.RecurringTemplateRepository;
+import com.floweektracker.repository.RecurringTemplateRepository.StoredTemplates;
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Service of the recurring templates, i.e. tasks which repeat every week on the chosen weekdays. The templates are
+ * kept apart from the planner, and only the occurrences of a single week, the {@link #expandedWeek}, are added to it
+ * as ordinary tasks, so nothing is created for other weeks. When the planner moves to the next week, the occurrences
+ * of both weeks are compared and only the differences are deleted and added at once, by
+ * {@link TasksService#changeTasks(Collection, Collection)}. Occurrences which were changed in the planner by the user
+ * aren't deleted, and occurrences whose time is taken by another task aren't added. The finished week is archived
+ * from the planner, so its occurrences are archived like other tasks. Methods changing the planner should be called
+ * on the EDT; the views should be refreshed after them. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #tasksService}, {@link #templateRepository}, {@link #templates},
+ * {@link #expandedWeek}, {@link #nextId}
+ * <br><br>
+ * Methods: {@link #load()}, {@link #addTemplate(String, String, LocalTime, Set, byte)}, {@link #removeTemplate(int)},
+ * {@link #setOverride(int, TemplateOverride)}, {@link #expandWeek(IsoWeek)}, {@link #getTemplates()},
+ * {@link #getExpandedWeek()}, {@link #getTemplatesCopy()}, {@link #saveTemplates(StoredTemplates)},
+ * {@link #expandAll(IsoWeek)}, {@link #applyChange(List, List)}
+ */
+public class RecurringTemplateService {
+    /**
+     * A singleton instance of the service.
+     */
+    @Getter
+    private static final RecurringTemplateService service = new RecurringTemplateService();
+    private final TasksService tasksService = TasksService.getService();
+    private final RecurringTemplateRepository templateRepository = RecurringTemplateRepository.getRepository();
+    /**
+     * Contains the templates by their ids, in the order in which they were added.
+     */
+    private final Map<Integer, RecurringTemplate> templates = new LinkedHashMap<>();
+    /**
+     * Represents the week whose occurrences are in the planner, or null when they weren't added yet.
+     */
+    private IsoWeek expandedWeek;
+    private int nextId = 1;
+
+    /**
+     * Private constructor to create a singleton instance of the service.
+     */
+    private RecurringTemplateService() {}
+
+    /**
+     * Loads the templates from the {@link #templateRepository}, replacing the actual ones. It can be called outside
+     * the EDT.
+     */
+    public synchronized void load() {
+        var stored = templateRepository.loadTemplates();
+
+        templates.clear();
+        stored.getTemplates().forEach(template -> templates.put(template.getId(), template));
+        expandedWeek = stored.getExpandedWeek();
+        nextId = templates.keySet().stream().mapToInt(id -> id + 1).max().orElse(1);
+    }
+
+    /**
+     * Adds a new template and its occurrences of the {@link #expandedWeek} to the planner. When there isn't any
+     * expanded week yet, all templates are expanded for the current week.
+     *
+     * @param taskName    a name of the task
+     * @param description a description of the task
+     * @param time        a time of the task
+     * @param weekdays    weekdays on which the task repeats
+     * @param priority    a priority of the task
+     * @return a number of the tasks added to the planner
+     * @throws IllegalArgumentException when there isn't any weekday or the priority isn't correct
+     */
+    public synchronized int addTemplate(@NonNull String taskName, String description, @NonNull LocalTime time,
+                                        @NonNull Set<WeekDays> weekdays, byte priority) {
+        if (weekdays.isEmpty() || (priority < 1) || (priority > 10))
+            throw new IllegalArgumentException("Template should have weekdays and a correct priority");
+
+        var template = new RecurringTemplate(nextId++, taskName, description, time,
+                List.copyOf(EnumSet.copyOf(weekdays)), priority, List.of());
+        templates.put(template.getId(), template);
+
+        if (expandedWeek == null) return expandWeek(IsoWeek.current());
+
+        return applyChange(List.of(), template.expand(expandedWeek));
+    }
+
+    /**
+     * Removes the template with the given id and its occurrences of the {@link #expandedWeek} which weren't changed by
+     * the user.
+     *
+     * @param id a given id of the template
+     * @return a number of the tasks deleted from the planner, or -1 when there isn't any such template
+     */
+    public synchronized int removeTemplate(int id) {
+        var template = templates.remove(id);
+        if (template == null) return -1;
+
+        return (expandedWeek != null) ? applyChange(template.expand(expandedWeek), List.of()) : 0;
+    }
+
+    /**
+     * Changes or skips a single occurrence of the template with the given id. When the occurrence belongs to the
+     * {@link #expandedWeek}, it is changed in the planner at once.
+     *
+     * @param id       a given id of the template
+     * @param override a given change of the occurrence
+     * @return a number of the tasks deleted from and added to the planner, or -1 when there isn't any such template
+     * @throws IllegalArgumentException when the priority of the override isn't correct
+     */
+    public synchronized int setOverride(int id, @NonNull TemplateOverride override) {
+        var template = templates.get(id);
+        if (template == null) return -1;
+        if ((override.getPriority() < 0) || (override.getPriority() > 10))
+            throw new IllegalArgumentException("Override should have a correct priority");
+
+        var changedTemplate = template.withOverride(override);
+        templates.put(id, changedTemplate);
+
+        if (!override.getWeek().equals(expandedWeek)) return 0;
+        return applyChange(template.expand(expandedWeek), changedTemplate.expand(expandedWeek));
+    }
+
+    /**
+     * Replaces the occurrences of the {@link #expandedWeek} in the planner with the occurrences of the given week.
+     * Overrides of the weeks before the given one are removed. It is done only once for each week, so it can be called
+     * after each check of the week.
+     *
+     * @param week a given week, usually the current one
+     * @return a number of the tasks deleted from and added to the planner
+     */
+    public synchronized int expandWeek(@NonNull IsoWeek week) {
+        if (week.equals(expandedWeek)) return 0;
+
+        var oldTasks = (expandedWeek != null) ? expandAll(expandedWeek) : List.<SingleTask>of();
+        templates.replaceAll((_, template) -> template.withoutOverridesBefore(week));
+        var changed = applyChange(oldTasks, expandAll(week));
+        expandedWeek = week;
+
+        return changed;
+    }
+
+    /**
+     * @return a list of the templates in the order in which they were added
+     */
+    public synchronized List<RecurringTemplate> getTemplates() {
+        return List.copyOf(templates.values());
+    }
+
+    /**
+     * @return the week whose occurrences are in the planner, or null when they weren't added yet
+     */
+    public synchronized IsoWeek getExpandedWeek() {
+        return expandedWeek;
+    }
+
+    /**
+     * @return a copy of the templates and the {@link #expandedWeek}, which can be saved outside the EDT
+     */
+    public synchronized StoredTemplates getTemplatesCopy() {
+        return new StoredTemplates(expandedWeek, List.copyOf(templates.values()));
+    }
+
+    /**
+     * Saves the given copy of the templates by the {@link #templateRepository}.
+     *
+     * @param templates a given copy of the templates
+     * @return true if the templates are saved, otherwise false
+     * @see #getTemplatesCopy()
+     */
+    public boolean saveTemplates(@NonNull StoredTemplates templates) {
+        return templateRepository.saveTemplates(templates);
+    }
+
+    //region helper methods
+    /**
+     * @param week a given week
+     * @return a list of the occurrences of all templates in the given week
+     */
+    private List<SingleTask> expandAll(IsoWeek week) {
+        var tasks = new ArrayList<SingleTask>();
+        templates.values().forEach(template -> tasks.addAll(template.expand(week)));
+
+        return tasks;
+    }
+
+    /**
+     * Deletes the old occurrences and adds the new ones at once. Occurrences which are the same in both lists aren't
+     * touched, so a week with unchanged templates doesn't change the planner at all.
+     *
+     * @param oldTasks given occurrences which should be deleted
+     * @param newTasks given occurrences which should be added
+     * @return a number of the tasks deleted from and added to the planner
+     */
+    private int applyChange(List<SingleTask> oldTasks, List<SingleTask> newTasks) {
+        var deletedTasks = new ArrayList<>(oldTasks);
+        var addedTasks = new ArrayList<SingleTask>();
+
+        for (SingleTask task : newTasks) {
+            if (!deletedTasks.remove(task)) addedTasks.add(task);
+        }
+
+        if (deletedTasks.isEmpty() && addedTasks.isEmpty()) return 0;
+
+        return tasksService.changeTasks(deletedTasks, addedTasks);
+    }
+    //endregion
+}
@@ -0,0 +1,184 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import lombok.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.prefs.Preferences;
+
+/**
+ * Service of the reminders of the tasks in the planner. A reminder is due {@link #leadMinutes} before the task. The
+ * tasks of each weekday are already sorted by time in the snapshot of the schedule, so the next reminder is found by
+ * walking the weekdays from the given moment and taking the first tasks after it, in O(log n) per weekday, without
+ * keeping any queue of the pending reminders. Thanks to that a single timer re-armed after each change of the schedule
+ * is enough for any number of tasks. The planner repeats every week, so the tasks of the next week are taken too, also
+ * when they are done in the actual week. The settings are stored in the user {@link Preferences}, in the node of the
+ * package by default. All methods are thread-safe. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #DEFAULT_LEAD_MINUTES}, {@link #MAX_LEAD_MINUTES}, {@link #LEAD_MINUTES_KEY},
+ * {@link #ENABLED_KEY}, {@link #tasksService}, {@link #preferences}, {@link #leadMinutes}, {@link #enabled}
+ * <br><br>
+ * Methods: {@link #findNextReminder(LocalDateTime)}, {@link #findNextReminder(ScheduleSnapshot, LocalDateTime)},
+ * {@link #findDueReminders(LocalDateTime, LocalDateTime)}, {@link #getLeadMinutes()}, {@link #setLeadMinutes(int)},
+ * {@link #isEnabled()}, {@link #setEnabled(boolean)}, {@link #setPreferences(Preferences)}, {@link #isLeadCorrect(int)}
+ */
+public class ReminderService {
+    /**
+     * A singleton instance of the service.
+     */
+    @Getter
+    private static final ReminderService service = new ReminderService();
+    public static final int DEFAULT_LEAD_MINUTES = 10;
+    public static final int MAX_LEAD_MINUTES = 24 * 60;
+    static final String LEAD_MINUTES_KEY = "reminderLeadMinutes";
+    static final String ENABLED_KEY = "remindersEnabled";
+    private final TasksService tasksService = TasksService.getService();
+    /**
+     * Represents a node of the user preferences in which the settings are stored.
+     *
+     * @see #setPreferences(Preferences)
+     */
+    private volatile Preferences preferences;
+    /**
+     * Represents a number of minutes between a reminder and its task.
+     */
+    private volatile int leadMinutes;
+    private volatile boolean enabled;
+
+    /**
+     * Private constructor which reads the settings from the default node of the {@link #preferences}.
+     */
+    private ReminderService() {
+        setPreferences(null);
+    }
+
+    /**
+     * @param after a given moment
+     * @return the first reminder due after the given moment in the actual snapshot of the schedule, or null when there
+     * isn't any task or the reminders are disabled
+     * @see #findNextReminder(ScheduleSnapshot, LocalDateTime)
+     */
+    public Reminder findNextReminder(@NonNull LocalDateTime after) {
+        return findNextReminder(tasksService.getSnapshot(), after);
+    }
+
+    /**
+     * Finds the first reminder due after the given moment. The weekdays are walked from the date of the first task
+     * which can be reminded, for eight days, so the weekday of that date is checked again for the tasks earlier than
+     * the moment. Tasks done in the week of the given moment are skipped.
+     *
+     * @param snapshot a given snapshot of the schedule
+     * @param after    a given moment
+     * @return the first reminder due after the given moment, or null when there isn't any task or the reminders are
+     * disabled
+     */
+    public Reminder findNextReminder(@NonNull ScheduleSnapshot snapshot, @NonNull LocalDateTime after) {
+        if (!enabled) return null;
+
+        var lead = leadMinutes;
+        var threshold = after.plusMinutes(lead);
+        var actualWeek = IsoWeek.of(after.toLocalDate());
+
+        for (int day = 0; day <= 7; day++) {
+            var date = threshold.toLocalDate().plusDays(day);
+            var weekday = WeekDays.getWeekdayAt(date.getDayOfWeek().getValue() - 1);
+            var tasks = snapshot.getTasksFromWeekday(weekday);
+            var candidates = (day == 0) ? tasks.tailMap(threshold.toLocalTime(), false) : tasks;
+            var isActualWeek = IsoWeek.of(date).equals(actualWeek);
+
+            for (SingleTask task : candidates.values()) {
+                if (task.isDone() && isActualWeek) continue;
+
+                var taskDateTime = date.atTime(task.getTime());
+
+                return new Reminder(task, taskDateTime, taskDateTime.minusMinutes(lead));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the reminders due after the first moment and not later than the second one, e.g. since the last check.
+     * Reminders of the tasks which have already started, e.g. when the computer was asleep, are skipped.
+     *
+     * @param from a given moment of the last check
+     * @param to   a given actual moment
+     * @return reminders ordered by their due time
+     */
+    public List<Reminder> findDueReminders(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        var snapshot = tasksService.getSnapshot();
+        var reminders = new ArrayList<Reminder>();
+        var reminder = findNextReminder(snapshot, from);
+
+        while ((reminder != null) && !reminder.getDue().isAfter(to)) {
+            if (!reminder.getTaskDateTime().isBefore(to)) reminders.add(reminder);
+            reminder = findNextReminder(snapshot, reminder.getDue());
+        }
+
+        return reminders;
+    }
+
+    /**
+     * @return a number of minutes between a reminder and its task
+     */
+    public int getLeadMinutes() {
+        return leadMinutes;
+    }
+
+    /**
+     * Sets and stores the number of minutes between a reminder and its task.
+     *
+     * @param leadMinutes a given number of minutes, from 0 to {@link #MAX_LEAD_MINUTES}
+     * @throws IllegalArgumentException when the number is out of range
+     */
+    public void setLeadMinutes(int leadMinutes) {
+        if (!isLeadCorrect(leadMinutes)) throw new IllegalArgumentException("Lead minutes are out of range");
+
+        this.leadMinutes = leadMinutes;
+        preferences.putInt(LEAD_MINUTES_KEY, leadMinutes);
+    }
+
+    /**
+     * @return true if the reminders are shown, otherwise false
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches the reminders on or off and stores the setting.
+     *
+     * @param enabled true to show the reminders, false to stop showing them
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        preferences.putBoolean(ENABLED_KEY, enabled);
+    }
+
+    /**
+     * Sets the node in which the settings are stored and reads the settings from it, e.g. a separate node in tests, so
+     * the settings of the user aren't changed.
+     *
+     * @param preferences a given node, or null for the node of the package in the user preferences
+     */
+    public synchronized void setPreferences(Preferences preferences) {
+        var node = (preferences != null) ? preferences : Preferences.userNodeForPackage(ReminderService.class);
+        var storedLeadMinutes = node.getInt(LEAD_MINUTES_KEY, DEFAULT_LEAD_MINUTES);
+
+        this.leadMinutes = isLeadCorrect(storedLeadMinutes) ? storedLeadMinutes : DEFAULT_LEAD_MINUTES;
+        this.enabled = node.getBoolean(ENABLED_KEY, true);
+        this.preferences = node;
+    }
+
+    //region helper methods
+    /**
+     * @param leadMinutes a given number of minutes
+     * @return true if the number is from 0 to {@link #MAX_LEAD_MINUTES}, otherwise false
+     */
+    private static boolean isLeadCorrect(int leadMinutes) {
+        return (leadMinutes >= 0) && (leadMinutes <= MAX_LEAD_MINUTES);
+    }
+    //endregion
+}
@@ -0,0 +1,234 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import com.floweektracker.util.*;
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Service of the full-text search over the names and descriptions of the tasks. The tasks of the planner are kept in
+ * the {@link #plannerIndex}, which is updated incrementally after each change of the schedule: only the weekdays whose
+ * maps changed in the published snapshot are compared with the indexed ones. The archived weeks are kept in the
+ * {@link #archiveIndex}, which is loaded on demand from the segments of the {@link SearchIndexRepository}, and a segment
+ * is written for each newly archived week. Texts are folded by the {@link TextNormalizer}, so the search ignores case
+ * and Polish diacritics, and each word of the query matches words starting with it. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #NAME_WEIGHT}, {@link #DESCRIPTION_WEIGHT}, {@link #tasksService},
+ * {@link #historyRepository}, {@link #indexRepository}, {@link #plannerIndex}, {@link #indexedTasks},
+ * {@link #archiveIndex}, {@link #archiveLoaded}, {@link #archiveLock}
+ * <br><br>
+ * Methods: {@link #search(String, int)}, {@link #update(ScheduleSnapshot)}, {@link #reindexPlanner()},
+ * {@link #isArchiveLoaded()},
+ * {@link #loadArchive()}, {@link #reload()}, {@link #addArchivedWeek(IsoWeek, ScheduleSnapshot)},
+ * {@link #weighTerms(SingleTask)}, {@link #createSegment(IsoWeek, ScheduleSnapshot)},
+ * {@link #updateWeekday(NavigableMap, NavigableMap)}
+ */
+public class SearchService {
+    /**
+     * A singleton instance of the service.
+     *
+     * @see WeekRolloverService
+     */
+    @Getter
+    private static final SearchService service = new SearchService();
+    /**
+     * Represents a weight of each occurrence of a term in the name of the task.
+     */
+    static final int NAME_WEIGHT = 3;
+    /**
+     * Represents a weight of each occurrence of a term in the description of the task.
+     */
+    static final int DESCRIPTION_WEIGHT = 1;
+    private final TasksService tasksService = TasksService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final SearchIndexRepository indexRepository = SearchIndexRepository.getRepository();
+    private final InvertedIndex<TaskReference> plannerIndex = new InvertedIndex<>();
+    /**
+     * Contains the maps of the weekdays of the last indexed snapshot, which are compared by reference with the next
+     * snapshot to find the changed weekdays.
+     *
+     * @see #update(ScheduleSnapshot)
+     */
+    private final Map<WeekDays, NavigableMap<LocalTime, SingleTask>> indexedTasks = new EnumMap<>(WeekDays.class);
+    private final InvertedIndex<TaskReference> archiveIndex = new InvertedIndex<>();
+    private volatile boolean archiveLoaded;
+    /**
+     * Serializes loading of the {@link #archiveIndex} and adding archived weeks to it, without blocking updates of the
+     * {@link #plannerIndex}.
+     */
+    private final Object archiveLock = new Object();
+
+    /**
+     * Private constructor which indexes the actual snapshot of the schedule and listens to its next changes.
+     *
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    private SearchService() {
+        update(tasksService.getSnapshot());
+        tasksService.addSnapshotListener(this::update);
+    }
+
+    /**
+     * Finds tasks whose names or descriptions contain words starting with all words of the given query. Archived weeks
+     * are searched only when the {@link #archiveIndex} is loaded.
+     *
+     * @param query a given query typed by the user
+     * @param limit a maximal number of the returned hits
+     * @return hits sorted by the {@link SearchHit#RANKING}, empty when the query doesn't contain any word
+     * @see #loadArchive()
+     */
+    public List<SearchHit> search(String query, int limit) {
+        var tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty() || (limit < 1)) return List.of();
+
+        var scores = plannerIndex.search(tokens);
+        if (archiveLoaded) scores.putAll(archiveIndex.search(tokens));
+
+        return scores.entrySet().stream()
+                .map(entry -> new SearchHit(entry.getKey(), entry.getValue()))
+                .sorted(SearchHit.RANKING)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Updates the {@link #plannerIndex} with the given snapshot. Only the weekdays whose maps aren't the same objects
+     * as the indexed ones are compared task by task.
+     *
+     * @param snapshot a given snapshot of the schedule
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    public synchronized void update(@NonNull ScheduleSnapshot snapshot) {
+        for (WeekDays weekday : WeekDays.values()) {
+            var tasks = snapshot.getTasksFromWeekday(weekday);
+            var indexed = indexedTasks.get(weekday);
+            if (tasks == indexed) continue;
+
+            updateWeekday((indexed != null) ? indexed : Collections.emptyNavigableMap(), tasks);
+            indexedTasks.put(weekday, tasks);
+        }
+    }
+
+    /**
+     * Indexes the actual snapshot of the schedule again, e.g. after task names are renamed or merged in the
+     * {@link TaskNameDictionary}, which changes the terms of the tasks without publishing a new snapshot.
+     *
+     * @see TaskNameRenamingService#renameTaskName(String, String)
+     */
+    public synchronized void reindexPlanner() {
+        plannerIndex.clear();
+        indexedTasks.clear();
+        update(tasksService.getSnapshot());
+    }
+
+    /**
+     * @return true if the archived weeks are searched, otherwise false
+     */
+    public boolean isArchiveLoaded() {
+        return archiveLoaded;
+    }
+
+    /**
+     * Loads the segments of all archived weeks to the {@link #archiveIndex}. A missing segment, e.g. of a week archived
+     * by an older version of the application, is created from the week and saved. It reads files, so it should be
+     * called outside the EDT.
+     */
+    public void loadArchive() {
+        synchronized (archiveLock) {
+            if (archiveLoaded) return;
+
+            for (IsoWeek week : historyRepository.getWeeks()) {
+                var segment = indexRepository.loadSegment(week);
+
+                if (segment == null) {
+                    var schedule = historyRepository.loadWeek(week);
+                    if (schedule == null) continue;
+
+                    segment = createSegment(week, schedule);
+                    indexRepository.saveSegment(week, segment);
+                }
+
+                segment.toDocuments().forEach(archiveIndex::add);
+            }
+
+            archiveLoaded = true;
+        }
+    }
+
+    /**
+     * Removes the archived weeks from the search index, so they are loaded again at the next {@link #loadArchive()},
+     * e.g. after the directory of the history is changed.
+     */
+    public void reload() {
+        synchronized (archiveLock) {
+            archiveLoaded = false;
+            archiveIndex.clear();
+        }
+    }
+
+    /**
+     * Saves a segment of the given archived week and adds it to the {@link #archiveIndex} when it is loaded.
+     *
+     * @param week     a given archived week
+     * @param schedule a snapshot of the given week
+     * @see WeekRolloverService#archiveWeek(IsoWeek, ScheduleSnapshot)
+     */
+    public void addArchivedWeek(@NonNull IsoWeek week, @NonNull ScheduleSnapshot schedule) {
+        var segment = createSegment(week, schedule);
+
+        synchronized (archiveLock) {
+            indexRepository.saveSegment(week, segment);
+            if (archiveLoaded) segment.toDocuments().forEach(archiveIndex::add);
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param task a given task
+     * @return folded terms of the name and the description of the task with their weights
+     * @see #NAME_WEIGHT
+     * @see #DESCRIPTION_WEIGHT
+     */
+    static Map<String, Integer> weighTerms(@NonNull SingleTask task) {
+        var termWeights = new HashMap<String, Integer>();
+        TextNormalizer.tokenize(task.getTaskName()).forEach(term -> termWeights.merge(term, NAME_WEIGHT, Integer::sum));
+        TextNormalizer.tokenize(task.getDescription()).forEach(term -> termWeights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        return termWeights;
+    }
+
+    /**
+     * @param week     a given archived week
+     * @param schedule a snapshot of the given week
+     * @return a segment with all tasks of the given week
+     */
+    private IndexSegment createSegment(IsoWeek week, ScheduleSnapshot schedule) {
+        var documents = new LinkedHashMap<TaskReference, Map<String, Integer>>();
+
+        for (WeekDays weekday : WeekDays.values()) {
+            schedule.getTasksFromWeekday(weekday).values()
+                    .forEach(task -> documents.put(TaskReference.of(week, task), weighTerms(task)));
+        }
+
+        return IndexSegment.of(documents);
+    }
+
+    /**
+     * Removes the indexed tasks which aren't in the given tasks and adds the given tasks which aren't indexed.
+     *
+     * @param indexed tasks of a weekday which are indexed
+     * @param tasks   actual tasks of the weekday
+     */
+    private void updateWeekday(NavigableMap<LocalTime, SingleTask> indexed, NavigableMap<LocalTime, SingleTask> tasks) {
+        indexed.forEach((time, task) -> {
+            if (!task.equals(tasks.get(time))) plannerIndex.remove(TaskReference.of(null, task));
+        });
+        tasks.forEach((time, task) -> {
+            if (!task.equals(indexed.get(time))) plannerIndex.add(TaskReference.of(null, task), weighTerms(task));
+        });
+    }
+    //endregion
+}
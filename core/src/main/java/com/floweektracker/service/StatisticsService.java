@@ -0,0 +1,279 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import lombok.*;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Service of the statistics of the archived weeks: completion rate, points achieved versus possible, streaks of the
+ * task names and trends of the weekdays. Each archived week is summarized once, when it is archived, and the running
+ * aggregates are updated by {@link #addWeek(IsoWeek, ScheduleSnapshot)}, so the statistics never rescan the history.
+ * Summaries are stored in the {@link StatisticsRepository} and only the weeks missing there are read at the first use.
+ * Ad-hoc queries, e.g. of a single task name, stream over the segments of the {@link WeekHistoryRepository}. All
+ * methods are thread-safe and can be called outside the EDT. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #historyRepository}, {@link #statisticsRepository}, {@link #summaries},
+ * {@link #totals}, {@link #weekdayTotals}, {@link #streaks}, {@link #loaded}, {@link #version}
+ * <br><br>
+ * Methods: {@link #addWeek(IsoWeek, ScheduleSnapshot)}, {@link #getTotals()}, {@link #getTotals(WeekDays)},
+ * {@link #getStreak(String)}, {@link #getCurrentStreak(String)}, {@link #getBestStreaks(int)},
+ * {@link #getWeekdayTrend(WeekDays, int)}, {@link #getSummaries()}, {@link #query(IsoWeek, IsoWeek, Predicate)},
+ * {@link #renameTaskName(String, String)}, {@link #getVersion()}, {@link #reload()}, {@link #ensureLoaded()},
+ * {@link #aggregate(WeekSummary)}, {@link #rebuildAggregates()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StatisticsService {
+    /**
+     * A singleton instance of the service.
+     *
+     * @see WeekRolloverService
+     */
+    @Getter
+    private static final StatisticsService service = new StatisticsService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final StatisticsRepository statisticsRepository = StatisticsRepository.getRepository();
+    /**
+     * Contains summaries of the archived weeks in the chronological order.
+     */
+    private final NavigableMap<IsoWeek, WeekSummary> summaries = new TreeMap<>();
+    /**
+     * Contains totals of all archived weeks.
+     */
+    private CompletionTotals totals = CompletionTotals.EMPTY;
+    /**
+     * Contains totals of each weekday in all archived weeks.
+     */
+    private final Map<WeekDays, CompletionTotals> weekdayTotals = new EnumMap<>(WeekDays.class);
+    /**
+     * Contains streaks of the task names which were done at least once.
+     */
+    private final Map<String, TaskStreak> streaks = new HashMap<>();
+    private boolean loaded;
+    /**
+     * Represents a version of the statistics, which is changed each time the {@link #summaries} change, so views can
+     * skip recomputing unchanged data.
+     */
+    private long version;
+
+    /**
+     * Adds the given archived week to the statistics. When it is the latest week, the aggregates are updated
+     * incrementally, otherwise they are rebuilt from the {@link #summaries} without reading the history. Then the
+     * summaries are saved.
+     *
+     * @param week     a given archived week
+     * @param schedule a snapshot of the given week
+     * @see WeekRolloverService#archiveWeek(IsoWeek, ScheduleSnapshot)
+     */
+    public synchronized void addWeek(@NonNull IsoWeek week, @NonNull ScheduleSnapshot schedule) {
+        ensureLoaded();
+        if (summaries.containsKey(week)) return;
+
+        var summary = WeekSummary.of(week, schedule);
+        var isLatest = summaries.isEmpty() || (summaries.lastKey().compareTo(week) < 0);
+        summaries.put(week, summary);
+
+        if (isLatest) aggregate(summary);
+        else rebuildAggregates();
+
+        version++;
+
+        statisticsRepository.saveSummaries(summaries.values());
+    }
+
+    /**
+     * @return totals of all archived weeks
+     */
+    public synchronized CompletionTotals getTotals() {
+        ensureLoaded();
+
+        return totals;
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @return totals of the given weekday in all archived weeks
+     */
+    public synchronized CompletionTotals getTotals(@NonNull WeekDays weekday) {
+        ensureLoaded();
+
+        return weekdayTotals.getOrDefault(weekday, CompletionTotals.EMPTY);
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return a streak of the given task name or {@link TaskStreak#NONE} when it was never done
+     */
+    public synchronized TaskStreak getStreak(String taskName) {
+        ensureLoaded();
+
+        return streaks.getOrDefault(taskName, TaskStreak.NONE);
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return a number of the consecutive weeks, ending with the latest archived week, in which the task was done
+     */
+    public synchronized int getCurrentStreak(String taskName) {
+        ensureLoaded();
+
+        return summaries.isEmpty() ? 0 : getStreak(taskName).getCurrent(summaries.lastKey());
+    }
+
+    /**
+     * @param limit a maximal number of the returned streaks
+     * @return streaks with the longest best streaks first
+     */
+    public synchronized List<TaskStreak> getBestStreaks(int limit) {
+        ensureLoaded();
+
+        return streaks.values().stream()
+                .sorted(Comparator.comparingInt(TaskStreak::getBest).reversed().thenComparing(TaskStreak::getTaskName))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @param weekday a given weekday
+     * @param weeks   a number of the latest archived weeks
+     * @return points rates of the given weekday in the latest weeks, in the chronological order
+     */
+    public synchronized List<Double> getWeekdayTrend(@NonNull WeekDays weekday, int weeks) {
+        ensureLoaded();
+
+        var trend = new ArrayList<Double>();
+        var iterator = summaries.descendingMap().values().iterator();
+
+        while (iterator.hasNext() && (trend.size() < weeks)) {
+            trend.add(iterator.next().getTotals(weekday).getPointsRate());
+        }
+
+        return trend.reversed();
+    }
+
+    /**
+     * @return an unmodifiable copy of the summaries of the archived weeks in the chronological order
+     */
+    public synchronized List<WeekSummary> getSummaries() {
+        ensureLoaded();
+
+        return List.copyOf(summaries.values());
+    }
+
+    /**
+     * Computes totals of the tasks which match the given filter in the archived weeks from the given range. It streams
+     * over the segments, so only one week is kept in the memory at once. It shouldn't be called on the EDT.
+     *
+     * @param from   the first week of the range, inclusive
+     * @param to     the last week of the range, inclusive
+     * @param filter a given filter of the tasks, e.g. by the task name
+     * @return totals of the matching tasks
+     * @see WeekHistoryRepository#streamWeeks(IsoWeek, IsoWeek)
+     */
+    public CompletionTotals query(@NonNull IsoWeek from, @NonNull IsoWeek to, @NonNull Predicate<SingleTask> filter) {
+        return historyRepository.streamWeeks(from, to)
+                .flatMap(entry -> entry.getValue().getTasks().values().stream())
+                .flatMap(tasks -> tasks.values().stream())
+                .filter(filter)
+                .map(CompletionTotals::of)
+                .reduce(CompletionTotals.EMPTY, CompletionTotals::plus);
+    }
+
+    /**
+     * Replaces the given old task name by the new one in the {@link #summaries}, so the streaks of merged names are
+     * joined, rebuilds the aggregates from the summaries without reading the history and saves the summaries.
+     *
+     * @param oldName a given old task name
+     * @param newName a given new task name
+     * @see TaskNameRenamingService#updateHistory(int, String, String)
+     */
+    public synchronized void renameTaskName(@NonNull String oldName, @NonNull String newName) {
+        ensureLoaded();
+        var isChanged = false;
+
+        for (var entry : summaries.entrySet()) {
+            var renamedSummary = entry.getValue().renameTaskName(oldName, newName);
+            if (renamedSummary == entry.getValue()) continue;
+
+            entry.setValue(renamedSummary);
+            isChanged = true;
+        }
+        if (!isChanged) return;
+
+        version++;
+        rebuildAggregates();
+        statisticsRepository.saveSummaries(summaries.values());
+    }
+
+    /**
+     * @return a version of the statistics, which changes when a week is added or the statistics are reloaded
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Clears the statistics, so they are loaded again at the next use, e.g. after the data folder is changed.
+     */
+    public synchronized void reload() {
+        version++;
+        loaded = false;
+        summaries.clear();
+        rebuildAggregates();
+    }
+
+    //region helper methods
+    /**
+     * Loads the stored summaries at the first use. Archived weeks which don't have a summary, e.g. archived by an older
+     * version of the application, are streamed from the history, summarized and then the summaries are saved.
+     */
+    private void ensureLoaded() {
+        if (loaded) return;
+
+        loaded = true;
+        statisticsRepository.loadSummaries().forEach(summary -> summaries.put(summary.getWeek(), summary));
+
+        var missingWeeks = new TreeSet<>(historyRepository.getWeeks());
+        missingWeeks.removeAll(summaries.keySet());
+
+        if (!missingWeeks.isEmpty()) {
+            historyRepository.streamWeeks(missingWeeks.first(), missingWeeks.last())
+                    .filter(entry -> missingWeeks.contains(entry.getKey()))
+                    .forEach(entry -> summaries.put(entry.getKey(), WeekSummary.of(entry.getKey(), entry.getValue())));
+            statisticsRepository.saveSummaries(summaries.values());
+        }
+
+        rebuildAggregates();
+    }
+
+    /**
+     * Updates the aggregates by the given summary, which should be the latest one.
+     *
+     * @param summary a given summary
+     */
+    private void aggregate(WeekSummary summary) {
+        totals = totals.plus(summary.getTotals());
+
+        for (WeekDays weekday : WeekDays.values()) {
+            weekdayTotals.merge(weekday, summary.getTotals(weekday), CompletionTotals::plus);
+        }
+
+        for (String taskName : summary.getDoneTaskNames()) {
+            var streak = streaks.getOrDefault(taskName, new TaskStreak(taskName, 0, 0, null));
+            streaks.put(taskName, streak.extend(summary.getWeek()));
+        }
+    }
+
+    /**
+     * Rebuilds the aggregates from the {@link #summaries} in the chronological order.
+     */
+    private void rebuildAggregates() {
+        totals = CompletionTotals.EMPTY;
+        weekdayTotals.clear();
+        streaks.clear();
+        summaries.values().forEach(this::aggregate);
+    }
+    //endregion
+}
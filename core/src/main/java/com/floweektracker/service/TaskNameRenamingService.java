@@ -0,0 +1,122 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import lombok.*;
+
+/**
+ * Service of renaming a task name and merging it into another one. The tasks, the planner file and the archived weeks
+ * reference the names by their ids in the {@link TaskNameDictionary}, so the name of every matching task is changed at
+ * once by {@link TaskNameDictionary#rename(int, String)} or {@link TaskNameDictionary#merge(int, int)}, without
+ * publishing a new snapshot of the schedule. Only the data derived from the names is updated afterward: the list of the
+ * names, the usages, the planner search index and the query index on the EDT by
+ * {@link #renameTaskName(String, String)}, and the archive in the background by
+ * {@link #updateHistory(int, String, String)}, which streams over the small search segments one week at a time and
+ * reads only the weeks containing the name, so the history is never loaded into the memory at once. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #dictionary}, {@link #dictionaryRepository}, {@link #historyRepository},
+ * {@link #indexRepository}, {@link #taskNamesService}, {@link #usageService}, {@link #searchService},
+ * {@link #queryService}, {@link #statisticsService}
+ * <br><br>
+ * Methods: {@link #renameTaskName(String, String)}, {@link #updateHistory(int, String, String)},
+ * {@link #containsTaskName(IndexSegment, int)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskNameRenamingService {
+    /**
+     * A singleton instance of the service.
+     */
+    @Getter
+    private static final TaskNameRenamingService service = new TaskNameRenamingService();
+    private final TaskNameDictionary dictionary = TaskNameDictionary.getDictionary();
+    private final TaskNameDictionaryRepository dictionaryRepository = TaskNameDictionaryRepository.getRepository();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final SearchIndexRepository indexRepository = SearchIndexRepository.getRepository();
+    private final TaskNamesService taskNamesService = TaskNamesService.getService();
+    private final TaskNameUsageService usageService = TaskNameUsageService.getService();
+    private final SearchService searchService = SearchService.getService();
+    private final TaskQueryService queryService = TaskQueryService.getService();
+    private final StatisticsService statisticsService = StatisticsService.getService();
+
+    /**
+     * Renames the given old name of all tasks to the new name, or merges it into the new name when the new name is
+     * already in the {@link #dictionary}. Then it updates the list of the names, the usages, the planner search index
+     * and the query index. It should be called on the EDT, and the views of the planner should be refreshed once
+     * afterward.
+     *
+     * @param oldName a given old task name
+     * @param newName a given new task name
+     * @return an id of the old name, which should be given to {@link #updateHistory(int, String, String)}, or
+     * {@link TaskNameDictionary#NO_NAME} when the names are blank, equal or the old name isn't in the dictionary
+     */
+    public int renameTaskName(String oldName, String newName) {
+        if ((oldName == null) || oldName.isBlank() || (newName == null) || newName.isBlank()) {
+            return TaskNameDictionary.NO_NAME;
+        }
+
+        var oldId = dictionary.getId(oldName);
+        if ((oldId == TaskNameDictionary.NO_NAME) || oldName.equals(newName)) return TaskNameDictionary.NO_NAME;
+
+        var newId = dictionary.getId(newName);
+        var isChanged = (newId == TaskNameDictionary.NO_NAME)
+                ? dictionary.rename(oldId, newName)
+                : dictionary.merge(oldId, newId);
+        if (!isChanged) return TaskNameDictionary.NO_NAME;
+
+        taskNamesService.renameTaskName(oldName, newName);
+        usageService.renameTaskName(oldName, newName);
+        searchService.reindexPlanner();
+        queryService.reindexPlanner();
+
+        return oldId;
+    }
+
+    /**
+     * Updates the archive after {@link #renameTaskName(String, String)}: saves the {@link #dictionary}, creates again
+     * the search segments of the archived weeks containing the given id and renames the name in the statistics. A
+     * merged week is saved again too, so it references the kept id. The weeks are checked one by one by their
+     * segments, and weeks without a segment are skipped, because their segments are created with the actual names
+     * when the archive is searched. It reads and writes files, so it should be called outside the EDT.
+     *
+     * @param taskNameId an id returned by {@link #renameTaskName(String, String)}
+     * @param oldName    a given old task name
+     * @param newName    a given new task name
+     * @return a number of the updated archived weeks
+     * @throws IllegalStateException when the dictionary can't be saved
+     */
+    public int updateHistory(int taskNameId, @NonNull String oldName, @NonNull String newName) {
+        if (!dictionaryRepository.saveDictionary()) throw new IllegalStateException("Task names are not saved");
+
+        var isMerged = dictionary.resolve(taskNameId) != taskNameId;
+        var updatedWeeks = 0;
+
+        for (IsoWeek week : historyRepository.getWeeks()) {
+            if (!containsTaskName(indexRepository.loadSegment(week), taskNameId)) continue;
+
+            var schedule = historyRepository.loadWeek(week);
+            if (schedule == null) continue;
+
+            if (isMerged) historyRepository.saveWeek(week, schedule);
+            searchService.addArchivedWeek(week, schedule);
+            updatedWeeks++;
+        }
+
+        if (updatedWeeks > 0) searchService.reload();
+        statisticsService.renameTaskName(oldName, newName);
+
+        return updatedWeeks;
+    }
+
+    //region helper methods
+    /**
+     * @param segment    a given search segment of an archived week or null
+     * @param taskNameId a given id of a task name
+     * @return true if the segment references a task with the given id, otherwise false
+     */
+    private static boolean containsTaskName(IndexSegment segment, int taskNameId) {
+        if ((segment == null) || (segment.getDocuments() == null)) return false;
+
+        return segment.getDocuments().stream().anyMatch(reference -> reference.getTaskNameId() == taskNameId);
+    }
+    //endregion
+}
@@ -0,0 +1,234 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import lombok.*;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Service of the usages of the task names, which ranks the names from the most used and the most recently used. A
+ * name is used each time a task with it appears in the planner, i.e. when a task is added or renamed. The uses are
+ * found after each change of the schedule by comparing only the weekdays whose maps changed in the published
+ * snapshot, like in the {@link SearchService}. An edit of a task is published as one snapshot, so a name which stays
+ * in the planner isn't counted as a use. The exact counts are kept in the {@link #usages} and the same usages are kept
+ * sorted in the {@link #ranking}, so each use is a removal and an insertion in O(log n). The usages are stored in the
+ * {@link TaskNameUsageRepository}; when there aren't any stored yet, they are counted once from the archived weeks.
+ * All methods are thread-safe. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #tasksService}, {@link #historyRepository}, {@link #usageRepository},
+ * {@link #usages}, {@link #ranking}, {@link #countedTasks}, {@link #loaded}
+ * <br><br>
+ * Methods: {@link #load()}, {@link #update(ScheduleSnapshot)}, {@link #getUsage(String)}, {@link #getMostUsed(int)},
+ * {@link #getUsages(Collection)}, {@link #renameTaskName(String, String)}, {@link #getUsagesCopy()},
+ * {@link #saveUsages(Collection)}, {@link #reload()},
+ * {@link #use(String, int, LocalDate)}, {@link #countNames(Map)}
+ */
+public class TaskNameUsageService {
+    /**
+     * A singleton instance of the service.
+     */
+    @Getter
+    private static final TaskNameUsageService service = new TaskNameUsageService();
+    private final TasksService tasksService = TasksService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final TaskNameUsageRepository usageRepository = TaskNameUsageRepository.getRepository();
+    private final Map<String, TaskNameUsage> usages = new HashMap<>();
+    /**
+     * Contains the same usages as the {@link #usages}, sorted by the {@link TaskNameUsage#RANKING}.
+     */
+    private final NavigableSet<TaskNameUsage> ranking = new TreeSet<>(TaskNameUsage.RANKING);
+    /**
+     * Contains the maps of the weekdays of the last counted snapshot, which are compared by reference with the next
+     * snapshot to find the changed weekdays.
+     *
+     * @see #update(ScheduleSnapshot)
+     */
+    private final Map<WeekDays, NavigableMap<LocalTime, SingleTask>> countedTasks = new EnumMap<>(WeekDays.class);
+    private boolean loaded;
+
+    /**
+     * Private constructor which remembers the actual snapshot of the schedule, so the tasks already planned aren't
+     * counted again, and listens to its next changes.
+     *
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    private TaskNameUsageService() {
+        var snapshot = tasksService.getSnapshot();
+        for (WeekDays weekday : WeekDays.values()) countedTasks.put(weekday, snapshot.getTasksFromWeekday(weekday));
+
+        tasksService.addSnapshotListener(this::update);
+    }
+
+    /**
+     * Loads the usages from the {@link #usageRepository}. When they weren't saved yet, they are counted from all
+     * archived weeks, so it should be called outside the EDT.
+     */
+    public synchronized void load() {
+        if (loaded) return;
+
+        var loadedUsages = usageRepository.loadUsages();
+
+        if (loadedUsages != null) {
+            loadedUsages.forEach(usage -> {
+                usages.put(usage.getTaskName(), usage);
+                ranking.add(usage);
+            });
+        } else {
+            for (IsoWeek week : historyRepository.getWeeks()) {
+                var schedule = historyRepository.loadWeek(week);
+                if (schedule == null) continue;
+
+                for (WeekDays weekday : WeekDays.values()) {
+                    var date = week.getDate(weekday);
+                    countNames(schedule.getTasksFromWeekday(weekday)).forEach((name, times) -> use(name, times, date));
+                }
+            }
+        }
+
+        loaded = true;
+    }
+
+    /**
+     * Counts the uses of the task names in the given snapshot. Only the weekdays whose maps aren't the same objects as
+     * the counted ones are compared, and a name is used as many times as the number of its tasks grew.
+     *
+     * @param snapshot a given snapshot of the schedule
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    public synchronized void update(@NonNull ScheduleSnapshot snapshot) {
+        load();
+        var changes = new HashMap<String, Integer>();
+
+        for (WeekDays weekday : WeekDays.values()) {
+            var tasks = snapshot.getTasksFromWeekday(weekday);
+            var counted = countedTasks.get(weekday);
+            if (tasks == counted) continue;
+
+            var oldCounts = countNames((counted != null) ? counted : Map.of());
+            oldCounts.forEach((name, times) -> changes.merge(name, -times, Integer::sum));
+            countNames(tasks).forEach((name, times) -> changes.merge(name, times, Integer::sum));
+            countedTasks.put(weekday, tasks);
+        }
+
+        var today = LocalDate.now();
+        changes.forEach((name, change) -> {
+            if (change > 0) use(name, change, today);
+        });
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return a usage of the given name, which isn't used when the name was never planned
+     */
+    public synchronized TaskNameUsage getUsage(@NonNull String taskName) {
+        load();
+
+        return usages.getOrDefault(taskName, TaskNameUsage.unused(taskName));
+    }
+
+    /**
+     * @param limit a maximal number of the returned names
+     * @return names from the most used, without the names which were never used
+     */
+    public synchronized List<String> getMostUsed(int limit) {
+        load();
+
+        return ranking.stream().limit(Math.max(limit, 0)).map(TaskNameUsage::getTaskName).toList();
+    }
+
+    /**
+     * Reads the usages of many names at once, so they can be sorted by the {@link TaskNameUsage#RANKING} without
+     * reading a usage in each comparison. The names which were never used are placed last in the alphabetical order.
+     *
+     * @param taskNames given task names
+     * @return usages of the given names in their order
+     */
+    public synchronized List<TaskNameUsage> getUsages(@NonNull Collection<String> taskNames) {
+        load();
+
+        var namesUsages = new ArrayList<TaskNameUsage>(taskNames.size());
+        for (String taskName : taskNames) {
+            namesUsages.add(usages.getOrDefault(taskName, TaskNameUsage.unused(taskName)));
+        }
+
+        return namesUsages;
+    }
+
+    /**
+     * Moves the usage of the given old name to the new name. When the new name was used too, the counts are added and
+     * the later date of the last use is kept.
+     *
+     * @param oldName a given old task name
+     * @param newName a given new task name
+     * @see TaskNameRenamingService#renameTaskName(String, String)
+     */
+    public synchronized void renameTaskName(@NonNull String oldName, @NonNull String newName) {
+        load();
+
+        var usage = usages.remove(oldName);
+        if (usage == null) return;
+
+        ranking.remove(usage);
+        if (usage.getLastUsed() != null) use(newName, usage.getCount(), usage.getLastUsed());
+    }
+
+    /**
+     * @return a copy of the usages, which can be saved outside the EDT
+     */
+    public synchronized List<TaskNameUsage> getUsagesCopy() {
+        return List.copyOf(ranking);
+    }
+
+    /**
+     * Saves the given copy of the usages in the {@link #usageRepository}.
+     *
+     * @param usagesCopy a copy returned by {@link #getUsagesCopy()}
+     */
+    public void saveUsages(@NonNull Collection<TaskNameUsage> usagesCopy) {
+        usageRepository.saveUsages(usagesCopy);
+    }
+
+    /**
+     * Removes all usages, so they are loaded again at the next use of the service, e.g. after the file of the
+     * repository is changed.
+     */
+    public synchronized void reload() {
+        usages.clear();
+        ranking.clear();
+        loaded = false;
+    }
+
+    //region helper methods
+    /**
+     * Adds the given uses to the usage of the given name and moves it in the {@link #ranking}.
+     *
+     * @param taskName a given task name
+     * @param times    a given number of the uses
+     * @param date     a given date of the uses
+     */
+    private void use(String taskName, int times, LocalDate date) {
+        var usage = usages.get(taskName);
+        if (usage != null) ranking.remove(usage);
+        else usage = TaskNameUsage.unused(taskName);
+
+        var newUsage = usage.use(times, date);
+        usages.put(taskName, newUsage);
+        ranking.add(newUsage);
+    }
+
+    /**
+     * @param tasks given tasks of a weekday
+     * @return numbers of the tasks of each task name
+     */
+    private static Map<String, Integer> countNames(Map<LocalTime, SingleTask> tasks) {
+        var counts = new HashMap<String, Integer>();
+        tasks.values().stream()
+                .filter(task -> task.getTaskName() != null)
+                .forEach(task -> counts.merge(task.getTaskName(), 1, Integer::sum));
+
+        return counts;
+    }
+    //endregion
+}
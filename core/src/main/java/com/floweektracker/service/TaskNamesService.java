@@ -0,0 +1,153 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.TaskNameDictionary;
+import com.floweektracker.repository.TaskNamesRepository;
+import com.floweektracker.util.*;
+import lombok.*;
+
+import java.util.*;
+
+/**
+ * Singleton service for the dialog of the task names. It is used to store and manage task names,
+ * providing possibility to add, remove and save task names. The {@link #taskNames} are observable, so views can follow
+ * them incrementally, and the same names are kept in one shared {@link #nameTrie}, so the views only keep their
+ * filtered range of it instead of their own copies of the names. The names are the instances from the
+ * {@link TaskNameDictionary}, so they aren't duplicated by the tasks.
+ * <br><br>
+ * Fields: {@link #service}, {@link #taskNames}, {@link #nameTrie}, {@link #taskNamesRepository}, {@link #dictionary}
+ * <br><br>
+ * Methods: {@link #addTaskName(String)}, {@link #deleteTaskName(String)}, {@link #renameTaskName(String, String)},
+ * {@link #isTaskValid(String)}, {@link #addTaskNamesListener(ObservableSet.Listener)}, {@link #saveTaskNames()},
+ * {@link #saveTaskNames(Set)}, {@link #toDictionaryName(String)}
+ */
+@Getter
+public class TaskNamesService {
+    @Getter(AccessLevel.PUBLIC)
+    private static final TaskNamesService service = new TaskNamesService();
+    /**
+     * Contains sorted task names. Each change is sent to the listeners added by
+     * {@link #addTaskNamesListener(ObservableSet.Listener)}.
+     */
+    private final ObservableSet<String> taskNames = new ObservableSet<>(new TreeSet<>());
+    /**
+     * Contains the same names as the {@link #taskNames}, sorted ignoring case and Polish diacritics. It is changed by
+     * the first listener of the {@link #taskNames}, so it is already up-to-date when the other listeners are notified.
+     */
+    private final NameTrie nameTrie = new NameTrie();
+    private final TaskNamesRepository taskNamesRepository = TaskNamesRepository.getRepository();
+    private final TaskNameDictionary dictionary = TaskNameDictionary.getDictionary();
+
+    /**
+     * Constructor for the {@link TaskNamesService}. It makes the {@link #nameTrie} follow the {@link #taskNames}, gets
+     * task names from the {@link TaskNamesRepository} and puts them in the {@link #taskNames}.
+     */
+    private TaskNamesService() {
+        taskNames.addListener(new ObservableSet.Listener<>() {
+            @Override
+            public void added(String element) {
+                nameTrie.add(element);
+            }
+
+            @Override
+            public void removed(String element) {
+                nameTrie.remove(element);
+            }
+        });
+
+        var loadedTaskNames = taskNamesRepository.getTaskNames();
+        if (loadedTaskNames != null) loadedTaskNames.stream().map(this::toDictionaryName).forEach(taskNames::add);
+    }
+
+    /**
+     * Adds a given task name to the {@link #taskNames}. If the task name isn't valid or already exists, it returns
+     * false.
+     *
+     * @param taskName a given task name which should be added
+     * @return true if a task name is successfully added, otherwise false
+     * @see #isTaskValid(String)
+     */
+    public boolean addTaskName(String taskName) {
+        if (!isTaskValid(taskName) || taskNames.contains(taskName)) return false;
+
+        return taskNames.add(toDictionaryName(taskName));
+    }
+
+    /**
+     * Deletes a given task name in the {@link #taskNames}. If the task name isn't valid or doesn't exist, it returns
+     * false.
+     *
+     * @param taskName a given task name which should be deleted
+     * @return true if task name is successfully deleted, otherwise false
+     * @see #isTaskValid(String)
+     */
+    public boolean deleteTaskName(String taskName) {
+        if (!isTaskValid(taskName) || !taskNames.contains(taskName)) return false;
+
+        return taskNames.remove(taskName);
+    }
+
+    /**
+     * Replaces the given old task name by the new one in the {@link #taskNames}. When the new name is already there,
+     * the old name is only deleted, because the names are merged.
+     *
+     * @param oldName a given old task name
+     * @param newName a given new task name
+     * @return true if the names changed, otherwise false
+     * @see TaskNameRenamingService#renameTaskName(String, String)
+     */
+    public boolean renameTaskName(String oldName, String newName) {
+        if (!isTaskValid(oldName) || !isTaskValid(newName) || oldName.equals(newName)) return false;
+
+        var isDeleted = taskNames.remove(oldName);
+        var isAdded = !taskNames.contains(newName) && taskNames.add(toDictionaryName(newName));
+
+        return isDeleted || isAdded;
+    }
+
+    /**
+     * Checks if the given task name is not null or blank.
+     *
+     * @param taskName a given task name which should be checked
+     * @return true if task name is valid, otherwise false
+     * @see #addTaskName(String)
+     * @see #deleteTaskName(String)
+     */
+    private boolean isTaskValid(String taskName) {
+        return (taskName != null) && !taskName.isBlank();
+    }
+
+    /**
+     * Adds a listener which is notified about each added and deleted task name, e.g. a model of the list of the names.
+     *
+     * @param listener a given listener of the task names
+     */
+    public void addTaskNamesListener(ObservableSet.Listener<String> listener) {
+        taskNames.addListener(listener);
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return the instance of the given name kept by the {@link #dictionary}
+     */
+    private String toDictionaryName(String taskName) {
+        return dictionary.getName(dictionary.intern(taskName));
+    }
+
+    /**
+     * Saves task names in the {@link #taskNamesRepository}.
+     */
+    public void saveTaskNames() {
+        saveTaskNames(taskNames);
+    }
+
+    /**
+     * Saves the given copy of the task names in the {@link #taskNamesRepository}. It can be called outside the EDT,
+     * because the copy isn't modified by the application.
+     *
+     * @param taskNamesCopy a copy of the {@link #taskNames}
+     */
+    public void saveTaskNames(Set<String> taskNamesCopy) {
+        taskNamesRepository.setTaskNames(taskNamesCopy);
+        taskNamesRepository.saveTaskNames();
+    }
+}
\ No newline at end of file
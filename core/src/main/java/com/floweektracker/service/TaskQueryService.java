@@ -0,0 +1,111 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Service of the queries over the tasks of the planner, which are executed by the {@link #plannerIndex} instead of
+ * filtering the maps of the weekdays by hand. The index is updated incrementally after each change of the schedule:
+ * only the weekdays whose maps changed in the published snapshot are compared with the indexed ones. The found tasks
+ * are copies from the snapshot, so they can be read outside the EDT, but they should be changed only through the
+ * {@link TasksService}. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #tasksService}, {@link #plannerIndex}, {@link #indexedTasks}
+ * <br><br>
+ * Methods: {@link #find(TaskQuery)}, {@link #count(TaskQuery)}, {@link #update(ScheduleSnapshot)},
+ * {@link #reindexPlanner()}, {@link #updateWeekday(NavigableMap, NavigableMap)}
+ */
+public class TaskQueryService {
+    /**
+     * A singleton instance of the service.
+     *
+     * @see TaskNameRenamingService
+     */
+    @Getter
+    private static final TaskQueryService service = new TaskQueryService();
+    private final TasksService tasksService = TasksService.getService();
+    private final TaskIndex plannerIndex = new TaskIndex();
+    /**
+     * Contains the maps of the weekdays of the last indexed snapshot, which are compared by reference with the next
+     * snapshot to find the changed weekdays.
+     *
+     * @see #update(ScheduleSnapshot)
+     */
+    private final Map<WeekDays, NavigableMap<LocalTime, SingleTask>> indexedTasks = new EnumMap<>(WeekDays.class);
+
+    /**
+     * Private constructor which indexes the actual snapshot of the schedule and listens to its next changes.
+     *
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    private TaskQueryService() {
+        update(tasksService.getSnapshot());
+        tasksService.addSnapshotListener(this::update);
+    }
+
+    /**
+     * @param query a given query
+     * @return tasks of the planner matching the given query in its order, limited to its limit
+     */
+    public List<SingleTask> find(@NonNull TaskQuery query) {
+        return plannerIndex.find(query);
+    }
+
+    /**
+     * @param query a given query
+     * @return a number of the tasks of the planner matching the given query, not limited to its limit
+     */
+    public int count(@NonNull TaskQuery query) {
+        return plannerIndex.count(query);
+    }
+
+    /**
+     * Updates the {@link #plannerIndex} with the given snapshot. Only the weekdays whose maps aren't the same objects
+     * as the indexed ones are compared task by task.
+     *
+     * @param snapshot a given snapshot of the schedule
+     * @see TasksService#addSnapshotListener(java.util.function.Consumer)
+     */
+    public synchronized void update(@NonNull ScheduleSnapshot snapshot) {
+        for (WeekDays weekday : WeekDays.values()) {
+            var tasks = snapshot.getTasksFromWeekday(weekday);
+            var indexed = indexedTasks.get(weekday);
+            if (tasks == indexed) continue;
+
+            updateWeekday((indexed != null) ? indexed : Collections.emptyNavigableMap(), tasks);
+            indexedTasks.put(weekday, tasks);
+        }
+    }
+
+    /**
+     * Indexes the actual snapshot of the schedule again, e.g. after task names are renamed or merged in the
+     * {@link TaskNameDictionary}, which changes the names of the tasks without publishing a new snapshot.
+     *
+     * @see TaskNameRenamingService#renameTaskName(String, String)
+     */
+    public synchronized void reindexPlanner() {
+        plannerIndex.clear();
+        indexedTasks.clear();
+        update(tasksService.getSnapshot());
+    }
+
+    //region helper methods
+    /**
+     * Removes the indexed tasks which aren't in the given tasks and adds the given tasks which aren't indexed.
+     *
+     * @param indexed tasks of a weekday which are indexed
+     * @param tasks   actual tasks of the weekday
+     */
+    private void updateWeekday(NavigableMap<LocalTime, SingleTask> indexed, NavigableMap<LocalTime, SingleTask> tasks) {
+        indexed.forEach((time, task) -> {
+            if (!tasks.containsKey(time)) plannerIndex.remove(task);
+        });
+        tasks.forEach((time, task) -> {
+            if (!task.equals(indexed.get(time))) plannerIndex.add(task);
+        });
+    }
+    //endregion
+}
@@ -0,0 +1,588 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.PlannerRepository;
+import lombok.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.*;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a service for handling tasks. This class is a singleton and is used to store and manage tasks.
+ * <br><br>
+ * Fields: {@link #service}, {@link #schedule}, {@link #plannerRepository}, {@link #lock}, {@link #snapshot},
+ * {@link #snapshotListeners}
+ * <br><br>
+ * CRUD methods: {@link #addTask(SingleTask)}, {@link #deleteTask(SingleTask)},
+ * {@link #editTask(SingleTask, SingleTask)}, {@link #savePlanner()}
+ * <br><br>
+ * Getter methods: {@link #getTaskByEventTime(WeekDays, LocalTime)}, {@link #getTasksFromWeekday(WeekDays)}
+ * <br><br>
+ * Batch methods: {@link #clearWeekdays(List)}, {@link #replaceTasks(Map)},
+ * {@link #changeTasks(Collection, Collection)}, {@link #addTasks(Collection)}, {@link #prepareResetTasks(Map, List)},
+ * {@link #savePlanner(ScheduleSnapshot)}
+ * <br><br>
+ * Snapshot methods: {@link #getSnapshot()}, {@link #addSnapshotListener(Consumer)}, {@link #modify(Supplier)},
+ * {@link #publish(WeekDays)}, {@link #publishAll()}
+ * <br><br>
+ * Interval methods: {@link #findConflicts(SingleTask)}, {@link #findFreeSlot(WeekDays, int, LocalTime)}
+ * <br><br>
+ * Other methods: {@link #initSchedule()}, {@link #collectSortedTimes()}, {@link #countPoints(WeekDays, Function)},
+ * {@link #isTaskInSchedule(SingleTask)}, {@link #isTimeOccupied(SingleTask)}, {@link #isConflicting(SingleTask)},
+ * {@link #putTasks(Collection, Set)}
+ */
+@Getter
+public class TasksService {
+    /**
+     * The singleton instance of the {@link TasksService} class.
+     */
+    @Getter
+    private static final TasksService service = new TasksService();
+    /**
+     * Contains tasks sorted by each day of the week. Each key in the outer map represents a day of the week as a String
+     * (e.g. "Monday"). The value associated with each day is another map where the {@link LocalTime} represents an
+     * hour, and {@link SingleTask} represents a task. It is a working copy used on the EDT; other threads should read
+     * the {@link #snapshot} instead.
+     *
+     * @see PlannerRepository
+     * @see #initSchedule()
+     * @see #addTask(SingleTask)
+     * @see #deleteTask(SingleTask)
+     * @see #editTask(SingleTask, SingleTask)
+     * @see #collectSortedTimes()
+     * @see #countPoints(WeekDays, Function)
+     * @see #isTaskInSchedule(SingleTask)
+     * @see #getTaskByEventTime(WeekDays, LocalTime)
+     * @see #getTasksFromWeekday(WeekDays)
+     * @see #savePlanner()
+     * @see #isTimeOccupied(SingleTask)
+     */
+    private final Map<WeekDays, Map<LocalTime, SingleTask>> schedule = new HashMap<>();
+    /**
+     * Serializes changes of the {@link #schedule} made by the service, so a change and publishing of the next
+     * {@link #snapshot} are atomic for other writers.
+     *
+     * @see #modify(Supplier)
+     */
+    @Getter(AccessLevel.NONE)
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Contains an immutable point-in-time view of the {@link #schedule}, published after each change made by the
+     * service. It can be read by any thread without locking.
+     *
+     * @see #getSnapshot()
+     * @see #publish(WeekDays)
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile ScheduleSnapshot snapshot = ScheduleSnapshot.EMPTY;
+    /**
+     * Contains listeners which are notified with the actual {@link #snapshot} after each change made by the service.
+     *
+     * @see #addSnapshotListener(Consumer)
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<Consumer<ScheduleSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>();
+    /**
+     * A singleton instance of the {@link PlannerRepository} class.
+     *
+     * @see #initSchedule()
+     * @see #savePlanner()
+     */
+    private final PlannerRepository plannerRepository = PlannerRepository.getRepository();
+
+    /**
+     * Private constructor to create a singleton instance of the {@link TasksService} class. Calls
+     * {@link #initSchedule()} method.
+     *
+     * @see TasksService
+     */
+    private TasksService() {
+        initSchedule();
+    }
+
+    /**
+     * Initializes the {@link #schedule} by loading it from the {@link #plannerRepository} or creating a new empty
+     * schedule if no schedule is found.
+     *
+     * @see TasksService#TasksService()
+     */
+    private void initSchedule() {
+        var loadedSchedule = plannerRepository.getSchedule();
+
+        if (loadedSchedule != null) schedule.putAll(loadedSchedule);
+        else {
+            for (WeekDays day : WeekDays.values()) schedule.put(day, new HashMap<>());
+        }
+
+        publishAll();
+    }
+
+    /**
+     * Add task to the {@link #schedule}. If the task is null or its time overlaps another task, return false.
+     *
+     * @param task represents the task to be added
+     * @return true if task is successfully added to schedule, otherwise false.
+     * @see #isConflicting(SingleTask)
+     * @see #isTaskInSchedule(SingleTask)
+     */
+    public boolean addTask(SingleTask task) {
+        if (task == null) return false;
+
+        return modify(() -> {
+            if (isConflicting(task)) return false;
+            schedule.get(task.getWeekday()).put(task.getTime(), task);
+            publish(task.getWeekday());
+
+            return isTaskInSchedule(task);
+        });
+    }
+
+    /**
+     * Delete task from the {@link #schedule}. If the task is not exist or the time is not occupied, return false.
+     *
+     * @param task represents the task to be deleted
+     * @return true if task is successfully deleted, otherwise false.
+     * @see #isTimeOccupied(SingleTask)
+     * @see #isTaskInSchedule(SingleTask)
+     */
+    public boolean deleteTask(SingleTask task) {
+        if (task == null) return false;
+
+        return modify(() -> {
+            if (!isTimeOccupied(task) || !schedule.get(task.getWeekday()).remove(task.getTime(), task)) return false;
+            publish(task.getWeekday());
+
+            return true;
+        });
+    }
+
+    /**
+     * Edits a task in the {@link #schedule} by replacing the old task with a new task. The old task is deleted and the
+     * new one is added in one change, so the listeners are notified once. If any of the following conditions are met,
+     * the method returns false and the schedule isn't changed:
+     * <ul>
+     *     <li>Either the old task or the new task is null.</li>
+     *     <li>The old task and new task are identical.</li>
+     *     <li>The old task is not found in the schedule.</li>
+     *     <li>The time of the new task overlaps another task.</li>
+     * </ul>
+     *
+     * @param task       represents an old task to be replaced.
+     * @param editedTask represents a new task to be added.
+     * @return true if the task is successfully edited, otherwise false.
+     * @see #isConflicting(SingleTask)
+     * @see #modify(Supplier)
+     */
+    public boolean editTask(SingleTask task, SingleTask editedTask) {
+        if ((task == null) || (editedTask == null) || task.equals(editedTask)) return false;
+
+        return modify(() -> {
+            var tasks = schedule.get(task.getWeekday());
+            if (!tasks.remove(task.getTime(), task)) return false;
+
+            if (isConflicting(editedTask)) {
+                tasks.put(task.getTime(), task);
+                return false;
+            }
+
+            schedule.get(editedTask.getWeekday()).put(editedTask.getTime(), editedTask);
+            publish(task.getWeekday());
+            if (editedTask.getWeekday() != task.getWeekday()) publish(editedTask.getWeekday());
+
+            return true;
+        });
+    }
+
+    /**
+     * Collects all the local times from the {@link #schedule} into a sorted set
+     *
+     * @return a {@link TreeSet} with all the local times in the schedule. The set is sorted in ascending order.
+     */
+    public TreeSet<LocalTime> collectSortedTimes() {
+        return schedule.values().stream()
+                .flatMap(tasks -> tasks.keySet().stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+
+    /**
+     * Counts the points of the tasks in the schedule based on the given {@link Function}.
+     * The function takes a task and returns the points of the task. The points are then summed up.
+     * The method returns the sum of points of all the tasks in the given weekday.
+     *
+     * @param weekday    the weekday to count the points from
+     * @param singleTaskMethod the function to apply to each task
+     * @return the sum of points of all the tasks in the given weekday
+     */
+    public int countPoints(WeekDays weekday, Function<SingleTask, Byte> singleTaskMethod) {
+        if (singleTaskMethod == null) return 0;
+        return schedule.get(weekday).values().stream().mapToInt(singleTaskMethod::apply).sum();
+    }
+
+    /**
+     * Checks if the given task is in the schedule. Returns false if task is null.
+     *
+     * @param task a given task to check
+     * @return true if the task is in the schedule, otherwise false
+     * @see #addTask(SingleTask)
+     * @see #deleteTask(SingleTask)
+     * @see #editTask(SingleTask, SingleTask)
+     */
+    public boolean isTaskInSchedule(SingleTask task) {
+        if (task == null) return false;
+        return schedule.get(task.getWeekday()).containsValue(task);
+    }
+
+    /**
+     * Find a {@link SingleTask} in the {@link #schedule} by given weekday and time
+     *
+     * @param weekday a give weekday
+     * @param time a given time
+     * @return a {@link SingleTask} if it is found in the {@link #schedule}, otherwise null
+     */
+    public SingleTask getTaskByEventTime(WeekDays weekday, LocalTime time) {
+        return schedule.get(weekday).get(time);
+    }
+
+    /**
+     * Get all the {@link SingleTask}s from the {@link #schedule} by given weekday.
+     *
+     * @param weekday a given weekday
+     * @return a {@link List} with all the {@link SingleTask}s from the given weekday
+     */
+    public List<SingleTask> getTasksFromWeekday(WeekDays weekday) {
+        return schedule.get(weekday).values().stream().toList();
+    }
+
+    /**
+     * Publishes the actual state of the {@link #schedule} as a new {@link #snapshot} and saves it by
+     * {@link #savePlanner(ScheduleSnapshot)}. It should be called on the EDT.
+     */
+    public void savePlanner() {
+        savePlanner(modify(this::publishAll));
+    }
+
+    /**
+     * Sets the given snapshot of the schedule in the {@link PlannerRepository} and then saves it to the database. It
+     * can be called outside the EDT, because the snapshot is immutable.
+     *
+     * @param scheduleSnapshot a snapshot of the schedule returned by {@link #getSnapshot()}
+     */
+    public void savePlanner(ScheduleSnapshot scheduleSnapshot) {
+        plannerRepository.setSchedule(scheduleSnapshot.toScheduleMap());
+        plannerRepository.savePlanner();
+    }
+
+    //region batch methods
+    /**
+     * Deletes all tasks from the given weekdays at once.
+     *
+     * @param weekdays a list of the weekdays which should be cleared
+     * @return a list of the deleted tasks
+     */
+    public List<SingleTask> clearWeekdays(List<WeekDays> weekdays) {
+        var deletedTasks = new ArrayList<SingleTask>();
+        if (weekdays == null) return deletedTasks;
+
+        return modify(() -> {
+            for (WeekDays weekday : weekdays) {
+                var tasks = schedule.get(weekday);
+                deletedTasks.addAll(tasks.values());
+                tasks.clear();
+                publish(weekday);
+            }
+
+            return deletedTasks;
+        });
+    }
+
+    /**
+     * Replaces the given tasks with their new versions at once. Each entry is replaced only when the old task is still
+     * in the schedule, so the result prepared outside the EDT doesn't override newer changes made by the user.
+     *
+     * @param replacements a map where keys are the old tasks and values are the new ones
+     * @return a number of the replaced tasks
+     */
+    public int replaceTasks(Map<SingleTask, SingleTask> replacements) {
+        if (replacements == null) return 0;
+
+        return modify(() -> {
+            var changedWeekdays = EnumSet.noneOf(WeekDays.class);
+            var replaced = 0;
+
+            for (var entry : replacements.entrySet()) {
+                var oldTask = entry.getKey();
+                var newTask = entry.getValue();
+                var tasks = schedule.get(oldTask.getWeekday());
+
+                if ((newTask == null) || !tasks.remove(oldTask.getTime(), oldTask)) continue;
+
+                schedule.get(newTask.getWeekday()).put(newTask.getTime(), newTask);
+                changedWeekdays.add(oldTask.getWeekday());
+                changedWeekdays.add(newTask.getWeekday());
+                replaced++;
+            }
+
+            changedWeekdays.forEach(this::publish);
+
+            return replaced;
+        });
+    }
+
+    /**
+     * Deletes and adds the given tasks at once, e.g. the occurrences of the recurring templates of the previous and the
+     * next week. A task is deleted only when it is still in the schedule unchanged, and added only when its time
+     * doesn't overlap another task, so the tasks changed or planned by the user stay untouched.
+     *
+     * @param deletedTasks given tasks which should be deleted
+     * @param addedTasks   given tasks which should be added after the deletion
+     * @return a number of the deleted and added tasks
+     * @see RecurringTemplateService
+     */
+    public int changeTasks(@NonNull Collection<SingleTask> deletedTasks, @NonNull Collection<SingleTask> addedTasks) {
+        return modify(() -> {
+            var changedWeekdays = EnumSet.noneOf(WeekDays.class);
+            var changed = 0;
+
+            for (SingleTask task : deletedTasks) {
+                if (!schedule.get(task.getWeekday()).remove(task.getTime(), task)) continue;
+
+                changedWeekdays.add(task.getWeekday());
+                changed++;
+            }
+
+            changed += addedTasks.size() - putTasks(addedTasks, changedWeekdays).size();
+            changedWeekdays.forEach(this::publish);
+
+            return changed;
+        });
+    }
+
+    /**
+     * Adds the given tasks at once, e.g. a batch of the imported tasks. A task is added only when its time doesn't
+     * overlap another task, including the tasks added earlier in the same batch. The listeners are notified once for
+     * the whole batch.
+     *
+     * @param addedTasks given tasks which should be added
+     * @return a list of the tasks which weren't added because of their time, in the order of the given tasks
+     */
+    public List<SingleTask> addTasks(@NonNull Collection<SingleTask> addedTasks) {
+        return modify(() -> {
+            var changedWeekdays = EnumSet.noneOf(WeekDays.class);
+            var rejectedTasks = putTasks(addedTasks, changedWeekdays);
+            changedWeekdays.forEach(this::publish);
+
+            return rejectedTasks;
+        });
+    }
+
+    /**
+     * Prepares copies of the tasks from the given schedule for the given weekdays, which are marked as not done. The
+     * schedule isn't changed, so it can be called outside the EDT with a snapshot of the schedule.
+     *
+     * @param schedule a schedule or its snapshot from which tasks are taken
+     * @param weekdays the list of weekdays for which tasks' points should be reset
+     * @return a map where keys are the tasks and values are their reset copies, ready for {@link #replaceTasks(Map)}
+     * @see WeekRolloverService
+     */
+    public Map<SingleTask, SingleTask> prepareResetTasks(Map<WeekDays, ? extends Map<LocalTime, SingleTask>> schedule, List<WeekDays> weekdays) {
+        var resetTasks = new HashMap<SingleTask, SingleTask>();
+
+        for (WeekDays weekday : weekdays) {
+            for (SingleTask task : schedule.get(weekday).values()) {
+                var editedTask = task.copy();
+                editedTask.setDone(false);
+
+                if (!task.equals(editedTask)) resetTasks.put(task, editedTask);
+            }
+        }
+
+        return resetTasks;
+    }
+    //endregion
+
+    //region interval methods
+    /**
+     * Finds the tasks whose time overlaps the time of the given task, in O(log n + k) by the interval tree of its
+     * weekday. It reads the actual snapshot, so it can be called by any thread.
+     *
+     * @param task a given task
+     * @return a list of the other tasks of the same weekday which overlap the given task, sorted by time
+     * @see ScheduleSnapshot#getIntervals(WeekDays)
+     */
+    public List<SingleTask> findConflicts(@NonNull SingleTask task) {
+        var overlapping = snapshot.getIntervals(task.getWeekday())
+                .findOverlapping(task.getStartMinute(), task.getEndMinute());
+        overlapping.removeIf(task::equals);
+
+        return overlapping;
+    }
+
+    /**
+     * Finds the first free gap of the given length on the given weekday, e.g. the first free 45 minutes on Thursday.
+     * It reads the actual snapshot, so it can be called by any thread.
+     *
+     * @param weekday a given weekday
+     * @param minutes a given length of the gap in minutes, at least 1
+     * @param from    a given time from which the gap is searched
+     * @return a time at which the found gap starts, or null when there isn't any gap before midnight
+     * @throws IllegalArgumentException when the length is lower than 1
+     * @see DayIntervals#findFreeSlot(int, int)
+     */
+    public LocalTime findFreeSlot(@NonNull WeekDays weekday, int minutes, @NonNull LocalTime from) {
+        var slotStart = snapshot.getIntervals(weekday).findFreeSlot(minutes, from.toSecondOfDay() / 60);
+
+        return (slotStart >= 0) ? LocalTime.of(slotStart / 60, slotStart % 60) : null;
+    }
+    //endregion
+
+    //region snapshot methods
+    /**
+     * Returns the last published snapshot of the schedule. It doesn't block and can be called by any thread, e.g. by
+     * savers or background jobs. Only changes made by the methods of this service are published, so the
+     * {@link #schedule} itself should be changed only on the EDT and only through the service.
+     *
+     * @return an immutable point-in-time view of the schedule
+     * @see ScheduleSnapshot
+     */
+    public ScheduleSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Adds a listener which is notified with the actual snapshot after each change made by the service, e.g. to update
+     * an index incrementally. It is called on the thread which made the change, after the lock is released, so it
+     * shouldn't block. Maps of the weekdays which didn't change are shared between the snapshots, so the listener can
+     * find the changed weekdays by comparing the references.
+     *
+     * @param listener a given listener of the snapshots
+     * @see SearchService
+     */
+    public void addSnapshotListener(@NonNull Consumer<ScheduleSnapshot> listener) {
+        snapshotListeners.add(listener);
+    }
+
+    /**
+     * Runs the given change of the {@link #schedule} under the write lock of the {@link #lock} and then notifies the
+     * {@link #snapshotListeners}. The lock isn't reentrant, so the given change can't call other modifying methods of
+     * the service.
+     *
+     * @param change a given change of the {@link #schedule}
+     * @return a result of the change
+     */
+    private <R> R modify(Supplier<R> change) {
+        var stamp = lock.writeLock();
+        R result;
+
+        try {
+            result = change.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        var published = snapshot;
+        snapshotListeners.forEach(listener -> listener.accept(published));
+
+        return result;
+    }
+
+    /**
+     * Publishes a new {@link #snapshot} in which only the given weekday is copied from the {@link #schedule}. Maps of
+     * other weekdays are shared with the previous snapshot.
+     *
+     * @param weekday a given weekday which changed
+     * @see ScheduleSnapshot#withWeekday(WeekDays, Map)
+     */
+    private void publish(WeekDays weekday) {
+        snapshot = snapshot.withWeekday(weekday, schedule.get(weekday));
+    }
+
+    /**
+     * Publishes a new {@link #snapshot} in which all weekdays are copied from the {@link #schedule}.
+     *
+     * @return the published snapshot
+     * @see #initSchedule()
+     * @see #savePlanner()
+     */
+    private ScheduleSnapshot publishAll() {
+        for (WeekDays weekday : WeekDays.values()) publish(weekday);
+
+        return snapshot;
+    }
+    //endregion
+
+    //region helper methods
+    /**
+     * Checks if the given time is occupied in the {@link #schedule}.
+     *
+     * @param task a given tas
+     * @return true if time is occupied by another task, otherwise false
+     * @see #addTask(SingleTask)
+     * @see #deleteTask(SingleTask)
+     */
+    private boolean isTimeOccupied(@NotNull SingleTask task) {
+        return schedule.get(task.getWeekday()).containsKey(task.getTime());
+    }
+
+    /**
+     * Checks if the given task starts at an occupied time or overlaps another task. The overlapping tasks are found
+     * by the interval tree of the actual {@link #snapshot}, and only those which are still in the {@link #schedule}
+     * are taken into account. The snapshot holds copies of the tasks, so they are compared by value.
+     *
+     * @param task a given task
+     * @return true if the time of the task is taken by another task, otherwise false
+     * @see #addTask(SingleTask)
+     * @see #editTask(SingleTask, SingleTask)
+     * @see #changeTasks(Collection, Collection)
+     * @see #addTasks(Collection)
+     */
+    private boolean isConflicting(@NotNull SingleTask task) {
+        if (isTimeOccupied(task)) return true;
+
+        var tasks = schedule.get(task.getWeekday());
+
+        return snapshot.getIntervals(task.getWeekday())
+                .findOverlapping(task.getStartMinute(), task.getEndMinute()).stream()
+                .anyMatch(overlapping -> overlapping.equals(tasks.get(overlapping.getTime())));
+    }
+
+    /**
+     * Puts the given tasks in the {@link #schedule} without publishing them, so a batch of n tasks is checked in
+     * O(n log n) instead of building the interval tree of the weekday again after each task. The tasks put earlier in
+     * the batch aren't in the interval tree of the {@link #snapshot} yet, so they are kept for each weekday in a map of
+     * their start minutes to their end minutes. They don't overlap each other, so a task overlaps one of them only
+     * when it overlaps the last one starting before its end.
+     *
+     * @param addedTasks      given tasks which should be put
+     * @param changedWeekdays given weekdays to which the weekdays of the put tasks are added, to be published once
+     * @return a list of the tasks which weren't put because of their time, in the order of the given tasks
+     * @see #changeTasks(Collection, Collection)
+     * @see #addTasks(Collection)
+     */
+    private List<SingleTask> putTasks(Collection<SingleTask> addedTasks, Set<WeekDays> changedWeekdays) {
+        var batchIntervals = new EnumMap<WeekDays, NavigableMap<Integer, Integer>>(WeekDays.class);
+        var rejectedTasks = new ArrayList<SingleTask>();
+
+        for (SingleTask task : addedTasks) {
+            var intervals = batchIntervals.computeIfAbsent(task.getWeekday(), _ -> new TreeMap<>());
+            var previous = intervals.lowerEntry(task.getEndMinute());
+
+            if (((previous != null) && (previous.getValue() > task.getStartMinute())) || isConflicting(task)) {
+                rejectedTasks.add(task);
+                continue;
+            }
+
+            schedule.get(task.getWeekday()).put(task.getTime(), task);
+            intervals.put(task.getStartMinute(), task.getEndMinute());
+            changedWeekdays.add(task.getWeekday());
+        }
+
+        return rejectedTasks;
+    }
+    //endregion
+}
\ No newline at end of file
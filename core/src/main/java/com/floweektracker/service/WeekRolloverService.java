@@ -0,0 +1,110 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.WeekHistoryRepository;
+import lombok.*;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.*;
+
+/**
+ * Service of the week rollover. The week to which the tasks in the planner belong is stored in the
+ * {@link WeekHistoryRepository}. When the week ends, the planner is appended to the history and all tasks are marked
+ * as not done. The stored week is moved forward only after the reset planner is saved, and a week which is already
+ * archived is never archived again, so the rollover is done exactly once, even if the application starts several
+ * times in the same week or is closed in the middle of the rollover. It is a singleton.
+ * <br><br>
+ * Fields: {@link #service}, {@link #historyRepository}, {@link #tasksService}, {@link #statisticsService},
+ * {@link #searchService}
+ * <br><br>
+ * Methods: {@link #findFinishedWeek(IsoWeek)}, {@link #archiveWeek(IsoWeek, ScheduleSnapshot)},
+ * {@link #prepareResetTasks(ScheduleSnapshot)}, {@link #completeRollover(IsoWeek, ScheduleSnapshot)},
+ * {@link #getDelayToNextWeek(LocalDateTime)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WeekRolloverService {
+    /**
+     * A singleton instance of the service.
+     */
+    @Getter
+    private static final WeekRolloverService service = new WeekRolloverService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final TasksService tasksService = TasksService.getService();
+    private final StatisticsService statisticsService = StatisticsService.getService();
+    private final SearchService searchService = SearchService.getService();
+
+    /**
+     * Finds the week of the planner which has finished before the given week. When the week of the planner is unknown,
+     * e.g. at the first start, the given week is stored and nothing is archived.
+     *
+     * @param currentWeek a given current week
+     * @return the finished week of the planner or null when the planner belongs to the given week
+     */
+    public IsoWeek findFinishedWeek(@NonNull IsoWeek currentWeek) {
+        var plannerWeek = historyRepository.loadCurrentWeek();
+
+        if (plannerWeek == null) {
+            historyRepository.saveCurrentWeek(currentWeek);
+            return null;
+        }
+
+        return (plannerWeek.compareTo(currentWeek) < 0) ? plannerWeek : null;
+    }
+
+    /**
+     * Appends the given snapshot of the planner to the history as the given week and adds it to the statistics and the
+     * search index. A week which is already archived isn't overwritten, because the planner might have been already
+     * reset.
+     *
+     * @param week     a given finished week
+     * @param schedule a snapshot of the planner
+     * @return true if the week is in the history, otherwise false
+     * @see StatisticsService#addWeek(IsoWeek, ScheduleSnapshot)
+     * @see SearchService#addArchivedWeek(IsoWeek, ScheduleSnapshot)
+     */
+    public boolean archiveWeek(@NonNull IsoWeek week, @NonNull ScheduleSnapshot schedule) {
+        if (historyRepository.containsWeek(week)) return true;
+        if (!historyRepository.saveWeek(week, schedule)) return false;
+
+        statisticsService.addWeek(week, schedule);
+        searchService.addArchivedWeek(week, schedule);
+
+        return true;
+    }
+
+    /**
+     * @param schedule a given snapshot of the planner
+     * @return a map where keys are the done tasks and values are their copies marked as not done
+     * @see TasksService#prepareResetTasks(Map, List)
+     */
+    public Map<SingleTask, SingleTask> prepareResetTasks(@NonNull ScheduleSnapshot schedule) {
+        return tasksService.prepareResetTasks(schedule.getTasks(), List.of(WeekDays.values()));
+    }
+
+    /**
+     * Saves the given snapshot of the reset planner and then stores the given week as the week of the planner. It can
+     * be called outside the EDT.
+     *
+     * @param currentWeek a given current week
+     * @param schedule    a snapshot of the reset planner
+     * @return true if the week of the planner is stored, otherwise false
+     */
+    public boolean completeRollover(@NonNull IsoWeek currentWeek, @NonNull ScheduleSnapshot schedule) {
+        tasksService.savePlanner(schedule);
+
+        return historyRepository.saveCurrentWeek(currentWeek);
+    }
+
+    /**
+     * @param now a given date and time
+     * @return a number of milliseconds from the given time to the beginning of the next week
+     */
+    public long getDelayToNextWeek(@NonNull LocalDateTime now) {
+        var nextMonday = now.toLocalDate()
+                .with(TemporalAdjusters.next(DayOfWeek.MONDAY))
+                .atStartOfDay();
+
+        return Duration.between(now, nextMonday).toMillis();
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Service package contains the business logic of the application responsible for managing user data and application
+ * state. Each service class provides CRUD operations. Services act as a bridge between controllers, views and
+ * repositories. Controllers call the service methods, services work with the data shown in the views and repositories
+ * provide access to the database.
+ * <p></p>
+ * <p>The services don't depend on Swing, so they can run without a display. The services working with the views are
+ * in the service package of the Swing module, and the services of this package don't call them. The errors are
+ * reported by the {@link com.floweektracker.util.ErrorReporter}.</p>
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>RecurringTemplateService</b> - service adding the occurrences of the recurring templates of a single week to the planner</li>
+ *     <li><b>ReminderService</b> - finds the next reminders of the tasks in the sorted schedule</li>
+ *     <li><b>SearchService</b> - service of the full-text search over the names and descriptions of the tasks</li>
+ *     <li><b>StatisticsService</b> - computes completion, points, streaks and weekday trends of the archived weeks from running aggregates</li>
+ *     <li><b>TaskNameRenamingService</b> - renames and merges task names in the planner and the archived weeks</li>
+ *     <li><b>TaskNamesService</b> - manages the list of task names and connects to the database via {@link com.floweektracker.repository.TaskNamesRepository}; implemented as a singleton</li>
+ *     <li><b>TaskNameUsageService</b> - a service ranking the task names from the most used</li>
+ *     <li><b>TaskQueryService</b> - a service of the indexed queries over the planner</li>
+ *     <li><b>TasksService</b> - manages the tasks using a {@code Map} structure and connects to the database via {@link com.floweektracker.repository.PlannerRepository}; implemented as a singleton</li>
+ *     <li><b>WeekRolloverService</b> - archives the finished week and resets the done flags of the planner once per week</li>
+ * </ul>
+ *
+ * @see com.floweektracker.repository
+ */
+package com.floweektracker.service;
\ No newline at end of file
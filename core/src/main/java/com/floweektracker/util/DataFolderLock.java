@@ -0,0 +1,105 @@
+package com.floweektracker.util;
+
+import lombok.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a lock of the data folder, which allows only one process to use the data folder at once. The process
+ * locks the {@link #LOCK_FILE} in the data folder by a {@link FileChannel}, so the lock is released by the system even
+ * when the process is killed. It doesn't depend on Swing, so the command line holds it for the time of a command, and
+ * the window holds it through the {@code SingleInstanceGuard} for the time it is running. It is a singleton.
+ * <br><br>
+ * Fields: {@link #instance}, {@link #LOCK_FILE}, {@link #lockedFolder}, {@link #lockChannel}, {@link #lock}
+ * <br><br>
+ * Methods: {@link #tryAcquire(File)}, {@link #release()}, {@link #tryLock(FileChannel)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DataFolderLock {
+    /**
+     * A singleton instance of the {@link DataFolderLock} class.
+     */
+    @Getter
+    private static final DataFolderLock instance = new DataFolderLock();
+    private static final System.Logger LOGGER = System.getLogger(DataFolderLock.class.getName());
+    /**
+     * Represents a name of the file in the data folder, which is locked by the process using the data folder.
+     */
+    public static final String LOCK_FILE = ".lock";
+
+    /**
+     * Contains the absolute data folder locked by this process, or null when no folder is locked.
+     */
+    @Getter
+    private File lockedFolder;
+    private FileChannel lockChannel;
+    private FileLock lock;
+
+    /**
+     * Tries to lock the given data folder for this process. When the lock can't work, e.g. the lock file can't be
+     * created, the process is allowed to use the folder without the lock.
+     *
+     * @param dataFolder a given data folder of the application
+     * @return true if this process can use the given data folder, false if another process is using it
+     */
+    public synchronized boolean tryAcquire(@NonNull File dataFolder) {
+        var folder = dataFolder.getAbsoluteFile();
+        if (lock != null) return folder.equals(lockedFolder);
+
+        try {
+            var channel = FileChannel.open(
+                    new File(folder, LOCK_FILE).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            );
+            var fileLock = tryLock(channel);
+
+            if (fileLock == null) {
+                channel.close();
+                return false;
+            }
+
+            lockedFolder = folder;
+            lockChannel = channel;
+            lock = fileLock;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Data folder lock is not available", e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases the lock of the data folder. It does nothing when no folder is locked.
+     */
+    public synchronized void release() {
+        if (lock == null) return;
+
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Data folder lock was not released correctly", e);
+        } finally {
+            lock = null;
+            lockChannel = null;
+            lockedFolder = null;
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param channel a given channel of the lock file
+     * @return an acquired lock or null when the file is locked by another process
+     * @throws IOException when the file can't be locked
+     */
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+    //endregion
+}
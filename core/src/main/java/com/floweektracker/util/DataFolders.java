@@ -0,0 +1,29 @@
+package com.floweektracker.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.File;
+
+/**
+ * Represents class which finds the data folder of the application without asking the user, so it is used by the
+ * command line as well as by the window before it asks the user about creating the folder.
+ * <br><br>
+ * Fields: {@link #DEFAULT_FOLDER_NAME}
+ * <br><br>
+ * Methods: {@link #getDefaultFolder()}
+ */
+@UtilityClass
+public class DataFolders {
+    /**
+     * Represents a name of the data folder in the working directory of the application.
+     */
+    public static final String DEFAULT_FOLDER_NAME = "data";
+
+    /**
+     * @return the default data folder of the application, which is the {@link #DEFAULT_FOLDER_NAME} folder in the
+     * working directory
+     */
+    public static File getDefaultFolder() {
+        return new File(System.getProperty("user.dir"), DEFAULT_FOLDER_NAME);
+    }
+}
@@ -0,0 +1,82 @@
+package com.floweektracker.util;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Represents class that provides methods reducing a number of the points of a series before it is drawn, so a chart of
+ * many years of data doesn't draw more points than pixels.
+ * <br><br>
+ * Methods: {@link #largestTriangleThreeBuckets(double[], double[], int)}
+ */
+@UtilityClass
+public class Downsampling {
+    /**
+     * Selects points of the given series with the Largest-Triangle-Three-Buckets algorithm. The first and the last
+     * points are always kept. Other points are divided into {@code threshold - 2} buckets and from each bucket the
+     * point which forms the largest triangle with the point selected from the previous bucket and the average of the
+     * next bucket is selected, so peaks and drops of the series are preserved.
+     *
+     * @param xs        given x values of the series, in the ascending order
+     * @param ys        given y values of the series, of the same length as {@code xs}
+     * @param threshold a maximal number of the selected points, e.g. a width of the chart in pixels, at least 3
+     * @return indices of the selected points in the ascending order; all indices when the series isn't longer than the
+     * threshold
+     */
+    public static int[] largestTriangleThreeBuckets(@NonNull double[] xs, @NonNull double[] ys, int threshold) {
+        if (xs.length != ys.length) throw new IllegalArgumentException("Series should have the same length");
+
+        var length = xs.length;
+        var points = Math.max(threshold, 3);
+        if (points >= length) return createIndices(length);
+
+        var selected = new int[points];
+        var bucketSize = (double) (length - 2) / (points - 2);
+        var previous = 0;
+
+        for (int bucket = 0; bucket < points - 2; bucket++) {
+            var start = (int) (bucket * bucketSize) + 1;
+            var end = (int) ((bucket + 1) * bucketSize) + 1;
+            var nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, length);
+
+            var averageX = 0.0;
+            var averageY = 0.0;
+            for (int i = end; i < nextEnd; i++) {
+                averageX += xs[i];
+                averageY += ys[i];
+            }
+            averageX /= Math.max(nextEnd - end, 1);
+            averageY /= Math.max(nextEnd - end, 1);
+
+            var maxArea = -1.0;
+            var maxIndex = start;
+            for (int i = start; i < end; i++) {
+                var area = Math.abs((xs[previous] - averageX) * (ys[i] - ys[previous])
+                        - (xs[previous] - xs[i]) * (averageY - ys[previous]));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[bucket + 1] = maxIndex;
+            previous = maxIndex;
+        }
+
+        selected[points - 1] = length - 1;
+
+        return selected;
+    }
+
+    /**
+     * @param length a given number of the indices
+     * @return indices from 0 to {@code length - 1}
+     */
+    private static int[] createIndices(int length) {
+        var indices = new int[length];
+        for (int i = 0; i < length; i++) indices[i] = i;
+
+        return indices;
+    }
+}
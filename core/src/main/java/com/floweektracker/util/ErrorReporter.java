@@ -0,0 +1,86 @@
+package com.floweektracker.util;
+
+import com.floweektracker.model.SingleTask;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.function.*;
+
+/**
+ * Represents class which reports errors of the model, the repositories and the services to the user without
+ * depending on the UI. The errors are given to the {@link #handler}, which only logs them by default, so the schedule
+ * can run without a display, e.g. from the command line or in tests. The Swing application replaces the handler with
+ * one showing a message dialog.
+ * <br><br>
+ * Fields: {@link #LOGGER}, {@link #handler}
+ * <br><br>
+ * Methods: {@link #report(String, String)}, {@link #setHandler(BiConsumer)}, {@link #resetHandler()},
+ * {@link #rollback(SingleTask, Consumer, Function)}, {@link #logError(String, String)}
+ */
+@UtilityClass
+public class ErrorReporter {
+    private static final System.Logger LOGGER = System.getLogger(ErrorReporter.class.getName());
+    /**
+     * Contains the handler of the reported errors, which gets their titles and messages.
+     */
+    private static volatile BiConsumer<String, String> handler = ErrorReporter::logError;
+
+    /**
+     * Reports an error with the given title and message to the {@link #handler}. It breaks if title or message are
+     * null or empty.
+     *
+     * @param title   a given title of the error
+     * @param message a given message of the error
+     */
+    public static void report(String title, String message) {
+        if (title == null || title.isBlank() || message == null || message.isBlank()) return;
+
+        handler.accept(title, message);
+    }
+
+    /**
+     * @param handler a given handler of the reported errors, which gets their titles and messages
+     */
+    public static void setHandler(@NonNull BiConsumer<String, String> handler) {
+        ErrorReporter.handler = handler;
+    }
+
+    /**
+     * Sets the default {@link #handler} again, which only logs the errors.
+     */
+    public static void resetHandler() {
+        handler = ErrorReporter::logError;
+    }
+
+    /**
+     * Rollbacks action to the previous state of the planner, schedule or weekday planner. When the action throws an
+     * exception, the failure is reported.
+     *
+     * @param task          a task to rollback
+     * @param action        an action to make rollback
+     * @param checkerAction a checker if rollback was successful
+     * @return true if rollback was successful, otherwise false
+     */
+    public static boolean rollback(SingleTask task, Consumer<SingleTask> action, Function<SingleTask, Boolean> checkerAction) {
+        try {
+            action.accept(task);
+        } catch (Exception e) {
+            report("Niepowodzenie", "Nie udało się cofnąć operacji dla: " + task);
+            return false;
+        }
+
+        return checkerAction.apply(task);
+    }
+
+    //region helper methods
+    /**
+     * Logs the error with the given title and message as a warning.
+     *
+     * @param title   a given title of the error
+     * @param message a given message of the error
+     */
+    private static void logError(String title, String message) {
+        LOGGER.log(System.Logger.Level.WARNING, title + ": " + message);
+    }
+    //endregion
+}
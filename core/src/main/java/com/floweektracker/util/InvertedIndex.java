@@ -0,0 +1,138 @@
+package com.floweektracker.util;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Represents an in-memory inverted index which maps terms to the documents containing them. Terms are kept in a sorted
+ * map, so a prefix query is a single range of the map. Each posting has an integer weight, e.g. a number of
+ * occurrences of the term, in which occurrences in more important fields can count more. The index is updated
+ * incrementally by adding and removing single documents. All methods are synchronized, so it can be updated on the EDT
+ * and searched by a background thread.
+ * <br><br>
+ * Fields: {@link #EXACT_MATCH_BOOST}, {@link #PREFIX_MATCH_BOOST}, {@link #postings}, {@link #documents}
+ * <br><br>
+ * Methods: {@link #add(Object, Map)}, {@link #remove(Object)}, {@link #clear()}, {@link #contains(Object)},
+ * {@link #size()}, {@link #search(List)}, {@link #scoreToken(String)}
+ *
+ * @param <D> a type of the documents, which should have proper equals and hashCode
+ */
+public class InvertedIndex<D> {
+    /**
+     * Represents a multiplier of the score of a term equal to the query token.
+     */
+    static final double EXACT_MATCH_BOOST = 1.0;
+    /**
+     * Represents a multiplier of the score of a term which only starts with the query token.
+     */
+    static final double PREFIX_MATCH_BOOST = 0.5;
+    /**
+     * Contains documents with the weights of the terms, sorted by the terms.
+     */
+    private final NavigableMap<String, Map<D, Integer>> postings = new TreeMap<>();
+    /**
+     * Contains the terms of each document, so the document can be removed without scanning the {@link #postings}.
+     */
+    private final Map<D, Map<String, Integer>> documents = new HashMap<>();
+
+    /**
+     * Adds the given document with the given weights of its terms. A document which is already indexed is replaced.
+     *
+     * @param document    a given document
+     * @param termWeights weights of the terms of the document, e.g. from {@link TextNormalizer#tokenize(String)}
+     */
+    public synchronized void add(@NonNull D document, @NonNull Map<String, Integer> termWeights) {
+        remove(document);
+        if (termWeights.isEmpty()) return;
+
+        documents.put(document, Map.copyOf(termWeights));
+        termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, _ -> new HashMap<>()).put(document, weight));
+    }
+
+    /**
+     * @param document a given document
+     * @return true if the document was indexed, otherwise false
+     */
+    public synchronized boolean remove(@NonNull D document) {
+        var terms = documents.remove(document);
+        if (terms == null) return false;
+
+        for (String term : terms.keySet()) {
+            var termPostings = postings.get(term);
+            termPostings.remove(document);
+            if (termPostings.isEmpty()) postings.remove(term);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes all documents from the index.
+     */
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    /**
+     * @param document a given document
+     * @return true if the document is indexed, otherwise false
+     */
+    public synchronized boolean contains(D document) {
+        return documents.containsKey(document);
+    }
+
+    /**
+     * @return a number of the indexed documents
+     */
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    /**
+     * Finds documents which match all the given tokens. A token matches terms equal to it or starting with it. The
+     * score of a token in a document is the highest weight of its matching terms multiplied by the inverse document
+     * frequency of the term and by {@link #EXACT_MATCH_BOOST} or {@link #PREFIX_MATCH_BOOST}, so rare and exactly
+     * matching terms rank higher. The score of a document is a sum of the scores of the tokens.
+     *
+     * @param tokens given folded tokens of the query
+     * @return a map of the matching documents and their scores, which is empty when there aren't any tokens
+     */
+    public synchronized Map<D, Double> search(@NonNull List<String> tokens) {
+        Map<D, Double> scores = null;
+
+        for (String token : tokens) {
+            var tokenScores = scoreToken(token);
+
+            if (scores == null) scores = tokenScores;
+            else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((document, score) -> score + tokenScores.get(document));
+            }
+
+            if (scores.isEmpty()) break;
+        }
+
+        return (scores != null) ? scores : new HashMap<>();
+    }
+
+    /**
+     * @param token a given folded token
+     * @return a map of the documents which contain a term starting with the given token and their scores
+     */
+    private Map<D, Double> scoreToken(String token) {
+        var scores = new HashMap<D, Double>();
+        var matchingTerms = postings.subMap(token, true, token + Character.MAX_VALUE, false);
+
+        for (var entry : matchingTerms.entrySet()) {
+            var termPostings = entry.getValue();
+            var boost = entry.getKey().equals(token) ? EXACT_MATCH_BOOST : PREFIX_MATCH_BOOST;
+            var inverseFrequency = Math.log(1.0 + (double) documents.size() / termPostings.size());
+
+            termPostings.forEach((document, weight) -> scores.merge(document, weight * boost * inverseFrequency, Math::max));
+        }
+
+        return scores;
+    }
+}
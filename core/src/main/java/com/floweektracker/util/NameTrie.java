@@ -0,0 +1,237 @@
+package com.floweektracker.util;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Represents a sorted set of names stored in a prefix trie. Names are keyed by their form folded by
+ * {@link TextNormalizer#fold(String)}, so the order and prefix queries ignore case and Polish diacritics. Each node
+ * counts the names below it, so the name at a given position, the position of a name and the range of the names with a
+ * given prefix are found by walking one path of the trie, without copying the names. Thanks to that a list of tens of
+ * thousands of names can be filtered on each typed character.
+ * <br><br>
+ * Fields: {@link #root}
+ * <br><br>
+ * Methods: {@link #add(String)}, {@link #addAll(Collection)}, {@link #remove(String)}, {@link #clear()},
+ * {@link #contains(String)}, {@link #size()}, {@link #get(int)}, {@link #indexOf(String)}, {@link #positionOf(String)},
+ * {@link #indexOfPrefix(String)}, {@link #countWithPrefix(String)}, {@link #findNode(String)},
+ * {@link #countBefore(Node, char)}
+ */
+public class NameTrie {
+    private final Node root = new Node();
+
+    /**
+     * Represents a node of the trie with the names whose folded form ends in it.
+     */
+    private static final class Node {
+        private final NavigableMap<Character, Node> children = new TreeMap<>();
+        /**
+         * Contains names whose folded form ends in this node, or null when there aren't any.
+         */
+        private NavigableSet<String> names;
+        /**
+         * Represents a number of the names in this node and below it.
+         */
+        private int count;
+
+        private int countOwnNames() {
+            return (names != null) ? names.size() : 0;
+        }
+    }
+
+    /**
+     * @param name a given name
+     * @return true if the name is added, false if it is null or already in the trie
+     */
+    public boolean add(String name) {
+        if ((name == null) || contains(name)) return false;
+
+        var node = root;
+        node.count++;
+
+        for (char character : TextNormalizer.fold(name).toCharArray()) {
+            node = node.children.computeIfAbsent(character, _ -> new Node());
+            node.count++;
+        }
+
+        if (node.names == null) node.names = new TreeSet<>();
+        node.names.add(name);
+
+        return true;
+    }
+
+    /**
+     * @param names given names
+     */
+    public void addAll(@NonNull Collection<String> names) {
+        names.forEach(this::add);
+    }
+
+    /**
+     * Removes the given name and the nodes which don't lead to any other name.
+     *
+     * @param name a given name
+     * @return true if the name was in the trie, otherwise false
+     */
+    public boolean remove(String name) {
+        if (!contains(name)) return false;
+
+        var key = TextNormalizer.fold(name);
+        var node = root;
+        node.count--;
+
+        for (char character : key.toCharArray()) {
+            var child = node.children.get(character);
+            if (--child.count == 0) {
+                node.children.remove(character);
+                return true;
+            }
+            node = child;
+        }
+
+        node.names.remove(name);
+        if (node.names.isEmpty()) node.names = null;
+
+        return true;
+    }
+
+    /**
+     * Removes all names.
+     */
+    public void clear() {
+        root.children.clear();
+        root.names = null;
+        root.count = 0;
+    }
+
+    /**
+     * @param name a given name
+     * @return true if the name is in the trie, otherwise false
+     */
+    public boolean contains(String name) {
+        if (name == null) return false;
+
+        var node = findNode(TextNormalizer.fold(name));
+
+        return (node != null) && (node.names != null) && node.names.contains(name);
+    }
+
+    /**
+     * @return a number of the names
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * @param index a given position in the sorted names
+     * @return the name at the given position
+     * @throws IndexOutOfBoundsException when the index isn't lower than the {@link #size()}
+     */
+    public String get(int index) {
+        Objects.checkIndex(index, root.count);
+
+        var node = root;
+        var remaining = index;
+
+        while (remaining >= node.countOwnNames()) {
+            remaining -= node.countOwnNames();
+
+            for (Node child : node.children.values()) {
+                if (remaining < child.count) {
+                    node = child;
+                    break;
+                }
+                remaining -= child.count;
+            }
+        }
+
+        var iterator = node.names.iterator();
+        for (int i = 0; i < remaining; i++) iterator.next();
+
+        return iterator.next();
+    }
+
+    /**
+     * @param name a given name
+     * @return a position of the given name in the sorted names, or -1 when it isn't in the trie
+     */
+    public int indexOf(String name) {
+        return contains(name) ? positionOf(name) : -1;
+    }
+
+    /**
+     * @param name a given name
+     * @return a number of the names placed before the given name, i.e. its position when it is in the trie, or the
+     * position at which it would be added, e.g. the position from which it was just removed
+     */
+    public int positionOf(@NonNull String name) {
+        var key = TextNormalizer.fold(name);
+        var node = root;
+        var index = 0;
+
+        for (char character : key.toCharArray()) {
+            index += countBefore(node, character);
+            node = node.children.get(character);
+            if (node == null) return index;
+        }
+
+        return (node.names != null) ? index + node.names.headSet(name, false).size() : index;
+    }
+
+    /**
+     * @param prefix a given prefix
+     * @return a position of the first name which starts with the given prefix, or -1 when there isn't such a name
+     */
+    public int indexOfPrefix(String prefix) {
+        var key = TextNormalizer.fold(prefix);
+        if (findNode(key) == null) return -1;
+
+        var node = root;
+        var index = 0;
+
+        for (char character : key.toCharArray()) {
+            index += countBefore(node, character);
+            node = node.children.get(character);
+        }
+
+        return index;
+    }
+
+    /**
+     * @param prefix a given prefix
+     * @return a number of the names which start with the given prefix; they are at consecutive positions
+     */
+    public int countWithPrefix(String prefix) {
+        var node = findNode(TextNormalizer.fold(prefix));
+
+        return (node != null) ? node.count : 0;
+    }
+
+    //region helper methods
+    /**
+     * @param key a given folded key
+     * @return a node at the end of the path of the given key, or null when there isn't such a path
+     */
+    private Node findNode(String key) {
+        var node = root;
+
+        for (int i = 0; (node != null) && (i < key.length()); i++) node = node.children.get(key.charAt(i));
+
+        return node;
+    }
+
+    /**
+     * @param node      a given node
+     * @param character a given character of the next node
+     * @return a number of the names of the given node and of its children placed before the given character
+     */
+    private int countBefore(Node node, char character) {
+        var count = node.countOwnNames();
+        for (Node child : node.children.headMap(character, false).values()) count += child.count;
+
+        return count;
+    }
+    //endregion
+}
@@ -0,0 +1,114 @@
+package com.floweektracker.util;
+
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Represents a set which notifies its listeners about each added and removed element, also when the elements are
+ * removed by its iterator or by {@link #clear()}. The elements are stored in the given set, so e.g. a {@link TreeSet}
+ * keeps them sorted. Listeners are called on the thread which changed the set.
+ * <br><br>
+ * Fields: {@link #delegate}, {@link #listeners}
+ * <br><br>
+ * Methods: {@link #addListener(Listener)}, {@link #removeListener(Listener)}, {@link #add(Object)},
+ * {@link #remove(Object)}, {@link #contains(Object)}, {@link #size()}, {@link #iterator()}
+ *
+ * @param <E> a type of the elements
+ */
+public class ObservableSet<E> extends AbstractSet<E> {
+    private final Set<E> delegate;
+    private final List<Listener<E>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Represents a listener of the changes of the {@link ObservableSet}.
+     *
+     * @param <E> a type of the elements
+     */
+    public interface Listener<E> {
+        void added(E element);
+
+        void removed(E element);
+    }
+
+    /**
+     * @param delegate a given empty set which stores the elements
+     */
+    public ObservableSet(@NonNull Set<E> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param listener a given listener of the changes
+     */
+    public void addListener(@NonNull Listener<E> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener a given listener of the changes
+     */
+    public void removeListener(Listener<E> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (!delegate.add(element)) return false;
+
+        listeners.forEach(listener -> listener.added(element));
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object element) {
+        if (!delegate.remove(element)) return false;
+
+        listeners.forEach(listener -> listener.removed((E) element));
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return delegate.contains(element);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * @return an iterator in the order of the {@link #delegate}, which notifies the listeners about removed elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        var iterator = delegate.iterator();
+
+        return new Iterator<>() {
+            private E current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                current = iterator.next();
+
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                listeners.forEach(listener -> listener.removed(current));
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.floweektracker.util;
+
+import com.floweektracker.model.WeekDays;
+import lombok.experimental.UtilityClass;
+
+import java.time.*;
+import java.time.format.TextStyle;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Represents class that provides methods reading the rules of the recurring tasks written by the user, e.g.
+ * "codziennie", "dni robocze o 7:00", "pn/śr/pt", "pon-czw" or "every weekday at 07:00". A rule contains weekdays,
+ * ranges of weekdays and words of whole groups of weekdays, and optionally a time. Weekdays are written in Polish or
+ * English, as full names, their plural forms, abbreviations or unique prefixes, with or without diacritics.
+ * <br><br>
+ * Fields: {@link #SEPARATORS}, {@link #TIME}, {@link #FILLERS}, {@link #GROUPS}, {@link #ABBREVIATIONS},
+ * {@link #NAMES}
+ * <br><br>
+ * Methods: {@link #parseWeekdays(String)}, {@link #parseTime(String)}, {@link #findWeekday(String)},
+ * {@link #createNames()}
+ *
+ * @see com.floweektracker.model.RecurringTemplate
+ */
+@UtilityClass
+public class RecurrenceRules {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}:-]+");
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2}):(\\d{2})");
+    /**
+     * Contains words which don't change the meaning of a rule.
+     */
+    private static final Set<String> FILLERS = Set.of("co", "w", "we", "o", "i", "oraz", "kazdy", "kazda", "kazdego",
+            "every", "each", "on", "at", "and");
+    /**
+     * Contains the weekdays of the words describing groups of weekdays.
+     */
+    private static final Map<String, Set<WeekDays>> GROUPS = Map.of(
+            "codziennie", EnumSet.allOf(WeekDays.class),
+            "daily", EnumSet.allOf(WeekDays.class),
+            "day", EnumSet.allOf(WeekDays.class),
+            "robocze", EnumSet.range(WeekDays.MONDAY, WeekDays.FRIDAY),
+            "powszednie", EnumSet.range(WeekDays.MONDAY, WeekDays.FRIDAY),
+            "weekday", EnumSet.range(WeekDays.MONDAY, WeekDays.FRIDAY),
+            "weekdays", EnumSet.range(WeekDays.MONDAY, WeekDays.FRIDAY),
+            "weekend", EnumSet.of(WeekDays.SATURDAY, WeekDays.SUNDAY),
+            "weekendy", EnumSet.of(WeekDays.SATURDAY, WeekDays.SUNDAY)
+    );
+    /**
+     * Contains the weekdays of the Polish abbreviations which aren't prefixes of their names.
+     */
+    private static final Map<String, WeekDays> ABBREVIATIONS = Map.of(
+            "pn", WeekDays.MONDAY,
+            "sr", WeekDays.WEDNESDAY,
+            "cz", WeekDays.THURSDAY,
+            "czw", WeekDays.THURSDAY,
+            "pt", WeekDays.FRIDAY,
+            "sb", WeekDays.SATURDAY,
+            "nd", WeekDays.SUNDAY,
+            "ndz", WeekDays.SUNDAY
+    );
+    /**
+     * Contains folded Polish and English names of the weekdays with the weekdays.
+     */
+    private static final Map<String, WeekDays> NAMES = createNames();
+
+    /**
+     * Reads the weekdays of the given rule. A range, e.g. "pt-pn", can go through the end of the week.
+     *
+     * @param rule a given rule
+     * @return a set of the weekdays of the rule, or null when the rule doesn't contain any weekday or contains a word
+     * which isn't understood
+     */
+    public static Set<WeekDays> parseWeekdays(String rule) {
+        var weekdays = EnumSet.noneOf(WeekDays.class);
+        var folded = TextNormalizer.fold(rule).replace("dni robocze", "robocze").replace("dzien roboczy", "robocze");
+
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.isEmpty() || FILLERS.contains(token) || TIME.matcher(token).matches()) continue;
+
+            var group = GROUPS.get(token);
+            if (group != null) {
+                weekdays.addAll(group);
+                continue;
+            }
+
+            var range = token.split("-", -1);
+            var first = findWeekday(range[0]);
+            var last = (range.length == 2) ? findWeekday(range[1]) : first;
+            if ((range.length > 2) || (first == null) || (last == null)) return null;
+
+            var length = Math.floorMod(last.getPosition() - first.getPosition(), 7);
+            for (int i = 0; i <= length; i++) weekdays.add(WeekDays.getWeekdayAt((first.getPosition() + i) % 7));
+        }
+
+        return weekdays.isEmpty() ? null : weekdays;
+    }
+
+    /**
+     * @param rule a given rule
+     * @return the first time of the given rule, e.g. 7:00 of "dni robocze o 7:00", or null when there isn't any
+     * correct time
+     */
+    public static LocalTime parseTime(String rule) {
+        if (rule == null) return null;
+
+        var matcher = TIME.matcher(rule);
+        if (!matcher.find()) return null;
+
+        var hour = Integer.parseInt(matcher.group(1));
+        var minute = Integer.parseInt(matcher.group(2));
+
+        return ((hour < 24) && (minute < 60)) ? LocalTime.of(hour, minute) : null;
+    }
+
+    //region helper methods
+    /**
+     * Finds a weekday of the given folded word. It is a Polish abbreviation, a prefix of at least two letters of one
+     * name, or a word which differs from a name only at its last two letters, e.g. a plural form such as "środy".
+     *
+     * @param token a given folded word
+     * @return a found weekday, or null when there isn't any or the word fits more weekdays
+     */
+    private static WeekDays findWeekday(String token) {
+        if (token.length() < 2) return null;
+
+        var abbreviated = ABBREVIATIONS.get(token);
+        if (abbreviated != null) return abbreviated;
+
+        WeekDays found = null;
+
+        for (var entry : NAMES.entrySet()) {
+            var name = entry.getKey();
+            var isMatching = name.startsWith(token) || token.startsWith(name.substring(0, name.length() - 2));
+
+            if (!isMatching || (entry.getValue() == found)) continue;
+            if (found != null) return null;
+            found = entry.getValue();
+        }
+
+        return found;
+    }
+
+    /**
+     * @return a map of the folded Polish and English names of the weekdays
+     * @see #NAMES
+     */
+    private static Map<String, WeekDays> createNames() {
+        var names = new HashMap<String, WeekDays>();
+
+        for (WeekDays weekday : WeekDays.values()) {
+            var dayOfWeek = DayOfWeek.of(weekday.getPosition() + 1);
+
+            names.put(TextNormalizer.fold(weekday.getWeekdayPL()), weekday);
+            names.put(TextNormalizer.fold(dayOfWeek.getDisplayName(TextStyle.FULL, Locale.ENGLISH)), weekday);
+        }
+
+        return Map.copyOf(names);
+    }
+    //endregion
+}
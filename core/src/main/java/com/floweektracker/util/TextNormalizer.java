@@ -0,0 +1,54 @@
+package com.floweektracker.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Represents class that provides methods normalising texts before they are indexed or searched, so e.g. "Żółw",
+ * "zolw" and "ŻÓŁW" are the same token.
+ * <br><br>
+ * Fields: {@link #COMBINING_MARKS}, {@link #SEPARATORS}
+ * <br><br>
+ * Methods: {@link #fold(String)}, {@link #tokenize(String)}
+ */
+@UtilityClass
+public class TextNormalizer {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Folds the given text to lower case without diacritics. Letters are decomposed and their combining marks are
+     * removed, and "ł", which has no decomposition, is replaced with "l".
+     *
+     * @param text a given text
+     * @return a folded text, or an empty text when the given one is null
+     */
+    public static String fold(String text) {
+        if (text == null) return "";
+
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('ł', 'l')
+                .replace('Ł', 'L')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param text a given text
+     * @return folded words and numbers of the given text in their order, e.g. ["wizyta", "u", "lekarza"]
+     * @see #fold(String)
+     */
+    public static List<String> tokenize(String text) {
+        var tokens = new ArrayList<String>();
+
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+
+        return tokens;
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Util package contains utility classes which are used in multiple classes. These classes provide small tools or
+ * common methods to support other parts of the application. They don't depend on Swing; the utilities of the window
+ * are in the util package of the Swing module.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>DataFolderLock</b> - locks the data folder for one process by a file lock without depending on Swing; implemented as a singleton</li>
+ *     <li><b>DataFolders</b> - finds the default data folder of the application without asking the user</li>
+ *     <li><b>Downsampling</b> - reduces a number of the points of a series with the Largest-Triangle-Three-Buckets algorithm</li>
+ *     <li><b>ErrorReporter</b> - reports errors of the core to a replaceable handler, which logs them by default</li>
+ *     <li><b>InvertedIndex</b> - in-memory inverted index with prefix queries and ranking</li>
+ *     <li><b>NameTrie</b> - sorted set of names in a prefix trie with positional and prefix range queries</li>
+ *     <li><b>ObservableSet</b> - a set notifying its listeners about added and removed elements</li>
+ *     <li><b>RecurrenceRules</b> - reads the weekdays and the time of the rules of the recurring tasks</li>
+ *     <li><b>TextNormalizer</b> - folding of the case and Polish diacritics and splitting of texts into tokens</li>
+ * </ul>
+ */
+package com.floweektracker.util;
\ No newline at end of file
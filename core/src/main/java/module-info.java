@@ -0,0 +1,22 @@
+/**
+ * <p>This module provides the core of the FloWeek Tracker application: the model, the repositories storing the data
+ * in the data folder, the services and the utilities. It doesn't depend on Swing or AWT, so it is used by the window
+ * of the application as well as by the command line and the HTTP API without starting the UI.</p>
+ *
+ * @author Maria Szewczyk
+ * @since 2024
+ */
+module FloWeekTracker.core {
+    requires com.google.gson;
+    requires java.prefs;
+    requires static lombok;
+    requires annotations;
+
+    exports com.floweektracker.model;
+    exports com.floweektracker.repository;
+    exports com.floweektracker.service;
+    exports com.floweektracker.util;
+
+    opens com.floweektracker.repository to com.google.gson;
+    opens com.floweektracker.model to com.google.gson;
+}
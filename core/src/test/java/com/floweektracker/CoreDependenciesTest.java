@@ -0,0 +1,70 @@
+package com.floweektracker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CoreDependenciesTest {
+    private static final Path SOURCES = Path.of("src/main/java/com/floweektracker");
+    private static final List<String> UI_IMPORTS = List.of(
+            "import javax.swing", "import java.awt", "import javax.imageio", "import com.floweektracker.view",
+            "import com.floweektracker.controller", "import com.floweektracker.MainFrame",
+            "import com.floweektracker.swing"
+    );
+    private static final Pattern OTHER_MODULES = Pattern.compile(
+            "com\\.floweektracker\\.(Main|MainFrame|view|controller|swing|cli|api)\\b"
+    );
+
+    @ParameterizedTest
+    @MethodSource("findCoreSources")
+    void coreClassShouldNotImportUi(Path source) throws IOException {
+        //given+when
+        var uiImports = Files.readAllLines(source).stream()
+                .filter(line -> UI_IMPORTS.stream().anyMatch(line::startsWith))
+                .toList();
+
+        //then
+        assertThat(uiImports, is(empty()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("findCoreSources")
+    void coreClassShouldNotReferToOtherModules(Path source) throws IOException {
+        //given+when
+        var references = Files.readAllLines(source).stream()
+                .filter(line -> OTHER_MODULES.matcher(line).find())
+                .toList();
+
+        //then
+        assertThat(references, is(empty()));
+    }
+
+    @Test
+    void coreModuleShouldNotRequireDesktop() throws IOException {
+        //given+when
+        var moduleInfo = Files.readString(Path.of("src/main/java/module-info.java"));
+
+        //then
+        assertThat(moduleInfo, not(containsString("requires java.desktop")));
+    }
+
+    private static Stream<Path> findCoreSources() {
+        return Stream.of("model", "repository", "service", "util")
+                .flatMap(CoreDependenciesTest::listSources);
+    }
+
+    private static Stream<Path> listSources(String packageName) {
+        try (var sources = Files.list(SOURCES.resolve(packageName))) {
+            return sources.filter(source -> source.toString().endsWith(".java")).toList().stream();
+        } catch (IOException e) {throw new RuntimeException(e);}
+    }
+}
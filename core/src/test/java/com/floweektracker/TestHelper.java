@@ -0,0 +1,44 @@
+package com.floweektracker;
+
+import com.floweektracker.model.*;
+
+import java.io.File;
+import java.time.LocalTime;
+
+public class TestHelper {
+    public SingleTask createBaseTask() {
+        return new SingleTask(
+                "baseTask",
+                "description",
+                LocalTime.of(12, 0),
+                false,
+                WeekDays.MONDAY,
+                (byte) 5
+        );
+    }
+
+    public SingleTask createEditedTask() {
+        return new SingleTask(
+                "baseTask",
+                "description2",
+                LocalTime.of(12, 0),
+                true,
+                WeekDays.TUESDAY,
+                (byte) 5
+        );
+    }
+
+    public void deleteDirectory(File directory) {
+        if (directory == null || !directory.exists()) return;
+        var files = directory.listFiles();
+
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) deleteDirectory(file);
+                else if (file.isFile()) file.delete();
+            }
+        }
+
+        directory.delete();
+    }
+}
@@ -0,0 +1,68 @@
+package com.floweektracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayIntervalsTest {
+    private final SingleTask breakfast = createTask(7, 0, 30);
+    private final SingleTask work = createTask(8, 0, 480);
+    private final SingleTask call = createTask(12, 0, 0);
+    private final SingleTask gym = createTask(18, 0, 90);
+    private final DayIntervals intervals = createIntervals(breakfast, work, call, gym);
+
+    @Test
+    void shouldFindTasksOverlappingRange() {
+        assertAll(
+                () -> assertThat(intervals.findOverlapping(7 * 60 + 15, 8 * 60 + 1), contains(breakfast, work)),
+                () -> assertThat(intervals.findOverlapping(12 * 60, 12 * 60 + 1), contains(work, call)),
+                () -> assertThat(intervals.findOverlapping(16 * 60, 18 * 60), is(empty())),
+                () -> assertThat(intervals.findOverlapping(10 * 60, 10 * 60), is(empty()))
+        );
+    }
+
+    @Test
+    void shouldCheckOverlappingLikeFindingOverlappingTasks() {
+        for (int from = 0; from < SingleTask.MINUTES_PER_DAY; from += 5) {
+            var to = from + 20;
+            assertThat(intervals.isOverlapping(from, to), is(!intervals.findOverlapping(from, to).isEmpty()));
+        }
+    }
+
+    @Test
+    void shouldFindFreeSlotBetweenTasks() {
+        assertAll(
+                () -> assertThat(intervals.findFreeSlot(60, 0), is(0)),
+                () -> assertThat(intervals.findFreeSlot(60, 6 * 60 + 30), is(16 * 60)),
+                () -> assertThat(intervals.findFreeSlot(30, 7 * 60 + 10), is(7 * 60 + 30)),
+                () -> assertThat(intervals.findFreeSlot(240, 12 * 60), is(19 * 60 + 30)),
+                () -> assertThat(intervals.findFreeSlot(300, 20 * 60), is(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> intervals.findFreeSlot(0, 0))
+        );
+    }
+
+    @Test
+    void emptyDayShouldBeFree() {
+        assertAll(
+                () -> assertThat(DayIntervals.EMPTY.size(), is(0)),
+                () -> assertFalse(DayIntervals.EMPTY.isOverlapping(0, SingleTask.MINUTES_PER_DAY)),
+                () -> assertThat(DayIntervals.EMPTY.findFreeSlot(SingleTask.MINUTES_PER_DAY, 0), is(0))
+        );
+    }
+
+    private static SingleTask createTask(int hour, int minute, int durationMinutes) {
+        return new SingleTask("task", null, LocalTime.of(hour, minute), false, WeekDays.MONDAY, (byte) 5, durationMinutes);
+    }
+
+    private static DayIntervals createIntervals(SingleTask... tasks) {
+        var day = new TreeMap<LocalTime, SingleTask>();
+        for (SingleTask task : tasks) day.put(task.getTime(), task);
+
+        return DayIntervals.of(day);
+    }
+}
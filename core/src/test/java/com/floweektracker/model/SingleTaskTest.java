@@ -37,6 +37,16 @@ class SingleTaskTest {
         assertThrows(IllegalArgumentException.class, () -> new SingleTask("taskName", "description", LocalTime.of(12, 0), true, null, (byte) 5));
     }
 
+    @Test
+    void shouldNotBeAbleToCreateSingleTaskEndingAfterMidnight() {
+        //when+then
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new SingleTask("taskName", "description", LocalTime.of(23, 0), true, WeekDays.MONDAY, (byte) 5, 61)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new SingleTask("taskName", "description", LocalTime.of(23, 0), true, WeekDays.MONDAY, (byte) 5, -1)),
+                () -> assertThat(new SingleTask("taskName", "description", LocalTime.of(23, 0), true, WeekDays.MONDAY, (byte) 5, 60).getEndMinute(), is(SingleTask.MINUTES_PER_DAY))
+        );
+    }
+
     @Nested
     class PriorityTests {
         @ParameterizedTest
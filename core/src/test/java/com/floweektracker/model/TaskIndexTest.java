@@ -0,0 +1,176 @@
+package com.floweektracker.model;
+
+import com.floweektracker.model.TaskQuery.*;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskIndexTest {
+    private final TaskIndex index = new TaskIndex();
+    private final SingleTask runningTask = new SingleTask("Bieganie", "park", LocalTime.of(7, 0), true, WeekDays.MONDAY, (byte) 4);
+    private final SingleTask doctorTask = new SingleTask("Wizyta u lekarza", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 8);
+    private final SingleTask shoppingTask = new SingleTask("Zakupy", "", LocalTime.of(17, 30), false, WeekDays.WEDNESDAY, (byte) 2);
+    private final SingleTask bakingTask = new SingleTask("Łososiowa zapiekanka", "", LocalTime.of(19, 0), true, WeekDays.FRIDAY, (byte) 8);
+
+    @BeforeEach
+    void setUp() {
+        List.of(runningTask, doctorTask, shoppingTask, bakingTask).forEach(index::add);
+    }
+
+    @Test
+    void allQueryShouldFindAllTasksInScheduleOrder() {
+        //when
+        var found = index.find(TaskQuery.ALL);
+
+        //then
+        assertThat(found, contains(runningTask, doctorTask, shoppingTask, bakingTask));
+    }
+
+    @Test
+    void shouldFindTasksOfWeekdaysWithinTimeRange() {
+        //given
+        var query = new TaskQueryBuilder()
+                .withWeekdays(List.of(WeekDays.MONDAY, WeekDays.WEDNESDAY))
+                .withTimeRange(LocalTime.of(10, 0), LocalTime.of(18, 0))
+                .build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertThat(found, contains(doctorTask, shoppingTask));
+    }
+
+    @Test
+    void shouldFindTasksByPriorityRangeAndDoneStatus() {
+        //given
+        var query = new TaskQueryBuilder().withPriorityRange(5, 10).withDone(true).build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertThat(found, contains(bakingTask));
+    }
+
+    @Test
+    void shouldFindTasksByNamePrefixIgnoringCaseAndDiacritics() {
+        //given
+        var query = new TaskQueryBuilder().withNamePrefix("  loso ").build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertAll(
+                () -> assertThat(found, contains(bakingTask)),
+                () -> assertThat(query.matches(bakingTask), is(true))
+        );
+    }
+
+    @Test
+    void shouldFindTasksByNameFragmentIgnoringCaseAndDiacritics() {
+        //given
+        var query = new TaskQueryBuilder().withNameFragment("ZAPIEK").build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertAll(
+                () -> assertThat(found, contains(bakingTask)),
+                () -> assertThat(index.count(new TaskQueryBuilder().withNameFragment("a").build()), is(4)),
+                () -> assertThat(query.matches(runningTask), is(false))
+        );
+    }
+
+    @Test
+    void shouldSortAndLimitFoundTasksButCountAllOfThem() {
+        //given
+        var query = new TaskQueryBuilder().sortedBy(Order.PRIORITY).withLimit(2).build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertAll(
+                () -> assertThat(found, contains(doctorTask, bakingTask)),
+                () -> assertThat(index.count(query), is(4))
+        );
+    }
+
+    @Test
+    void shouldReplaceTaskAtSameWeekdayAndTime() {
+        //given
+        var editedTask = doctorTask.copy();
+        editedTask.setTaskName("Dentysta");
+        editedTask.setPriority((byte) 1);
+
+        //when
+        index.add(editedTask);
+
+        //then
+        assertAll(
+                () -> assertThat(index.size(), is(4)),
+                () -> assertThat(index.find(new TaskQueryBuilder().withNamePrefix("wiz").build()), is(empty())),
+                () -> assertThat(index.find(new TaskQueryBuilder().withPriorityRange(1, 1).build()), contains(editedTask))
+        );
+    }
+
+    @Test
+    void shouldRemoveTaskAndReuseItsSlot() {
+        //given
+        var newTask = new SingleTask("Basen", "", LocalTime.of(6, 0), false, WeekDays.SUNDAY, (byte) 5);
+
+        //when
+        var removed = index.remove(shoppingTask);
+        index.add(newTask);
+
+        //then
+        assertAll(
+                () -> assertThat(removed, is(true)),
+                () -> assertThat(index.remove(shoppingTask), is(false)),
+                () -> assertThat(index.find(TaskQuery.ALL), contains(runningTask, doctorTask, bakingTask, newTask)),
+                () -> assertThat(index.find(new TaskQueryBuilder().withNamePrefix("zak").build()), is(empty()))
+        );
+    }
+
+    @Test
+    void shouldMatchSameTasksAsIndex() {
+        //given
+        var query = new TaskQueryBuilder().withTimeRange(null, LocalTime.of(12, 0)).withDone(false).build();
+
+        //when
+        var found = index.find(query);
+
+        //then
+        assertThat(found, is(index.find(TaskQuery.ALL).stream().filter(query::matches).toList()));
+    }
+
+    @Test
+    void clearShouldRemoveAllTasks() {
+        //when
+        index.clear();
+
+        //then
+        assertAll(
+                () -> assertThat(index.size(), is(0)),
+                () -> assertThat(index.find(TaskQuery.ALL), is(empty()))
+        );
+    }
+
+    @Test
+    void builderShouldRejectInvalidRanges() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new TaskQueryBuilder().withTimeRange(LocalTime.NOON, LocalTime.MIDNIGHT).build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new TaskQueryBuilder().withPriorityRange(0, 5).build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new TaskQueryBuilder().withPriorityRange(7, 3).build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new TaskQueryBuilder().withLimit(-1).build())
+        );
+    }
+}
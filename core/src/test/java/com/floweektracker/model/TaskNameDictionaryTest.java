@@ -0,0 +1,118 @@
+package com.floweektracker.model;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskNameDictionaryTest {
+    private final TaskNameDictionary dictionary = TaskNameDictionary.getDictionary();
+
+    @Test
+    void shouldGiveSameIdToSameName() {
+        //when
+        var id = dictionary.intern("dictionaryTest-name");
+        var sameId = dictionary.intern(new String("dictionaryTest-name"));
+
+        //then
+        assertAll(
+                () -> assertThat(sameId, is(id)),
+                () -> assertThat(dictionary.getName(id), is("dictionaryTest-name")),
+                () -> assertThat(dictionary.getId("dictionaryTest-name"), is(id)),
+                () -> assertThat(dictionary.intern(null), is(TaskNameDictionary.NO_NAME)),
+                () -> assertThat(dictionary.getName(TaskNameDictionary.NO_NAME), is(nullValue()))
+        );
+    }
+
+    @Test
+    void shouldRenameAllTasksWithRenamedName() {
+        //given
+        var task = new SingleTask("dictionaryTest-old", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 1);
+        var otherTask = new SingleTask("dictionaryTest-old", "", LocalTime.of(11, 0), false, WeekDays.MONDAY, (byte) 1);
+        dictionary.intern("dictionaryTest-taken");
+
+        //when
+        var isRenamed = dictionary.rename(task.getTaskNameId(), "dictionaryTest-new");
+        var isRenamedToTakenName = dictionary.rename(task.getTaskNameId(), "dictionaryTest-taken");
+
+        //then
+        assertAll(
+                () -> assertTrue(isRenamed),
+                () -> assertFalse(isRenamedToTakenName),
+                () -> assertThat(task.getTaskName(), is("dictionaryTest-new")),
+                () -> assertThat(otherTask.getTaskName(), is("dictionaryTest-new")),
+                () -> assertThat(dictionary.getId("dictionaryTest-old"), is(TaskNameDictionary.NO_NAME))
+        );
+    }
+
+    @Test
+    void shouldMergeAllTasksWithMergedName() {
+        //given
+        var task = new SingleTask("dictionaryTest-source", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 1);
+        var otherTask = new SingleTask("dictionaryTest-target", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 1);
+        var sourceId = task.getTaskNameId();
+
+        //when
+        var isMerged = dictionary.merge(sourceId, otherTask.getTaskNameId());
+        var isMergedAgain = dictionary.merge(sourceId, otherTask.getTaskNameId());
+        dictionary.rename(otherTask.getTaskNameId(), "dictionaryTest-renamedTarget");
+
+        //then
+        assertAll(
+                () -> assertTrue(isMerged),
+                () -> assertFalse(isMergedAgain),
+                () -> assertThat(task, is(otherTask)),
+                () -> assertThat(task.getTaskName(), is("dictionaryTest-renamedTarget")),
+                () -> assertThat(dictionary.getId("dictionaryTest-source"), is(TaskNameDictionary.NO_NAME)),
+                () -> assertThat(dictionary.toList().get(sourceId), is("dictionaryTest-renamedTarget"))
+        );
+    }
+
+    @Test
+    void shouldLoadRepeatedNameAsMergedId() {
+        //given
+        var names = new ArrayList<>(dictionary.toList());
+        var firstId = names.size();
+        names.add("dictionaryTest-repeated");
+        names.add("dictionaryTest-repeated");
+
+        //when
+        var isLoaded = dictionary.load(names);
+
+        //then
+        assertAll(
+                () -> assertTrue(isLoaded),
+                () -> assertThat(dictionary.resolve(firstId + 1), is(firstId)),
+                () -> assertThat(dictionary.getName(firstId + 1), is("dictionaryTest-repeated")),
+                () -> assertThat(dictionary.toList(), is(names))
+        );
+    }
+
+    @Test
+    void shouldLoadOnlyNamesWithMatchingIds() {
+        //given
+        dictionary.intern("dictionaryTest-first");
+        var names = dictionary.toList();
+        var conflictingNames = List.of(names.getFirst() + "-conflict");
+
+        //when
+        var isLoaded = dictionary.load(names);
+        var isConflictLoaded = dictionary.load(conflictingNames);
+
+        //then
+        assertAll(
+                () -> assertTrue(isLoaded),
+                () -> assertFalse(isConflictLoaded),
+                () -> assertThat(dictionary.toList(), is(names))
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIdIsNotInDictionary() {
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getName(dictionary.size()));
+    }
+}
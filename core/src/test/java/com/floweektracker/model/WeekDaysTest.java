@@ -0,0 +1,61 @@
+package com.floweektracker.model;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeekDaysTest {
+    private static final Locale ENGLISH = Locale.ENGLISH;
+
+    @ParameterizedTest
+    @EnumSource(WeekDays.class)
+    void shouldFindWeekdayByPositionAndPolishName(WeekDays weekday) {
+        assertAll(
+                () -> assertThat(WeekDays.getWeekdayAt(weekday.getPosition()), is(weekday)),
+                () -> assertThat(WeekDays.valueOfPL(weekday.getWeekdayPL()), is(weekday)),
+                () -> assertThat(weekday.getName(WeekDays.POLISH), is(weekday.getWeekdayPL()))
+        );
+    }
+
+    @Test
+    void shouldReturnNullForUnknownPositionOrName() {
+        assertAll(
+                () -> assertThat(WeekDays.getWeekdayAt(-1), is(nullValue())),
+                () -> assertThat(WeekDays.getWeekdayAt(7), is(nullValue())),
+                () -> assertThat(WeekDays.valueOfPL("poniedziałek"), is(nullValue())),
+                () -> assertThat(WeekDays.valueOfPL(null), is(nullValue()))
+        );
+    }
+
+    @Test
+    void shouldReturnPolishNamesInOrder() {
+        assertThat(WeekDays.getWeekdaysPL(), arrayContaining(
+                "Poniedziałek", "Wtorek", "Środa", "Czwartek", "Piątek", "Sobota", "Niedziela"
+        ));
+    }
+
+    @Test
+    void shouldFindWeekdayByNameFromRegisteredLocaleIgnoringCase() {
+        //given+when
+        WeekDays.registerNames(ENGLISH, List.of("Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"));
+
+        //then
+        assertAll(
+                () -> assertThat(WeekDays.valueOfName(ENGLISH, "wed"), is(WeekDays.WEDNESDAY)),
+                () -> assertThat(WeekDays.valueOfName(ENGLISH, "Wednesday"), is(nullValue())),
+                () -> assertThat(WeekDays.valueOfName(WeekDays.POLISH, "środa"), is(WeekDays.WEDNESDAY)),
+                () -> assertThat(WeekDays.FRIDAY.getName(ENGLISH), is("Fri"))
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNamesAreIncomplete() {
+        assertThrows(IllegalArgumentException.class, () -> WeekDays.registerNames(ENGLISH, List.of("Mon")));
+    }
+}
@@ -3,7 +3,7 @@ package com.floweektracker.repository;
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
 import com.floweektracker.service.TasksService;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.util.ErrorReporter;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import org.junit.jupiter.api.*;
@@ -64,7 +64,7 @@ public class PlannerRepositoryTest {
         @Tag("setTaskNames")
         @Test
         void shouldReturnFalseWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var isPlannerSaved = plannerRepository.savePlanner();
 
@@ -77,19 +77,19 @@ public class PlannerRepositoryTest {
         @Tag("setTaskNames")
         @Test
         void shouldShowMessageDialogWhenFileIsNull() {
-            try (var dialogUtils = mockStatic(DialogUtils.class)) {
+            try (var errorReporter = mockStatic(ErrorReporter.class)) {
                 //given+when
                 plannerRepository.savePlanner();
 
                 //then
-                dialogUtils.verify(() -> DialogUtils.showMessageDialog(anyString(), anyString()));
+                errorReporter.verify(() -> ErrorReporter.report(anyString(), anyString()));
             }
         }
 
         @Tag("setFile")
         @Test
         void shouldReturnFalseWhenScheduleIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var isPlannerSaved = plannerRepository.savePlanner();
 
@@ -101,19 +101,19 @@ public class PlannerRepositoryTest {
         @Tag("setFile")
         @Test
         void shouldShowMessageDialogWhenScheduleIsNull() {
-            try (var dialogUtils = mockStatic(DialogUtils.class)) {
+            try (var errorReporter = mockStatic(ErrorReporter.class)) {
                 //given+when
                 plannerRepository.savePlanner();
 
                 //then
-                dialogUtils.verify(() -> DialogUtils.showMessageDialog(anyString(), anyString()));
+                errorReporter.verify(() -> ErrorReporter.report(anyString(), anyString()));
             }
         }
 
         @Tag("setFile")
         @Test
         void savedFileShouldBeEmptyWhenScheduleIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 plannerRepository.savePlanner();
 
@@ -125,7 +125,10 @@ public class PlannerRepositoryTest {
         private Map<WeekDays, Map<LocalTime, SingleTask>> readFile(File tempFile) {
             try (var reader = new FileReader(tempFile)) {
                 var type = new TypeToken<Map<WeekDays, Map<LocalTime, SingleTask>>>() {}.getType();
-                var gson = new GsonBuilder().registerTypeAdapter(LocalTime.class, new LocalTimeAdapter()).setPrettyPrinting().create();
+                var gson = new GsonBuilder()
+                        .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+                        .registerTypeAdapter(SingleTask.class, new SingleTaskAdapter())
+                        .create();
 
                 return gson.fromJson(reader, type);
             } catch (IOException e) {throw new RuntimeException(e);}
@@ -151,9 +154,29 @@ public class PlannerRepositoryTest {
             assertThat(actualSchedule, is(schedule));
         }
 
+        @Tag("setFile")
+        @Test
+        void shouldLoadTaskNamesFromOlderFormat() throws IOException {
+            //given
+            Files.writeString(tempFile.toPath(), """
+                    {"MONDAY": {"08:00": {"taskName": "Bieganie", "description": "park", "time": "08:00",
+                    "isDone": true, "weekday": "MONDAY", "priority": 3}}}""");
+
+            //when
+            var isPlannerLoaded = plannerRepository.loadPlanner();
+            var task = plannerRepository.getSchedule().get(WeekDays.MONDAY).get(LocalTime.of(8, 0));
+
+            //then
+            assertAll(
+                    () -> assertTrue(isPlannerLoaded),
+                    () -> assertThat(task.getTaskName(), is("Bieganie")),
+                    () -> assertThat(task.getTaskNameId(), is(TaskNameDictionary.getDictionary().getId("Bieganie")))
+            );
+        }
+
         @Test
         void shouldReturnFalseWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var isPlannerLoaded = plannerRepository.loadPlanner();
 
@@ -164,7 +187,7 @@ public class PlannerRepositoryTest {
 
         @Test
         void loadedScheduleShouldBeNullWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 plannerRepository.loadPlanner();
                 var actualSchedule = plannerRepository.getSchedule();
@@ -177,19 +200,19 @@ public class PlannerRepositoryTest {
         @Tag("setFakeFile") @Test
         void shouldShowMessageDialogWhenFileIsADirectory() {
             //given
-            try (var dialogUtils = mockStatic(DialogUtils.class)) {
+            try (var errorReporter = mockStatic(ErrorReporter.class)) {
                 //when
                 plannerRepository.loadPlanner();
 
                 //then
-                dialogUtils.verify(() -> DialogUtils.showMessageDialog(anyString(), anyString()));
+                errorReporter.verify(() -> ErrorReporter.report(anyString(), anyString()));
             }
         }
 
         @Tag("setFakeFile") @Test
         void savedPlannerShouldBeNullWhenFileIsADirectory() {
             //given
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //when
                 plannerRepository.loadPlanner();
                 var actualPlanner = plannerRepository.getSchedule();
@@ -1,7 +1,7 @@
 package com.floweektracker.repository;
 
 import com.floweektracker.service.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.util.ErrorReporter;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import org.junit.jupiter.api.*;
@@ -70,7 +70,7 @@ public class TaskNamesRepositoryTest {
         @Tag("setTaskNames")
         @Test
         void shouldReturnFalseWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var areTaskNamesSaved = taskNamesRepository.saveTaskNames();
 
@@ -83,19 +83,19 @@ public class TaskNamesRepositoryTest {
         @Tag("setTaskNames")
         @Test
         void shouldShowMessageDialogWhenFileIsNull() {
-            try (var dialogUtils = mockStatic(DialogUtils.class)) {
+            try (var errorReporter = mockStatic(ErrorReporter.class)) {
                 //given+when
                 taskNamesRepository.saveTaskNames();
 
                 //then
-                dialogUtils.verify(() -> DialogUtils.showMessageDialog(anyString(), anyString()));
+                errorReporter.verify(() -> ErrorReporter.report(anyString(), anyString()));
             }
         }
 
         @Tag("setFile")
         @Test
         void shouldReturnFalseWhenTaskNamesAreNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var areTaskNamesSaved = taskNamesRepository.saveTaskNames();
 
@@ -107,19 +107,19 @@ public class TaskNamesRepositoryTest {
         @Tag("setFile")
         @Test
         void shouldShowMessageDialogWhenTaskNamesAreNull() {
-            try (var dialogUtils = mockStatic(DialogUtils.class)) {
+            try (var errorReporter = mockStatic(ErrorReporter.class)) {
                 //given+when
                 taskNamesRepository.saveTaskNames();
 
                 //then
-                dialogUtils.verify(() -> DialogUtils.showMessageDialog(anyString(), anyString()));
+                errorReporter.verify(() -> ErrorReporter.report(anyString(), anyString()));
             }
         }
 
         @Tag("setFile")
         @Test
         void savedFileShouldBeEmptyWhenTaskNamesAreNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 taskNamesRepository.saveTaskNames();
 
@@ -159,7 +159,7 @@ public class TaskNamesRepositoryTest {
 
         @Test
         void shouldReturnFalseWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 var areTaskNamesLoaded = taskNamesRepository.loadTaskNames();
 
@@ -170,7 +170,7 @@ public class TaskNamesRepositoryTest {
 
         @Test
         void loadedScheduleShouldBeNullWhenFileIsNull() {
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //given+when
                 taskNamesRepository.loadTaskNames();
                 var actualSchedule = taskNamesRepository.getTaskNames();
@@ -183,7 +183,7 @@ public class TaskNamesRepositoryTest {
         @Tag("setFakeFile") @Test
         void savedPlannerShouldBeNullWhenFileIsADirectory() {
             //given
-            try (var _ = mockStatic(DialogUtils.class)) {
+            try (var _ = mockStatic(ErrorReporter.class)) {
                 //when
                 taskNamesRepository.loadTaskNames();
                 var actualTaskNames = taskNamesRepository.getTaskNames();
@@ -0,0 +1,138 @@
+package com.floweektracker.repository;
+
+import com.floweektracker.TestHelper;
+import com.floweektracker.model.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.*;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeekHistoryRepositoryTest {
+    private final WeekHistoryRepository repository = WeekHistoryRepository.getRepository();
+    private final TestHelper helper = new TestHelper();
+    private final IsoWeek week = new IsoWeek(2025, 7);
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        repository.setDirectory(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCacheCapacity(WeekHistoryRepository.DEFAULT_CACHE_CAPACITY);
+        repository.setDirectory(null);
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(WeekHistoryRepository.getRepository(), sameInstance(repository));
+    }
+
+    @Test
+    void shouldSaveWeekToSegmentFileAndLoadItBack() {
+        //given
+        var task = helper.createBaseTask();
+        var schedule = ScheduleSnapshot.of(Map.of(task.getWeekday(), Map.of(task.getTime(), task)));
+
+        //when
+        var isSaved = repository.saveWeek(week, schedule);
+        repository.setDirectory(directory);
+        var loadedSchedule = repository.loadWeek(week);
+
+        //then
+        assertAll(
+                () -> assertTrue(isSaved),
+                () -> assertTrue(new File(directory, "2025-W07.json").exists()),
+                () -> assertThat(repository.getWeeks(), contains(week)),
+                () -> assertThat(loadedSchedule.getTaskByEventTime(task.getWeekday(), task.getTime()), is(task))
+        );
+    }
+
+    @Test
+    void shouldReturnCachedWeekUntilItIsEvicted() {
+        //given
+        repository.setCacheCapacity(1);
+        repository.saveWeek(week, ScheduleSnapshot.EMPTY);
+        var cachedSchedule = repository.loadWeek(week);
+
+        //when
+        repository.saveWeek(week.next(), ScheduleSnapshot.EMPTY);
+        var reloadedSchedule = repository.loadWeek(week);
+
+        //then
+        assertAll(
+                () -> assertThat(cachedSchedule, sameInstance(ScheduleSnapshot.EMPTY)),
+                () -> assertThat(reloadedSchedule, not(sameInstance(ScheduleSnapshot.EMPTY))),
+                () -> assertThat(reloadedSchedule.countTasks(), is(0))
+        );
+    }
+
+    @Test
+    void shouldListOnlyValidSegmentFilesInOrder() throws Exception {
+        //given
+        Files.writeString(new File(directory, "2025-W10.json").toPath(), "{}");
+        Files.writeString(new File(directory, "2024-W52.json").toPath(), "{}");
+        Files.writeString(new File(directory, "2025-W60.json").toPath(), "{}");
+        Files.writeString(new File(directory, "notes.txt").toPath(), "");
+
+        //when
+        repository.setDirectory(directory);
+
+        //then
+        assertThat(repository.getWeeks(), contains(new IsoWeek(2024, 52), new IsoWeek(2025, 10)));
+    }
+
+    @Test
+    void shouldReturnNullWhenWeekIsMissingOrCorrupted() throws Exception {
+        //given
+        Files.writeString(new File(directory, "2025-W07.json").toPath(), "[not json");
+        repository.setDirectory(directory);
+
+        //when+then
+        assertAll(
+                () -> assertThat(repository.loadWeek(week), is(nullValue())),
+                () -> assertThat(repository.loadWeek(week.next()), is(nullValue())),
+                () -> assertFalse(repository.containsWeek(week.next()))
+        );
+    }
+
+    @Nested
+    class IsoWeekTests {
+        @Test
+        void shouldUseWeekBasedYearAtTurnOfYear() {
+            assertAll(
+                    () -> assertThat(IsoWeek.of(LocalDate.of(2024, 12, 30)), is(new IsoWeek(2025, 1))),
+                    () -> assertThat(IsoWeek.of(LocalDate.of(2021, 1, 3)), is(new IsoWeek(2020, 53))),
+                    () -> assertThat(new IsoWeek(2020, 53).next(), is(new IsoWeek(2021, 1))),
+                    () -> assertThat(new IsoWeek(2025, 1).previous(), is(new IsoWeek(2024, 52)))
+            );
+        }
+
+        @Test
+        void shouldParseOnlyValidWeeks() {
+            assertAll(
+                    () -> assertThat(IsoWeek.parse(week.toString()), is(week)),
+                    () -> assertThat(IsoWeek.parse("2020-W53"), is(new IsoWeek(2020, 53))),
+                    () -> assertThat(IsoWeek.parse("2025-W53"), is(nullValue())),
+                    () -> assertThat(IsoWeek.parse("2025-07"), is(nullValue()))
+            );
+        }
+
+        @Test
+        void shouldReturnDateOfWeekday() {
+            assertAll(
+                    () -> assertThat(week.getMonday(), is(LocalDate.of(2025, 2, 10))),
+                    () -> assertThat(week.getDate(WeekDays.SUNDAY).getDayOfWeek(), is(DayOfWeek.SUNDAY))
+            );
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.RecurringTemplateRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.util.*;
+
+import static com.floweektracker.model.WeekDays.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurringTemplateServiceTest {
+    private final RecurringTemplateService templateService = RecurringTemplateService.getService();
+    private final RecurringTemplateRepository templateRepository = RecurringTemplateRepository.getRepository();
+    private final TasksService tasksService = TasksService.getService();
+    private final IsoWeek week = new IsoWeek(2025, 10);
+    private final LocalTime morning = LocalTime.of(7, 0);
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        templateRepository.setFile(new File(directory, "RecurringTemplates.json"));
+        templateService.load();
+        templateService.expandWeek(week);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+        templateRepository.setFile(null);
+        templateService.load();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(RecurringTemplateService.getService(), sameInstance(templateService));
+    }
+
+    @Test
+    void shouldAddOccurrencesOfExpandedWeekOnly() {
+        //when
+        var added = templateService.addTemplate("Bieganie", null, morning, EnumSet.of(MONDAY, FRIDAY), (byte) 3);
+
+        //then
+        assertAll(
+                () -> assertThat(added, is(2)),
+                () -> assertThat(tasksService.getSnapshot().countTasks(), is(2)),
+                () -> assertThat(tasksService.getTaskByEventTime(FRIDAY, morning).getTaskName(), is("Bieganie"))
+        );
+    }
+
+    @Test
+    void shouldChangeOnlyOverriddenOccurrencesInNextWeek() {
+        //given
+        var added = templateService.addTemplate("Bieganie", null, morning, EnumSet.of(MONDAY, FRIDAY), (byte) 3);
+        templateService.setOverride(templateService.getTemplates().getFirst().getId(),
+                new TemplateOverride(week.next(), FRIDAY, false, LocalTime.of(8, 0), null, (byte) 0));
+        var monday = tasksService.getTaskByEventTime(MONDAY, morning);
+
+        //when
+        var changed = templateService.expandWeek(week.next());
+
+        //then
+        assertAll(
+                () -> assertThat(added, is(2)),
+                () -> assertThat(changed, is(2)),
+                () -> assertThat(tasksService.getTaskByEventTime(MONDAY, morning), sameInstance(monday)),
+                () -> assertThat(tasksService.getTaskByEventTime(FRIDAY, morning), is(nullValue())),
+                () -> assertThat(tasksService.getTaskByEventTime(FRIDAY, LocalTime.of(8, 0)), is(notNullValue())),
+                () -> assertThat(templateService.expandWeek(week.next()), is(0))
+        );
+    }
+
+    @Test
+    void shouldRejectOverrideWithIncorrectPriority() {
+        //given
+        templateService.addTemplate("Bieganie", null, morning, EnumSet.of(MONDAY), (byte) 3);
+        var template = templateService.getTemplates().getFirst();
+        var override = new TemplateOverride(week, MONDAY, false, null, null, (byte) 11);
+
+        //when+then
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> templateService.setOverride(template.getId(), override)),
+                () -> assertThat(templateService.getTemplates(), contains(template))
+        );
+    }
+
+    @Test
+    void shouldSkipOccurrenceAndKeepTasksChangedByUser() {
+        //given
+        templateService.addTemplate("Bieganie", null, morning, EnumSet.of(MONDAY, FRIDAY), (byte) 3);
+        var id = templateService.getTemplates().getFirst().getId();
+        var friday = tasksService.getTaskByEventTime(FRIDAY, morning);
+        var editedFriday = friday.copy();
+        editedFriday.setDescription("Dłuższa trasa");
+        tasksService.editTask(friday, editedFriday);
+
+        //when
+        templateService.setOverride(id, TemplateOverride.skip(week, MONDAY));
+        templateService.removeTemplate(id);
+
+        //then
+        assertAll(
+                () -> assertThat(tasksService.getTaskByEventTime(MONDAY, morning), is(nullValue())),
+                () -> assertThat(tasksService.getTaskByEventTime(FRIDAY, morning), is(editedFriday)),
+                () -> assertThat(templateService.getTemplates(), is(empty()))
+        );
+    }
+
+    @Test
+    void shouldSaveAndLoadTemplates() {
+        //given
+        templateService.addTemplate("Bieganie", "Park", morning, EnumSet.of(SATURDAY), (byte) 3);
+        var templates = templateService.getTemplates();
+
+        //when
+        var isSaved = templateService.saveTemplates(templateService.getTemplatesCopy());
+        templateService.load();
+
+        //then
+        assertAll(
+                () -> assertTrue(isSaved),
+                () -> assertThat(templateService.getTemplates(), is(templates)),
+                () -> assertThat(templateService.getExpandedWeek(), is(week))
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTemplateHasNoWeekdays() {
+        assertThrows(IllegalArgumentException.class,
+                () -> templateService.addTemplate("Bieganie", null, morning, EnumSet.noneOf(WeekDays.class), (byte) 3));
+    }
+}
@@ -0,0 +1,126 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import org.junit.jupiter.api.*;
+
+import java.time.*;
+import java.util.List;
+import java.util.prefs.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderServiceTest {
+    private final ReminderService reminderService = ReminderService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final LocalDateTime mondayMorning = LocalDateTime.of(2025, 3, 3, 8, 0);
+    private final SingleTask doneTask = new SingleTask("Bieganie", "", LocalTime.of(9, 0), true, WeekDays.MONDAY, (byte) 1);
+    private final SingleTask meetingTask = new SingleTask("Spotkanie", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 2);
+    private final SingleTask nightTask = new SingleTask("Kopia zapasowa", "", LocalTime.of(0, 5), false, WeekDays.TUESDAY, (byte) 1);
+
+    private final Preferences testPreferences = Preferences.userRoot().node("floweektracker-test/reminders");
+
+    @BeforeEach
+    void setUp() {
+        reminderService.setPreferences(testPreferences);
+        reminderService.setEnabled(true);
+        reminderService.setLeadMinutes(10);
+        tasksService.addTask(doneTask);
+        tasksService.addTask(meetingTask);
+        tasksService.addTask(nightTask);
+    }
+
+    @AfterEach
+    void tearDown() throws BackingStoreException {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+        testPreferences.removeNode();
+        reminderService.setPreferences(null);
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(ReminderService.getService(), sameInstance(reminderService));
+    }
+
+    @Test
+    void shouldFindNextNotDoneTaskBeforeItsTime() {
+        //when
+        var reminder = reminderService.findNextReminder(mondayMorning);
+
+        //then
+        assertAll(
+                () -> assertThat(reminder.getTask(), is(meetingTask)),
+                () -> assertThat(reminder.getTaskDateTime(), is(LocalDateTime.of(2025, 3, 3, 10, 0))),
+                () -> assertThat(reminder.getDue(), is(LocalDateTime.of(2025, 3, 3, 9, 50)))
+        );
+    }
+
+    @Test
+    void shouldRemindTaskAfterMidnightOnPreviousDay() {
+        //when
+        var reminder = reminderService.findNextReminder(LocalDateTime.of(2025, 3, 3, 23, 0));
+
+        //then
+        assertAll(
+                () -> assertThat(reminder.getTask(), is(nightTask)),
+                () -> assertThat(reminder.getDue(), is(LocalDateTime.of(2025, 3, 3, 23, 55)))
+        );
+    }
+
+    @Test
+    void shouldRemindDoneTaskInNextWeek() {
+        //when
+        var reminder = reminderService.findNextReminder(LocalDateTime.of(2025, 3, 9, 20, 0));
+
+        //then
+        assertAll(
+                () -> assertThat(reminder.getTask(), is(doneTask)),
+                () -> assertThat(reminder.getTaskDateTime(), is(LocalDateTime.of(2025, 3, 10, 9, 0)))
+        );
+    }
+
+    @Test
+    void shouldSkipDueRemindersOfStartedTasks() {
+        //when
+        var reminders = reminderService.findDueReminders(mondayMorning, LocalDateTime.of(2025, 3, 4, 0, 0));
+
+        //then
+        assertThat(reminders.stream().map(Reminder::getTask).toList(), contains(nightTask));
+    }
+
+    @Test
+    void shouldNotFindRemindersWhenDisabled() {
+        //when
+        reminderService.setEnabled(false);
+
+        //then
+        assertThat(reminderService.findNextReminder(mondayMorning), is(nullValue()));
+    }
+
+    @Test
+    void shouldStoreSettingsOnlyInGivenPreferences() {
+        //given
+        reminderService.setLeadMinutes(25);
+        reminderService.setEnabled(false);
+
+        //when
+        reminderService.setPreferences(testPreferences);
+
+        //then
+        assertAll(
+                () -> assertThat(testPreferences.getInt(ReminderService.LEAD_MINUTES_KEY, 0), is(25)),
+                () -> assertThat(reminderService.getLeadMinutes(), is(25)),
+                () -> assertFalse(reminderService.isEnabled())
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenLeadMinutesAreOutOfRange() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> reminderService.setLeadMinutes(-1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> reminderService.setLeadMinutes(ReminderService.MAX_LEAD_MINUTES + 1))
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchServiceTest {
+    private final SearchService searchService = SearchService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final SearchIndexRepository indexRepository = SearchIndexRepository.getRepository();
+    private final SingleTask doctorTask = new SingleTask("Wizyta u lekarza", "gabinet na Łąkowej", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 3);
+    private final SingleTask shoppingTask = new SingleTask("Zakupy", "lekarstwa z apteki", LocalTime.of(12, 0), false, WeekDays.TUESDAY, (byte) 2);
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository.setDirectory(new File(directory, "history"));
+        indexRepository.setDirectory(new File(directory, "history/index"));
+        searchService.reload();
+        tasksService.addTask(doctorTask);
+        tasksService.addTask(shoppingTask);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+        historyRepository.setDirectory(null);
+        indexRepository.setDirectory(null);
+        searchService.reload();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(SearchService.getService(), sameInstance(searchService));
+    }
+
+    @Test
+    void shouldFindTasksByNameAndDescriptionWithNameRankedHigher() {
+        //when
+        var hits = searchService.search("LEK", 10);
+
+        //then
+        assertThat(hits.stream().map(hit -> hit.getReference().getTaskName()).toList(), contains("Wizyta u lekarza", "Zakupy"));
+    }
+
+    @Test
+    void shouldIgnorePolishDiacritics() {
+        //when
+        var hits = searchService.search("lakowej", 10);
+
+        //then
+        assertAll(
+                () -> assertThat(hits, hasSize(1)),
+                () -> assertThat(hits.getFirst().getReference(), is(TaskReference.of(null, doctorTask)))
+        );
+    }
+
+    @Test
+    void shouldUpdateIndexAfterScheduleChanges() {
+        //given
+        var editedTask = doctorTask.copy();
+        editedTask.setTaskName("Dentysta");
+
+        //when
+        tasksService.editTask(doctorTask, editedTask);
+
+        //then
+        assertAll(
+                () -> assertThat(searchService.search("wizyta", 10), is(empty())),
+                () -> assertThat(searchService.search("dent", 10), hasSize(1))
+        );
+    }
+
+    @Test
+    void shouldSearchArchivedWeeksFromSavedSegments() {
+        //given
+        var week = new IsoWeek(2025, 7);
+        historyRepository.saveWeek(week, tasksService.getSnapshot());
+        searchService.addArchivedWeek(week, tasksService.getSnapshot());
+
+        //when
+        var hitsBeforeLoading = searchService.search("zakupy", 10);
+        searchService.loadArchive();
+        var hits = searchService.search("zakupy", 10);
+
+        //then
+        assertAll(
+                () -> assertThat(new File(directory, "history/index/2025-W07.idx").exists(), is(true)),
+                () -> assertThat(hitsBeforeLoading, hasSize(1)),
+                () -> assertThat(hits, hasSize(2)),
+                () -> assertThat(hits.getFirst().getReference().isArchived(), is(false)),
+                () -> assertThat(hits.getLast().getReference().getWeek(), is(week))
+        );
+    }
+
+    @Test
+    void shouldCreateMissingSegmentWhenArchiveIsLoaded() {
+        //given
+        var week = new IsoWeek(2025, 8);
+        historyRepository.saveWeek(week, tasksService.getSnapshot());
+
+        //when
+        searchService.loadArchive();
+
+        //then
+        assertAll(
+                () -> assertThat(new File(directory, "history/index/2025-W08.idx").exists(), is(true)),
+                () -> assertThat(searchService.search("apteki", 10), hasSize(2))
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsServiceTest {
+    private final StatisticsService statisticsService = StatisticsService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final StatisticsRepository statisticsRepository = StatisticsRepository.getRepository();
+    private final IsoWeek firstWeek = new IsoWeek(2025, 7);
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository.setDirectory(new File(directory, "history"));
+        statisticsRepository.setFile(new File(directory, "Statistics.json"));
+        statisticsService.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyRepository.setDirectory(null);
+        statisticsRepository.setFile(null);
+        statisticsService.reload();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(StatisticsService.getService(), sameInstance(statisticsService));
+    }
+
+    @Test
+    void shouldAggregateAddedWeeks() {
+        //given+when
+        statisticsService.addWeek(firstWeek, createSchedule(true, false));
+        statisticsService.addWeek(firstWeek.next(), createSchedule(true, true));
+
+        //then
+        var totals = statisticsService.getTotals();
+        var mondayTotals = statisticsService.getTotals(WeekDays.MONDAY);
+        assertAll(
+                () -> assertThat(totals.getPlannedTasks(), is(4L)),
+                () -> assertThat(totals.getDoneTasks(), is(3L)),
+                () -> assertThat(totals.getPoints(), is(9L)),
+                () -> assertThat(totals.getPossiblePoints(), is(12L)),
+                () -> assertThat(mondayTotals.getCompletionRate(), is(1.0)),
+                () -> assertThat(statisticsService.getWeekdayTrend(WeekDays.FRIDAY, 5), contains(0.0, 1.0))
+        );
+    }
+
+    @Test
+    void shouldCountStreaksOfConsecutiveWeeks() {
+        //given+when
+        statisticsService.addWeek(firstWeek, createSchedule(true, true));
+        statisticsService.addWeek(firstWeek.next(), createSchedule(true, false));
+        statisticsService.addWeek(firstWeek.next().next(), createSchedule(true, true));
+
+        //then
+        assertAll(
+                () -> assertThat(statisticsService.getStreak("reading").getBest(), is(3)),
+                () -> assertThat(statisticsService.getCurrentStreak("reading"), is(3)),
+                () -> assertThat(statisticsService.getStreak("running").getBest(), is(1)),
+                () -> assertThat(statisticsService.getCurrentStreak("running"), is(1)),
+                () -> assertThat(statisticsService.getStreak("swimming"), is(TaskStreak.NONE))
+        );
+    }
+
+    @Test
+    void shouldRebuildAggregatesWhenEarlierWeekIsAdded() {
+        //given
+        statisticsService.addWeek(firstWeek.next(), createSchedule(true, true));
+
+        //when
+        statisticsService.addWeek(firstWeek, createSchedule(true, true));
+
+        //then
+        assertAll(
+                () -> assertThat(statisticsService.getStreak("reading").getBest(), is(2)),
+                () -> assertThat(statisticsService.getSummaries().getFirst().getWeek(), is(firstWeek))
+        );
+    }
+
+    @Test
+    void shouldLoadStoredSummariesAndSummarizeOnlyMissingWeeks() {
+        //given
+        statisticsService.addWeek(firstWeek, createSchedule(true, true));
+        historyRepository.saveWeek(firstWeek.next(), createSchedule(false, false));
+
+        //when
+        statisticsService.reload();
+
+        //then
+        assertAll(
+                () -> assertThat(statisticsService.getSummaries(), hasSize(2)),
+                () -> assertThat(statisticsService.getTotals().getDoneTasks(), is(2L)),
+                () -> assertThat(statisticsRepository.loadSummaries(), hasSize(2))
+        );
+    }
+
+    @Test
+    void shouldStreamOverArchivedWeeksForQuery() {
+        //given
+        historyRepository.saveWeek(firstWeek, createSchedule(true, false));
+        historyRepository.saveWeek(firstWeek.next(), createSchedule(true, true));
+        historyRepository.setDirectory(historyRepository.getDirectory());
+
+        //when
+        var totals = statisticsService.query(firstWeek, firstWeek.next(), task -> task.getTaskName().equals("running"));
+
+        //then
+        assertAll(
+                () -> assertThat(totals.getPlannedTasks(), is(2L)),
+                () -> assertThat(totals.getDoneTasks(), is(1L)),
+                () -> assertThat(totals.getPointsRate(), is(0.5))
+        );
+    }
+
+    //region helper methods
+    private ScheduleSnapshot createSchedule(boolean isReadingDone, boolean isRunningDone) {
+        var reading = new SingleTask("reading", "", LocalTime.of(8, 0), isReadingDone, WeekDays.MONDAY, (byte) 3);
+        var running = new SingleTask("running", "", LocalTime.of(18, 0), isRunningDone, WeekDays.FRIDAY, (byte) 3);
+
+        return ScheduleSnapshot.of(Map.of(
+                WeekDays.MONDAY, Map.of(reading.getTime(), reading),
+                WeekDays.FRIDAY, Map.of(running.getTime(), running)
+        ));
+    }
+    //endregion
+}
@@ -0,0 +1,127 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskNameRenamingServiceTest {
+    private final TaskNameRenamingService renamingService = TaskNameRenamingService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final SearchService searchService = SearchService.getService();
+    private final StatisticsService statisticsService = StatisticsService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final SearchIndexRepository indexRepository = SearchIndexRepository.getRepository();
+    private final StatisticsRepository statisticsRepository = StatisticsRepository.getRepository();
+    private final TaskNameDictionaryRepository dictionaryRepository = TaskNameDictionaryRepository.getRepository();
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        dictionaryRepository.setFile(new File(directory, "TaskNameDictionary.json"));
+        historyRepository.setDirectory(new File(directory, "history"));
+        indexRepository.setDirectory(new File(directory, "history/index"));
+        statisticsRepository.setFile(new File(directory, "Statistics.json"));
+        searchService.reload();
+        statisticsService.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+        dictionaryRepository.setFile(null);
+        historyRepository.setDirectory(null);
+        indexRepository.setDirectory(null);
+        statisticsRepository.setFile(null);
+        searchService.reload();
+        statisticsService.reload();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(TaskNameRenamingService.getService(), sameInstance(renamingService));
+    }
+
+    @Test
+    void shouldRenameTasksInPlannerAndHistory() {
+        //given
+        var task = createTask("renamingTest-old", WeekDays.MONDAY);
+        tasksService.addTask(task);
+        archiveWeek(new IsoWeek(2025, 1), createTask("renamingTest-old", WeekDays.TUESDAY));
+
+        //when
+        var taskNameId = renamingService.renameTaskName("renamingTest-old", "renamingTest-new");
+        var updatedWeeks = renamingService.updateHistory(taskNameId, "renamingTest-old", "renamingTest-new");
+        searchService.loadArchive();
+
+        //then
+        assertAll(
+                () -> assertThat(updatedWeeks, is(1)),
+                () -> assertThat(task.getTaskName(), is("renamingTest-new")),
+                () -> assertThat(searchService.search("renamingTest-new", 10), hasSize(2)),
+                () -> assertThat(searchService.search("renamingTest-old", 10), is(empty())),
+                () -> assertThat(statisticsService.getStreak("renamingTest-new").getBest(), is(1))
+        );
+    }
+
+    @Test
+    void shouldMergeStreaksOfMergedNames() {
+        //given
+        archiveWeek(new IsoWeek(2025, 1), createTask("renamingTest-target", WeekDays.MONDAY));
+        archiveWeek(new IsoWeek(2025, 2), createTask("renamingTest-source", WeekDays.MONDAY));
+        archiveWeek(new IsoWeek(2025, 3), createTask("renamingTest-target", WeekDays.MONDAY));
+
+        //when
+        var taskNameId = renamingService.renameTaskName("renamingTest-source", "renamingTest-target");
+        var updatedWeeks = renamingService.updateHistory(taskNameId, "renamingTest-source", "renamingTest-target");
+
+        //then
+        assertAll(
+                () -> assertThat(updatedWeeks, is(1)),
+                () -> assertThat(historyRepository.loadWeek(new IsoWeek(2025, 2)).getTasksFromWeekday(WeekDays.MONDAY)
+                        .firstEntry().getValue().getTaskName(), is("renamingTest-target")),
+                () -> assertThat(statisticsService.getStreak("renamingTest-target").getBest(), is(3)),
+                () -> assertThat(TaskNameDictionary.getDictionary().getId("renamingTest-source"),
+                        is(TaskNameDictionary.NO_NAME))
+        );
+    }
+
+    @Test
+    void shouldNotRenameToSameOrBlankName() {
+        //given
+        var task = createTask("renamingTest-unchanged", WeekDays.MONDAY);
+
+        //when+then
+        assertAll(
+                () -> assertThat(renamingService.renameTaskName("renamingTest-unchanged", "renamingTest-unchanged"),
+                        is(TaskNameDictionary.NO_NAME)),
+                () -> assertThat(renamingService.renameTaskName("renamingTest-unchanged", " "),
+                        is(TaskNameDictionary.NO_NAME)),
+                () -> assertThat(renamingService.renameTaskName(null, "renamingTest-new"),
+                        is(TaskNameDictionary.NO_NAME)),
+                () -> assertThat(task.getTaskName(), is("renamingTest-unchanged"))
+        );
+    }
+
+    //region helper methods
+    private SingleTask createTask(String taskName, WeekDays weekday) {
+        return new SingleTask(taskName, "", LocalTime.of(8, 0), true, weekday, (byte) 2);
+    }
+
+    private void archiveWeek(IsoWeek week, SingleTask task) {
+        var schedule = ScheduleSnapshot.of(Map.of(task.getWeekday(), Map.of(task.getTime(), task)));
+        historyRepository.saveWeek(week, schedule);
+        searchService.addArchivedWeek(week, schedule);
+        statisticsService.addWeek(week, schedule);
+    }
+    //endregion
+}
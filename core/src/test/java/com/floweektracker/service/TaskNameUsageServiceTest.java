@@ -0,0 +1,143 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskNameUsageServiceTest {
+    private final TaskNameUsageService usageService = TaskNameUsageService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final TaskNameUsageRepository usageRepository = TaskNameUsageRepository.getRepository();
+    private final SingleTask runningTask = new SingleTask("Bieganie", "", LocalTime.of(8, 0), false, WeekDays.MONDAY, (byte) 1);
+    private final SingleTask shoppingTask = new SingleTask("Zakupy", "", LocalTime.of(12, 0), false, WeekDays.TUESDAY, (byte) 2);
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository.setDirectory(new File(directory, "history"));
+        usageRepository.setFile(new File(directory, "TaskNamesUsage.json"));
+        usageService.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+        historyRepository.setDirectory(null);
+        usageRepository.setFile(null);
+        usageService.reload();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(TaskNameUsageService.getService(), sameInstance(usageService));
+    }
+
+    @Test
+    void shouldRankNamesByNumberOfAddedTasks() {
+        //given
+        var secondRunningTask = runningTask.copy();
+        secondRunningTask.setWeekday(WeekDays.FRIDAY);
+
+        //when
+        tasksService.addTask(shoppingTask);
+        tasksService.addTask(runningTask);
+        tasksService.addTask(secondRunningTask);
+
+        //then
+        assertAll(
+                () -> assertThat(usageService.getMostUsed(10), contains("Bieganie", "Zakupy")),
+                () -> assertThat(usageService.getUsage("Bieganie").getCount(), is(2)),
+                () -> assertThat(usageService.getUsage("Nieużywane").getCount(), is(0))
+        );
+    }
+
+    @Test
+    void shouldNotCountEditedTaskAgain() {
+        //given
+        tasksService.addTask(shoppingTask);
+        var editedTask = shoppingTask.copy();
+        editedTask.setDone(true);
+
+        //when
+        tasksService.editTask(shoppingTask, editedTask);
+
+        //then
+        assertThat(usageService.getUsage("Zakupy").getCount(), is(1));
+    }
+
+    @Test
+    void shouldCountNewNameOfEditedTask() {
+        //given
+        tasksService.addTask(shoppingTask);
+        var editedTask = shoppingTask.copy();
+        editedTask.setTaskName("Bieganie");
+
+        //when
+        tasksService.editTask(shoppingTask, editedTask);
+
+        //then
+        assertAll(
+                () -> assertThat(usageService.getUsage("Zakupy").getCount(), is(1)),
+                () -> assertThat(usageService.getUsage("Bieganie").getCount(), is(1))
+        );
+    }
+
+    @Test
+    void shouldSaveUsagesAndLoadThemAgain() {
+        //given
+        tasksService.addTask(runningTask);
+
+        //when
+        usageService.saveUsages(usageService.getUsagesCopy());
+        usageService.reload();
+
+        //then
+        assertAll(
+                () -> assertThat(new File(directory, "TaskNamesUsage.json").exists(), is(true)),
+                () -> assertThat(usageService.getUsage("Bieganie").getCount(), is(1))
+        );
+    }
+
+    @Test
+    void shouldCountUsagesFromHistoryWhenTheyWereNotSaved() {
+        //given
+        var week = new IsoWeek(2025, 7);
+        tasksService.addTask(shoppingTask);
+        historyRepository.saveWeek(week, tasksService.getSnapshot());
+
+        //when
+        usageService.reload();
+        var usage = usageService.getUsage("Zakupy");
+
+        //then
+        assertAll(
+                () -> assertThat(usage.getCount(), is(1)),
+                () -> assertThat(usage.getLastUsed(), is(week.getDate(WeekDays.TUESDAY)))
+        );
+    }
+
+    @Test
+    void rankedUsagesShouldPlaceUnusedNamesLastAlphabetically() {
+        //given
+        tasksService.addTask(shoppingTask);
+
+        //when
+        var usages = new ArrayList<>(usageService.getUsages(List.of("Czytanie", "Apteka", "Zakupy")));
+        usages.sort(TaskNameUsage.RANKING);
+        var names = usages.stream().map(TaskNameUsage::getTaskName).toList();
+
+        //then
+        assertThat(names, contains("Zakupy", "Apteka", "Czytanie"));
+    }
+}
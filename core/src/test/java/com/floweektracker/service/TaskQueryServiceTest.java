@@ -0,0 +1,73 @@
+package com.floweektracker.service;
+
+import com.floweektracker.model.*;
+import com.floweektracker.model.TaskQuery.TaskQueryBuilder;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskQueryServiceTest {
+    private final TaskQueryService queryService = TaskQueryService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final SingleTask doctorTask = new SingleTask("Wizyta u lekarza", "", LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 3);
+    private final SingleTask shoppingTask = new SingleTask("Zakupy", "", LocalTime.of(12, 0), false, WeekDays.TUESDAY, (byte) 7);
+
+    @BeforeEach
+    void setUp() {
+        tasksService.addTask(doctorTask);
+        tasksService.addTask(shoppingTask);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(TaskQueryService.getService(), sameInstance(queryService));
+    }
+
+    @Test
+    void shouldFindAddedTasks() {
+        //given
+        var query = new TaskQueryBuilder().withPriorityRange(5, 10).build();
+
+        //when
+        var found = queryService.find(query);
+
+        //then
+        assertThat(found, contains(shoppingTask));
+    }
+
+    @Test
+    void shouldUpdateIndexAfterScheduleChanges() {
+        //given
+        var editedTask = doctorTask.copy();
+        editedTask.setDone(true);
+
+        //when
+        tasksService.editTask(doctorTask, editedTask);
+        tasksService.deleteTask(shoppingTask);
+
+        //then
+        assertAll(
+                () -> assertThat(queryService.find(TaskQuery.ALL), contains(editedTask)),
+                () -> assertThat(queryService.count(new TaskQueryBuilder().withDone(false).build()), is(0))
+        );
+    }
+
+    @Test
+    void clearedScheduleShouldLeaveIndexEmpty() {
+        //when
+        tasksService.clearWeekdays(List.of(WeekDays.values()));
+
+        //then
+        assertThat(queryService.count(TaskQuery.ALL), is(0));
+    }
+}
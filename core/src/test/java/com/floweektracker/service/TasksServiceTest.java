@@ -152,6 +152,25 @@ public class TasksServiceTest {
             if (editedTask != null) assertFalse(schedule.get(editedTask.getWeekday()).containsValue(editedTask));
         }
 
+        @Test
+        void shouldPublishEditedTaskInOneSnapshot() {
+            //given
+            tasksService.addTask(baseTask);
+            var editedTask = helper.createEditedTask();
+            var versionBefore = tasksService.getSnapshot().getVersion();
+
+            //when
+            var isTaskEdited = tasksService.editTask(baseTask, editedTask);
+
+            //then
+            assertAll(
+                    () -> assertTrue(isTaskEdited),
+                    () -> assertThat(tasksService.getSnapshot().getVersion(), is(versionBefore + 1)),
+                    () -> assertThat(tasksService.getSnapshot().getTasksFromWeekday(editedTask.getWeekday()).values(),
+                            contains(editedTask))
+            );
+        }
+
         @Test
         void shouldReturnFalseIfParametersToEditTaskAreSame() {
             //given
@@ -420,6 +439,68 @@ public class TasksServiceTest {
         }
     }
 
+    @Nested
+    class SnapshotTests {
+        @Test
+        void shouldPublishSnapshotAfterAddingTask() {
+            //given
+            var versionBefore = tasksService.getSnapshot().getVersion();
+
+            //when
+            tasksService.addTask(baseTask);
+            var snapshot = tasksService.getSnapshot();
+
+            //then
+            assertAll(
+                    () -> assertThat(snapshot.getVersion(), greaterThan(versionBefore)),
+                    () -> assertThat(snapshot.getTaskByEventTime(baseTask.getWeekday(), baseTask.getTime()), is(baseTask)),
+                    () -> assertThat(snapshot.getTaskByEventTime(baseTask.getWeekday(), baseTask.getTime()), not(sameInstance(baseTask)))
+            );
+        }
+
+        @Test
+        void snapshotShouldNotChangeAfterDeletingTask() {
+            //given
+            tasksService.addTask(baseTask);
+            var snapshot = tasksService.getSnapshot();
+
+            //when
+            tasksService.deleteTask(baseTask);
+
+            //then
+            assertAll(
+                    () -> assertThat(snapshot.getTasksFromWeekday(baseTask.getWeekday()).values(), contains(baseTask)),
+                    () -> assertThat(tasksService.getSnapshot().getTasksFromWeekday(baseTask.getWeekday()), is(anEmptyMap()))
+            );
+        }
+
+        @Test
+        void snapshotShouldShareTasksOfNotChangedWeekdays() {
+            //given
+            var otherWeekday = (baseTask.getWeekday() == WeekDays.MONDAY) ? WeekDays.TUESDAY : WeekDays.MONDAY;
+            var snapshotBefore = tasksService.getSnapshot();
+
+            //when
+            tasksService.addTask(baseTask);
+            var snapshotAfter = tasksService.getSnapshot();
+
+            //then
+            assertThat(snapshotAfter.getTasksFromWeekday(otherWeekday), sameInstance(snapshotBefore.getTasksFromWeekday(otherWeekday)));
+        }
+
+        @Test
+        void snapshotShouldBeUnmodifiable() {
+            //given
+            var snapshot = tasksService.getSnapshot();
+
+            //when+then
+            assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> snapshot.getTasksFromWeekday(baseTask.getWeekday()).put(baseTask.getTime(), baseTask)
+            );
+        }
+    }
+
     @Tag("repoTests")
     @Nested
     class SavePlannerTests {
@@ -491,6 +572,102 @@ public class TasksServiceTest {
         }
     }
 
+    @Nested
+    class IntervalTests {
+        private final SingleTask meeting = new SingleTask("meeting", null, LocalTime.of(9, 0), false, WeekDays.MONDAY, (byte) 5, 90);
+
+        @Test
+        void shouldNotAddTaskOverlappingAnotherTask() {
+            //given
+            tasksService.addTask(meeting);
+            var overlappingTask = new SingleTask("call", null, LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 5, 15);
+            var laterTask = new SingleTask("call", null, LocalTime.of(10, 30), false, WeekDays.MONDAY, (byte) 5, 15);
+
+            //when
+            var isOverlappingAdded = tasksService.addTask(overlappingTask);
+            var isLaterAdded = tasksService.addTask(laterTask);
+
+            //then
+            assertAll(
+                    () -> assertFalse(isOverlappingAdded),
+                    () -> assertTrue(isLaterAdded),
+                    () -> assertThat(tasksService.findConflicts(overlappingTask), contains(meeting))
+            );
+        }
+
+        @Test
+        void shouldAddTasksInBatchAndReturnRejectedOnes() {
+            //given
+            tasksService.addTask(meeting);
+            var overlappingTask = new SingleTask("call", null, LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 5, 15);
+            var laterTask = new SingleTask("call", null, LocalTime.of(10, 30), false, WeekDays.MONDAY, (byte) 5, 30);
+            var overlappingLaterTask = new SingleTask("mail", null, LocalTime.of(10, 45), false, WeekDays.MONDAY, (byte) 2);
+
+            //when
+            var rejectedTasks = tasksService.addTasks(List.of(overlappingTask, laterTask, overlappingLaterTask));
+
+            //then
+            assertAll(
+                    () -> assertThat(rejectedTasks, contains(overlappingTask, overlappingLaterTask)),
+                    () -> assertThat(tasksService.getSnapshot().getTasksFromWeekday(WeekDays.MONDAY).values(),
+                            containsInAnyOrder(meeting, laterTask))
+            );
+        }
+
+        @Test
+        void shouldRejectTasksInBatchOverlappingExistingTask() {
+            //given
+            tasksService.addTask(meeting);
+            var insideTask = new SingleTask("call", null, LocalTime.of(9, 30), false, WeekDays.MONDAY, (byte) 5, 15);
+            var endingTask = new SingleTask("mail", null, LocalTime.of(10, 15), false, WeekDays.MONDAY, (byte) 2, 30);
+            var laterTask = new SingleTask("mail", null, LocalTime.of(10, 30), false, WeekDays.MONDAY, (byte) 2, 30);
+
+            //when
+            var rejectedTasks = tasksService.addTasks(List.of(insideTask, endingTask, laterTask));
+
+            //then
+            assertAll(
+                    () -> assertThat(rejectedTasks, contains(insideTask, endingTask)),
+                    () -> assertThat(tasksService.getSnapshot().getTasksFromWeekday(WeekDays.MONDAY).values(),
+                            contains(meeting, laterTask))
+            );
+        }
+
+        @Test
+        void shouldChangeTasksInBatchAndPublishEachWeekdayOnce() {
+            //given
+            tasksService.addTask(meeting);
+            var versionBefore = tasksService.getSnapshot().getVersion();
+            var replacingTask = new SingleTask("call", null, LocalTime.of(9, 30), false, WeekDays.MONDAY, (byte) 5, 30);
+            var overlappingTask = new SingleTask("mail", null, LocalTime.of(9, 45), false, WeekDays.MONDAY, (byte) 2, 30);
+            var laterTask = new SingleTask("mail", null, LocalTime.of(10, 0), false, WeekDays.MONDAY, (byte) 2, 30);
+
+            //when
+            var changed = tasksService.changeTasks(List.of(meeting), List.of(replacingTask, overlappingTask, laterTask));
+
+            //then
+            assertAll(
+                    () -> assertThat(changed, is(3)),
+                    () -> assertThat(tasksService.getSnapshot().getVersion(), is(versionBefore + 1)),
+                    () -> assertThat(tasksService.getSnapshot().getTasksFromWeekday(WeekDays.MONDAY).values(),
+                            contains(replacingTask, laterTask))
+            );
+        }
+
+        @Test
+        void shouldFindFreeSlotAfterOccupiedTime() {
+            //given
+            tasksService.addTask(meeting);
+
+            //when+then
+            assertAll(
+                    () -> assertThat(tasksService.findFreeSlot(WeekDays.MONDAY, 30, LocalTime.of(9, 15)), is(LocalTime.of(10, 30))),
+                    () -> assertThat(tasksService.findFreeSlot(WeekDays.MONDAY, 30, LocalTime.of(8, 0)), is(LocalTime.of(8, 0))),
+                    () -> assertThat(tasksService.findFreeSlot(WeekDays.MONDAY, 120, LocalTime.of(23, 0)), is(nullValue()))
+            );
+        }
+    }
+
     public static Stream<Arguments> createTasksForCountPointsFromWeekday() {
         var taskWithFalseDone = helper.createBaseTask();
         var taskWithFalseDone2 = helper.createBaseTask();
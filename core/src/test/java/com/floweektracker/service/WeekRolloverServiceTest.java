@@ -0,0 +1,125 @@
+package com.floweektracker.service;
+
+import com.floweektracker.TestHelper;
+import com.floweektracker.model.*;
+import com.floweektracker.repository.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.*;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeekRolloverServiceTest {
+    private final WeekRolloverService rolloverService = WeekRolloverService.getService();
+    private final WeekHistoryRepository historyRepository = WeekHistoryRepository.getRepository();
+    private final TestHelper helper = new TestHelper();
+    private final IsoWeek finishedWeek = new IsoWeek(2025, 7);
+    private final IsoWeek currentWeek = finishedWeek.next();
+    @TempDir
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository.setDirectory(directory);
+        PlannerRepository.getRepository().setFile(new File(directory, "Planner.json"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyRepository.setDirectory(null);
+        PlannerRepository.getRepository().setFile(null);
+        PlannerRepository.getRepository().setSchedule(null);
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(WeekRolloverService.getService(), sameInstance(rolloverService));
+    }
+
+    @Test
+    void shouldOnlyStoreCurrentWeekAtFirstStart() {
+        //given+when
+        var actualWeek = rolloverService.findFinishedWeek(currentWeek);
+
+        //then
+        assertAll(
+                () -> assertThat(actualWeek, is(nullValue())),
+                () -> assertThat(historyRepository.loadCurrentWeek(), is(currentWeek)),
+                () -> assertThat(historyRepository.getWeeks(), is(empty()))
+        );
+    }
+
+    @Test
+    void shouldFindFinishedWeekOnlyUntilRolloverIsCompleted() {
+        //given
+        historyRepository.saveCurrentWeek(finishedWeek);
+        var weekBeforeRollover = rolloverService.findFinishedWeek(currentWeek);
+
+        //when
+        rolloverService.completeRollover(currentWeek, ScheduleSnapshot.EMPTY);
+
+        //then
+        assertAll(
+                () -> assertTrue(new File(directory, "Planner.json").exists()),
+                () -> assertThat(weekBeforeRollover, is(finishedWeek)),
+                () -> assertThat(rolloverService.findFinishedWeek(currentWeek), is(nullValue())),
+                () -> assertThat(rolloverService.findFinishedWeek(finishedWeek), is(nullValue()))
+        );
+    }
+
+    @Test
+    void shouldNotOverwriteArchivedWeek() {
+        //given
+        var task = helper.createBaseTask();
+        var schedule = ScheduleSnapshot.of(Map.of(task.getWeekday(), Map.of(task.getTime(), task)));
+        rolloverService.archiveWeek(finishedWeek, schedule);
+
+        //when
+        var isArchived = rolloverService.archiveWeek(finishedWeek, ScheduleSnapshot.EMPTY);
+
+        //then
+        assertAll(
+                () -> assertTrue(isArchived),
+                () -> assertThat(historyRepository.loadWeek(finishedWeek).countTasks(), is(1))
+        );
+    }
+
+    @Test
+    void shouldPrepareResetCopiesOnlyForDoneTasks() {
+        //given
+        var doneTask = helper.createBaseTask();
+        doneTask.setDone(true);
+        var notDoneTask = helper.createEditedTask();
+        notDoneTask.setDone(false);
+        var schedule = ScheduleSnapshot.EMPTY
+                .withWeekday(doneTask.getWeekday(), Map.of(doneTask.getTime(), doneTask))
+                .withWeekday(notDoneTask.getWeekday(), Map.of(notDoneTask.getTime(), notDoneTask));
+
+        //when
+        var resetTasks = rolloverService.prepareResetTasks(schedule);
+
+        //then
+        assertAll(
+                () -> assertThat(resetTasks.keySet(), contains(doneTask)),
+                () -> assertFalse(resetTasks.get(doneTask).isDone())
+        );
+    }
+
+    @Test
+    void shouldReturnDelayToMidnightOfNextMonday() {
+        //given
+        var sundayEvening = LocalDateTime.of(2025, 2, 16, 23, 0);
+        var mondayMidnight = LocalDateTime.of(2025, 2, 10, 0, 0);
+
+        //when+then
+        assertAll(
+                () -> assertThat(rolloverService.getDelayToNextWeek(sundayEvening), is(Duration.ofHours(1).toMillis())),
+                () -> assertThat(rolloverService.getDelayToNextWeek(mondayMidnight), is(Duration.ofDays(7).toMillis()))
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.floweektracker.util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataFolderLockTest {
+    private final DataFolderLock folderLock = DataFolderLock.getInstance();
+    @TempDir
+    private File dataFolder;
+
+    @AfterEach
+    void cleanUp() {
+        folderLock.release();
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(DataFolderLock.getInstance(), sameInstance(folderLock));
+    }
+
+    @Test
+    void shouldLockOnlyOneDataFolder() {
+        //given+when
+        var isAcquired = folderLock.tryAcquire(dataFolder);
+
+        //then
+        assertAll(
+                () -> assertTrue(isAcquired),
+                () -> assertTrue(folderLock.tryAcquire(dataFolder)),
+                () -> assertFalse(folderLock.tryAcquire(new File(dataFolder, "other"))),
+                () -> assertThat(folderLock.getLockedFolder(), is(dataFolder.getAbsoluteFile())),
+                () -> assertTrue(new File(dataFolder, DataFolderLock.LOCK_FILE).exists())
+        );
+    }
+
+    @Test
+    void shouldNotLockDataFolderLockedByAnotherProcess() throws IOException {
+        //given
+        try (var channel = FileChannel.open(dataFolder.toPath().resolve(DataFolderLock.LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE); var _ = channel.lock()) {
+            //when
+            var isAcquired = folderLock.tryAcquire(dataFolder);
+
+            //then
+            assertAll(
+                    () -> assertFalse(isAcquired),
+                    () -> assertThat(folderLock.getLockedFolder(), is(nullValue()))
+            );
+        }
+    }
+
+    @Test
+    void shouldAllowLockingAgainWhenReleased() {
+        //given
+        folderLock.tryAcquire(dataFolder);
+
+        //when
+        folderLock.release();
+
+        //then
+        assertAll(
+                () -> assertThat(folderLock.getLockedFolder(), is(nullValue())),
+                () -> assertTrue(folderLock.tryAcquire(dataFolder))
+        );
+    }
+}
\ No newline at end of file
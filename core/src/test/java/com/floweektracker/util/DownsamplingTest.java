@@ -0,0 +1,54 @@
+package com.floweektracker.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownsamplingTest {
+    @Test
+    void shouldReturnAllIndicesWhenSeriesIsShorterThanThreshold() {
+        //given
+        var xs = new double[]{0, 1, 2, 3};
+        var ys = new double[]{5, 1, 7, 2};
+
+        //when
+        var indices = Downsampling.largestTriangleThreeBuckets(xs, ys, 10);
+
+        //then
+        assertThat(Arrays.stream(indices).boxed().toList(), contains(0, 1, 2, 3));
+    }
+
+    @Test
+    void shouldKeepEndsAndPeakWhenSeriesIsDownsampled() {
+        //given
+        var xs = IntStream.range(0, 5200).asDoubleStream().toArray();
+        var ys = new double[xs.length];
+        ys[2600] = 100;
+
+        //when
+        var indices = Downsampling.largestTriangleThreeBuckets(xs, ys, 400);
+
+        //then
+        var selected = Arrays.stream(indices).boxed().toList();
+        assertAll(
+                () -> assertThat(indices.length, is(400)),
+                () -> assertThat(selected.getFirst(), is(0)),
+                () -> assertThat(selected.getLast(), is(5199)),
+                () -> assertThat(selected, hasItem(2600)),
+                () -> assertTrue(IntStream.range(1, indices.length).allMatch(i -> indices[i] > indices[i - 1]))
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSeriesHaveDifferentLengths() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Downsampling.largestTriangleThreeBuckets(new double[2], new double[3], 10)
+        );
+    }
+}
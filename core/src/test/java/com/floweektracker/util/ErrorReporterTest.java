@@ -0,0 +1,95 @@
+package com.floweektracker.util;
+
+import com.floweektracker.TestHelper;
+import com.floweektracker.model.SingleTask;
+import com.floweektracker.service.TasksService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorReporterTest {
+    private final List<String> reportedErrors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ErrorReporter.setHandler((title, message) -> reportedErrors.add(title + ": " + message));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ErrorReporter.resetHandler();
+    }
+
+    @Test
+    void shouldGiveReportedErrorToHandler() {
+        //when
+        ErrorReporter.report("title", "message");
+
+        //then
+        assertThat(reportedErrors, contains("title: message"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"null, message", "title, null", "'', message", "title, ''", "' ', message", "title, ' '"}, nullValues = "null")
+    void shouldNotReportErrorWithoutTitleOrMessage(String title, String message) {
+        //when
+        ErrorReporter.report(title, message);
+
+        //then
+        assertThat(reportedErrors, is(empty()));
+    }
+
+    @Test
+    void defaultHandlerShouldOnlyLogError() {
+        //given
+        ErrorReporter.resetHandler();
+
+        //when+then
+        assertDoesNotThrow(() -> ErrorReporter.report("title", "message"));
+        assertThat(reportedErrors, is(empty()));
+    }
+
+    @Nested
+    class RollbackTests {
+        private final TestHelper helper = new TestHelper();
+        private final SingleTask baseTask = helper.createBaseTask();
+        private final TasksService tasksService = TasksService.getService();
+
+        @Test
+        void shouldRollbackAddingTaskToTheSchedule() {
+            //given
+            tasksService.addTask(baseTask);
+            var rollbackAction = (Consumer<SingleTask>) tasksService::deleteTask;
+            var checkerAction = (Function<SingleTask, Boolean>) tasksService::isTaskInSchedule;
+
+            //when
+            var isRollbackSuccessful = !ErrorReporter.rollback(baseTask, rollbackAction, checkerAction);
+
+            //then
+            assertTrue(isRollbackSuccessful);
+        }
+
+        @Test
+        void shouldReportErrorWhenRollbackAddingTaskIsNotSuccessful() {
+            //given
+            var rollbackAction = (Consumer<SingleTask>) _ -> {throw new RuntimeException("test");};
+            var checkerAction = (Function<SingleTask, Boolean>) _ -> false;
+
+            //when
+            var isRollbackSuccessful = ErrorReporter.rollback(baseTask, rollbackAction, checkerAction);
+
+            //then
+            assertAll(
+                    () -> assertFalse(isRollbackSuccessful),
+                    () -> assertThat(reportedErrors, contains(startsWith("Niepowodzenie: ")))
+            );
+        }
+    }
+}
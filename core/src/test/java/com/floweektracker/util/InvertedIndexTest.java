@@ -0,0 +1,65 @@
+package com.floweektracker.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+    private final InvertedIndex<String> index = new InvertedIndex<>();
+
+    @BeforeEach
+    void setUp() {
+        index.add("doctor", Map.of("wizyta", 3, "lekarz", 3, "gabinet", 1));
+        index.add("shopping", Map.of("zakupy", 3, "lekarstwa", 1));
+        index.add("walk", Map.of("spacer", 3, "park", 1));
+    }
+
+    @Test
+    void shouldFoldCaseAndPolishDiacritics() {
+        assertThat(TextNormalizer.tokenize("Żółw, ŁÓDŹ i gęś-2"), contains("zolw", "lodz", "i", "ges", "2"));
+    }
+
+    @Test
+    void shouldFindDocumentsByPrefixAndRankExactMatchesHigher() {
+        //when
+        var scores = index.search(List.of("lekarz"));
+        var prefixScores = index.search(List.of("lek"));
+
+        //then
+        assertAll(
+                () -> assertThat(scores.keySet(), contains("doctor")),
+                () -> assertThat(prefixScores.keySet(), containsInAnyOrder("doctor", "shopping")),
+                () -> assertThat(prefixScores.get("doctor"), greaterThan(prefixScores.get("shopping"))),
+                () -> assertThat(scores.get("doctor"), greaterThan(prefixScores.get("doctor")))
+        );
+    }
+
+    @Test
+    void shouldReturnOnlyDocumentsMatchingAllTokens() {
+        assertThat(index.search(List.of("lek", "zak")).keySet(), contains("shopping"));
+    }
+
+    @Test
+    void shouldNotFindRemovedOrReplacedDocument() {
+        //when
+        index.remove("doctor");
+        index.add("walk", Map.of("bieganie", 3));
+
+        //then
+        assertAll(
+                () -> assertThat(index.search(List.of("wizyta")).keySet(), is(empty())),
+                () -> assertThat(index.search(List.of("spacer")).keySet(), is(empty())),
+                () -> assertThat(index.search(List.of("bieg")).keySet(), contains("walk")),
+                () -> assertThat(index.size(), is(2))
+        );
+    }
+
+    @Test
+    void shouldReturnEmptyResultWhenThereAreNoTokens() {
+        assertThat(index.search(List.of()).isEmpty(), is(true));
+    }
+}
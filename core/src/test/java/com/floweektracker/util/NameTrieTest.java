@@ -0,0 +1,82 @@
+package com.floweektracker.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameTrieTest {
+    private final NameTrie trie = new NameTrie();
+
+    @BeforeEach
+    void setUp() {
+        trie.addAll(List.of("zakupy", "Wizyta", "Łąka", "lody", "Lekarz"));
+    }
+
+    @Test
+    void shouldKeepNamesSortedIgnoringCaseAndDiacritics() {
+        //when
+        var names = IntStream.range(0, trie.size()).mapToObj(trie::get).toList();
+
+        //then
+        assertAll(
+                () -> assertThat(names, contains("Łąka", "Lekarz", "lody", "Wizyta", "zakupy")),
+                () -> assertThat(trie.indexOf("lody"), is(2)),
+                () -> assertThat(trie.indexOf("missing"), is(-1)),
+                () -> assertThat(trie.positionOf("lody"), is(2)),
+                () -> assertThat(trie.positionOf("missing"), is(3)),
+                () -> assertThat(trie.positionOf("lodówka"), is(2))
+        );
+    }
+
+    @Test
+    void shouldFindRangeOfNamesWithPrefix() {
+        assertAll(
+                () -> assertThat(trie.indexOfPrefix("l"), is(0)),
+                () -> assertThat(trie.countWithPrefix("l"), is(3)),
+                () -> assertThat(trie.indexOfPrefix("ŁO"), is(2)),
+                () -> assertThat(trie.countWithPrefix("lo"), is(1)),
+                () -> assertThat(trie.indexOfPrefix("x"), is(-1)),
+                () -> assertThat(trie.countWithPrefix("x"), is(0)),
+                () -> assertThat(trie.countWithPrefix(""), is(5))
+        );
+    }
+
+    @Test
+    void shouldRemoveNameAndKeepOtherNamesWithSameFoldedForm() {
+        //given
+        trie.add("laka");
+
+        //when
+        var isRemoved = trie.remove("Łąka");
+        var isRemovedAgain = trie.remove("Łąka");
+
+        //then
+        assertAll(
+                () -> assertTrue(isRemoved),
+                () -> assertFalse(isRemovedAgain),
+                () -> assertTrue(trie.contains("laka")),
+                () -> assertFalse(trie.contains("Łąka")),
+                () -> assertThat(trie.size(), is(5)),
+                () -> assertThat(trie.get(0), is("laka"))
+        );
+    }
+
+    @Test
+    void shouldNotAddDuplicatedOrNullName() {
+        assertAll(
+                () -> assertFalse(trie.add("lody")),
+                () -> assertFalse(trie.add(null)),
+                () -> assertThat(trie.size(), is(5))
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIndexIsOutOfRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> trie.get(5));
+    }
+}
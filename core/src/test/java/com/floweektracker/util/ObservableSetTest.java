@@ -0,0 +1,62 @@
+package com.floweektracker.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservableSetTest {
+    private final ObservableSet<String> set = new ObservableSet<>(new TreeSet<>());
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        set.addListener(new ObservableSet.Listener<>() {
+            @Override
+            public void added(String element) {
+                events.add("+" + element);
+            }
+
+            @Override
+            public void removed(String element) {
+                events.add("-" + element);
+            }
+        });
+    }
+
+    @Test
+    void shouldNotifyOnlyAboutRealChanges() {
+        //when
+        var isAdded = set.add("b");
+        var isAddedAgain = set.add("b");
+        var isRemoved = set.remove("missing");
+
+        //then
+        assertAll(
+                () -> assertTrue(isAdded),
+                () -> assertFalse(isAddedAgain),
+                () -> assertFalse(isRemoved),
+                () -> assertThat(events, contains("+b"))
+        );
+    }
+
+    @Test
+    void shouldKeepOrderOfDelegateAndNotifyWhenCleared() {
+        //given
+        set.addAll(List.of("c", "a", "b"));
+
+        //when
+        var elements = List.copyOf(set);
+        set.clear();
+
+        //then
+        assertAll(
+                () -> assertThat(elements, contains("a", "b", "c")),
+                () -> assertThat(set, is(empty())),
+                () -> assertThat(events, contains("+c", "+a", "+b", "-a", "-b", "-c"))
+        );
+    }
+}
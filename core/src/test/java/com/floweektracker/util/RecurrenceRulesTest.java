@@ -0,0 +1,55 @@
+package com.floweektracker.util;
+
+import com.floweektracker.model.WeekDays;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+
+import static com.floweektracker.model.WeekDays.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class RecurrenceRulesTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "codziennie | MONDAY TUESDAY WEDNESDAY THURSDAY FRIDAY SATURDAY SUNDAY",
+            "dni robocze o 7:00 | MONDAY TUESDAY WEDNESDAY THURSDAY FRIDAY",
+            "every weekday at 07:00 | MONDAY TUESDAY WEDNESDAY THURSDAY FRIDAY",
+            "Mon/Wed/Fri | MONDAY WEDNESDAY FRIDAY",
+            "pn/śr/pt | MONDAY WEDNESDAY FRIDAY",
+            "pon-czw | MONDAY TUESDAY WEDNESDAY THURSDAY",
+            "pt-pn | MONDAY FRIDAY SATURDAY SUNDAY",
+            "we wtorki i czwartki | TUESDAY THURSDAY",
+            "Sobota, niedziela | SATURDAY SUNDAY",
+            "weekend | SATURDAY SUNDAY"
+    })
+    void shouldParseWeekdaysOfRule(String rule, String weekdays) {
+        //given
+        var expectedWeekdays = EnumSet.noneOf(WeekDays.class);
+        for (String weekday : weekdays.split(" ")) expectedWeekdays.add(WeekDays.valueOf(weekday));
+
+        //when
+        var parsedWeekdays = RecurrenceRules.parseWeekdays(rule);
+
+        //then
+        assertThat(parsedWeekdays, is(expectedWeekdays));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"s", "t", "pn-", "pn-wt-sr", "codziennie rano", "o 7:00"})
+    void shouldNotParseIncorrectRule(String rule) {
+        assertThat(RecurrenceRules.parseWeekdays(rule), is(nullValue()));
+    }
+
+    @Test
+    void shouldParseTimeOfRule() {
+        assertThat(RecurrenceRules.parseTime("pn/śr o 7:05"), is(LocalTime.of(7, 5)));
+        assertThat(RecurrenceRules.parseTime("pn/śr o 25:00"), is(nullValue()));
+        assertThat(RecurrenceRules.parseTime("pn/śr"), is(nullValue()));
+        assertThat(RecurrenceRules.parseWeekdays("sb 9:30"), contains(SATURDAY));
+    }
+}
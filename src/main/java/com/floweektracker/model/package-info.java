@@ -1,16 +0,0 @@
-/**
- * Model package contains classes that represent the data used in the application. These classes help to store and
- * organize information for the planner and other parts of the program.
- * <p></p>
- * <p>Class overview:</p>
- * <ul>
- *     <li><b>PanelNames</b> - an enum representing the names of the main panels</li>
- *     <li><b>SingleTask</b> - represents a single task in the planner</li>
- *     <li><b>WeekDays</b> - an enum representing the days of the week</li>
- * </ul>
- *
- * @see com.floweektracker.service
- * @see com.floweektracker.view
- * @see com.floweektracker.repository
- */
-package com.floweektracker.model;
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Util package contains utility classes which are used in multiple classes. These classes provide small tools or
- * common methods to support other parts of the application.
- * <p></p>
- * <p>Class overview:</p>
- * <ul>
- *     <li><b>DialogUtils</b> - provides helper methods for managing dialogs</li>
- *     <li><b>AppDirectoryManager</b> - manages the folder where the data is stored</li>
- * </ul>
- */
-package com.floweektracker.util;
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.floweektracker;
+
+import com.floweektracker.cli.CommandLine;
+import com.floweektracker.repository.*;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.util.*;
+import com.floweektracker.util.*;
+
+import javax.swing.*;
+import java.io.File;
+
+/**
+ * Main class which serves as the entry point of the application. It checks the first argument. If it is true, it runs
+ * {@link AppDirectoryManager#createDirectory()} to checks if the app contains directory where necessary files can be
+ * stored. If not, it creates the directory with user's permission or terminate the app. Then, it calls the
+ * {@link RepositoryConfigurator} to initialize repositories. Then, it attempts to load planner and task names from json
+ * files to the application outside the event dispatch thread. At the end, it creates the main frame of the app.
+ * <br><br>
+ * When the {@code floweektracker.watchdog} system property is true, the {@link EdtWatchdog} is enabled before any other
+ * event is dispatched.
+ * <br><br>
+ * The errors reported by the model, the repositories and the services through the {@link ErrorReporter} are shown to
+ * the user in message dialogs, because the core of the application doesn't depend on Swing.
+ * <br><br>
+ * Only one instance can run for a data folder. When another instance is already running, the
+ * {@link SingleInstanceGuard} sends it a command to bring its window to front, or to open the task adding dialog when
+ * the second argument is {@code --add-task}, and this instance exits.
+ * <br><br>
+ * When the first argument is a command of the {@link CommandLine}, e.g. {@code list} or {@code export}, the command is
+ * run against the data folder without starting Swing, and the application exits with the code of the command.
+ */
+public class Main {
+    public static void main(String[] args) {
+        if (CommandLine.isCommand(args)) {
+            System.exit(new CommandLine(System.in, System.out, System.err).execute(args).getCode());
+            return;
+        }
+
+        ErrorReporter.setHandler(DialogUtils::showMessageDialog);
+        if ((args != null) && isFirstArgumentTrue(args) && isForwardedToRunningInstance(args)) return;
+        if (Boolean.getBoolean("floweektracker.watchdog")) EdtWatchdog.getWatchdog().enable();
+
+        if (args != null) {
+            SwingUtilities.invokeLater(() -> {
+                if (isFirstArgumentTrue(args)) {
+                    var createdFile = AppDirectoryManager.getInstance().createDirectory();
+                    var guard = SingleInstanceGuard.getGuard();
+
+                    if (!guard.tryAcquire(createdFile)) {
+                        guard.sendCommand(createdFile, readCommand(args));
+                        System.exit(0);
+                    }
+
+                    if (readCommand(args) == SingleInstanceGuard.Command.ADD_TASK) guard.dispatch(readCommand(args));
+                    BackgroundTaskExecutor.getExecutor().execute(createLoadingTask(createdFile));
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks if another instance of the application is running for the default data folder. If it is, the command
+     * from the arguments is sent to it, so this instance can finish without starting Swing.
+     *
+     * @param args arguments passed to the application
+     * @return true if the command was passed to the running instance, otherwise false
+     * @see SingleInstanceGuard
+     */
+    private static boolean isForwardedToRunningInstance(String[] args) {
+        var dataFolder = AppDirectoryManager.getInstance().getDataFolder();
+        var guard = SingleInstanceGuard.getGuard();
+
+        if (!dataFolder.exists() || guard.tryAcquire(dataFolder)) return false;
+
+        guard.sendCommand(dataFolder, readCommand(args));
+        return true;
+    }
+
+    /**
+     * @param args arguments passed to the application
+     * @return {@link SingleInstanceGuard.Command#ADD_TASK} when the second argument is "--add-task", otherwise
+     * {@link SingleInstanceGuard.Command#FOCUS}
+     */
+    private static SingleInstanceGuard.Command readCommand(String[] args) {
+        return ((args.length > 1) && args[1].equalsIgnoreCase("--add-task"))
+                ? SingleInstanceGuard.Command.ADD_TASK
+                : SingleInstanceGuard.Command.FOCUS;
+    }
+
+    /**
+     * Creates a {@link BackgroundTask} which configures repositories and loads planner, task names, their usages and
+     * recurring templates from json files outside the EDT. When the data is loaded, the main frame is created on the
+     * EDT.
+     *
+     * @param createdFile a result of the {@link AppDirectoryManager#createDirectory()}
+     * @return a created task
+     * @see #main(String[])
+     */
+    private static BackgroundTask<Void, Void> createLoadingTask(File createdFile) {
+        return new BackgroundTask<>("Wczytywanie danych") {
+            @Override
+            protected Void doInBackground() {
+                RepositoryConfigurator.getConfigurator().setUpRepositories(createdFile);
+                PlannerRepository.getRepository().loadPlanner();
+                TaskNamesRepository.getRepository().loadTaskNames();
+                TaskNameUsageService.getService().load();
+                RecurringTemplateService.getService().load();
+
+                return null;
+            }
+
+            @Override
+            protected void done(Void result) {
+                MainFrame.getMAIN_FRAME();
+            }
+        };
+    }
+
+    /**
+     * @param args arguments passed to the application
+     * @return true if first argument is "true" and there is at most one more argument, otherwise false
+     * @see #main(String[])
+     */
+    private static boolean isFirstArgumentTrue(String[] args) {
+        return (args.length >= 1) && (args.length <= 2) && (args[0].equalsIgnoreCase("true"));
+    }
+}
@@ -0,0 +1,316 @@
+package com.floweektracker;
+
+import com.floweektracker.controller.*;
+import com.floweektracker.model.*;
+import com.floweektracker.repository.RecurringTemplateRepository.StoredTemplates;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.util.*;
+import com.floweektracker.view.*;
+import lombok.Getter;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Represents the main window of the application. It contains all needed panels and controller of the main panel. It is
+ * a singleton.
+ * <br><br>
+ * Fields: {@link #MAIN_FRAME}, {@link #mainPanelController}, {@link #edtWatchdogController},
+ * {@link #weekRolloverController}, {@link #reminderController}, {@link #pointsChartController},
+ * {@link #searchController}, {@link #timeGridController}, {@link #plannerFilterController},
+ * {@link #httpApiController}, {@link #cardPanel}, {@link #closing}
+ * <br><br>
+ * Methods: {@link #initFrame}, {@link #createCardPanel()}, {@link #addIconImage()},
+ * {@link #handleCommand(SingleInstanceGuard.Command)}, {@link #addWindowListenerToFrame()}, {@link #createSavingTask()},
+ * {@link #addKeyBindings()}, {@link #switchCard(String)}, {@link #isWeekdayPanelVisible(String)}
+ */
+@Getter
+public class MainFrame extends JFrame {
+    /**
+     * Singleton instance of {@link MainFrame}.
+     *
+     * @see #initFrame()
+     */
+    @Getter
+    private static final MainFrame MAIN_FRAME = new MainFrame();
+    private final MainPanelController mainPanelController = new MainPanelController(MainPanelView.getView(), new TaskAddingDialogController(new TaskAddingDialog()));
+    /**
+     * Controller of the summary of the EDT stalls, which is opened with the {@code Ctrl+Shift+W} shortcut.
+     *
+     * @see #addKeyBindings()
+     */
+    private final EdtWatchdogController edtWatchdogController = new EdtWatchdogController();
+    /**
+     * Controller of the automatic week rollover, which is started when the frame is shown.
+     *
+     * @see #initFrame()
+     */
+    private final WeekRolloverController weekRolloverController = new WeekRolloverController();
+    /**
+     * Controller of the reminders of the tasks, which is started when the frame is shown.
+     *
+     * @see #initFrame()
+     */
+    private final ReminderController reminderController = new ReminderController();
+    /**
+     * Controller of the chart of the points history, which is one of the cards of the {@link #cardPanel}.
+     *
+     * @see #createCardPanel()
+     */
+    private final PointsChartController pointsChartController = new PointsChartController();
+    /**
+     * Controller of the search field of the main panel, which selects the found tasks in the planner.
+     */
+    private final SearchController searchController = new SearchController(MainPanelView.getView());
+    /**
+     * Controller of the time grid of the main panel, which is shown instead of the table of the planner.
+     */
+    private final TimeGridController timeGridController = new TimeGridController(MainPanelView.getView());
+    /**
+     * Controller of the filters of the main panel, which hide the tasks of the planner not matching them.
+     */
+    private final PlannerFilterController plannerFilterController = new PlannerFilterController(MainPanelView.getView());
+    /**
+     * Controller of the local HTTP API, which is started when the frame is shown and stopped before the data is saved.
+     *
+     * @see #initFrame()
+     * @see #addWindowListenerToFrame()
+     */
+    private final HttpApiController httpApiController = new HttpApiController();
+    /**
+     * A {@link JPanel} configured with a {@link CardLayout} containing all panels of the application.
+     *
+     * @see #createCardPanel()
+     */
+    private final JPanel cardPanel = createCardPanel();
+    /**
+     * Represents whether the data is being saved before closing the application, so it isn't saved twice.
+     *
+     * @see #addWindowListenerToFrame()
+     */
+    private boolean closing;
+
+    /**
+     * Constructor of the {@link MainFrame} which configures the frame by calling {@link #initFrame()}.
+     */
+    private MainFrame() {
+        initFrame();
+    }
+
+    /**
+     * Configures frame by setting title, icon, resizability, closing operation, content pane as {@link #cardPanel},
+     * location and visibility. It also adds a {@link WindowAdapter} that defines the behaviour when the window is
+     * closed, registers the frame as a handler of the commands sent by other instances and starts the week rollover,
+     * the reminders and the local HTTP API.
+     *
+     * @see #MainFrame()
+     * @see #addIconImage()
+     * @see #addWindowListenerToFrame()
+     * @see #addKeyBindings()
+     */
+    private void initFrame() {
+        setTitle("FloWeek Tracker");
+        addIconImage();
+        setResizable(true);
+        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+        addWindowListenerToFrame();
+        setContentPane(cardPanel);
+        addKeyBindings();
+        pack();
+
+        setLocationRelativeTo(null);
+        setVisible(true);
+        SingleInstanceGuard.getGuard().setCommandHandler(this::handleCommand);
+        weekRolloverController.start();
+        reminderController.start();
+        httpApiController.start();
+    }
+
+    /**
+     * Handles a command sent by another instance of the application. The frame is brought to front and, for the
+     * {@link SingleInstanceGuard.Command#ADD_TASK} command, the task adding dialog is opened.
+     *
+     * @param command a given command
+     * @see SingleInstanceGuard
+     */
+    private void handleCommand(SingleInstanceGuard.Command command) {
+        if ((getExtendedState() & Frame.ICONIFIED) != 0) setExtendedState(getExtendedState() & ~Frame.ICONIFIED);
+        toFront();
+        requestFocus();
+
+        if (command == SingleInstanceGuard.Command.ADD_TASK) {
+            mainPanelController.getTaskAddingDialogController().getTaskAddingDialog().makeDialogVisible();
+        }
+    }
+
+    /**
+     * Create an {@link ImageIcon} from the specified image file and sets it as the icon image of the frame. If it
+     * throws an exception, it shows a message to the user.
+     *
+     * @see #initFrame()
+     * @see DialogUtils#showMessageDialog(String, String)
+     */
+    private void addIconImage() {
+        try {
+            var imageURL = Objects.requireNonNull(getClass().getResource("/appIcon.jpg"));
+            var bufferedImage = ImageIO.read(imageURL);
+            var imageIcon = new ImageIcon(bufferedImage).getImage();
+            setIconImage(imageIcon);
+        } catch (IOException e) {
+            DialogUtils.showMessageDialog(
+                    "Błąd dodawania ikony aplikacji",
+                    "Nie udało się dodać ikony do aplikacji"
+            );
+        }
+    }
+
+    /**
+     * Creates and configures {@link #cardPanel} which contains all panels of the application. It contains the
+     * {@link MainPanelView}, {@link WeekdayPlannerView} for all {@link WeekDays}, the {@link InfoView} for the
+     * database and planner, and the {@link PointsChartView} of the points history.
+     *
+     * @return a configured {@link JPanel} as a card panel with all application panels
+     * @see #initFrame()
+     */
+    private JPanel createCardPanel() {
+        var cardPanel = new JPanel(new CardLayout());
+        cardPanel.setName("cardPanel");
+        cardPanel.setDoubleBuffered(true);
+
+        cardPanel.add(mainPanelController.getView(), "mainPanel");
+        WeekDays.getListedWeekdays().forEach(weekday -> cardPanel.add(new WeekdayPlannerView(weekday), "%sPanel".formatted(weekday.name().toLowerCase())));
+        cardPanel.add(new InfoView("Baza"), "bazaPanel");
+        cardPanel.add(new InfoView("Planer"), "planerPanel");
+        cardPanel.add(pointsChartController.getView(), "historyPanel");
+
+        return cardPanel;
+    }
+
+    /**
+     * Creates and adds to the frame a {@link WindowAdapter} that defines the behaviour when the window is closed. If
+     * user closes window, the local HTTP API is stopped, data is saved in the background by the task created by
+     * {@link #createSavingTask()} and then the application is terminated. While the data is being saved, the frame is
+     * disabled and next attempts to close it are ignored.
+     *
+     * @see #initFrame()
+     */
+    private void addWindowListenerToFrame() {
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (closing) return;
+
+                closing = true;
+                setEnabled(false);
+                httpApiController.stop();
+                BackgroundTaskExecutor.getExecutor().execute(createSavingTask());
+            }
+        });
+    }
+
+    /**
+     * Creates a {@link BackgroundTask} which saves a snapshot of the schedule, a copy of the task names, a copy of their
+     * usages and a copy of the recurring templates by {@link TasksService#savePlanner(ScheduleSnapshot)},
+     * {@link TaskNamesService#saveTaskNames(Set)}, {@link TaskNameUsageService#saveUsages(Collection)} and
+     * {@link RecurringTemplateService#saveTemplates(StoredTemplates)} to the json files outside the EDT. When the task
+     * is finished, the frame is disposed, the {@link SingleInstanceGuard} is released and the application is
+     * terminated.
+     *
+     * @return a created task
+     * @see #addWindowListenerToFrame()
+     */
+    private BackgroundTask<Void, Void> createSavingTask() {
+        var scheduleSnapshot = TasksService.getService().getSnapshot();
+        var taskNamesCopy = new TreeSet<>(TaskNamesService.getService().getTaskNames());
+        var usagesCopy = TaskNameUsageService.getService().getUsagesCopy();
+        var templatesCopy = RecurringTemplateService.getService().getTemplatesCopy();
+
+        return new BackgroundTask<>("Zapisywanie danych") {
+            @Override
+            protected Void doInBackground() {
+                TasksService.getService().savePlanner(scheduleSnapshot);
+                TaskNamesService.getService().saveTaskNames(taskNamesCopy);
+                TaskNameUsageService.getService().saveUsages(usagesCopy);
+                RecurringTemplateService.getService().saveTemplates(templatesCopy);
+
+                return null;
+            }
+
+            @Override
+            protected void done(Void result) {
+                exit();
+            }
+
+            @Override
+            protected void failed(Exception exception) {
+                super.failed(exception);
+                exit();
+            }
+
+            @Override
+            protected void cancelled() {
+                closing = false;
+                setEnabled(true);
+            }
+
+            private void exit() {
+                MAIN_FRAME.dispose();
+                SingleInstanceGuard.getGuard().release();
+                System.exit(0);
+            }
+        };
+    }
+
+    /**
+     * Adds the {@code Ctrl+Shift+W} shortcut to the {@link #cardPanel}, which opens the summary of the EDT stalls.
+     *
+     * @see EdtWatchdogController#showSummary()
+     */
+    private void addKeyBindings() {
+        var keyStroke = KeyStroke.getKeyStroke(KeyEvent.VK_W, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK);
+        cardPanel.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(keyStroke, "showEdtWatchdog");
+        cardPanel.getActionMap().put("showEdtWatchdog", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                edtWatchdogController.showSummary();
+            }
+        });
+    }
+
+    //region switchCard() method
+    /**
+     * Displays the panel from the {@link #cardPanel} which name corresponds to the given {@code panelName}. Then checks
+     * if the panel is visible. When given panel name is null or doesn't end with "Panel", the method returns false.
+     *
+     * @param panelName a {@link @String} representing the name of the panel to be shown
+     * @return true if the given panel is visible, otherwise false
+     * @see #isWeekdayPanelVisible(String)
+     * @see MainPanelController#createInfoButtonListener()
+     * @see PlannerController#openFullWeekdaySchedule()
+     * @see InfoView#createReturnButton()
+     * @see WeekdayPlannerView#createReturnButton()
+     */
+    public boolean switchCard(String panelName) {
+        if (panelName == null || !panelName.endsWith("Panel")) return false;
+
+        ((CardLayout) cardPanel.getLayout()).show(cardPanel, panelName);
+
+        return isWeekdayPanelVisible(panelName);
+    }
+
+    /**
+     * Checks if the panel with the given {@code panelName} is visible.
+     *
+     * @param panelName a given panel name which corresponding panel should be visible
+     * @return true if the panel is visible, otherwise false
+     */
+    private boolean isWeekdayPanelVisible(String panelName) {
+        return Arrays.stream(cardPanel.getComponents())
+                .anyMatch(comp -> comp.getName().equalsIgnoreCase(panelName) && comp.isVisible());
+    }
+    //endregion
+}
@@ -0,0 +1,65 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.swing.util.EdtWatchdog;
+import com.floweektracker.view.EdtWatchdogView;
+import lombok.Getter;
+
+/**
+ * Controller for the {@link EdtWatchdogView}. It connects the components of the view with the {@link EdtWatchdog}.
+ * <br><br>
+ * Fields: {@link #watchdog}, {@link #view}
+ * <br><br>
+ * Methods: {@link #initListeners()}, {@link #showSummary()}, {@link #refreshStalls()}
+ */
+@Getter
+public class EdtWatchdogController {
+    /**
+     * Represents a number of the offenders displayed in the {@link #view}.
+     */
+    private static final int OFFENDERS_LIMIT = 50;
+    private final EdtWatchdog watchdog = EdtWatchdog.getWatchdog();
+    private final EdtWatchdogView view = EdtWatchdogView.getView();
+
+    /**
+     * Creates a controller and adds listeners to the components of the {@link #view} if they don't have any.
+     *
+     * @see #initListeners()
+     * @see com.floweektracker.MainFrame
+     */
+    public EdtWatchdogController() {
+        if (view.getEnabledCheckBox().getActionListeners().length == 0) initListeners();
+    }
+
+    /**
+     * Adds listeners to the checkbox switching the {@link #watchdog} and to the refreshing and clearing buttons.
+     *
+     * @see #refreshStalls()
+     */
+    private void initListeners() {
+        view.getEnabledCheckBox().addActionListener(_ -> watchdog.setEnabled(view.getEnabledCheckBox().isSelected()));
+        view.getButtons()[0].addActionListener(_ -> refreshStalls());
+        view.getButtons()[1].addActionListener(_ -> {
+            watchdog.clearStalls();
+            refreshStalls();
+        });
+    }
+
+    /**
+     * Refreshes the summary and makes the {@link #view} visible.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public void showSummary() {
+        refreshStalls();
+        view.makeDialogVisible();
+    }
+
+    /**
+     * Synchronizes the checkbox with the state of the {@link #watchdog} and shows the worst offenders in the
+     * {@link #view}.
+     */
+    private void refreshStalls() {
+        view.getEnabledCheckBox().setSelected(watchdog.isEnabled());
+        view.setStalls(watchdog.getWorstOffenders(OFFENDERS_LIMIT));
+    }
+}
@@ -0,0 +1,152 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.api.*;
+import com.floweektracker.model.SingleTask;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.AppDirectoryManager;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Controller of the local HTTP API of the window. The {@link HttpApiServer} is started only when the
+ * {@code floweektracker.http.port} system property is set, and its token is written to the file
+ * {@link HttpApiServer#TOKEN_FILE_NAME} in the data folder, which scripts read to authorize their requests. The
+ * changes of the tasks requested by the API are applied on the EDT in the same way as the changes made in the dialogs:
+ * the task is changed in the {@link TasksService} first, and then in the table of the planner and in the planner of
+ * the weekday, so they are shown at once in the open window. The EDT applies the changes one by one, so they are
+ * serialized with the changes made by the user.
+ * <br><br>
+ * Fields: {@link #PORT_PROPERTY}, {@link #server}, {@link #tasksService}, {@link #plannerService},
+ * {@link #weekdayPlannerService}, {@link #namesService}
+ * <br><br>
+ * Methods: {@link #start()}, {@link #stop()}, {@link #addTask(SingleTask)}, {@link #editTask(SingleTask, SingleTask)},
+ * {@link #deleteTask(SingleTask)}, {@link #runOnEdt(BooleanSupplier)}
+ */
+@Getter
+public class HttpApiController implements TaskChanges {
+    /**
+     * Represents a name of the system property with the port of the API.
+     */
+    static final String PORT_PROPERTY = "floweektracker.http.port";
+    private final HttpApiServer server = HttpApiServer.getServer();
+    private final TasksService tasksService = TasksService.getService();
+    private final PlannerService plannerService = PlannerService.getService();
+    private final WeekdayPlannerService weekdayPlannerService = WeekdayPlannerService.getService();
+    private final TaskNamesService namesService = TaskNamesService.getService();
+
+    /**
+     * Starts the {@link #server} on the port from the {@link #PORT_PROPERTY}, when it is set, with the token file in
+     * the data folder.
+     *
+     * @return true if the server was started, otherwise false
+     * @see com.floweektracker.MainFrame
+     */
+    public boolean start() {
+        var port = Integer.getInteger(PORT_PROPERTY);
+
+        return (port != null) && server.start(port, this,
+                new File(AppDirectoryManager.getInstance().getDataFolder(), HttpApiServer.TOKEN_FILE_NAME));
+    }
+
+    /**
+     * Stops the {@link #server}, so the tasks aren't changed anymore, e.g. before they are saved at closing.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public void stop() {
+        server.stop();
+    }
+
+    /**
+     * Adds the given task on the EDT to the schedule, the planner and the planner of its weekday, and its name to the
+     * task names.
+     *
+     * @param task a given task
+     * @return true if the task was added, false if its time is occupied
+     * @see TaskAddingDialogController
+     */
+    @Override
+    public boolean addTask(SingleTask task) {
+        return runOnEdt(() -> {
+            if (!tasksService.addTask(task)) return false;
+
+            plannerService.addTask(task);
+            weekdayPlannerService.addTask(task);
+            namesService.addTaskName(task.getTaskName());
+
+            return true;
+        });
+    }
+
+    /**
+     * Replaces the given task on the EDT in the schedule, the planner of its weekday and the planner, and adds the name
+     * of the edited task to the task names.
+     *
+     * @param task       a given task of the planner
+     * @param editedTask a given task replacing it
+     * @return true if the task was replaced, false if it isn't in the schedule anymore or the time is occupied
+     * @see TaskEditingDialogController
+     */
+    @Override
+    public boolean editTask(SingleTask task, SingleTask editedTask) {
+        return runOnEdt(() -> {
+            if (!tasksService.editTask(task, editedTask)) return false;
+
+            weekdayPlannerService.editTask(task, editedTask);
+            plannerService.editTask(task, editedTask);
+            namesService.addTaskName(editedTask.getTaskName());
+
+            return true;
+        });
+    }
+
+    /**
+     * Deletes the given task on the EDT from the schedule, the planner and the planner of its weekday.
+     *
+     * @param task a given task of the planner
+     * @return true if the task was deleted, false if it isn't in the schedule anymore
+     * @see MainPanelController
+     */
+    @Override
+    public boolean deleteTask(SingleTask task) {
+        return runOnEdt(() -> {
+            if (!tasksService.deleteTask(task)) return false;
+
+            plannerService.deleteTask(task);
+            weekdayPlannerService.deleteTask(task);
+
+            return true;
+        });
+    }
+
+    //region helper methods
+    /**
+     * Runs the given change on the EDT and waits for its result. The thread of the request is virtual, so waiting
+     * doesn't block a platform thread.
+     *
+     * @param change a given change of the tasks
+     * @return a result of the change, or false when the waiting was interrupted
+     * @throws IllegalStateException when the change failed with an exception
+     */
+    private boolean runOnEdt(BooleanSupplier change) {
+        if (SwingUtilities.isEventDispatchThread()) return change.getAsBoolean();
+
+        var result = new boolean[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> result[0] = change.getAsBoolean());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Change of the tasks failed", e.getCause());
+        }
+
+        return result[0];
+    }
+    //endregion
+}
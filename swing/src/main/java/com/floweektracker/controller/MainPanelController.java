@@ -3,13 +3,15 @@ package com.floweektracker.controller;
 import com.floweektracker.MainFrame;
 import com.floweektracker.model.*;
 import com.floweektracker.service.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.*;
 import com.floweektracker.view.MainPanelView;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.event.ActionListener;
+import java.util.*;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -23,7 +25,8 @@ import java.util.regex.Pattern;
  * <br><br>
  * Methods: {@link #areButtonsWithoutListeners()}, {@link #addListenerToButtons()}, {@link #createInfoButtonListener()},
  * {@link #createCleanerListener(int)}, {@link #deleteTask()}, {@link #isSelectedValueATask(String)},
- * {@link #deleteTasksForWeekdays(List)}, {@link #resetPoints(List)}
+ * {@link #deleteTasksForWeekdays(List)}, {@link #resetPoints(List)}, {@link #refreshViews(List)},
+ * {@link #showTaskProgress(BackgroundTask)}
  */
 @Getter
 public class MainPanelController {
@@ -54,11 +57,12 @@ public class MainPanelController {
         this.plannerController = new PlannerController();
         this.cleanerService = CleanerService.getService();
         this.tasksService = TasksService.getService();
-        this.taskNamesController = new TaskNamesController(taskAddingDialogController, plannerController.getTaskEditingDialogController());
+        this.taskNamesController = new TaskNamesController();
         this.view = mainPanelView;
         this.weekdayPlannerService = WeekdayPlannerService.getService();
 
         if (areButtonsWithoutListeners()) addListenerToButtons();
+        BackgroundTaskExecutor.getExecutor().setObserver(this::showTaskProgress);
     }
 
     //region listeners methods
@@ -74,7 +78,7 @@ public class MainPanelController {
 
     /**
      * Adds listeners to the buttons in the {@link #view}. Each button is associated with specific actions such as
-     * opening dialogs or deleting tasks.
+     * opening dialogs, deleting tasks or showing the points history.
      *
      * @see #createInfoButtonListener()
      * @see #deleteTask()
@@ -91,6 +95,7 @@ public class MainPanelController {
         buttons.get(2).addActionListener(_ -> deleteTask());
         buttons.get(3).addActionListener(createCleanerListener(3));
         buttons.get(4).addActionListener(createCleanerListener(4));
+        buttons.get(5).addActionListener(_ -> MainFrame.getMAIN_FRAME().switchCard("historyPanel"));
     }
 
     /**
@@ -125,24 +130,74 @@ public class MainPanelController {
     /**
      * Creates an ActionListener for cleaner buttons from the {@link #view}. This ActionListener shows an option dialog
      * from {@link CleanerService}, then checks which option was chosen. If it is cancel, it breaks the action.
-     * Otherwise, it checks which button was pressed and calls the corresponding deleting method.
+     * Otherwise, it checks which button was pressed: the tasks are deleted at once, because clearing the weekdays
+     * doesn't need any preparation, and the points are reset by a task started in the background.
      *
      * @param button the index of the button from the {@link #view}
      * @return the ActionListener for the cleaner button
      * @see #addListenerToButtons()
      * @see #deleteTasksForWeekdays(List)
-     * @see #resetPoints(List)
+     * @see #createResettingTask(List)
      */
     private ActionListener createCleanerListener(int button) {
         return _ -> {
             var chosenOption = cleanerService.getCleaner().showOptionDialog();
+            var weekdays = cleanerService.getSelectedWeekdays();
 
-            if (chosenOption == 1) return;
+            if ((chosenOption == 1) || (weekdays == null)) return;
 
-            if (button == 3) deleteTasksForWeekdays(cleanerService.getSelectedWeekdays());
-            else resetPoints(cleanerService.getSelectedWeekdays());
+            if (button == 3) deleteTasksForWeekdays(weekdays);
+            else BackgroundTaskExecutor.getExecutor().execute(createResettingTask(weekdays));
         };
     }
+
+    /**
+     * Creates a {@link BackgroundTask} which prepares reset copies of the tasks for the given weekdays outside the EDT,
+     * based on a snapshot of the schedule. The prepared copies are applied at once, on the EDT, when the task is done.
+     *
+     * @param weekdays the list of weekdays for which tasks' points should be reset
+     * @return a created task
+     * @see #createCleanerListener(int)
+     * @see TasksService#prepareResetTasks(Map, List)
+     */
+    private BackgroundTask<Map<SingleTask, SingleTask>, Void> createResettingTask(List<WeekDays> weekdays) {
+        var scheduleSnapshot = tasksService.getSnapshot().toScheduleMap();
+
+        return new BackgroundTask<>("Zerowanie punktów") {
+            @Override
+            protected Map<SingleTask, SingleTask> doInBackground() {
+                var resetTasks = new HashMap<SingleTask, SingleTask>();
+
+                for (int i = 0; (i < weekdays.size()) && !isCancelled(); i++) {
+                    resetTasks.putAll(tasksService.prepareResetTasks(scheduleSnapshot, List.of(weekdays.get(i))));
+                    setProgress((i + 1) * 100 / weekdays.size());
+                }
+
+                return resetTasks;
+            }
+
+            @Override
+            protected void done(Map<SingleTask, SingleTask> result) {
+                tasksService.replaceTasks(result);
+                refreshViews(weekdays);
+            }
+        };
+    }
+
+    /**
+     * Shows the given task in the {@link MainPanelView#getProgressView()} or hides it when no task is running. It is
+     * called on the EDT by the {@link BackgroundTaskExecutor}.
+     *
+     * @param task a task which started, changed its progress or finished
+     * @see #MainPanelController(MainPanelView, TaskAddingDialogController)
+     */
+    private void showTaskProgress(BackgroundTask<?, ?> task) {
+        var activeTasks = BackgroundTaskExecutor.getExecutor().getActiveTasks();
+        var progressView = view.getProgressView();
+
+        if (activeTasks.isEmpty()) progressView.hideTask();
+        else progressView.showTask(activeTasks.contains(task) ? task : activeTasks.getLast());
+    }
     //endregion
 
     /**
@@ -187,50 +242,47 @@ public class MainPanelController {
 
     /**
      * Deletes tasks for the specified weekdays. When {@link List} is null, it breaks the action. Otherwise, it deletes
-     * all tasks from the {@link TasksService}, {@link PlannerService} and {@link WeekdayPlannerService}.
+     * all tasks from the {@link TasksService} at once and then refreshes the {@link PlannerService} and
+     * {@link WeekdayPlannerService} views.
      *
      * @param weekdays the list of weekdays for which tasks should be deleted
      * @see #createCleanerListener(int)
-     * @see #addListenerToButtons()
+     * @see #refreshViews(List)
      */
     void deleteTasksForWeekdays(List<WeekDays> weekdays) {
         if (weekdays == null) return;
 
-        for (WeekDays weekday : weekdays) {
-            var tasks = tasksService.getTasksFromWeekday(weekday);
-
-            tasksService.getSchedule().get(weekday).clear();
-
-            for (SingleTask task : tasks) {
-                plannerService.deleteTask(task);
-                weekdayPlannerService.deleteTask(task);
-            }
-        }
+        tasksService.clearWeekdays(weekdays);
+        refreshViews(weekdays);
     }
 
     /**
      * Resets the points for tasks on the specified weekdays, marking them as not done. When {@link List} is null, it
-     * breaks the action. Otherwise, it resets the points for all tasks from the {@link TasksService},
-     * {@link PlannerService} and the {@link WeekdayPlannerService}.
+     * breaks the action. Otherwise, it replaces all tasks in the {@link TasksService} at once and then refreshes the
+     * {@link PlannerService} and {@link WeekdayPlannerService} views.
      *
      * @param weekdays the list of weekdays for which tasks' points should be reset
-     * @see #createCleanerListener(int)
-     * @see #addListenerToButtons()
+     * @see #createResettingTask(List)
+     * @see TasksService#prepareResetTasks(Map, List)
+     * @see #refreshViews(List)
      */
     void resetPoints(List<WeekDays> weekdays) {
         if (weekdays == null) return;
 
-        for (WeekDays weekday : weekdays) {
-            var tasks = tasksService.getTasksFromWeekday(weekday);
-
-            for (SingleTask task : tasks) {
-                var editedTask = task.copy();
-                editedTask.setDone(false);
+        tasksService.replaceTasks(tasksService.prepareResetTasks(tasksService.getSchedule(), weekdays));
+        refreshViews(weekdays);
+    }
 
-                tasksService.editTask(task, editedTask);
-                plannerService.editTask(task, editedTask);
-                weekdayPlannerService.editTask(task, editedTask);
-            }
-        }
+    /**
+     * Refreshes the {@link PlannerService} view and the {@link WeekdayPlannerService} views of the given weekdays
+     * once, after a bulk operation.
+     *
+     * @param weekdays the list of weekdays which views should be refreshed
+     * @see #deleteTasksForWeekdays(List)
+     * @see #resetPoints(List)
+     */
+    private void refreshViews(List<WeekDays> weekdays) {
+        plannerService.refreshPlanner();
+        weekdayPlannerService.refreshWeekdays(weekdays);
     }
 }
\ No newline at end of file
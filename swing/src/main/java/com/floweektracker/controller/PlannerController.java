@@ -2,6 +2,7 @@ package com.floweektracker.controller;
 
 import com.floweektracker.MainFrame;
 import com.floweektracker.service.*;
+import com.floweektracker.swing.service.PlannerService;
 import com.floweektracker.view.*;
 import lombok.*;
 
@@ -90,15 +91,18 @@ public class PlannerController {
     /**
      * @param row    a row of the {@link #planner}
      * @param column a column of the {@link #planner}
-     * @return true if the clicked cell is not a first column, is not an edge row and contains a task, otherwise false
+     * @return true if the clicked cell is not a first column, is not an edge row and contains a task which isn't hidden
+     * by the filter, otherwise false
      * @see #createPlannerViewListener()
+     * @see PlannerView#isTaskCellHidden(int, int)
      */
     private boolean isTaskClicked(int row, int column) {
         var pattern = "\\((\\d+)/(\\d+)\\)";
         var value = planner.getValueAt(row, column).toString();
         var isNotEdgeRow = ((row > 0) && (row < planner.getRowCount() - 1));
 
-        return (column > 0) && isNotEdgeRow && Pattern.compile(pattern).matcher(value).find();
+        return (column > 0) && isNotEdgeRow && Pattern.compile(pattern).matcher(value).find()
+                && !planner.isTaskCellHidden(row, column);
     }
 
     /**
@@ -0,0 +1,152 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.model.TaskQuery;
+import com.floweektracker.model.TaskQuery.TaskQueryBuilder;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.service.PlannerService;
+import com.floweektracker.view.*;
+import lombok.Getter;
+
+import javax.swing.*;
+import javax.swing.event.*;
+
+/**
+ * Controller of the filters of the {@link PlannerView} in the {@link MainPanelView}. After each change of the filters,
+ * it creates a {@link TaskQuery} of the priority range, the done status and the part of the names, and gives it to the
+ * planner, which hides the rows without a matching task. The number of the shown tasks is counted by the
+ * {@link TaskQueryService} again after each change of the schedule.
+ * <br><br>
+ * Fields: {@link #tasksService}, {@link #queryService}, {@link #view}, {@link #planner}
+ * <br><br>
+ * Methods: {@link #initListeners()}, {@link #createNameFilterListener()}, {@link #changeMinPriority()},
+ * {@link #changeMaxPriority()}, {@link #applyFilters()}, {@link #clearFilters()}, {@link #createQuery()},
+ * {@link #showFilterInfo()}
+ */
+@Getter
+public class PlannerFilterController {
+    private final TasksService tasksService = TasksService.getService();
+    private final TaskQueryService queryService = TaskQueryService.getService();
+    private final MainPanelView view;
+    private final PlannerView planner = PlannerService.getService().getPlanner();
+
+    /**
+     * Creates a controller of the filters of the given view.
+     *
+     * @param view a given main panel view
+     * @see com.floweektracker.MainFrame
+     */
+    public PlannerFilterController(MainPanelView view) {
+        this.view = view;
+
+        initListeners();
+    }
+
+    /**
+     * Adds listeners of the filters, of the clearing button and of the snapshots of the schedule.
+     *
+     * @see #applyFilters()
+     * @see #clearFilters()
+     * @see #showFilterInfo()
+     */
+    private void initListeners() {
+        view.getMinPrioritySpinner().addChangeListener(_ -> changeMinPriority());
+        view.getMaxPrioritySpinner().addChangeListener(_ -> changeMaxPriority());
+        view.getDoneFilterComboBox().addActionListener(_ -> applyFilters());
+        view.getNameFilterField().getDocument().addDocumentListener(createNameFilterListener());
+        view.getClearFiltersButton().addActionListener(_ -> clearFilters());
+        tasksService.addSnapshotListener(_ -> SwingUtilities.invokeLater(this::showFilterInfo));
+    }
+
+    /**
+     * @return a listener which applies the filters after each change of the text of the name filter
+     */
+    private DocumentListener createNameFilterListener() {
+        return new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent event) {applyFilters();}
+
+            @Override
+            public void removeUpdate(DocumentEvent event) {applyFilters();}
+
+            @Override
+            public void changedUpdate(DocumentEvent event) {applyFilters();}
+        };
+    }
+
+    /**
+     * Raises the highest priority when the lowest one is set above it, so the range is never empty, and then applies
+     * the filters.
+     */
+    void changeMinPriority() {
+        var minPriority = (int) view.getMinPrioritySpinner().getValue();
+        var maxPrioritySpinner = view.getMaxPrioritySpinner();
+        if (minPriority > (int) maxPrioritySpinner.getValue()) maxPrioritySpinner.setValue(minPriority);
+
+        applyFilters();
+    }
+
+    /**
+     * Lowers the lowest priority when the highest one is set below it, so the range is never empty, and then applies
+     * the filters.
+     */
+    void changeMaxPriority() {
+        var maxPriority = (int) view.getMaxPrioritySpinner().getValue();
+        var minPrioritySpinner = view.getMinPrioritySpinner();
+        if (maxPriority < (int) minPrioritySpinner.getValue()) minPrioritySpinner.setValue(maxPriority);
+
+        applyFilters();
+    }
+
+    /**
+     * Gives the query of the actual filters to the {@link #planner} and shows the number of the shown tasks.
+     *
+     * @see PlannerView#setFilterQuery(TaskQuery)
+     */
+    void applyFilters() {
+        planner.setFilterQuery(createQuery());
+        showFilterInfo();
+    }
+
+    /**
+     * Resets all filters, so all tasks are shown again.
+     */
+    void clearFilters() {
+        view.getNameFilterField().setText("");
+        view.getDoneFilterComboBox().setSelectedIndex(0);
+        view.getMinPrioritySpinner().setValue(1);
+        view.getMaxPrioritySpinner().setValue(10);
+
+        applyFilters();
+    }
+
+    //region helper methods
+    /**
+     * @return a query of the actual values of the filters
+     */
+    TaskQuery createQuery() {
+        var done = switch (view.getDoneFilterComboBox().getSelectedIndex()) {
+            case 1 -> Boolean.FALSE;
+            case 2 -> Boolean.TRUE;
+            default -> null;
+        };
+
+        return new TaskQueryBuilder()
+                .withPriorityRange((int) view.getMinPrioritySpinner().getValue(),
+                        (int) view.getMaxPrioritySpinner().getValue())
+                .withDone(done)
+                .withNameFragment(view.getNameFilterField().getText())
+                .build();
+    }
+
+    /**
+     * Shows the number of the tasks matching the filters and the number of all tasks, or nothing when the planner
+     * isn't filtered.
+     */
+    private void showFilterInfo() {
+        var rowFilter = planner.getRowFilter();
+
+        view.getFilterInfo().setText((rowFilter == null) ? " " : "Pokazano %d z %d zadań".formatted(
+                queryService.count(rowFilter.getQuery()), queryService.count(TaskQuery.ALL)));
+    }
+    //endregion
+}
@@ -0,0 +1,105 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.model.*;
+import com.floweektracker.service.StatisticsService;
+import com.floweektracker.swing.util.*;
+import com.floweektracker.view.PointsChartView;
+import lombok.Getter;
+
+import java.awt.event.*;
+import java.util.List;
+
+/**
+ * Controller for the {@link PointsChartView}. The summaries of the archived weeks are read in the background when the
+ * view is shown and only when the {@link StatisticsService#getVersion()} changed since the last reading, so the series
+ * are recomputed only for new data. Changing the mode of the chart reuses the read {@link #summaries}.
+ * <br><br>
+ * Fields: {@link #statisticsService}, {@link #view}, {@link #summaries}, {@link #loadedVersion}
+ * <br><br>
+ * Methods: {@link #initListeners()}, {@link #refreshSeries()}, {@link #createLoadingTask()}, {@link #showSeries()}
+ */
+@Getter
+public class PointsChartController {
+    private final StatisticsService statisticsService = StatisticsService.getService();
+    private final PointsChartView view = new PointsChartView();
+    /**
+     * Contains the last read summaries of the archived weeks. It is accessed only on the EDT.
+     */
+    private List<WeekSummary> summaries = List.of();
+    /**
+     * Represents the version of the statistics of the {@link #summaries}, or -1 when they weren't read yet.
+     */
+    private long loadedVersion = -1;
+
+    /**
+     * Creates a controller and adds listeners to the {@link #view}.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public PointsChartController() {
+        initListeners();
+    }
+
+    /**
+     * Adds a listener which refreshes the series when the {@link #view} is shown and a listener of the mode.
+     *
+     * @see #refreshSeries()
+     * @see #showSeries()
+     */
+    private void initListeners() {
+        view.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                refreshSeries();
+            }
+        });
+        view.getModeComboBox().addActionListener(_ -> showSeries());
+    }
+
+    /**
+     * Reads the summaries in the background when the statistics changed since the last reading.
+     *
+     * @see #createLoadingTask()
+     */
+    public void refreshSeries() {
+        if (statisticsService.getVersion() == loadedVersion) return;
+
+        BackgroundTaskExecutor.getExecutor().execute(createLoadingTask());
+    }
+
+    /**
+     * Creates a {@link BackgroundTask} which reads the summaries outside the EDT and then shows them in the
+     * {@link #view}.
+     *
+     * @return a created task
+     */
+    private BackgroundTask<List<WeekSummary>, Void> createLoadingTask() {
+        return new BackgroundTask<>("Wczytywanie historii") {
+            private long version;
+
+            @Override
+            protected List<WeekSummary> doInBackground() {
+                var result = statisticsService.getSummaries();
+                version = statisticsService.getVersion();
+
+                return result;
+            }
+
+            @Override
+            protected void done(List<WeekSummary> result) {
+                summaries = result;
+                loadedVersion = version;
+                showSeries();
+            }
+        };
+    }
+
+    /**
+     * Builds the series of the mode chosen in the {@link #view} from the {@link #summaries} and sets it in the view.
+     */
+    void showSeries() {
+        var isWeekly = view.getModeComboBox().getSelectedIndex() != 1;
+
+        view.setSeries(isWeekly ? PointsSeries.weekly(summaries) : PointsSeries.daily(summaries));
+    }
+}
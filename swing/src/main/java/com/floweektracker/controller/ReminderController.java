@@ -0,0 +1,140 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.model.Reminder;
+import com.floweektracker.service.*;
+import com.floweektracker.view.ReminderView;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.awt.event.ItemEvent;
+import java.time.*;
+
+/**
+ * Controller of the reminders of the tasks. It keeps a single {@link #timer}, which is armed for the next reminder
+ * found by the {@link ReminderService}. Each change of the schedule re-arms it, which costs only finding the next
+ * reminder again, so there isn't any thread or timer per task. The {@link #timer} fires at least once per hour, so the
+ * reminders aren't missed when the computer sleeps.
+ * <br><br>
+ * Fields: {@link #MAX_CHECK_DELAY_MILLIS}, {@link #reminderService}, {@link #tasksService}, {@link #view},
+ * {@link #timer}, {@link #checkedUntil}, {@link #nextReminder}
+ * <br><br>
+ * Methods: {@link #start()}, {@link #scheduleNextReminder()}, {@link #showDueReminders()},
+ * {@link #initMenuListeners()}, {@link #changeLeadMinutes(int)}, {@link #scheduleLater()}
+ */
+@Getter
+public class ReminderController {
+    /**
+     * Represents a maximal delay between the checks of the reminders.
+     */
+    static final int MAX_CHECK_DELAY_MILLIS = 60 * 60 * 1000;
+    private final ReminderService reminderService = ReminderService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final ReminderView view = ReminderView.getView();
+    /**
+     * A single-shot timer which starts {@link #showDueReminders()}.
+     *
+     * @see #scheduleNextReminder()
+     */
+    private final Timer timer;
+    /**
+     * Represents a moment until which the reminders were shown. It is accessed only on the EDT.
+     */
+    private LocalDateTime checkedUntil;
+    /**
+     * Contains the reminder for which the {@link #timer} is armed, or null when there isn't any.
+     */
+    private Reminder nextReminder;
+
+    /**
+     * Creates a controller with a stopped {@link #timer}.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public ReminderController() {
+        this.timer = new Timer(MAX_CHECK_DELAY_MILLIS, _ -> showDueReminders());
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Arms the {@link #timer} for the first time, listens to the changes of the schedule and to the menu of the
+     * {@link #view}. It should be called on the EDT, after the planner is loaded.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public void start() {
+        checkedUntil = LocalDateTime.now();
+        initMenuListeners();
+        tasksService.addSnapshotListener(_ -> scheduleLater());
+        scheduleNextReminder();
+    }
+
+    /**
+     * Finds the next reminder after the {@link #checkedUntil} and restarts the {@link #timer}, so it fires when the
+     * reminder is due, but not later than after {@link #MAX_CHECK_DELAY_MILLIS}.
+     */
+    void scheduleNextReminder() {
+        nextReminder = reminderService.findNextReminder(checkedUntil);
+
+        var delay = (nextReminder != null)
+                ? Duration.between(LocalDateTime.now(), nextReminder.getDue()).toMillis()
+                : MAX_CHECK_DELAY_MILLIS;
+
+        timer.setInitialDelay((int) Math.clamp(delay, 0, MAX_CHECK_DELAY_MILLIS));
+        timer.restart();
+    }
+
+    /**
+     * Shows the reminders due since the {@link #checkedUntil} and arms the {@link #timer} for the next one.
+     *
+     * @see ReminderService#findDueReminders(LocalDateTime, LocalDateTime)
+     */
+    void showDueReminders() {
+        var now = LocalDateTime.now();
+
+        reminderService.findDueReminders(checkedUntil, now).forEach(view::showReminder);
+        checkedUntil = now;
+        scheduleNextReminder();
+    }
+
+    //region helper methods
+    /**
+     * Selects the actual settings in the menu of the {@link #view} and adds listeners which change them. When the
+     * system tray isn't supported, there isn't any menu.
+     */
+    private void initMenuListeners() {
+        if (view.getEnabledItem() == null) return;
+
+        view.getEnabledItem().setState(reminderService.isEnabled());
+        view.selectLeadMinutes(reminderService.getLeadMinutes());
+
+        view.getEnabledItem().addItemListener(event -> {
+            reminderService.setEnabled(event.getStateChange() == ItemEvent.SELECTED);
+            scheduleNextReminder();
+        });
+
+        for (int i = 0; i < ReminderView.LEAD_MINUTES_OPTIONS.size(); i++) {
+            var leadMinutes = ReminderView.LEAD_MINUTES_OPTIONS.get(i);
+            view.getLeadMinutesItems().get(i).addItemListener(_ -> changeLeadMinutes(leadMinutes));
+        }
+    }
+
+    /**
+     * Sets the given number of minutes between a reminder and its task and arms the {@link #timer} again.
+     *
+     * @param leadMinutes a given number of minutes
+     */
+    private void changeLeadMinutes(int leadMinutes) {
+        reminderService.setLeadMinutes(leadMinutes);
+        view.selectLeadMinutes(leadMinutes);
+        scheduleNextReminder();
+    }
+
+    /**
+     * Arms the {@link #timer} again on the EDT, because the schedule can be changed by other threads too.
+     */
+    private void scheduleLater() {
+        if (SwingUtilities.isEventDispatchThread()) scheduleNextReminder();
+        else SwingUtilities.invokeLater(this::scheduleNextReminder);
+    }
+    //endregion
+}
@@ -0,0 +1,195 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.model.*;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.service.PlannerService;
+import com.floweektracker.swing.util.*;
+import com.floweektracker.view.MainPanelView;
+import lombok.Getter;
+
+import javax.swing.*;
+import javax.swing.event.*;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controller of the search field of the {@link MainPanelView}. The search starts shortly after the user stops typing
+ * and selects the cell of the best task of the planner in the {@link PlannerService#getPlanner()}. Pressing Enter
+ * moves the selection to the next found task. Tasks found in the archived weeks are listed in the tooltip of the
+ * number of the results. The archived weeks are loaded to the search index in the background at the first search.
+ * <br><br>
+ * Fields: {@link #SEARCH_DELAY_MILLIS}, {@link #MAX_HITS}, {@link #MAX_LISTED_ARCHIVED_HITS}, {@link #searchService},
+ * {@link #plannerService}, {@link #view}, {@link #searchTimer}, {@link #hits}, {@link #plannerHits},
+ * {@link #selectedHit}, {@link #archiveLoading}
+ * <br><br>
+ * Methods: {@link #initListeners()}, {@link #search()}, {@link #selectNextHit()}, {@link #selectCell(TaskReference)},
+ * {@link #showSearchInfo()}, {@link #createArchiveLoadingTask()}
+ */
+@Getter
+public class SearchController {
+    /**
+     * Represents a delay between the last typed character and the search.
+     */
+    static final int SEARCH_DELAY_MILLIS = 250;
+    static final int MAX_HITS = 100;
+    static final int MAX_LISTED_ARCHIVED_HITS = 10;
+    private final SearchService searchService = SearchService.getService();
+    private final PlannerService plannerService = PlannerService.getService();
+    private final MainPanelView view;
+    /**
+     * A single-shot timer which is restarted with each change of the search field, so only the last query is searched.
+     */
+    private final Timer searchTimer;
+    /**
+     * Contains all hits of the last search. It is accessed only on the EDT, like other state of the controller.
+     */
+    private List<SearchHit> hits = List.of();
+    /**
+     * Contains hits of the last search which are in the planner, so their cells can be selected.
+     */
+    private List<SearchHit> plannerHits = List.of();
+    /**
+     * Represents an index of the selected hit in the {@link #plannerHits}, or -1 when none is selected.
+     */
+    private int selectedHit = -1;
+    private boolean archiveLoading;
+
+    /**
+     * Creates a controller of the search field of the given view.
+     *
+     * @param view a given main panel view
+     * @see com.floweektracker.MainFrame
+     */
+    public SearchController(MainPanelView view) {
+        this.view = view;
+        this.searchTimer = new Timer(SEARCH_DELAY_MILLIS, _ -> search());
+        searchTimer.setRepeats(false);
+
+        initListeners();
+    }
+
+    /**
+     * Adds a listener which restarts the {@link #searchTimer} after each change of the search field and a listener of
+     * the Enter key which selects the next hit.
+     */
+    private void initListeners() {
+        view.getSearchField().getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+        });
+        view.getSearchField().addActionListener(_ -> selectNextHit());
+    }
+
+    /**
+     * Searches the text of the search field, shows the number of the results and selects the best hit of the planner.
+     * When the archived weeks aren't loaded yet, they are loaded in the background and the search is repeated.
+     *
+     * @see #createArchiveLoadingTask()
+     */
+    void search() {
+        searchTimer.stop();
+        var query = view.getSearchField().getText();
+
+        hits = searchService.search(query, MAX_HITS);
+        plannerHits = hits.stream().filter(hit -> !hit.getReference().isArchived()).toList();
+        selectedHit = -1;
+
+        showSearchInfo();
+        selectNextHit();
+
+        if (!query.isBlank() && !searchService.isArchiveLoaded() && !archiveLoading) {
+            archiveLoading = true;
+            BackgroundTaskExecutor.getExecutor().execute(createArchiveLoadingTask());
+        }
+    }
+
+    /**
+     * Selects the cell of the next hit of the planner, starting again from the best one after the last one.
+     */
+    void selectNextHit() {
+        if (plannerHits.isEmpty()) return;
+
+        selectedHit = (selectedHit + 1) % plannerHits.size();
+        selectCell(plannerHits.get(selectedHit).getReference());
+    }
+
+    /**
+     * Selects and scrolls to the cell of the given task in the planner, without moving the focus from the search field.
+     * The cell isn't selected when its row is hidden by the filter of the planner.
+     *
+     * @param reference a given reference to a task of the planner
+     * @see PlannerService#findRowIndex(java.time.LocalTime)
+     * @see PlannerService#findColumnIndex(WeekDays)
+     */
+    private void selectCell(TaskReference reference) {
+        var planner = plannerService.getPlanner();
+        var row = planner.convertRowIndexToView(plannerService.findRowIndex(reference.getTime()));
+        var column = planner.convertColumnIndexToView(plannerService.findColumnIndex(reference.getWeekday()));
+        if ((row <= 0) || (column <= 0)) return;
+
+        planner.changeSelection(row, column, false, false);
+    }
+
+    /**
+     * Shows the number of the hits in the planner and in the archived weeks. The best archived hits are listed in the
+     * tooltip, because their cells aren't in the planner.
+     */
+    private void showSearchInfo() {
+        var searchInfo = view.getSearchInfo();
+
+        if (view.getSearchField().getText().isBlank()) {
+            searchInfo.setText(" ");
+            searchInfo.setToolTipText(null);
+            return;
+        }
+
+        var archivedHits = hits.stream().filter(hit -> hit.getReference().isArchived()).toList();
+        searchInfo.setText(hits.isEmpty()
+                ? "Brak wyników"
+                : "Wyniki: %d w planerze, %d w historii".formatted(plannerHits.size(), archivedHits.size()));
+        searchInfo.setToolTipText(archivedHits.isEmpty() ? null : archivedHits.stream()
+                .limit(MAX_LISTED_ARCHIVED_HITS)
+                .map(SearchHit::getReference)
+                .map(reference -> "%s %s %s - %s".formatted(reference.getWeek(), reference.getWeekday().getWeekdayPL(), reference.getTime(), reference.getTaskName()))
+                .collect(Collectors.joining("<br>", "<html>", "</html>")));
+    }
+
+    /**
+     * @return a {@link BackgroundTask} which loads the archived weeks to the search index and then repeats the search
+     * @see SearchService#loadArchive()
+     */
+    private BackgroundTask<Void, Void> createArchiveLoadingTask() {
+        return new BackgroundTask<>("Indeksowanie historii") {
+            @Override
+            protected Void doInBackground() {
+                searchService.loadArchive();
+
+                return null;
+            }
+
+            @Override
+            protected void done(Void result) {
+                archiveLoading = false;
+                search();
+            }
+
+            @Override
+            protected void failed(Exception exception) {
+                archiveLoading = false;
+                super.failed(exception);
+            }
+        };
+    }
+}
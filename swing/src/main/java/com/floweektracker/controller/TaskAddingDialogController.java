@@ -1,25 +1,30 @@
 package com.floweektracker.controller;
 
-import com.floweektracker.model.SingleTask;
+import com.floweektracker.model.*;
 import com.floweektracker.service.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.DialogUtils;
+import com.floweektracker.util.*;
 import com.floweektracker.view.TaskAddingDialog;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.LocalTime;
 import java.util.*;
 import java.util.function.Consumer;
 
 /**
  * Controller of the {@link TaskAddingDialog} class. This class handles the user interactions and business logic related
  * to adding new task, by communicating with {@link TasksService}, {@link PlannerService}, and
- * {@link WeekdayPlannerService}.
+ * {@link WeekdayPlannerService}. When the user writes a rule of the recurrence, a recurring template is added by the
+ * {@link RecurringTemplateService} instead of a single task.
  * <br><br>
- * Fields: {@link #taskAddingDialog}, {@link #tasksService}, {@link #plannerService}, {@link #weekdayPlannerService}
+ * Fields: {@link #taskAddingDialog}, {@link #tasksService}, {@link #plannerService}, {@link #weekdayPlannerService},
+ * {@link #templateService}
  * <br><br>
- * Listeners methods: {@link #initializeListeners()}, {@link #createSingleTask()}
+ * Listeners methods: {@link #initializeListeners()}, {@link #confirm()}, {@link #createSingleTask()}
  * <br><br>
- * Add task methods: {@link #addTask(SingleTask)}, {@link #isTaskAdded(SingleTask)},
+ * Add task methods: {@link #addTask(SingleTask)}, {@link #addRecurringTask(String)}, {@link #isTaskAdded(SingleTask)},
  * {@link #rollback(SingleTask, List)}
  * <br><br>
  * Other methods: {@link #updateTaskNames(String)}
@@ -31,6 +36,7 @@ public class TaskAddingDialogController {
     private final TasksService tasksService = TasksService.getService();
     private final PlannerService plannerService = PlannerService.getService();
     private final WeekdayPlannerService weekdayPlannerService = WeekdayPlannerService.getService();
+    private final RecurringTemplateService templateService = RecurringTemplateService.getService();
     //endregion
 
     /**
@@ -56,14 +62,26 @@ public class TaskAddingDialogController {
      * second one is for closing the dialog.
      *
      * @see TaskAddingDialogController(TaskAddingDialog)
-     * @see #addTask(SingleTask)
-     * @see #createSingleTask()
+     * @see #confirm()
      */
     public void initializeListeners() {
-        taskAddingDialog.getButtons().getFirst().addActionListener(_ -> addTask(createSingleTask()));
+        taskAddingDialog.getButtons().getFirst().addActionListener(_ -> confirm());
         taskAddingDialog.getButtons().getLast().addActionListener(_ -> taskAddingDialog.makeDialogInvisible());
     }
 
+    /**
+     * Adds a single task or, when the rule of the recurrence is written, a recurring task.
+     *
+     * @see #addTask(SingleTask)
+     * @see #addRecurringTask(String)
+     */
+    private void confirm() {
+        var recurrence = taskAddingDialog.getRecurrence();
+
+        if (recurrence == null) addTask(createSingleTask());
+        else addRecurringTask(recurrence);
+    }
+
     /**
      * Creates a new {@link SingleTask} based on the values from the {@link #taskAddingDialog}.
      *
@@ -77,7 +95,8 @@ public class TaskAddingDialogController {
                 taskAddingDialog.getTime(),
                 false,
                 taskAddingDialog.getWeekday(),
-                taskAddingDialog.getPriority()
+                taskAddingDialog.getPriority(),
+                taskAddingDialog.getDurationMinutes()
         );
     }
     //endregion
@@ -108,6 +127,36 @@ public class TaskAddingDialogController {
         return isTaskAdded(task);
     }
 
+    /**
+     * Adds a recurring template with the values from the {@link #taskAddingDialog} and the weekdays of the given rule.
+     * The time of the rule, if written, is used instead of the chosen one. Its occurrences in the actual week are added
+     * to the planner at once, and the views are refreshed once. When the rule isn't understood, a message is shown and
+     * the dialog stays visible.
+     *
+     * @param recurrence a given rule of the recurrence, e.g. "pn/śr/pt"
+     * @return true if the template is added, otherwise false
+     * @see RecurringTemplateService#addTemplate(String, String, LocalTime, Set, byte)
+     */
+    boolean addRecurringTask(String recurrence) {
+        var taskName = taskAddingDialog.getTaskName();
+        var weekdays = RecurrenceRules.parseWeekdays(recurrence);
+
+        if ((taskName == null) || taskName.isBlank() || (weekdays == null)) {
+            DialogUtils.showMessageDialog("Niepowodzenie", "Nie rozpoznano dni powtarzania zadania: " + recurrence);
+            return false;
+        }
+
+        var time = Objects.requireNonNullElse(RecurrenceRules.parseTime(recurrence), taskAddingDialog.getTime());
+
+        taskAddingDialog.makeDialogInvisible();
+        templateService.addTemplate(taskName, taskAddingDialog.getDescription(), time, weekdays,
+                taskAddingDialog.getPriority());
+        plannerService.refreshPlanner();
+        weekdayPlannerService.refreshWeekdays(List.of(WeekDays.values()));
+
+        return true;
+    }
+
     /**
      * Checks if a given task is in {@link TasksService}, {@link com.floweektracker.view.PlannerView} and
      * {@link com.floweektracker.view.WeekdayPlannerView}.
@@ -145,24 +194,23 @@ public class TaskAddingDialogController {
 
     //region updateTaskNames methods
     /**
-     * Updates the tasks combo box in the {@link #taskAddingDialog}. It checks if the given task name is in the tasks
-     * combo box. If it is, it removes it. Otherwise, it inserts it in the correct position. If the task name is null or
-     * black, it returns false.
+     * Updates the tasks combo box in the {@link #taskAddingDialog}. It checks if the given task name is in the model
+     * of the tasks combo box. If it is, it removes it. Otherwise, it adds it, and the model keeps it in the sorted
+     * position. The model shows the names of the {@link com.floweektracker.service.TaskNamesService}, so the name is
+     * added to or deleted from the service and all models follow it. If the task name is null or black, it returns
+     * false.
      *
      * @param taskName a given task name which should be updated (removed or inserted)
      * @return true when the task name is successfully updated, otherwise false
-     * @see TaskNamesController#updateTaskNamesView()
+     * @see com.floweektracker.view.TaskNamesComboBoxModel
      */
     public boolean updateTaskNames(String taskName) {
         if (taskName == null || taskName.isBlank()) return false;
-        var taskNamesComboBox = taskAddingDialog.getTasksComboBox();
-        var taskNames = taskAddingDialog.getAllTaskNames();
 
-        if (taskAddingDialog.getAllTaskNames().contains(taskName)) taskNamesComboBox.removeItem(taskName);
-        else {
-            int insertIndex = -Collections.binarySearch(taskNames, taskName) - 1;
-            taskNamesComboBox.insertItemAt(taskName, insertIndex);
-        }
+        var taskNamesModel = taskAddingDialog.getTasksComboBoxModel();
+
+        if (taskNamesModel.contains(taskName)) taskNamesModel.removeElement(taskName);
+        else taskNamesModel.addElement(taskName);
 
         return true;
     }
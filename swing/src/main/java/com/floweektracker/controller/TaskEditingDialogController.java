@@ -2,7 +2,8 @@ package com.floweektracker.controller;
 
 import com.floweektracker.model.SingleTask;
 import com.floweektracker.service.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.DialogUtils;
 import com.floweektracker.view.TaskEditingDialog;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -112,7 +113,8 @@ public class TaskEditingDialogController {
                 taskEditingDialog.getTime(),
                 taskEditingDialog.getStatus(),
                 taskEditingDialog.getWeekday(),
-                taskEditingDialog.getPriority()
+                taskEditingDialog.getPriority(),
+                taskEditingDialog.getDurationMinutes()
         );
     }
     //endregion
@@ -186,25 +188,23 @@ public class TaskEditingDialogController {
     //endregion
 
     /**
-     * Updates the tasks combo box in the {@link #taskEditingDialog}. It checks if the given task name is in the tasks
-     * combo box. If it is, it removes it. Otherwise, it inserts it in the correct position. If the task name is null or
-     * black, it returns false.
+     * Updates the tasks combo box in the {@link #taskEditingDialog}. It checks if the given task name is in the model
+     * of the tasks combo box. If it is, it removes it. Otherwise, it adds it, and the model keeps it in the sorted
+     * position. The model shows the names of the {@link com.floweektracker.service.TaskNamesService}, so the name is
+     * added to or deleted from the service and all models follow it. If the task name is null or black, it returns
+     * false.
      *
      * @param taskName a given task name which should be updated (removed or inserted)
      * @return true when the task name is successfully updated, otherwise false
-     * @see TaskNamesController#updateTaskNamesView()
+     * @see com.floweektracker.view.TaskNamesComboBoxModel
      */
     public boolean updateTaskNames(String taskName) {
         if (taskName == null || taskName.isBlank()) return false;
 
-        var taskNamesComboBox = taskEditingDialog.getTasksComboBox();
-        var taskNames = taskEditingDialog.getAllTaskNames();
+        var taskNamesModel = taskEditingDialog.getTasksComboBoxModel();
 
-        if (taskNames.contains(taskName)) taskNamesComboBox.removeItem(taskName);
-        else {
-            int insertIndex = -Collections.binarySearch(taskNames, taskName) - 1;
-            taskNamesComboBox.insertItemAt(taskName, insertIndex);
-        }
+        if (taskNamesModel.contains(taskName)) taskNamesModel.removeElement(taskName);
+        else taskNamesModel.addElement(taskName);
 
         return true;
     }
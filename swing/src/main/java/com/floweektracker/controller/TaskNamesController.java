@@ -1,51 +1,52 @@
 package com.floweektracker.controller;
 
-import com.floweektracker.service.TaskNamesService;
+import com.floweektracker.model.*;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.*;
 import com.floweektracker.view.TaskNamesDialog;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
+import javax.swing.*;
 import javax.swing.event.ListSelectionListener;
 import java.awt.event.ActionListener;
-import java.util.Arrays;
+import java.util.*;
 import java.util.function.Function;
 
 /**
  * Controller for the {@link TaskNamesDialog} class. This class handles the interactions and logic related to managing
- * task names, by communicating with {@link TaskNamesService}, {@link TaskAddingDialogController}, and
- * {@link TaskEditingDialogController}.
+ * task names, by communicating with {@link TaskNamesService}. The models of the names in the task dialogs follow the
+ * names of the service, so they aren't updated by this controller. Renaming a name selected in the list to the name
+ * from the input field is done by the {@link TaskNameRenamingService}: the tasks in the planner are renamed at once,
+ * the views are refreshed once, and then the archived weeks are updated in the background.
  * <br><br>
- * Fields: {@link #taskNamesService}, {@link #taskNamesDialog}, {@link #taskAddingDialogController},
- * {@link #taskEditingDialogController}
+ * Fields: {@link #taskNamesService}, {@link #renamingService}, {@link #plannerService},
+ * {@link #weekdayPlannerService}, {@link #taskNamesDialog}
  * <br><br>
  * Listeners methods: {@link #areComponentsHaveNoListeners()}, {@link #createTaskNamesListListener()},
  * {@link #createButtonsListener()}
  * <br><br>
- * Helper methods: {@link #makeAction(Function)}, {@link #updateTaskNamesView()}
- * <br><br>
- * Other methods: {@link #updateTaskNamesDialogs(String)}
+ * Helper methods: {@link #makeAction(Function)}, {@link #renameTaskName()}, {@link #isMergeConfirmed(String, String)},
+ * {@link #createHistoryUpdatingTask(int, String, String)}, {@link #updateTaskNamesView()}
  */
 @Getter
 public class TaskNamesController {
     private final TaskNamesService taskNamesService = TaskNamesService.getService();
+    private final TaskNameRenamingService renamingService = TaskNameRenamingService.getService();
+    private final PlannerService plannerService = PlannerService.getService();
+    private final WeekdayPlannerService weekdayPlannerService = WeekdayPlannerService.getService();
     private final TaskNamesDialog taskNamesDialog = TaskNamesDialog.getView();
-    private final TaskAddingDialogController taskAddingDialogController;
-    private final TaskEditingDialogController taskEditingDialogController;
 
     /**
-     * Creates a controller for the given {@link TaskAddingDialogController} and {@link TaskEditingDialogController} and
-     * sets listeners to the components of the {@link #taskNamesDialog} if they don't have any.
+     * Creates a controller which sets listeners to the components of the {@link #taskNamesDialog} if they don't have
+     * any.
      *
-     * @param taskAddingDialogController  a given {@link TaskAddingDialogController}
-     * @param taskEditingDialogController a given {@link TaskEditingDialogController}
      * @see MainPanelController
      * @see #areComponentsHaveNoListeners()
      * @see #initListeners()
      */
-    public TaskNamesController(TaskAddingDialogController taskAddingDialogController, TaskEditingDialogController taskEditingDialogController) {
-        this.taskAddingDialogController = taskAddingDialogController;
-        this.taskEditingDialogController = taskEditingDialogController;
-
+    public TaskNamesController() {
         if (areComponentsHaveNoListeners()) initListeners();
     }
 
@@ -53,7 +54,7 @@ public class TaskNamesController {
 
     /**
      * @return true if the components in the {@link #taskNamesDialog} don't have listeners, otherwise false
-     * @see TaskNamesController(TaskAddingDialogController, TaskEditingDialogController)
+     * @see TaskNamesController()
      */
     private boolean areComponentsHaveNoListeners() {
         var hasNoTaskNamesListListener = taskNamesDialog.getTaskNamesList().getListSelectionListeners().length < 1;
@@ -67,7 +68,7 @@ public class TaskNamesController {
      *
      * @see #createTaskNamesListListener()
      * @see #createButtonsListener()
-     * @see TaskNamesController(TaskAddingDialogController, TaskEditingDialogController)
+     * @see TaskNamesController()
      */
     private void initListeners() {
         taskNamesDialog.getTaskNamesList().addListSelectionListener(createTaskNamesListListener());
@@ -101,6 +102,7 @@ public class TaskNamesController {
      *     <li>When confirm button is clicked, it calls the {@link TaskNamesService#addTaskName(String)} method to add task name to the database.</li>
      *     <li>When delete button is clicked, it calls the {@link TaskNamesService#deleteTaskName(String)} method to delete task name in the database.</li>
      *     <li>When cancel button is clicked, it clears the input field.</li>
+     *     <li>When rename button is clicked, it calls the {@link #renameTaskName()} method.</li>
      * </ul>
      *
      * @return a new {@link ActionListener} for the button from the {@link #taskNamesDialog}
@@ -114,6 +116,7 @@ public class TaskNamesController {
                 case "OK" -> makeAction(taskNamesService::addTaskName);
                 case "Usuń" -> makeAction(taskNamesService::deleteTaskName);
                 case "Wyczyść" -> taskNamesDialog.setTaskNameInInputField("");
+                case "Zmień nazwę" -> renameTaskName();
             }
         };
     }
@@ -123,46 +126,93 @@ public class TaskNamesController {
 
     /**
      * Calls the given {@code action} method with the task name from the input field in the {@link #taskNamesDialog}. It
-     * is used to add or delete a task name getting from the input field. When the action is successful, it updates task
-     * names in the task names view and in the task names dialogs.
+     * is used to add or delete a task name getting from the input field. When the action is successful, it updates the
+     * task names view.
      *
      * @param action a given {@link Function} which should be called; it shouldn't be null
      * @see #createButtonsListener()
      * @see TaskNamesDialog#getTaskNameFromInputField()
      * @see #updateTaskNamesView()
-     * @see #updateTaskNamesDialogs(String)
      */
     private void makeAction(@NotNull Function<String, Boolean> action) {
         var taskName = taskNamesDialog.getTaskNameFromInputField();
         if (action.apply(taskName)) {
             updateTaskNamesView();
-            updateTaskNamesDialogs(taskName);
         }
     }
 
     /**
-     * Updates the task names list in the {@link #taskNamesDialog} and clears the input field.
+     * Renames the task name selected in the list of the {@link #taskNamesDialog} to the name from the input field.
+     * When the new name already exists, the names are merged after the user confirms it. The tasks in the planner are
+     * renamed at once by the {@link #renamingService}, the task names and the views of the planner are refreshed once,
+     * and then the archived weeks are updated in the background.
      *
-     * @see #makeAction(Function)
+     * @see #createButtonsListener()
+     * @see TaskNameRenamingService#renameTaskName(String, String)
+     * @see #createHistoryUpdatingTask(int, String, String)
      */
-    private void updateTaskNamesView() {
-        taskNamesDialog.setTaskNamesList(taskNamesService.getTaskNames().toArray(new String[0]));
-        taskNamesDialog.setTaskNameInInputField("");
+    private void renameTaskName() {
+        var oldName = taskNamesDialog.getSelectedTaskNameFromTaskNamesList();
+        var newName = taskNamesDialog.getTaskNameFromInputField();
+        if ((oldName == null) || (newName == null) || newName.isBlank() || oldName.equals(newName)) return;
+
+        var isMerged = taskNamesService.getTaskNames().contains(newName);
+        if (isMerged && !isMergeConfirmed(oldName, newName)) return;
+
+        var taskNameId = renamingService.renameTaskName(oldName, newName);
+        if (taskNameId == TaskNameDictionary.NO_NAME) return;
+
+        updateTaskNamesView();
+        plannerService.refreshPlanner();
+        weekdayPlannerService.refreshWeekdays(List.of(WeekDays.values()));
+
+        BackgroundTaskExecutor.getExecutor().execute(createHistoryUpdatingTask(taskNameId, oldName, newName));
+    }
+
+    /**
+     * @param oldName a given old task name
+     * @param newName a given existing task name
+     * @return true if the user confirms merging the given names, otherwise false
+     * @see #renameTaskName()
+     */
+    private boolean isMergeConfirmed(String oldName, String newName) {
+        var result = JOptionPane.showConfirmDialog(
+                taskNamesDialog.getDialog(),
+                "Zadanie \"%s\" już istnieje. Czy połączyć z nim zadanie \"%s\"?".formatted(newName, oldName),
+                "Łączenie zadań",
+                JOptionPane.YES_NO_OPTION
+        );
+
+        return result == JOptionPane.YES_OPTION;
+    }
+
+    /**
+     * @param taskNameId an id of the renamed task name
+     * @param oldName    a given old task name
+     * @param newName    a given new task name
+     * @return a {@link BackgroundTask} which updates the archived weeks after renaming
+     * @see TaskNameRenamingService#updateHistory(int, String, String)
+     */
+    private BackgroundTask<Integer, Void> createHistoryUpdatingTask(int taskNameId, String oldName, String newName) {
+        return new BackgroundTask<>("Zmiana nazwy zadania") {
+            @Override
+            protected Integer doInBackground() {
+                return renamingService.updateHistory(taskNameId, oldName, newName);
+            }
+        };
     }
-    //endregion
 
     /**
-     * Updates the task names in the task dialogs, by calling the
-     * {@link TaskAddingDialogController#updateTaskNames(String)} and
-     * {@link TaskEditingDialogController#updateTaskNames(String)} methods.
+     * Makes sure the task names list in the {@link #taskNamesDialog} shows its model and clears the input field. The
+     * model itself is already updated by the {@link TaskNamesService}, so the list isn't rebuilt.
      *
-     * @param taskName a given task name which should be updated
      * @see #makeAction(Function)
-     * @see TaskAddingDialogController#updateTaskNames(String)
-     * @see TaskEditingDialogController#updateTaskNames(String)
+     * @see #renameTaskName()
+     * @see TaskNamesDialog#showTaskNamesListModel()
      */
-    private void updateTaskNamesDialogs(String taskName) {
-        taskAddingDialogController.updateTaskNames(taskName);
-        taskEditingDialogController.updateTaskNames(taskName);
+    private void updateTaskNamesView() {
+        taskNamesDialog.showTaskNamesListModel();
+        taskNamesDialog.setTaskNameInInputField("");
     }
-}
\ No newline at end of file
+    //endregion
+}
@@ -0,0 +1,102 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.service.TasksService;
+import com.floweektracker.view.*;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.time.LocalTime;
+
+/**
+ * Controller of the {@link TimeGridView} of the {@link MainPanelView}. It switches the main panel between the table and
+ * the time grid, changes the zoom of the grid and gives it each published snapshot of the schedule. While the grid is
+ * shown, it is repainted every minute, so the line of the current time moves.
+ * <br><br>
+ * Fields: {@link #REPAINT_DELAY_MILLIS}, {@link #tasksService}, {@link #view}, {@link #timeGrid},
+ * {@link #repaintTimer}, {@link #scrolled}
+ * <br><br>
+ * Methods: {@link #initListeners()}, {@link #switchView()}, {@link #changeZoom()}, {@link #refreshSnapshot()}
+ */
+@Getter
+public class TimeGridController {
+    static final int REPAINT_DELAY_MILLIS = 60_000;
+    private final TasksService tasksService = TasksService.getService();
+    private final MainPanelView view;
+    private final TimeGridView timeGrid;
+    private final Timer repaintTimer;
+    /**
+     * Represents whether the grid was already scrolled to the current time, which is done when it is shown at first.
+     */
+    private boolean scrolled;
+
+    /**
+     * Creates a controller of the time grid of the given view.
+     *
+     * @param view a given main panel view
+     * @see com.floweektracker.MainFrame
+     */
+    public TimeGridController(MainPanelView view) {
+        this.view = view;
+        this.timeGrid = view.getTimeGrid();
+        this.repaintTimer = new Timer(REPAINT_DELAY_MILLIS, _ -> timeGrid.repaint());
+
+        timeGrid.setSnapshot(tasksService.getSnapshot());
+        initListeners();
+    }
+
+    /**
+     * Adds listeners of the view mode and the zoom, and a listener of the snapshots of the schedule.
+     *
+     * @see #switchView()
+     * @see #changeZoom()
+     * @see #refreshSnapshot()
+     */
+    private void initListeners() {
+        view.getViewModeComboBox().addActionListener(_ -> switchView());
+        view.getZoomComboBox().addActionListener(_ -> changeZoom());
+        tasksService.addSnapshotListener(_ -> SwingUtilities.invokeLater(this::refreshSnapshot));
+    }
+
+    /**
+     * Shows the table or the time grid, depending on the chosen view mode. The zoom can be changed and the grid is
+     * repainted every minute only while the grid is shown.
+     */
+    void switchView() {
+        var isGridChosen = view.getViewModeComboBox().getSelectedIndex() == 1;
+
+        view.showPlannerCard(isGridChosen ? MainPanelView.GRID_CARD : MainPanelView.TABLE_CARD);
+        view.getZoomComboBox().setEnabled(isGridChosen);
+
+        if (!isGridChosen) {
+            repaintTimer.stop();
+            return;
+        }
+
+        repaintTimer.start();
+        if (!scrolled) {
+            scrolled = true;
+            SwingUtilities.invokeLater(() -> timeGrid.scrollToMinute(LocalTime.now().toSecondOfDay() / 60));
+        }
+    }
+
+    /**
+     * Sets the number of minutes per row of the grid chosen in the zoom combo box.
+     *
+     * @see TimeGridView#setMinutesPerRow(int)
+     */
+    void changeZoom() {
+        var index = view.getZoomComboBox().getSelectedIndex();
+        if ((index < 0) || (index >= TimeGridView.ZOOM_LEVELS.length)) return;
+
+        timeGrid.setMinutesPerRow(TimeGridView.ZOOM_LEVELS[index]);
+    }
+
+    /**
+     * Gives the latest snapshot to the grid. It is called on the EDT after each change of the schedule, and the
+     * latest snapshot is taken instead of the notified one, so a few changes made at once are painted once.
+     */
+    private void refreshSnapshot() {
+        var snapshot = tasksService.getSnapshot();
+        if (snapshot != timeGrid.getSnapshot()) timeGrid.setSnapshot(snapshot);
+    }
+}
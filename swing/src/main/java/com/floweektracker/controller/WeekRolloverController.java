@@ -0,0 +1,177 @@
+package com.floweektracker.controller;
+
+import com.floweektracker.model.*;
+import com.floweektracker.repository.RecurringTemplateRepository.StoredTemplates;
+import com.floweektracker.service.*;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.*;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.List;
+
+/**
+ * Controller of the automatic week rollover. It checks the week at start and then at the beginning of each week. When
+ * the week of the planner has finished, the planner is archived and its tasks are reset in the background. Then the
+ * recurring templates are expanded for the new week, and the views are refreshed once. The {@link #timer} is checked
+ * at least once per hour, so the rollover isn't missed when the computer sleeps through the week boundary.
+ * <br><br>
+ * Fields: {@link #MAX_CHECK_DELAY_MILLIS}, {@link #rolloverService}, {@link #tasksService}, {@link #plannerService},
+ * {@link #weekdayPlannerService}, {@link #templateService}, {@link #timer}, {@link #checkedWeek}
+ * <br><br>
+ * Methods: {@link #start()}, {@link #checkRollover()}, {@link #createRolloverTask(IsoWeek)},
+ * {@link #createSavingTask(IsoWeek, ScheduleSnapshot, StoredTemplates)}, {@link #refreshViews()},
+ * {@link #scheduleNextCheck()}
+ */
+@Getter
+public class WeekRolloverController {
+    /**
+     * Represents a maximal delay between the checks of the week.
+     */
+    static final int MAX_CHECK_DELAY_MILLIS = 60 * 60 * 1000;
+    private final WeekRolloverService rolloverService = WeekRolloverService.getService();
+    private final TasksService tasksService = TasksService.getService();
+    private final PlannerService plannerService = PlannerService.getService();
+    private final WeekdayPlannerService weekdayPlannerService = WeekdayPlannerService.getService();
+    private final RecurringTemplateService templateService = RecurringTemplateService.getService();
+    /**
+     * A single-shot timer which starts the next {@link #checkRollover()}.
+     *
+     * @see #scheduleNextCheck()
+     */
+    private final Timer timer;
+    /**
+     * Contains the week of the last check, so the rollover is started only when the week changes. It is accessed only
+     * on the EDT.
+     */
+    private IsoWeek checkedWeek;
+
+    /**
+     * Creates a controller with a stopped {@link #timer}.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public WeekRolloverController() {
+        this.timer = new Timer(MAX_CHECK_DELAY_MILLIS, _ -> checkRollover());
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Checks the week for the first time and schedules next checks. It should be called on the EDT, after the
+     * planner is loaded.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public void start() {
+        checkRollover();
+    }
+
+    /**
+     * Starts the rollover in the background when the week changed since the last check, otherwise schedules the next
+     * check.
+     *
+     * @see #createRolloverTask(IsoWeek)
+     */
+    void checkRollover() {
+        var currentWeek = IsoWeek.current();
+
+        if (currentWeek.equals(checkedWeek)) {
+            scheduleNextCheck();
+            return;
+        }
+
+        checkedWeek = currentWeek;
+        BackgroundTaskExecutor.getExecutor().execute(createRolloverTask(currentWeek));
+    }
+
+    /**
+     * Creates a {@link BackgroundTask} which archives the finished week of the planner and prepares reset copies of
+     * the done tasks, based on a snapshot of the schedule. The copies are applied at once, the recurring templates are
+     * expanded for the current week by {@link RecurringTemplateService#expandWeek(IsoWeek)} and the views are refreshed
+     * once, on the EDT, when the task is done. Then the reset planner is saved by the task created by
+     * {@link #createSavingTask(IsoWeek, ScheduleSnapshot, StoredTemplates)}.
+     *
+     * @param currentWeek a given current week
+     * @return a created task
+     */
+    private BackgroundTask<Map<SingleTask, SingleTask>, Void> createRolloverTask(IsoWeek currentWeek) {
+        return new BackgroundTask<>("Archiwizacja tygodnia") {
+            @Override
+            protected Map<SingleTask, SingleTask> doInBackground() {
+                var finishedWeek = rolloverService.findFinishedWeek(currentWeek);
+                if (finishedWeek == null) return null;
+
+                var schedule = tasksService.getSnapshot();
+                if (!rolloverService.archiveWeek(finishedWeek, schedule)) return null;
+
+                return rolloverService.prepareResetTasks(schedule);
+            }
+
+            @Override
+            protected void done(Map<SingleTask, SingleTask> result) {
+                if (result != null) tasksService.replaceTasks(result);
+                var isExpanded = templateService.expandWeek(currentWeek) > 0;
+
+                if ((result != null) || isExpanded) refreshViews();
+                if (result != null) {
+                    var resetSchedule = tasksService.getSnapshot();
+                    var templatesCopy = templateService.getTemplatesCopy();
+                    BackgroundTaskExecutor.getExecutor()
+                            .execute(createSavingTask(currentWeek, resetSchedule, templatesCopy));
+                }
+
+                scheduleNextCheck();
+            }
+
+            @Override
+            protected void failed(Exception exception) {
+                super.failed(exception);
+                if (templateService.expandWeek(currentWeek) > 0) refreshViews();
+                scheduleNextCheck();
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link BackgroundTask} which saves the reset planner and then marks the rollover as completed. The
+     * recurring templates are saved too, so their expanded week matches the saved planner.
+     *
+     * @param currentWeek a given current week
+     * @param schedule    a snapshot of the reset planner
+     * @param templates   a copy of the recurring templates
+     * @return a created task
+     * @see WeekRolloverService#completeRollover(IsoWeek, ScheduleSnapshot)
+     */
+    private BackgroundTask<Boolean, Void> createSavingTask(IsoWeek currentWeek, ScheduleSnapshot schedule,
+                                                          StoredTemplates templates) {
+        return new BackgroundTask<>("Zapisywanie planera") {
+            @Override
+            protected Boolean doInBackground() {
+                templateService.saveTemplates(templates);
+
+                return rolloverService.completeRollover(currentWeek, schedule);
+            }
+        };
+    }
+
+    /**
+     * Refreshes the planner and all weekday planners once, after the tasks were changed at once.
+     */
+    private void refreshViews() {
+        plannerService.refreshPlanner();
+        weekdayPlannerService.refreshWeekdays(List.of(WeekDays.values()));
+    }
+
+    /**
+     * Restarts the {@link #timer}, so the week is checked at the beginning of the next week, but not later than after
+     * {@link #MAX_CHECK_DELAY_MILLIS}.
+     */
+    private void scheduleNextCheck() {
+        var delay = rolloverService.getDelayToNextWeek(LocalDateTime.now());
+
+        timer.setInitialDelay((int) Math.min(delay + 1000, MAX_CHECK_DELAY_MILLIS));
+        timer.restart();
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Controller package contains classes responsible for handling user actions and coordinating communication between
+ * views and services. Controllers add listeners to UI components and redirect user input to the appropriate service
+ * methods.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>EdtWatchdogController</b> - handles actions in {@link com.floweektracker.view.EdtWatchdogView} and delegates to {@link com.floweektracker.swing.util.EdtWatchdog}</li>
+ *     <li><b>HttpApiController</b> - starts the local HTTP API and applies its changes of the tasks on the EDT to the planner views</li>
+ *     <li><b>MainPanelController</b> - handles actions in {@link com.floweektracker.view.MainPanelView}</li>
+ *     <li><b>PlannerController</b> - handles actions in {@link com.floweektracker.view.PlannerView} and delegates to {@link com.floweektracker.swing.service.PlannerService}</li>
+ *     <li><b>PlannerFilterController</b> - a controller of the filters of the planner</li>
+ *     <li><b>PointsChartController</b> - loads the summaries of the archived weeks for the chart only when they changed</li>
+ *     <li><b>ReminderController</b> - arms a single timer for the next reminder</li>
+ *     <li><b>SearchController</b> - controller of the search field which selects the found tasks in the planner</li>
+ *     <li><b>TaskAddingDialogController</b> - handles actions in {@link com.floweektracker.view.TaskAddingDialog}</li>
+ *     <li><b>TaskEditingDialogController</b> - handles actions in {@link com.floweektracker.view.TaskEditingDialog}</li>
+ *     <li><b>TaskNamesController</b> - handles actions in {@link com.floweektracker.view.TaskNamesDialog} and delegates to{@link com.floweektracker.service.TaskNamesService}</li>
+ *     <li><b>TimeGridController</b> - switches the main panel between the table and the time grid and changes its zoom</li>
+ *     <li><b>WeekRolloverController</b> - schedules the automatic week rollover and applies it to the views</li>
+ * </ul>
+ *
+ * @see com.floweektracker.view
+ * @see com.floweektracker.service
+ */
+
+package com.floweektracker.controller;
\ No newline at end of file
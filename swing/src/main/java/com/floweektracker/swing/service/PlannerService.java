@@ -1,8 +1,9 @@
-package com.floweektracker.service;
+package com.floweektracker.swing.service;
 
 import com.floweektracker.controller.*;
 import com.floweektracker.model.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.service.TasksService;
+import com.floweektracker.util.ErrorReporter;
 import com.floweektracker.view.PlannerView;
 import lombok.*;
 import org.jetbrains.annotations.NotNull;
@@ -28,9 +29,9 @@ import java.util.stream.*;
  * Delete task methods: {@link #deleteTask(SingleTask)}, {@link #removeRow(DefaultTableModel, int)},
  * {@link #getCorrectValuesFromRow(LocalTime)}
  * <br><br>
- * Other methods: {@link #editTask(SingleTask, SingleTask)}, {@link #findRowIndex(LocalTime)},
- * {@link #findColumnIndex(WeekDays)}, {@link #isTaskInPlanner(SingleTask)}, {@link #getSelectedValue()},
- * {@link #getSelectedTime()}, {@link #getSelectedWeekday()}
+ * Other methods: {@link #editTask(SingleTask, SingleTask)}, {@link #refreshPlanner()},
+ * {@link #findRowIndex(LocalTime)}, {@link #findColumnIndex(WeekDays)}, {@link #isTaskInPlanner(SingleTask)},
+ * {@link #getSelectedValue()}, {@link #getSelectedTime()}, {@link #getSelectedWeekday()}
  * <br><br>
  * Helper methods: {@link #prepareValue(SingleTask)}, {@link #actualizeSummarizeForWeekday(WeekDays)}
  */
@@ -76,29 +77,33 @@ public class PlannerService {
     }
 
     /**
-     * Checks if the given time is already in the first column of the {@link #planner}.
+     * Checks if the given time is already in the first column of the model of the {@link #planner}, which contains
+     * also the rows hidden by its filter.
      *
      * @param time a given time to check
      * @return true if the time is present, otherwise false
      * @see #addTask(SingleTask)
      */
     private boolean isTimeExist(LocalTime time) {
-        return IntStream.range(0, planner.getRowCount() - 1)
-                .mapToObj(row -> planner.getValueAt(row, 0).toString())
+        var model = planner.getModel();
+
+        return IntStream.range(0, model.getRowCount() - 1)
+                .mapToObj(row -> model.getValueAt(row, 0).toString())
                 .anyMatch(value -> value.equals(time.toString()));
     }
 
     /**
-     * Finds index for the new row in the {@link #planner} by the given time. It collects all the times in the first
-     * column of the {@link #planner} to the {@link TreeSet}. Then, it adds the given time and finds its index.
+     * Finds index for the new row in the model of the {@link #planner} by the given time. It collects all the times in
+     * the first column of the model to the {@link TreeSet}. Then, it adds the given time and finds its index.
      *
      * @param time a given time to find the index
      * @return a new index for the new row
      * @see #addTask(SingleTask)
      */
     private int findIndexForNewRow(@NotNull LocalTime time) {
-        var plannerTimes = IntStream.range(0, planner.getRowCount() - 1)
-                .mapToObj(row -> planner.getValueAt(row, 0).toString())
+        var model = planner.getModel();
+        var plannerTimes = IntStream.range(0, model.getRowCount() - 1)
+                .mapToObj(row -> model.getValueAt(row, 0).toString())
                 .collect(Collectors.toCollection(TreeSet::new));
 
         plannerTimes.add(time.toString());
@@ -216,7 +221,7 @@ public class PlannerService {
      * @see #isTaskInPlanner(SingleTask)
      * @see #deleteTask(SingleTask)
      * @see #addTask(SingleTask)
-     * @see DialogUtils#rollback(SingleTask, Consumer, Function)
+     * @see ErrorReporter#rollback(SingleTask, Consumer, Function)
      * @see MainPanelController#resetPoints(List)
      * @see com.floweektracker.controller.TaskEditingDialogController#editTask(SingleTask, SingleTask)
      */
@@ -224,53 +229,73 @@ public class PlannerService {
         if (oldTask == null || editedTask == null || oldTask.equals(editedTask)) return false;
 
         if (!deleteTask(oldTask)) return false;
-        if (!addTask(editedTask)) return !DialogUtils.rollback(oldTask, service::addTask, this::isTaskInPlanner);
+        if (!addTask(editedTask)) return !ErrorReporter.rollback(oldTask, service::addTask, this::isTaskInPlanner);
 
         return !isTaskInPlanner(oldTask) && isTaskInPlanner(editedTask);
     }
 
     /**
+     * Rebuilds the {@link #planner} from the schedule with a single update of its model.
+     *
+     * @see PlannerView#reloadPlanner()
+     * @see MainPanelController#deleteTasksForWeekdays(List)
+     * @see MainPanelController#resetPoints(List)
+     */
+    public void refreshPlanner() {
+        planner.reloadPlanner();
+    }
+
+    /**
+     * Finds the row of the given time in the model of the {@link #planner}. When the planner is filtered, the index
+     * should be converted by {@link JTable#convertRowIndexToView(int)} before selecting the row.
+     *
      * @param time a given time for which the row index should be found
-     * @return an index of the row which contains the given time
+     * @return an index of the row of the model which contains the given time
      * @see #addTask(SingleTask)
      * @see #deleteTask(SingleTask)
      * @see #getCorrectValuesFromRow(LocalTime)
      */
     public int findRowIndex(LocalTime time) {
-        return IntStream.range(0, planner.getRowCount())
-                .filter(row -> planner.getValueAt(row, 0).toString().equals(time.toString()))
+        var model = planner.getModel();
+
+        return IntStream.range(0, model.getRowCount())
+                .filter(row -> model.getValueAt(row, 0).toString().equals(time.toString()))
                 .findFirst()
                 .orElse(0);
     }
 
     /**
+     * Finds the column of the given weekday based on its position in the week, because the first column of the
+     * {@link #planner} model contains times and the next ones contain weekdays in order. The returned index is the
+     * index of the model, so it has to be converted before it is used with the view of the {@link #planner}.
+     *
      * @param weekday a given weekday for which the column index should be found
-     * @return a column index which contains the given weekday
+     * @return a column index of the model which contains the given weekday
      * @see #addTask(SingleTask)
      * @see #deleteTask(SingleTask)
      * @see #actualizeSummarizeForWeekday(WeekDays)
      */
     public int findColumnIndex(WeekDays weekday) {
-        return IntStream.range(0, planner.getColumnCount())
-                .filter(column -> planner.getValueAt(0, column).toString().equalsIgnoreCase(weekday.getWeekdayPL()))
-                .findFirst()
-                .orElse(0);
+        var modelColumn = weekday.getPosition() + 1;
+        return (modelColumn < planner.getModel().getColumnCount()) ? modelColumn : 0;
     }
 
     /**
-     * Try to find the given task in the {@link #planner}.
+     * Try to find the given task in the model of the {@link #planner}, so the tasks hidden by its filter are found too.
      *
      * @param task a given task which should be found.
      * @return true if the task is in the planner, otherwise false.
      */
     public boolean isTaskInPlanner(SingleTask task) {
-        for (int row = 0; row < planner.getRowCount(); row++) {
-            var sameTimeRow = (planner.getValueAt(row, 0)).equals(task.getTime().toString());
+        var model = planner.getModel();
+
+        for (int row = 0; row < model.getRowCount(); row++) {
+            var sameTimeRow = (model.getValueAt(row, 0)).equals(task.getTime().toString());
             if (!sameTimeRow) continue;
 
-            for (int column = 0; column < planner.getColumnCount(); column++) {
-                var value = planner.getValueAt(row, column).toString();
-                var sameColumnNames = (planner.getColumnName(column)).equalsIgnoreCase(task.getWeekday().getWeekdayPL());
+            for (int column = 0; column < model.getColumnCount(); column++) {
+                var value = model.getValueAt(row, column).toString();
+                var sameColumnNames = (model.getColumnName(column)).equalsIgnoreCase(task.getWeekday().getWeekdayPL());
                 if (!sameColumnNames) continue;
                 var samePoints = value.contains(String.format("%s/%d", task.calculatePoints(), task.getPriority()));
                 if (samePoints) return true;
@@ -282,14 +307,18 @@ public class PlannerService {
 
     /**
      * Try to find the value of the selected cell in the {@link #planner}. It creates {@link Point} based on the
-     * selected row and column. Then, it checks if the point is valid and returns the value of the selected cell.
+     * selected row and column. Then, it checks if the point is valid and returns the value of the selected cell. The
+     * value of a cell whose task is hidden by the filter of the planner isn't returned.
      *
      * @return a {@link String} with the value of the selected cell in the {@link #planner} or null
      * @see MainPanelController#deleteTask()
+     * @see PlannerView#isTaskCellHidden(int, int)
      */
     public String getSelectedValue() {
         var point = new Point(planner.getSelectedRow(), planner.getSelectedColumn());
-        return ((point.x != -1) && (point.y != -1)) ? planner.getValueAt(point.x, point.y).toString() : null;
+        var isShown = (point.x != -1) && (point.y != -1) && !planner.isTaskCellHidden(point.x, point.y);
+
+        return isShown ? planner.getValueAt(point.x, point.y).toString() : null;
     }
 
     /**
@@ -308,8 +337,8 @@ public class PlannerService {
     }
 
     /**
-     * Try to find the selected weekday in the {@link #planner}. It gets a value from the first row in the selected
-     * column and converts it into {@link WeekDays}.
+     * Try to find the selected weekday in the {@link #planner}. It converts the selected column to the index of the
+     * model and gets the {@link WeekDays} at the corresponding position.
      *
      * @return a {@link WeekDays} with the selected weekday in the {@link #planner}
      * @see MainPanelController#deleteTask()
@@ -317,7 +346,7 @@ public class PlannerService {
      * @see PlannerController#openFullWeekdaySchedule()
      */
     public WeekDays getSelectedWeekday() {
-        return WeekDays.valueOfPL(planner.getValueAt(0, planner.getSelectedColumn()).toString());
+        return WeekDays.getWeekdayAt(planner.convertColumnIndexToModel(planner.getSelectedColumn()) - 1);
     }
 
     //region helper methods
@@ -352,7 +381,8 @@ public class PlannerService {
         var totalPoints = tasksService.countPoints(weekday, SingleTask::getPriority);
         var newSummarize = String.format("%d/%d", achievedPoints, totalPoints);
 
-        planner.setValueAt(newSummarize, planner.getRowCount() - 1, findColumnIndex(weekday));
+        var column = planner.convertColumnIndexToView(findColumnIndex(weekday));
+        planner.setValueAt(newSummarize, planner.getRowCount() - 1, Math.max(column, 0));
     }
     //endregion
 }
\ No newline at end of file
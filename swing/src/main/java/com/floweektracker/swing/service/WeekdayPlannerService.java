@@ -1,9 +1,9 @@
-package com.floweektracker.service;
+package com.floweektracker.swing.service;
 
 import com.floweektracker.MainFrame;
 import com.floweektracker.controller.MainPanelController;
-import com.floweektracker.model.SingleTask;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.model.*;
+import com.floweektracker.util.ErrorReporter;
 import com.floweektracker.view.WeekdayPlannerView;
 import lombok.*;
 import org.jetbrains.annotations.NotNull;
@@ -21,7 +21,7 @@ import java.util.stream.*;
  * FIELDS: {@link #service}
  * <br><br>
  * CRUD METHODS: {@link #addTask(SingleTask)}, {@link #deleteTask(SingleTask)},
- * {@link #editTask(SingleTask, SingleTask)}
+ * {@link #editTask(SingleTask, SingleTask)}, {@link #refreshWeekdays(List)}
  * <br><br>
  * GETTER METHODS: {@link #getWeekdayPlannerView(String)},
  * <br><br>
@@ -142,11 +142,29 @@ public class WeekdayPlannerService {
         if ((task == null) || (editedTask == null) || task.equals(editedTask)) return false;
 
         if (!deleteTask(task)) return false;
-        if (!addTask(editedTask)) DialogUtils.rollback(task, this::addTask, this::isTaskInWeekdayPlanner);
+        if (!addTask(editedTask)) ErrorReporter.rollback(task, this::addTask, this::isTaskInWeekdayPlanner);
 
         return !isTaskInWeekdayPlanner(task) && isTaskInWeekdayPlanner(editedTask);
     }
 
+    /**
+     * Rebuilds the weekday planner views of the given weekdays from the schedule, so each view is updated only once
+     * after a bulk operation.
+     *
+     * @param weekdays a list of the weekdays which views should be rebuilt
+     * @see WeekdayPlannerView#reloadTasks()
+     * @see MainPanelController#deleteTasksForWeekdays(List)
+     * @see MainPanelController#resetPoints(List)
+     */
+    public void refreshWeekdays(List<WeekDays> weekdays) {
+        if (weekdays == null) return;
+
+        weekdays.stream()
+                .map(weekday -> getWeekdayPlannerView(weekday.toString()))
+                .filter(Objects::nonNull)
+                .forEach(WeekdayPlannerView::reloadTasks);
+    }
+
     /**
      * @param weekdayName a given weekday name which should be used to find the weekday planner view in the
      *                    {@link MainFrame#cardPanel}
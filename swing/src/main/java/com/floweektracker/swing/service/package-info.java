@@ -0,0 +1,17 @@
+/**
+ * Swing service package contains the services of the window of the application, which handle the logic of the views
+ * built with Swing. They use the services of the {@link com.floweektracker.service} package of the core, which never
+ * call them.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>CleanerService</b> - handles logic for {@link com.floweektracker.view.CleanerView}; implemented as a singleton</li>
+ *     <li><b>PlannerService</b> - handles logic for the {@link com.floweektracker.view.PlannerView}; implemented as a singleton</li>
+ *     <li><b>WeekdayPlannerService</b> - handles logic for the {@link com.floweektracker.view.WeekdayPlannerView}; implemented as a singleton</li>
+ * </ul>
+ *
+ * @see com.floweektracker.controller
+ * @see com.floweektracker.view
+ * @see com.floweektracker.service
+ */
+package com.floweektracker.swing.service;
\ No newline at end of file
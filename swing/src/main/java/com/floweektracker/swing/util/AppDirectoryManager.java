@@ -1,5 +1,6 @@
-package com.floweektracker.util;
+package com.floweektracker.swing.util;
 
+import com.floweektracker.util.DataFolders;
 import lombok.*;
 import org.jetbrains.annotations.NotNull;
 
@@ -27,14 +28,15 @@ public class AppDirectoryManager {
     @Getter
     private static final AppDirectoryManager instance = new AppDirectoryManager();
     /**
-     * Contains a reference to the application's directory, where necessary data files are stored. It can be modified by
-     * the {@link #createUserDirectory()} method.
+     * Contains a reference to the application's directory, where necessary data files are stored. It is the
+     * {@link DataFolders#getDefaultFolder()} at first, and it can be modified by the {@link #createUserDirectory()}
+     * method.
      *
      * @see com.floweektracker.repository.PlannerRepository
      * @see com.floweektracker.repository.TaskNamesRepository
      */
     @Getter
-    private File dataFolder = new File(System.getProperty("user.dir"), "data");
+    private File dataFolder = DataFolders.getDefaultFolder();
     private JFileChooser folderChooser = createFolderChooser();
 
     /**
@@ -0,0 +1,233 @@
+package com.floweektracker.swing.util;
+
+import lombok.Getter;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Represents a long operation executed by the {@link BackgroundTaskExecutor} outside the event dispatch thread (EDT).
+ * It works similarly to the {@link SwingWorker}: the {@link #doInBackground()} method runs on a virtual thread, the
+ * chunks published by {@link #publish(Object)} are coalesced and passed to {@link #process(List)} on the EDT, and the
+ * result is passed to {@link #done(Object)} on the EDT. When the task is cancelled, {@link #cancelled()} is called
+ * instead of {@link #done(Object)}, so the EDT applies only the final result of the task.
+ * <br><br>
+ * Fields: {@link #title}, {@link #progress}, {@link #cancelled}, {@link #started}, {@link #chunks}, {@link #future}
+ * <br><br>
+ * Methods: {@link #doInBackground()}, {@link #process(List)}, {@link #done(Object)}, {@link #failed(Exception)},
+ * {@link #cancelled()}, {@link #publish(Object)}, {@link #setProgress(int)}, {@link #cancel()}, {@link #run()},
+ * {@link #finishNotStarted()}, {@link #complete(Object, Exception)}
+ *
+ * @param <T> a type of the result of the task
+ * @param <V> a type of the chunks published by the task
+ */
+public abstract class BackgroundTask<T, V> {
+    /**
+     * Represents a title of the task displayed in the progress indicator.
+     */
+    @Getter
+    private final String title;
+    /**
+     * Represents a progress of the task in percent or -1 when the progress is unknown.
+     *
+     * @see #setProgress(int)
+     */
+    private final AtomicInteger progress = new AtomicInteger(-1);
+    private final AtomicBoolean progressUpdateScheduled = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    /**
+     * Represents if the task was started by the {@link #run()} or finished without running by the
+     * {@link #finishNotStarted()}, so the task is completed only once.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+    /**
+     * Contains the chunks published by the task and not yet processed on the EDT.
+     *
+     * @see #publish(Object)
+     * @see #processChunks()
+     */
+    private final List<V> chunks = new ArrayList<>();
+    private volatile Future<?> future;
+
+    /**
+     * @param title a title of the task displayed in the progress indicator
+     */
+    protected BackgroundTask(String title) {
+        this.title = title;
+    }
+
+    //region methods overridden by tasks
+
+    /**
+     * Executes the task outside the EDT. It shouldn't touch any Swing component.
+     *
+     * @return a result of the task passed to the {@link #done(Object)} method
+     * @throws Exception when the task fails
+     */
+    protected abstract T doInBackground() throws Exception;
+
+    /**
+     * Processes published chunks on the EDT. Chunks published between two calls are passed together.
+     *
+     * @param chunks a list of the coalesced chunks
+     */
+    protected void process(List<V> chunks) {}
+
+    /**
+     * Applies the result of the task on the EDT.
+     *
+     * @param result a result returned by {@link #doInBackground()}
+     */
+    protected void done(T result) {}
+
+    /**
+     * Handles an exception thrown by {@link #doInBackground()} on the EDT. By default, it shows a message to the user.
+     *
+     * @param exception a thrown exception
+     */
+    protected void failed(Exception exception) {
+        DialogUtils.showMessageDialog("Błąd operacji", "Operacja \"%s\" nie powiodła się.".formatted(title));
+    }
+
+    /**
+     * Called on the EDT, when the task is cancelled.
+     */
+    protected void cancelled() {}
+    //endregion
+
+    //region methods called by tasks
+
+    /**
+     * Adds a chunk which should be processed on the EDT. Processing is scheduled only for the first chunk published
+     * after the last processing, so many chunks result in a single EDT update.
+     *
+     * @param chunk a given chunk
+     * @see #process(List)
+     */
+    protected final void publish(V chunk) {
+        synchronized (chunks) {
+            chunks.add(chunk);
+            if (chunks.size() == 1) SwingUtilities.invokeLater(this::processChunks);
+        }
+    }
+
+    /**
+     * Sets the progress of the task. Updates of the progress indicator are coalesced in the same way as chunks.
+     *
+     * @param progress a progress in percent, between 0 and 100
+     */
+    protected final void setProgress(int progress) {
+        this.progress.set(Math.clamp(progress, 0, 100));
+
+        if (progressUpdateScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                progressUpdateScheduled.set(false);
+                BackgroundTaskExecutor.getExecutor().notifyObserver(this);
+            });
+        }
+    }
+    //endregion
+
+    /**
+     * @return a progress of the task in percent or -1 when the progress is unknown
+     */
+    public int getProgress() {
+        return progress.get();
+    }
+
+    /**
+     * Cancels the task. The background thread is interrupted and the result of the task isn't applied.
+     *
+     * @see com.floweektracker.view.ProgressView
+     */
+    public void cancel() {
+        cancelled.set(true);
+        var runningFuture = future;
+        if (runningFuture != null) runningFuture.cancel(true);
+    }
+
+    /**
+     * @return true if the task was cancelled, otherwise false
+     */
+    public boolean isCancelled() {
+        return cancelled.get() || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * @param future a future of the task set by the {@link BackgroundTaskExecutor}
+     */
+    void setFuture(Future<?> future) {
+        this.future = future;
+        if (cancelled.get()) future.cancel(true);
+    }
+
+    /**
+     * Runs {@link #doInBackground()} and then schedules processing of the result on the EDT.
+     *
+     * @see BackgroundTaskExecutor#execute(BackgroundTask)
+     */
+    void run() {
+        if (!started.compareAndSet(false, true)) return;
+
+        T result = null;
+        Exception exception = null;
+
+        try {
+            if (!cancelled.get()) result = doInBackground();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        complete(result, exception);
+    }
+
+    /**
+     * Completes the task which was cancelled before the {@link #run()} started, so it is finished on the EDT although
+     * it never runs.
+     *
+     * @see BackgroundTaskExecutor#execute(BackgroundTask)
+     */
+    void finishNotStarted() {
+        if (started.compareAndSet(false, true)) complete(null, null);
+    }
+
+    //region helper methods
+    /**
+     * Schedules processing of the result of the task on the EDT and then finishes it in the
+     * {@link BackgroundTaskExecutor}.
+     *
+     * @param result    a result of the task or null when it failed
+     * @param exception an exception thrown by the task or null when it didn't fail
+     */
+    private void complete(T result, Exception exception) {
+        SwingUtilities.invokeLater(() -> {
+            processChunks();
+
+            try {
+                if (cancelled.get()) cancelled();
+                else if (exception != null) failed(exception);
+                else done(result);
+            } finally {
+                BackgroundTaskExecutor.getExecutor().finish(this);
+            }
+        });
+    }
+
+    /**
+     * Passes all published chunks to the {@link #process(List)} method. It is called on the EDT.
+     */
+    private void processChunks() {
+        List<V> publishedChunks;
+
+        synchronized (chunks) {
+            if (chunks.isEmpty()) return;
+            publishedChunks = new ArrayList<>(chunks);
+            chunks.clear();
+        }
+
+        if (!cancelled.get()) process(publishedChunks);
+    }
+    //endregion
+}
@@ -0,0 +1,100 @@
+package com.floweektracker.swing.util;
+
+import lombok.*;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Represents the executor of the {@link BackgroundTask}s. Each task runs on its own virtual thread, so long I/O and bulk
+ * operations don't block the event dispatch thread (EDT). The executor keeps a list of active tasks and notifies the
+ * {@link #observer} on the EDT when a task starts, changes its progress or finishes. It is a singleton.
+ * <br><br>
+ * Fields: {@link #executor}, {@link #threads}, {@link #activeTasks}, {@link #observer}
+ * <br><br>
+ * Methods: {@link #execute(BackgroundTask)}, {@link #getActiveTasks()}, {@link #notifyObserver(BackgroundTask)},
+ * {@link #finish(BackgroundTask)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BackgroundTaskExecutor {
+    /**
+     * A singleton instance of the {@link BackgroundTaskExecutor} class.
+     *
+     * @see com.floweektracker.Main
+     * @see com.floweektracker.MainFrame
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    @Getter
+    private static final BackgroundTaskExecutor executor = new BackgroundTaskExecutor();
+    private final ExecutorService threads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("background-task-", 0).factory()
+    );
+    /**
+     * Contains tasks which are started and not yet finished. It is accessed only on the EDT.
+     */
+    private final List<BackgroundTask<?, ?>> activeTasks = new ArrayList<>();
+    /**
+     * Contains an observer notified on the EDT about started, changed and finished tasks.
+     *
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    @Setter
+    private Consumer<BackgroundTask<?, ?>> observer;
+
+    /**
+     * Starts the given task on a virtual thread and notifies the {@link #observer}. When it is called outside the EDT,
+     * registering of the task is moved to the EDT. The task runs in a {@link FutureTask}, so the task cancelled before
+     * it starts is finished by the future instead of staying in the {@link #activeTasks}.
+     *
+     * @param task a given task which should be executed
+     * @return the given task, which can be used to cancel it
+     */
+    public <T extends BackgroundTask<?, ?>> T execute(@NonNull T task) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> execute(task));
+            return task;
+        }
+
+        activeTasks.add(task);
+        notifyObserver(task);
+        var future = new FutureTask<Void>(task::run, null) {
+            @Override
+            protected void done() {
+                if (isCancelled()) task.finishNotStarted();
+            }
+        };
+        task.setFuture(future);
+        threads.execute(future);
+
+        return task;
+    }
+
+    /**
+     * @return an unmodifiable list of the tasks which are running
+     */
+    public List<BackgroundTask<?, ?>> getActiveTasks() {
+        return Collections.unmodifiableList(activeTasks);
+    }
+
+    /**
+     * Notifies the {@link #observer} about a change of the given task. It is called on the EDT.
+     *
+     * @param task a given task which changed
+     */
+    void notifyObserver(BackgroundTask<?, ?> task) {
+        if (observer != null) observer.accept(task);
+    }
+
+    /**
+     * Removes the given task from the {@link #activeTasks} and notifies the {@link #observer}. It is called on the EDT.
+     *
+     * @param task a given task which finished
+     */
+    void finish(BackgroundTask<?, ?> task) {
+        activeTasks.remove(task);
+        notifyObserver(task);
+    }
+}
@@ -0,0 +1,29 @@
+package com.floweektracker.swing.util;
+
+import com.floweektracker.util.ErrorReporter;
+import lombok.experimental.UtilityClass;
+
+import javax.swing.*;
+
+/**
+ * Represents class that provides utility methods for the dialogs of the UI. The model, the repositories and the
+ * services don't use it directly, but report their errors by the {@link ErrorReporter}, whose handler shows them by
+ * {@link #showMessageDialog(String, String)} in the Swing application.
+ * <br><br>
+ * Methods: {@link #showMessageDialog(String, String)}
+ */
+@UtilityClass
+public class DialogUtils {
+    /**
+     * Displays message dialog to the user with given title and message. It breaks if title or message are null or
+     * empty.
+     *
+     * @param title   a given title of the dialog
+     * @param message a given message of the dialog
+     */
+    public static void showMessageDialog(String title, String message) {
+        if (title == null || title.isBlank() || message == null || message.isBlank()) return;
+
+        JOptionPane.showMessageDialog(null, message, title, JOptionPane.ERROR_MESSAGE);
+    }
+}
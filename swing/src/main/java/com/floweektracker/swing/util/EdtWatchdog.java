@@ -0,0 +1,291 @@
+package com.floweektracker.swing.util;
+
+import lombok.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a watchdog of the Swing event dispatch thread (EDT). When it is enabled, it pushes a
+ * {@link WatchdogEventQueue} on the system event queue, which measures how long each event is dispatched. A monitor
+ * thread checks the current dispatch periodically and when it takes longer than {@link #thresholdMillis}, it captures
+ * the stack of the EDT and records it as a {@link StallRecord}. Logging of the stalls is rate limited by
+ * {@link #logIntervalMillis}. The watchdog can be switched on and off at runtime. It is a singleton.
+ * <br><br>
+ * Fields: {@link #watchdog}, {@link #stalls}, {@link #thresholdMillis}, {@link #logIntervalMillis},
+ * {@link #eventQueue}, {@link #monitor}
+ * <br><br>
+ * Methods: {@link #enable()}, {@link #disable()}, {@link #setEnabled(boolean)}, {@link #isEnabled()},
+ * {@link #getWorstOffenders(int)}, {@link #clearStalls()}, {@link #checkCurrentDispatch()},
+ * {@link #recordStall(String, StackTraceElement[], long, boolean)}, {@link #findOffenderKey(StackTraceElement[])}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EdtWatchdog {
+    /**
+     * A singleton instance of the {@link EdtWatchdog} class.
+     *
+     * @see com.floweektracker.Main
+     * @see com.floweektracker.view.EdtWatchdogView
+     */
+    @Getter
+    private static final EdtWatchdog watchdog = new EdtWatchdog();
+    private static final System.Logger LOGGER = System.getLogger(EdtWatchdog.class.getName());
+    /**
+     * Contains recorded stalls grouped by the place in the code which blocked the EDT.
+     *
+     * @see #recordStall(String, StackTraceElement[], long, boolean)
+     * @see #getWorstOffenders(int)
+     */
+    private final Map<String, StallRecord> stalls = new ConcurrentHashMap<>();
+    /**
+     * Contains a time of the last logged stall used to limit the number of the log entries.
+     *
+     * @see #recordStall(String, StackTraceElement[], long, boolean)
+     */
+    private final AtomicLong lastLogTime = new AtomicLong();
+    /**
+     * Represents a time in milliseconds after which a dispatched event is treated as a stall.
+     */
+    @Getter
+    @Setter
+    private volatile long thresholdMillis = 200;
+    /**
+     * Represents a minimal time in milliseconds between two logged stalls.
+     */
+    @Getter
+    @Setter
+    private volatile long logIntervalMillis = 10_000;
+    private WatchdogEventQueue eventQueue;
+    private ScheduledExecutorService monitor;
+
+    //region switching methods
+
+    /**
+     * Enables the watchdog by pushing the {@link #eventQueue} on the system event queue and starting the
+     * {@link #monitor} thread. It does nothing when the watchdog is already enabled.
+     *
+     * @see #setEnabled(boolean)
+     */
+    public synchronized void enable() {
+        if (isEnabled()) return;
+
+        eventQueue = new WatchdogEventQueue();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(eventQueue);
+
+        monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var period = Math.max(10, thresholdMillis / 4);
+        monitor.scheduleAtFixedRate(this::checkCurrentDispatch, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Disables the watchdog by stopping the {@link #monitor} thread and popping the {@link #eventQueue} from the system
+     * event queue. Recorded stalls are kept. It does nothing when the watchdog is already disabled.
+     *
+     * @see #setEnabled(boolean)
+     */
+    public synchronized void disable() {
+        if (!isEnabled()) return;
+
+        monitor.shutdownNow();
+        eventQueue.detach();
+        monitor = null;
+        eventQueue = null;
+    }
+
+    /**
+     * @param enabled true if the watchdog should be enabled, otherwise false
+     * @see com.floweektracker.view.EdtWatchdogView
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled) enable();
+        else disable();
+    }
+
+    /**
+     * @return true if the watchdog is currently enabled, otherwise false
+     */
+    public synchronized boolean isEnabled() {
+        return eventQueue != null;
+    }
+    //endregion
+
+    //region stalls methods
+
+    /**
+     * @param limit a maximal number of returned records
+     * @return a {@link List} of the recorded stalls sorted descending by the longest stall time
+     * @see com.floweektracker.view.EdtWatchdogView
+     */
+    public List<StallRecord> getWorstOffenders(int limit) {
+        return stalls.values().stream()
+                .sorted(Comparator.comparingLong(StallRecord::getMaxMillis).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * Removes all recorded stalls.
+     *
+     * @see com.floweektracker.view.EdtWatchdogView
+     */
+    public void clearStalls() {
+        stalls.clear();
+    }
+
+    /**
+     * Checks the dispatch currently running in the {@link #eventQueue}. When it takes longer than
+     * {@link #thresholdMillis} and its stack hasn't been captured yet, it captures the stack of the EDT and records the
+     * stall. It is called periodically by the {@link #monitor}.
+     *
+     * @see #enable()
+     */
+    private void checkCurrentDispatch() {
+        var queue = eventQueue;
+        if (queue == null) return;
+
+        var dispatch = queue.currentDispatch;
+        if (dispatch == null || dispatch.captured) return;
+
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dispatch.startNanos);
+        if (elapsedMillis < thresholdMillis) return;
+
+        dispatch.stack = dispatch.thread.getStackTrace();
+        dispatch.offenderKey = findOffenderKey(dispatch.stack);
+        dispatch.captured = true;
+        recordStall(dispatch.offenderKey, dispatch.stack, elapsedMillis, false);
+    }
+
+    /**
+     * Records a stall under the given key and logs it when the last log entry is older than
+     * {@link #logIntervalMillis}.
+     *
+     * @param key           a given key representing the place which blocked the EDT
+     * @param stack         a captured stack of the EDT
+     * @param elapsedMillis a time in milliseconds for which the EDT was blocked
+     * @param finished      true if the stalled event is already dispatched, otherwise false
+     * @see #checkCurrentDispatch()
+     * @see WatchdogEventQueue#dispatchEvent(AWTEvent)
+     */
+    private void recordStall(@NotNull String key, StackTraceElement[] stack, long elapsedMillis, boolean finished) {
+        var stall = stalls.computeIfAbsent(key, StallRecord::new);
+        var isNewStall = stall.update(stack, elapsedMillis, finished);
+
+        var now = System.currentTimeMillis();
+        var lastLog = lastLogTime.get();
+        if (isNewStall && (now - lastLog >= logIntervalMillis) && lastLogTime.compareAndSet(lastLog, now)) {
+            LOGGER.log(System.Logger.Level.WARNING, "EDT blocked for {0} ms in {1}", elapsedMillis, key);
+        }
+    }
+
+    /**
+     * Finds the first frame of the given stack which belongs to the application. When there isn't any, it returns the
+     * top frame of the stack.
+     *
+     * @param stack a captured stack of the EDT
+     * @return a {@link String} representing the place in the code which blocked the EDT
+     * @see #checkCurrentDispatch()
+     */
+    private String findOffenderKey(StackTraceElement[] stack) {
+        if (stack == null || stack.length == 0) return "unknown";
+
+        return Arrays.stream(stack)
+                .filter(frame -> frame.getClassName().startsWith("com.floweektracker"))
+                .filter(frame -> !frame.getClassName().startsWith(EdtWatchdog.class.getName()))
+                .findFirst()
+                .orElse(stack[0])
+                .toString();
+    }
+    //endregion
+
+    /**
+     * Represents all stalls recorded for one place in the code. It contains the number of stalls, the longest and
+     * total time of the stalls, and a stack captured during the longest stall.
+     */
+    @Getter
+    public static class StallRecord {
+        private final String offender;
+        private long count;
+        private long maxMillis;
+        private long totalMillis;
+        private StackTraceElement[] stack = new StackTraceElement[0];
+
+        private StallRecord(String offender) {
+            this.offender = offender;
+        }
+
+        /**
+         * Updates the record with the given stall. A stall is counted when it is detected, and its time is added to
+         * the total time when the event is finally dispatched.
+         *
+         * @param stack         a captured stack of the EDT
+         * @param elapsedMillis a time of the stall in milliseconds
+         * @param finished      true if the stalled event is already dispatched, otherwise false
+         * @return true if the stall is new, otherwise false
+         */
+        private synchronized boolean update(StackTraceElement[] stack, long elapsedMillis, boolean finished) {
+            if (finished) totalMillis += elapsedMillis;
+            else count++;
+
+            if (elapsedMillis >= maxMillis) {
+                maxMillis = elapsedMillis;
+                this.stack = stack;
+            }
+
+            return !finished;
+        }
+    }
+
+    /**
+     * Contains information about an event which is currently dispatched by the {@link WatchdogEventQueue}.
+     */
+    private static final class Dispatch {
+        private final Thread thread = Thread.currentThread();
+        private final long startNanos = System.nanoTime();
+        private volatile boolean captured;
+        private volatile String offenderKey;
+        private volatile StackTraceElement[] stack;
+    }
+
+    /**
+     * Event queue measuring the time of each dispatched event. Nested dispatches, e.g. caused by modal dialogs, restart
+     * the measured time of the outer event, so waiting for the user isn't treated as a stall.
+     */
+    private final class WatchdogEventQueue extends EventQueue {
+        private volatile Dispatch currentDispatch;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            var outerDispatch = currentDispatch;
+            var dispatch = new Dispatch();
+            currentDispatch = dispatch;
+
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                currentDispatch = (outerDispatch != null) ? new Dispatch() : null;
+
+                if (dispatch.captured) {
+                    var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dispatch.startNanos);
+                    recordStall(dispatch.offenderKey, dispatch.stack, elapsedMillis, true);
+                }
+            }
+        }
+
+        /**
+         * Pops this queue from the system event queue.
+         *
+         * @see #disable()
+         */
+        private void detach() {
+            pop();
+        }
+    }
+}
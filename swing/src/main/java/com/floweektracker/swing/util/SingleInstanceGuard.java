@@ -0,0 +1,229 @@
+package com.floweektracker.swing.util;
+
+import com.floweektracker.util.DataFolderLock;
+import lombok.*;
+
+import javax.swing.*;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Represents a guard which allows only one running instance of the application for a data folder. The first instance
+ * locks the data folder by the {@link DataFolderLock}, like the command line does, and listens for {@link Command}s on
+ * a loopback socket, whose port is written to the {@link #PORT_FILE}. Next instances can't lock the file, so they send
+ * their command to the running instance and exit without starting their own window. Received commands are passed to
+ * the {@link #commandHandler} on the event dispatch thread. It is a singleton.
+ * <br><br>
+ * Fields: {@link #guard}, {@link #folderLock}, {@link #serverSocket}, {@link #commandHandler},
+ * {@link #pendingCommands}
+ * <br><br>
+ * Methods: {@link #tryAcquire(File)}, {@link #sendCommand(File, Command)}, {@link #setCommandHandler(Consumer)},
+ * {@link #dispatch(Command)}, {@link #release()}, {@link #startServer(File)}, {@link #acceptCommands(ServerSocket)},
+ * {@link #readCommand(Socket)}, {@link #readPort(File)}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SingleInstanceGuard {
+    /**
+     * A singleton instance of the {@link SingleInstanceGuard} class.
+     *
+     * @see com.floweektracker.Main
+     * @see com.floweektracker.MainFrame
+     */
+    @Getter
+    private static final SingleInstanceGuard guard = new SingleInstanceGuard();
+    private static final System.Logger LOGGER = System.getLogger(SingleInstanceGuard.class.getName());
+    /**
+     * Represents a name of the file in the data folder, which contains the port of the running instance.
+     */
+    static final String PORT_FILE = ".instance";
+    private static final int TIMEOUT_MILLIS = 500;
+    private static final int SEND_ATTEMPTS = 10;
+
+    /**
+     * Represents commands which can be sent to the running instance.
+     */
+    public enum Command {
+        /**
+         * Brings the window of the running instance to front.
+         */
+        FOCUS,
+        /**
+         * Brings the window of the running instance to front and opens the task adding dialog.
+         */
+        ADD_TASK
+    }
+
+    private final DataFolderLock folderLock = DataFolderLock.getInstance();
+    private ServerSocket serverSocket;
+    /**
+     * Contains a handler of the received commands. It is accessed only on the EDT.
+     *
+     * @see #setCommandHandler(Consumer)
+     */
+    private Consumer<Command> commandHandler;
+    /**
+     * Contains commands received before the {@link #commandHandler} was set. It is accessed only on the EDT.
+     */
+    private final Queue<Command> pendingCommands = new ArrayDeque<>();
+
+    /**
+     * Tries to lock the given data folder for this instance. When the lock is acquired, it starts listening for the
+     * commands of next instances. When the guard can't work, e.g. the lock file can't be created, the application is
+     * allowed to run.
+     *
+     * @param dataFolder a given data folder of the application
+     * @return true if this instance can use the given data folder, false if another instance is running
+     * @see com.floweektracker.Main
+     */
+    public synchronized boolean tryAcquire(@NonNull File dataFolder) {
+        if (!folderLock.tryAcquire(dataFolder)) return false;
+
+        var lockedFolder = folderLock.getLockedFolder();
+        if ((lockedFolder != null) && (serverSocket == null)) {
+            try {
+                startServer(lockedFolder);
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Single instance guard is not available", e);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends the given command to the instance running for the given data folder. The running instance may still be
+     * starting, so sending is repeated a few times.
+     *
+     * @param dataFolder a given data folder of the running instance
+     * @param command    a given command
+     * @return true if the command was sent, otherwise false
+     * @see com.floweektracker.Main
+     */
+    public boolean sendCommand(@NonNull File dataFolder, @NonNull Command command) {
+        for (int attempt = 0; attempt < SEND_ATTEMPTS; attempt++) {
+            try (var socket = new Socket()) {
+                socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), readPort(dataFolder)), TIMEOUT_MILLIS);
+                socket.getOutputStream().write((command.name() + "\n").getBytes(StandardCharsets.UTF_8));
+
+                return true;
+            } catch (IOException | NumberFormatException e) {
+                try {
+                    Thread.sleep(TIMEOUT_MILLIS / SEND_ATTEMPTS);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the handler of the received commands and passes to it all pending commands. It should be called on the EDT.
+     *
+     * @param commandHandler a given handler of the commands
+     * @see com.floweektracker.MainFrame
+     */
+    public void setCommandHandler(Consumer<Command> commandHandler) {
+        this.commandHandler = commandHandler;
+
+        while ((commandHandler != null) && !pendingCommands.isEmpty()) commandHandler.accept(pendingCommands.poll());
+    }
+
+    /**
+     * Passes the given command to the {@link #commandHandler} or keeps it until the handler is set. It should be called
+     * on the EDT.
+     *
+     * @param command a given command
+     * @see com.floweektracker.Main
+     */
+    public void dispatch(@NonNull Command command) {
+        if (commandHandler != null) commandHandler.accept(command);
+        else pendingCommands.add(command);
+    }
+
+    /**
+     * Stops listening for the commands and releases the lock of the data folder.
+     *
+     * @see com.floweektracker.MainFrame
+     */
+    public synchronized void release() {
+        var lockedFolder = folderLock.getLockedFolder();
+        if (lockedFolder == null) return;
+
+        try {
+            if (serverSocket != null) serverSocket.close();
+            Files.deleteIfExists(new File(lockedFolder, PORT_FILE).toPath());
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Single instance guard was not released correctly", e);
+        } finally {
+            serverSocket = null;
+            folderLock.release();
+        }
+    }
+
+    //region helper methods
+    /**
+     * Opens a socket on the loopback address with a free port, writes the port to the {@link #PORT_FILE} and accepts
+     * commands on a virtual thread.
+     *
+     * @param lockedFolder a given data folder locked by this instance
+     * @throws IOException when the socket can't be opened or the port can't be written
+     * @see #tryAcquire(File)
+     */
+    private void startServer(File lockedFolder) throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Files.writeString(new File(lockedFolder, PORT_FILE).toPath(), String.valueOf(serverSocket.getLocalPort()));
+
+        var socket = serverSocket;
+        Thread.ofVirtual().name("single-instance-guard").start(() -> acceptCommands(socket));
+    }
+
+    /**
+     * Accepts connections until the given socket is closed and dispatches the received commands on the EDT.
+     *
+     * @param socket a given server socket
+     * @see #startServer()
+     */
+    private void acceptCommands(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try (var client = socket.accept()) {
+                var command = readCommand(client);
+                if (command != null) SwingUtilities.invokeLater(() -> dispatch(command));
+            } catch (IOException e) {
+                if (!socket.isClosed()) LOGGER.log(System.Logger.Level.DEBUG, "Command was not received", e);
+            }
+        }
+    }
+
+    /**
+     * @param client a given connection with another instance
+     * @return a received command or null when the message isn't a known command
+     * @throws IOException when the message can't be read
+     */
+    private Command readCommand(Socket client) throws IOException {
+        client.setSoTimeout(TIMEOUT_MILLIS);
+        var reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+        var line = reader.readLine();
+
+        return Arrays.stream(Command.values())
+                .filter(command -> command.name().equals(line))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * @param dataFolder a given data folder of the running instance
+     * @return a port of the running instance
+     * @throws IOException when the {@link #PORT_FILE} can't be read
+     */
+    private int readPort(File dataFolder) throws IOException {
+        return Integer.parseInt(Files.readString(new File(dataFolder, PORT_FILE).toPath()).trim());
+    }
+    //endregion
+}
@@ -0,0 +1,15 @@
+/**
+ * Swing util package contains utility classes of the window of the application, which depend on Swing or on the
+ * event dispatch thread. The utilities without Swing are in the {@link com.floweektracker.util} package of the core.
+ * <p></p>
+ * <p>Class overview:</p>
+ * <ul>
+ *     <li><b>AppDirectoryManager</b> - manages the folder where the data is stored</li>
+ *     <li><b>BackgroundTask</b> - a base class for long operations executed outside the event dispatch thread, which publish coalesced updates to it</li>
+ *     <li><b>BackgroundTaskExecutor</b> - runs background tasks on virtual threads and notifies an observer about their progress; implemented as a singleton</li>
+ *     <li><b>DialogUtils</b> - provides helper methods for managing dialogs of the UI</li>
+ *     <li><b>EdtWatchdog</b> - detects long running events on the Swing event dispatch thread and records their stacks; implemented as a singleton</li>
+ *     <li><b>SingleInstanceGuard</b> - locks the data folder for one running instance and passes commands of next launches to it; implemented as a singleton</li>
+ * </ul>
+ */
+package com.floweektracker.swing.util;
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.floweektracker.view;
+
+import com.floweektracker.swing.util.EdtWatchdog;
+import lombok.Getter;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Represents the UI of the summary of the EDT stalls recorded by the {@link EdtWatchdog}. It shows a table with the
+ * worst offenders, a checkbox allowing to switch the watchdog on and off, and buttons to refresh or clear the summary.
+ * This class is a singleton.
+ * <br><br>
+ * Fields: {@link #view}, {@link #dialog}, {@link #enabledCheckBox}, {@link #stallsTable}, {@link #buttons}
+ * <br><br>
+ * Methods: {@link #initDialog()}, {@link #createStallsTable()}, {@link #createButtonsPanel()},
+ * {@link #setStalls(List)}, {@link #makeDialogVisible()}
+ */
+@Getter
+public class EdtWatchdogView {
+    @Getter
+    private static final EdtWatchdogView view = new EdtWatchdogView();
+    private final JDialog dialog = new JDialog((Frame) null, "Monitor wątku interfejsu", false);
+    /**
+     * Contains a {@link JCheckBox} allowing the user to switch the {@link EdtWatchdog} on and off.
+     *
+     * @see com.floweektracker.controller.EdtWatchdogController
+     */
+    private final JCheckBox enabledCheckBox = new JCheckBox("Włącz monitorowanie");
+    /**
+     * Contains a {@link JTable} with the worst offenders recorded by the {@link EdtWatchdog}.
+     *
+     * @see #setStalls(List)
+     */
+    private final JTable stallsTable = createStallsTable();
+    /**
+     * Contains buttons for refreshing and clearing the summary.
+     *
+     * @see com.floweektracker.controller.EdtWatchdogController
+     */
+    private final JButton[] buttons = {new JButton("Odśwież"), new JButton("Wyczyść")};
+
+    /**
+     * Private constructor which calls {@link #initDialog()} method.
+     */
+    private EdtWatchdogView() {
+        initDialog();
+    }
+
+    /**
+     * Initializes the {@link #dialog} by setting its name and layout, and adding the {@link #enabledCheckBox}, the
+     * {@link #stallsTable} and the buttons panel.
+     *
+     * @see #createButtonsPanel()
+     */
+    private void initDialog() {
+        dialog.setName("edtWatchdogDialog");
+        dialog.setLayout(new BorderLayout());
+        enabledCheckBox.setName("enabledCheckBox");
+
+        dialog.add(enabledCheckBox, BorderLayout.NORTH);
+        dialog.add(new JScrollPane(stallsTable), BorderLayout.CENTER);
+        dialog.add(createButtonsPanel(), BorderLayout.SOUTH);
+        dialog.setSize(700, 300);
+    }
+
+    /**
+     * @return a not editable {@link JTable} with columns for the offender, the number of stalls, the longest and the
+     * total time of the stalls
+     */
+    private JTable createStallsTable() {
+        var model = new DefaultTableModel(new String[]{"Miejsce", "Liczba", "Maks. [ms]", "Łącznie [ms]"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {return false;}
+        };
+        var table = new JTable(model);
+        table.setName("stallsTable");
+        table.getColumnModel().getColumn(0).setPreferredWidth(400);
+
+        return table;
+    }
+
+    /**
+     * @return a {@link JPanel} with the {@link #buttons}
+     * @see #initDialog()
+     */
+    private JPanel createButtonsPanel() {
+        var buttonsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonsPanel.setName("buttonsPanel");
+        buttons[0].setName("refreshButton");
+        buttons[1].setName("clearButton");
+
+        for (JButton button : buttons) buttonsPanel.add(button);
+
+        return buttonsPanel;
+    }
+
+    /**
+     * Replaces rows of the {@link #stallsTable} with the given stalls.
+     *
+     * @param stalls a given list of the stalls which should be displayed
+     * @see com.floweektracker.controller.EdtWatchdogController
+     */
+    public void setStalls(List<EdtWatchdog.StallRecord> stalls) {
+        var model = (DefaultTableModel) stallsTable.getModel();
+        model.setRowCount(0);
+
+        stalls.forEach(stall -> model.addRow(new Object[]{
+                stall.getOffender(), stall.getCount(), stall.getMaxMillis(), stall.getTotalMillis()
+        }));
+    }
+
+    /**
+     * Makes the {@link #dialog} visible in the center of the screen.
+     *
+     * @see com.floweektracker.controller.EdtWatchdogController
+     */
+    public void makeDialogVisible() {
+        dialog.setLocationRelativeTo(null);
+        dialog.setVisible(true);
+    }
+}
@@ -1,7 +1,7 @@
 package com.floweektracker.view;
 
 import com.floweektracker.MainFrame;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.util.DialogUtils;
 
 import javax.swing.*;
 import java.awt.*;
@@ -0,0 +1,467 @@
+package com.floweektracker.view;
+
+import com.floweektracker.swing.service.PlannerService;
+import com.floweektracker.swing.util.DialogUtils;
+import lombok.Getter;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.util.List;
+import java.util.*;
+
+/**
+ * Represents the UI of the main panel displayed to the user after launching the application. It contains the main
+ * components of the application: title, search field, filters of the planner, planner and buttons. The planner is
+ * shown as the table or as the time grid, which are the cards of the {@link #plannerCards}.
+ * <br><br>
+ * Fields: {@link #TABLE_CARD}, {@link #GRID_CARD}, {@link #ZOOM_NAMES}, {@link #DONE_FILTER_NAMES}, {@link #view},
+ * {@link #buttons}, {@link #infoButton}, {@link #searchField}, {@link #searchInfo}, {@link #viewModeComboBox},
+ * {@link #zoomComboBox}, {@link #minPrioritySpinner}, {@link #maxPrioritySpinner}, {@link #doneFilterComboBox},
+ * {@link #nameFilterField}, {@link #clearFiltersButton}, {@link #filterInfo}, {@link #planner}, {@link #timeGrid},
+ * {@link #plannerCards}, {@link #progressView}
+ * <br><br>
+ * Methods: {@link #configureMainPanel()}, {@link #createTitlePanel()}, {@link #createSearchPanel()},
+ * {@link #createFilterPanel()}, {@link #createPlannerCards()}, {@link #showPlannerCard(String)},
+ * {@link #createButtonsPanel()}, {@link #createButtons()}, {@link #createBottomInfo()}, {@link #createInfoButton()},
+ * {@link #createTitleLabel()},
+ * {@link #createButton(String, String)}, {@link #createPanel(String, LayoutManager, int)},
+ * {@link #createLabel(String, String)}
+ */
+@Getter
+public class MainPanelView extends JPanel {
+    public static final String TABLE_CARD = "tablePlanner";
+    public static final String GRID_CARD = "gridPlanner";
+    /**
+     * Represents options of the {@link #zoomComboBox}, in the order of the {@link TimeGridView#ZOOM_LEVELS}.
+     */
+    public static final String[] ZOOM_NAMES = {"5 min", "10 min", "15 min", "30 min", "1 godz."};
+    /**
+     * Represents options of the {@link #doneFilterComboBox}: all tasks, not done tasks and done tasks.
+     */
+    public static final String[] DONE_FILTER_NAMES = {"Wszystkie", "Niewykonane", "Wykonane"};
+    /**
+     * Represents the singleton instance of the {@link MainPanelView} class.
+     *
+     * @see com.floweektracker.MainFrame
+     * @see #MainPanelView()
+     */
+    @Getter
+    private static final MainPanelView view = new MainPanelView();
+    /**
+     * Contains a {@link JList} with adding, removing, cleaning, resetting and history buttons {@link JButton}s.
+     *
+     * @see #createButtons()
+     * @see com.floweektracker.controller.MainPanelController
+     * @see #createButtonsPanel()
+     */
+    private final List<JButton> buttons = createButtons();
+    /**
+     * Contains a {@link JButton} representing an info button that allows to display information about the planner and
+     * the database to the user.
+     *
+     * @see #createInfoButton()
+     * @see com.floweektracker.controller.MainPanelController
+     * @see #createTitlePanel()
+     */
+    private final JButton infoButton = createInfoButton();
+    /**
+     * Contains a {@link JTextField} in which the user types words searched in the names and descriptions of the tasks.
+     *
+     * @see #createSearchPanel()
+     * @see com.floweektracker.controller.SearchController
+     */
+    private final JTextField searchField = new JTextField(25);
+    /**
+     * Contains a {@link JLabel} displaying a number of the found tasks.
+     *
+     * @see #createSearchPanel()
+     * @see com.floweektracker.controller.SearchController
+     */
+    private final JLabel searchInfo = createLabel("searchInfo", " ");
+    /**
+     * Contains a {@link JComboBox} which allows the user to choose between the table and the time grid of the planner.
+     *
+     * @see #createSearchPanel()
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    private final JComboBox<String> viewModeComboBox = new JComboBox<>(new String[]{"Tabela", "Siatka godzin"});
+    /**
+     * Contains a {@link JComboBox} which allows the user to choose how many minutes is a row of the time grid.
+     *
+     * @see #createSearchPanel()
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    private final JComboBox<String> zoomComboBox = new JComboBox<>(ZOOM_NAMES);
+    /**
+     * Contains a {@link JSpinner} with the lowest priority of the tasks shown in the planner.
+     *
+     * @see #createFilterPanel()
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    private final JSpinner minPrioritySpinner = new JSpinner(new SpinnerNumberModel(1, 1, 10, 1));
+    /**
+     * Contains a {@link JSpinner} with the highest priority of the tasks shown in the planner.
+     *
+     * @see #createFilterPanel()
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    private final JSpinner maxPrioritySpinner = new JSpinner(new SpinnerNumberModel(10, 1, 10, 1));
+    /**
+     * Contains a {@link JComboBox} which allows the user to show all tasks, only the not done ones or only the done
+     * ones.
+     *
+     * @see #createFilterPanel()
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    private final JComboBox<String> doneFilterComboBox = new JComboBox<>(DONE_FILTER_NAMES);
+    /**
+     * Contains a {@link JTextField} with a part of the names of the tasks shown in the planner.
+     *
+     * @see #createFilterPanel()
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    private final JTextField nameFilterField = new JTextField(15);
+    private final JButton clearFiltersButton = createButton("clearFiltersButton", "Wyczyść filtry");
+    /**
+     * Contains a {@link JLabel} displaying a number of the tasks shown by the filters.
+     *
+     * @see #createFilterPanel()
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    private final JLabel filterInfo = createLabel("filterInfo", " ");
+    /**
+     * Contains a {@link JTable} representing the UI of the user's planner.
+     *
+     * @see PlannerView
+     * @see #configureMainPanel()
+     */
+    private final JTable planner = PlannerService.getService().getPlanner();
+    /**
+     * Contains a {@link TimeGridView} representing the planner with a fixed number of minutes per row.
+     *
+     * @see #createPlannerCards()
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    private final TimeGridView timeGrid = new TimeGridView();
+    /**
+     * Contains a {@link JPanel} with a {@link CardLayout}, which shows the {@link #planner} or the {@link #timeGrid}.
+     *
+     * @see #createPlannerCards()
+     * @see #showPlannerCard(String)
+     */
+    private final JPanel plannerCards = createPlannerCards();
+    /**
+     * Contains a {@link ProgressView} displaying a progress of the operations running in the background.
+     *
+     * @see com.floweektracker.swing.util.BackgroundTaskExecutor
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    private final ProgressView progressView = new ProgressView();
+
+    /**
+     * Private constructor which calling {@link #configureMainPanel()} method.
+     *
+     * @see MainPanelView
+     */
+    private MainPanelView() {
+        configureMainPanel();
+    }
+
+    /**
+     * Configures the {@link #view} by setting layout and name, and then adding components to it: title panel, search
+     * panel, filter panel, {@link #plannerCards}, buttons panel, {@link #progressView} and bottom information.
+     *
+     * @see #MainPanelView()
+     * @see #createTitlePanel()
+     * @see #createSearchPanel()
+     * @see #createFilterPanel()
+     * @see #createPlannerCards()
+     * @see #createButtonsPanel()
+     * @see #createBottomInfo()
+     */
+    private void configureMainPanel() {
+        this.setName("MainPanel");
+        this.setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        this.add(createTitlePanel());
+        this.add(createSearchPanel());
+        this.add(createFilterPanel());
+        this.add(plannerCards);
+        this.add(createButtonsPanel());
+        this.add(progressView);
+        this.add(createBottomInfo());
+    }
+
+    //region titlePanel creation
+    /**
+     * Creates a {@link JPanel} with the application name, and the {@link #infoButton}, by using
+     * {@link #createPanel(String, LayoutManager, int)} and {@link #createTitleLabel()} methods.
+     *
+     * @return a {@link JPanel} with the application name and the {@link #infoButton}
+     * @see #configureMainPanel()
+     */
+    private JPanel createTitlePanel() {
+        var titlePanel = createPanel("TitlePanel", null, BoxLayout.LINE_AXIS);
+        titlePanel.add(infoButton);
+        titlePanel.add(Box.createHorizontalGlue());
+        titlePanel.add(createTitleLabel());
+        titlePanel.add(Box.createHorizontalGlue());
+
+        return titlePanel;
+    }
+
+    /**
+     * @return a {@link JLabel} with the application name.
+     * @see #createTitlePanel()
+     * @see #createLabel(String, String)
+     */
+    private JLabel createTitleLabel() {
+        var title = createLabel("titleLabel", "TYGODNIOWY PLANER");
+        title.setFont(new Font("Arial", Font.BOLD, 40));
+
+        return title;
+    }
+
+    /**
+     * Creates {@link JButton} representing an info button allowing to display information about using planner and
+     * database. It reads icon from info.png file in resources and then scales it to 50x50 pixels. When it throws an
+     * exception, it creates simple button and shows a message to the user.
+     *
+     * @return an info button with scaled icon
+     * @see MainPanelView
+     * @see #configureMainPanel()
+     */
+    private JButton createInfoButton() {
+        var infoButton = new JButton();
+
+        try {
+            var iconButton = new ImageIcon(ImageIO.read(Objects.requireNonNull(getClass().getResource("/info.png"))));
+            infoButton = new JButton(new ImageIcon(iconButton.getImage().getScaledInstance(50, 50, Image.SCALE_SMOOTH))) {
+                @Override
+                protected void paintComponent(Graphics g) {
+                    setContentAreaFilled(false);
+                    setBorderPainted(false);
+                    setFocusPainted(false);
+
+                    g.drawImage(iconButton.getImage(), 0, 0, getWidth(), getHeight(), this);
+                    super.paintComponent(g);
+                }
+            };
+        } catch (NullPointerException | IOException e) {
+            infoButton = new JButton("Informacje");
+            DialogUtils.showMessageDialog(
+                    "Błąd wyczytywania grafiki",
+                    "Nie udało się wczytać grafiki dla przycisku: src/main/resources/info.png"
+            );
+        } finally {
+            infoButton.setPreferredSize(new Dimension(50, 50));
+            infoButton.setName("infoButton");
+        }
+
+        return infoButton;
+    }
+    //endregion
+
+    /**
+     * Creates a {@link JPanel} with the {@link #viewModeComboBox}, the {@link #zoomComboBox}, the {@link #searchField}
+     * and the {@link #searchInfo}. Its height is limited to the preferred one, so the {@link BoxLayout} gives the
+     * remaining space to the {@link #plannerCards}.
+     *
+     * @return a {@link JPanel} with the search field
+     * @see #configureMainPanel()
+     */
+    private JPanel createSearchPanel() {
+        var searchPanel = createPanel("SearchPanel", new FlowLayout(FlowLayout.RIGHT, 10, 5), -1);
+        searchField.setName("searchField");
+        searchField.setToolTipText("Wpisz początek słów z nazwy lub opisu zadania. Enter przechodzi do kolejnego wyniku.");
+
+        viewModeComboBox.setName("viewModeComboBox");
+        zoomComboBox.setName("zoomComboBox");
+        zoomComboBox.setSelectedIndex(2);
+        zoomComboBox.setEnabled(false);
+
+        searchPanel.add(createLabel("viewModeLabel", "Widok:"));
+        searchPanel.add(viewModeComboBox);
+        searchPanel.add(createLabel("zoomLabel", "Skala:"));
+        searchPanel.add(zoomComboBox);
+        searchPanel.add(searchInfo);
+        searchPanel.add(createLabel("searchLabel", "Szukaj:"));
+        searchPanel.add(searchField);
+        searchPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, searchPanel.getPreferredSize().height));
+
+        return searchPanel;
+    }
+
+    /**
+     * Creates a {@link JPanel} with the filters of the planner: the range of the priorities, the done status and a part
+     * of the names of the shown tasks, together with the {@link #clearFiltersButton} and the {@link #filterInfo}. Its
+     * height is limited to the preferred one, like the height of the search panel.
+     *
+     * @return a {@link JPanel} with the filters of the planner
+     * @see #configureMainPanel()
+     */
+    private JPanel createFilterPanel() {
+        var filterPanel = createPanel("FilterPanel", new FlowLayout(FlowLayout.RIGHT, 10, 5), -1);
+        minPrioritySpinner.setName("minPrioritySpinner");
+        maxPrioritySpinner.setName("maxPrioritySpinner");
+        doneFilterComboBox.setName("doneFilterComboBox");
+        nameFilterField.setName("nameFilterField");
+        nameFilterField.setToolTipText("Pokazuje tylko zadania, których nazwa zawiera wpisany tekst.");
+
+        filterPanel.add(filterInfo);
+        filterPanel.add(createLabel("priorityFilterLabel", "Priorytet od:"));
+        filterPanel.add(minPrioritySpinner);
+        filterPanel.add(createLabel("maxPriorityFilterLabel", "do:"));
+        filterPanel.add(maxPrioritySpinner);
+        filterPanel.add(createLabel("doneFilterLabel", "Status:"));
+        filterPanel.add(doneFilterComboBox);
+        filterPanel.add(createLabel("nameFilterLabel", "Nazwa zawiera:"));
+        filterPanel.add(nameFilterField);
+        filterPanel.add(clearFiltersButton);
+        filterPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, filterPanel.getPreferredSize().height));
+
+        return filterPanel;
+    }
+
+    //region plannerCards creation
+    /**
+     * Creates a {@link JPanel} with the {@link #planner} and the {@link #timeGrid} in a {@link JScrollPane}, whose
+     * column header shows the names of the weekdays. The table is shown at first.
+     *
+     * @return a {@link JPanel} with the cards of the planner
+     * @see #configureMainPanel()
+     */
+    private JPanel createPlannerCards() {
+        var cards = createPanel("PlannerCardsPanel", new CardLayout(), -1);
+        var gridScrollPane = new JScrollPane(timeGrid);
+        gridScrollPane.setName("timeGridScrollPane");
+        gridScrollPane.setColumnHeaderView(timeGrid.getHeader());
+        gridScrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+
+        cards.add(planner, TABLE_CARD);
+        cards.add(gridScrollPane, GRID_CARD);
+
+        return cards;
+    }
+
+    /**
+     * Shows the card of the {@link #plannerCards} with the given name.
+     *
+     * @param cardName a given name of the card, {@link #TABLE_CARD} or {@link #GRID_CARD}
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    public void showPlannerCard(String cardName) {
+        ((CardLayout) plannerCards.getLayout()).show(plannerCards, cardName);
+    }
+    //endregion
+
+    //region buttonsPanel creation
+    /**
+     * Creates a {@link JPanel} with {@link #buttons} using {@link #createPanel(String, LayoutManager, int)} method.
+     *
+     * @return a {@link JPanel} with {@link #buttons}
+     * @see #configureMainPanel()
+     * @see #createButtons()
+     */
+    private JPanel createButtonsPanel() {
+        var buttonsPanel = createPanel("ButtonsPanel", new FlowLayout(FlowLayout.CENTER, 20, 20), -1);
+        buttons.forEach(buttonsPanel::add);
+
+        return buttonsPanel;
+    }
+
+    /**
+     * @return a created {@link JList} with the adding, removing, cleaning, adn resetting {@link JButton}s, and the
+     * {@link JButton} opening the points history
+     * @see #buttons
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    private List<JButton> createButtons() {
+        var buttons = new ArrayList<JButton>();
+        buttons.add(createButton("addButton", "Dodaj zadanie"));
+        buttons.add(createButton("addTaskNameButton", "Dodaj zadanie do bazy"));
+        buttons.add(createButton("deleteButton", "Usuń zadanie"));
+        buttons.add(createButton("cleanScheduleButton", "Wyczyść planer"));
+        buttons.add(createButton("resetPointsButton", "Wyzeruj punkty"));
+        buttons.add(createButton("historyButton", "Historia punktów"));
+
+        return buttons;
+    }
+
+    /**
+     * Creates a pattern of the {@link JButton} with the given name and text.
+     *
+     * @param name a given name of the button
+     * @param text a given text of the button
+     * @return a {@link JButton} with the given name and text
+     * @see #createButtons()
+     * @see #clearFiltersButton
+     */
+    private JButton createButton(String name, String text) {
+        var button = new JButton(text);
+        button.setName(name);
+
+        return button;
+    }
+    //endregion
+
+    /**
+     * Creates a {@link JLabel} with information displaying at the bottom of the {@link #view}, which explain how to get
+     * more details about using application.
+     *
+     * @return a created {@link JLabel} with information displaying to the user
+     * @see #createLabel(String, String)
+     * @see #configureMainPanel()
+     */
+    private JLabel createBottomInfo() {
+        var bottomInfo = createLabel(
+                "bottomInfo",
+                "Aby uzyskać więcej informacji, kliknij w ikonę %s znajdującą się w lewym górnym rogu.".formatted("\"i\"")
+        );
+        bottomInfo.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        return bottomInfo;
+    }
+
+    //region helper methods
+    /**
+     * Creates pattern of the {@link JPanel} with the given name, layout manager and axis. If the layout is not null, it
+     * sets the given layout. Otherwise, it creates a {@link BoxLayout} with the given axis.
+     *
+     * @param name   a given name of the panel
+     * @param layout a given layout manager
+     * @param axis   a given axis of the {@link BoxLayout}
+     * @return a pattern of the {@link JPanel} with the given and layout
+     * @see #createTitlePanel()
+     * @see #createPlannerCards()
+     * @see #createButtonsPanel()
+     */
+    private JPanel createPanel(String name, LayoutManager layout, int axis) {
+        var panel = new JPanel();
+        panel.setName(name);
+
+        if (layout != null) panel.setLayout(layout);
+        else panel.setLayout(new BoxLayout(panel, axis));
+
+        return panel;
+    }
+
+    /**
+     * Creates a {@link JLabel} with a given name and text. It sets alignment to the center. Created label is a pattern
+     * for creating labels in this class.
+     *
+     * @param name a name of the label
+     * @param text a text of the label
+     * @return a {@link JLabel} with the given name and text
+     */
+    private JLabel createLabel(String name, String text) {
+        var label = new JLabel(text);
+        label.setName(name);
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        return label;
+    }
+    //endregion
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.floweektracker.view;
+
+import com.floweektracker.model.*;
+import com.floweektracker.service.*;
+import lombok.*;
+
+import javax.swing.*;
+import javax.swing.table.TableModel;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Represents a filter of the rows of the {@link PlannerView}, which shows only the times with at least one task
+ * matching the given {@link TaskQuery}. The tasks aren't compared by the text of the cells: the matching tasks are
+ * found once by the {@link TaskQueryService}, and each row is only looked up by its time in the found times. The found
+ * tasks are found again only after a new snapshot of the schedule is published, so filtering thousands of rows takes a
+ * few milliseconds. The first row with the names of the weekdays and the last row with the points are always shown.
+ * <br><br>
+ * Fields: {@link #tasksService}, {@link #queryService}, {@link #query}, {@link #matchingTimes},
+ * {@link #matchingRows}, {@link #filteredSnapshot}
+ * <br><br>
+ * Methods: {@link #include(Entry)}, {@link #isMatching(WeekDays, LocalTime)}, {@link #refreshMatches()}
+ *
+ * @see PlannerView#setFilterQuery(TaskQuery)
+ */
+public class PlannerRowFilter extends RowFilter<TableModel, Integer> {
+    private final TasksService tasksService = TasksService.getService();
+    private final TaskQueryService queryService = TaskQueryService.getService();
+    @Getter
+    private final TaskQuery query;
+    /**
+     * Contains the times of the matching tasks of each weekday, which are used to hide the cells of the other tasks.
+     */
+    private final Map<WeekDays, Set<LocalTime>> matchingTimes = new EnumMap<>(WeekDays.class);
+    /**
+     * Contains the times of the matching tasks of all weekdays, i.e. the times of the shown rows.
+     */
+    private final Set<LocalTime> matchingRows = new HashSet<>();
+    /**
+     * Represents the snapshot of the schedule for which the {@link #matchingTimes} were found.
+     */
+    private ScheduleSnapshot filteredSnapshot;
+
+    /**
+     * Creates a filter of the rows showing the tasks matching the given query.
+     *
+     * @param query a given query of the shown tasks
+     */
+    public PlannerRowFilter(@NonNull TaskQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * @param entry a given row of the model of the planner
+     * @return true if the row is the first or the last one, or its time has a matching task, otherwise false
+     */
+    @Override
+    public boolean include(Entry<? extends TableModel, ? extends Integer> entry) {
+        var row = entry.getIdentifier();
+        if ((row == 0) || (row >= entry.getModel().getRowCount() - 1)) return true;
+
+        refreshMatches();
+
+        return matchingRows.contains(LocalTime.parse(entry.getStringValue(0)));
+    }
+
+    /**
+     * @param weekday a given weekday of a task
+     * @param time    a given time of the task
+     * @return true if the task at the given weekday and time matches the {@link #query}, otherwise false
+     * @see PlannerView#isTaskCellHidden(int, int)
+     */
+    public boolean isMatching(WeekDays weekday, LocalTime time) {
+        refreshMatches();
+
+        return matchingTimes.getOrDefault(weekday, Set.of()).contains(time);
+    }
+
+    //region helper methods
+    /**
+     * Finds the matching tasks again by the {@link #queryService} when the actual snapshot of the schedule isn't the
+     * {@link #filteredSnapshot}.
+     */
+    private void refreshMatches() {
+        var snapshot = tasksService.getSnapshot();
+        if (snapshot == filteredSnapshot) return;
+
+        filteredSnapshot = snapshot;
+        matchingTimes.clear();
+        matchingRows.clear();
+
+        queryService.find(query).forEach(task -> {
+            matchingTimes.computeIfAbsent(task.getWeekday(), _ -> new HashSet<>()).add(task.getTime());
+            matchingRows.add(task.getTime());
+        });
+    }
+    //endregion
+}
@@ -15,17 +15,44 @@ import java.util.stream.Stream;
 
 /**
  * Represents a UI of the planner which is used to display a weekly planner to the user based on their tasks. It extends
- * {@link JTable} and is a singleton.
+ * {@link JTable} and is a singleton. The shown tasks can be limited by a {@link TaskQuery}: the rows without a matching
+ * task are hidden by the {@link PlannerRowFilter}, and the cells of the other tasks in the shown rows are left empty.
+ * The row indexes of the view differ then from the indexes of the model.
  * <br><br>
- * Fields: {@link #view}, {@link #tasksService}
+ * Fields: {@link #view}, {@link #tasksService}, {@link #SPAN_COLOUR}, {@link #rowSorter}, {@link #rowFilter}
  * <br><br>
- * Methods: {@link #setUpPlanner()}, {@link #createPlannerModel()}, {@link #createColumnNames()},
- * {@link #buildRowData(LocalTime)}, {@link #buildPointsRow()}
+ * Methods: {@link #setUpPlanner()}, {@link #reloadPlanner()}, {@link #setFilterQuery(TaskQuery)},
+ * {@link #isTaskCellHidden(int, int)}, {@link #applyRowFilter(TaskQuery)}, {@link #createPlannerModel()},
+ * {@link #applyCellRenderers()}, {@link #createColumnNames()}, {@link #buildRowData(LocalTime)},
+ * {@link #buildPointsRow()}, {@link #findSpanningTask(int, int)}
  */
 public class PlannerView extends JTable {
     @Getter
     private static final PlannerView view = new PlannerView();
     private final TasksService tasksService = TasksService.getService();
+    /**
+     * Background of the cells whose time is taken by a task with a duration.
+     *
+     * @see #createCellRenderer()
+     */
+    private static final Color SPAN_COLOUR = new Color(225, 235, 250);
+    /**
+     * Sorter of the rows, which is set only while the planner is filtered. The rows are never sorted, because they are
+     * already in the order of their times, but they are filtered again after each change of the model.
+     *
+     * @see #applyRowFilter(TaskQuery)
+     */
+    private final TableRowSorter<TableModel> rowSorter = new TableRowSorter<>() {
+        @Override
+        public boolean isSortable(int column) {return false;}
+    };
+    /**
+     * Represents the filter of the rows, or null when all tasks are shown.
+     *
+     * @see #setFilterQuery(TaskQuery)
+     */
+    @Getter
+    private PlannerRowFilter rowFilter;
 
     /**
      * The private constructor which sets up the {@link PlannerView}.
@@ -38,20 +65,86 @@ public class PlannerView extends JTable {
 
     /**
      * Sets up the {@link PlannerView} by setting its name, auto resize mode, cell selection and a model created by the
-     * {@link #createPlannerModel()}. It also sets the cell renderer for each column.
+     * {@link #createPlannerModel()}. It also sets the cell renderer for each column, and makes the {@link #rowSorter}
+     * filter the rows again after their changes.
      *
      * @see PlannerView()
-     * @see #createCellRenderer()
+     * @see #applyCellRenderers()
      */
     private void setUpPlanner() {
         setName("planner");
         setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
         setCellSelectionEnabled(false);
         setModel(createPlannerModel());
-        getColumnModel()
-                .getColumns()
-                .asIterator()
-                .forEachRemaining(column -> column.setCellRenderer(createCellRenderer()));
+        rowSorter.setSortsOnUpdates(true);
+        applyCellRenderers();
+    }
+
+    /**
+     * Rebuilds the whole planner from the schedule at once. It is used after bulk operations, so the planner is
+     * updated with a single change of the model instead of a change for each task.
+     *
+     * @see com.floweektracker.swing.service.PlannerService#refreshPlanner()
+     */
+    public void reloadPlanner() {
+        var query = (rowFilter != null) ? rowFilter.getQuery() : null;
+
+        setRowSorter(null);
+        setModel(createPlannerModel());
+        applyRowFilter(query);
+        applyCellRenderers();
+    }
+
+    /**
+     * Shows only the tasks matching the given query. The rows without a matching task are hidden, and the filter is
+     * removed when the query matches all tasks.
+     *
+     * @param query a given query of the shown tasks, or null when all tasks should be shown
+     * @see com.floweektracker.controller.PlannerFilterController
+     */
+    public void setFilterQuery(TaskQuery query) {
+        applyRowFilter(TaskQuery.ALL.equals(query) ? null : query);
+    }
+
+    /**
+     * Checks if the given cell contains a task which doesn't match the query of the {@link #rowFilter}, so it is shown
+     * as an empty cell and can't be edited.
+     *
+     * @param row    a given row of the view
+     * @param column a given column of the view
+     * @return true if the planner is filtered and the cell contains a task which doesn't match, otherwise false
+     * @see com.floweektracker.controller.PlannerController
+     */
+    public boolean isTaskCellHidden(int row, int column) {
+        if ((rowFilter == null) || (row <= 0) || (row >= getRowCount() - 1) || (column <= 0)) return false;
+
+        var modelRow = convertRowIndexToModel(row);
+        var modelColumn = convertColumnIndexToModel(column);
+        var weekday = WeekDays.getWeekdayAt(modelColumn - 1);
+        if ((weekday == null) || "-".equals(getModel().getValueAt(modelRow, modelColumn))) return false;
+
+        return !rowFilter.isMatching(weekday, LocalTime.parse(getModel().getValueAt(modelRow, 0).toString()));
+    }
+
+    /**
+     * Sets the {@link #rowSorter} with a new {@link PlannerRowFilter} of the given query, or removes the sorter when
+     * there isn't any query, so the indexes of the view are the same as the indexes of the model again.
+     *
+     * @param query a given query of the shown tasks, or null
+     * @see #setFilterQuery(TaskQuery)
+     * @see #reloadPlanner()
+     */
+    private void applyRowFilter(TaskQuery query) {
+        if (query == null) {
+            rowFilter = null;
+            setRowSorter(null);
+            return;
+        }
+
+        rowFilter = new PlannerRowFilter(query);
+        rowSorter.setModel(getModel());
+        rowSorter.setRowFilter(rowFilter);
+        if (getRowSorter() != rowSorter) setRowSorter(rowSorter);
     }
 
     /**
@@ -65,6 +158,7 @@ public class PlannerView extends JTable {
      * @see #buildRowData(LocalTime)
      * @see #buildPointsRow()
      * @see #setUpPlanner()
+     * @see #reloadPlanner()
      */
     private DefaultTableModel createPlannerModel() {
         var columnNames = createColumnNames();
@@ -81,6 +175,19 @@ public class PlannerView extends JTable {
         return model;
     }
 
+    /**
+     * Sets the cell renderer created by {@link #createCellRenderer()} for each column of the planner.
+     *
+     * @see #setUpPlanner()
+     * @see #reloadPlanner()
+     */
+    private void applyCellRenderers() {
+        getColumnModel()
+                .getColumns()
+                .asIterator()
+                .forEachRemaining(column -> column.setCellRenderer(createCellRenderer()));
+    }
+
     /**
      * Creates a cell renderer for the weekly planner. The renderer is a {@link DefaultTableCellRenderer} that is used
      * to customize the appearance of the cells in the planner. The text is aligned to the center of the cell.
@@ -89,18 +196,34 @@ public class PlannerView extends JTable {
      *     the time in the cell, the text is displayed in black, otherwise in gray.</li>
      *     <li>Other columns represent the days of the week. The current day of the week is displayed in black, others
      *     are in gray.</li>
+     *     <li>Cells whose time is taken by a task with a duration get a background and a tooltip with the task's
+     *     range, and empty cells inside the range show "⋮". The rows stay the same, so the spans don't change the
+     *     model of the planner.</li>
+     *     <li>Cells of the tasks hidden by the {@link #rowFilter} are empty.</li>
      * </ul>
      *
      * @return a custom cell renderer for the weekly planner.
-     * @see #setUpPlanner()
+     * @see #applyCellRenderers()
      */
     private DefaultTableCellRenderer createCellRenderer() {
         return new DefaultTableCellRenderer() {
             @Override
             public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+                setBackground(null);
+                setToolTipText(null);
+
                 var component = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
                 setHorizontalAlignment(JLabel.CENTER);
 
+                var spanningTask = findSpanningTask(row, column);
+                if (spanningTask != null) {
+                    if (!isSelected) setBackground(SPAN_COLOUR);
+                    if ("-".equals(value)) setText("⋮");
+                    setToolTipText(String.format("%s %s-%s", spanningTask.getTaskName(), spanningTask.getTime(),
+                            LocalTime.MIN.plusMinutes(spanningTask.getEndMinute())));
+                }
+                if (isTaskCellHidden(row, column)) setText("");
+
                 var isFirstColumn = (column == 0) && (row > 0) && (row < view.getRowCount() - 1);
                 var isActualDateEqualsPlannerDate = LocalDate.now().getDayOfWeek().getValue() == column;
                 var colour = Color.GRAY;
@@ -131,7 +254,7 @@ public class PlannerView extends JTable {
     private String[] createColumnNames() {
         return Stream.concat(
                 Stream.of(""),
-                Stream.of(WeekDays.getWeekdaysPL())
+                WeekDays.getNames(WeekDays.POLISH).stream()
         ).toArray(String[]::new);
     }
 
@@ -146,7 +269,7 @@ public class PlannerView extends JTable {
      * @see #createPlannerModel()
      */
     private String[] buildRowData(@NotNull LocalTime time) {
-        var cells = new String[createColumnNames().length];
+        var cells = new String[WeekDays.getListedWeekdays().size() + 1];
 
         cells[0] = time.toString();
 
@@ -184,4 +307,29 @@ public class PlannerView extends JTable {
 
         return pointsSummaryForEachDay.toArray(new String[0]);
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds a task with a duration which takes the time of the given cell. The time is read from the first column of
+     * the row of the model, and the task is found by the interval tree of the weekday of the column, so only the tasks
+     * overlapping the minute are checked.
+     *
+     * @param row    a given row of the cell
+     * @param column a given column of the cell
+     * @return the first task with a duration which takes the time of the cell, or null when there isn't any or the
+     * cell doesn't belong to a weekday
+     * @see #createCellRenderer()
+     * @see DayIntervals#findOverlapping(int, int)
+     */
+    private SingleTask findSpanningTask(int row, int column) {
+        if ((column == 0) || (row == 0) || (row >= getRowCount() - 1)) return null;
+
+        var time = LocalTime.parse(getModel().getValueAt(convertRowIndexToModel(row), 0).toString());
+        var minute = time.toSecondOfDay() / 60;
+        var weekday = WeekDays.getWeekdayAt(column - 1);
+        if (weekday == null) return null;
+
+        return tasksService.getSnapshot().getIntervals(weekday).findOverlapping(minute, minute + 1).stream()
+                .filter(task -> task.getDurationMinutes() > 0)
+                .findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,307 @@
+package com.floweektracker.view;
+
+import com.floweektracker.MainFrame;
+import com.floweektracker.model.PointsSeries;
+import com.floweektracker.util.Downsampling;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+
+/**
+ * Represents UI of the history panel which shows a chart of the achieved and possible points over time. The series are
+ * downsampled to the width of the chart by {@link Downsampling#largestTriangleThreeBuckets(double[], double[], int)}
+ * and drawn once to the {@link ChartCanvas#image}, which is reused by next repaints. The image is drawn again only when
+ * a new series is set or the size of the chart changes.
+ * <br><br>
+ * Fields: {@link #modeComboBox}, {@link #chart}, {@link #returnButton}
+ * <br><br>
+ * Methods: {@link #configureView()}, {@link #createTitlePanel()}, {@link #createButtonPanel()},
+ * {@link #createReturnButton()}, {@link #setSeries(PointsSeries)}
+ */
+@Getter
+public class PointsChartView extends JPanel {
+    /**
+     * Represents options of the {@link #modeComboBox}.
+     */
+    public static final String[] MODES = {"Tygodniowo", "Dziennie"};
+    /**
+     * {@link JComboBox} which allows the user to choose between the weekly and daily points.
+     *
+     * @see com.floweektracker.controller.PointsChartController
+     */
+    private final JComboBox<String> modeComboBox = new JComboBox<>(MODES);
+    private final ChartCanvas chart = new ChartCanvas();
+    private final JButton returnButton = createReturnButton();
+
+    /**
+     * Public constructor of the class which calls the {@link #configureView()} method.
+     *
+     * @see com.floweektracker.controller.PointsChartController
+     */
+    public PointsChartView() {
+        configureView();
+    }
+
+    /**
+     * Configures the view by setting BorderLayout and name, and adding title panel, chart and button panel.
+     */
+    private void configureView() {
+        setName("historyPanel");
+        setLayout(new BorderLayout());
+        modeComboBox.setName("modeComboBox");
+        chart.setName("pointsChart");
+
+        add(createTitlePanel(), BorderLayout.NORTH);
+        add(chart, BorderLayout.CENTER);
+        add(createButtonPanel(), BorderLayout.SOUTH);
+    }
+
+    /**
+     * @return a {@link JPanel} with the title of the view and the {@link #modeComboBox}
+     */
+    private JPanel createTitlePanel() {
+        var titlePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 10));
+        titlePanel.setName("titlePanel");
+
+        var title = new JLabel("HISTORIA PUNKTÓW");
+        title.setName("titleLabel");
+        title.setFont(new Font("Arial", Font.BOLD, 40));
+
+        titlePanel.add(title);
+        titlePanel.add(modeComboBox);
+
+        return titlePanel;
+    }
+
+    /**
+     * @return a {@link JPanel} containing the {@link #returnButton}
+     */
+    private JPanel createButtonPanel() {
+        var buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setName("buttonPanel");
+        buttonPanel.add(returnButton);
+
+        return buttonPanel;
+    }
+
+    /**
+     * @return a {@link JButton} which allows the user to return to the main panel
+     * @see MainFrame#switchCard(String)
+     */
+    private JButton createReturnButton() {
+        var returnButton = new JButton("Powrót");
+        returnButton.setName("returnButton");
+        returnButton.addActionListener(_ -> MainFrame.getMAIN_FRAME().switchCard("mainPanel"));
+
+        return returnButton;
+    }
+
+    /**
+     * Sets the series drawn by the {@link #chart}. It should be called on the EDT.
+     *
+     * @param series a given series of the points
+     * @see com.floweektracker.controller.PointsChartController
+     */
+    public void setSeries(PointsSeries series) {
+        chart.setSeries(series);
+    }
+
+    /**
+     * Represents a component which draws the series of the points. The rendered {@link #image} is cached and drawn
+     * again only when the {@link #series} or the size of the component changes.
+     * <br><br>
+     * Fields: {@link #PADDING}, {@link #POINTS_COLOR}, {@link #POSSIBLE_POINTS_COLOR}, {@link #series},
+     * {@link #image}
+     * <br><br>
+     * Methods: {@link #setSeries(PointsSeries)}, {@link #paintComponent(Graphics)}, {@link #renderImage(int, int)},
+     * {@link #drawAxes(Graphics2D, Rectangle, double)},
+     * {@link #drawSeries(Graphics2D, Rectangle, double[], double, Color)},
+     * {@link #drawLegend(Graphics2D, Rectangle)}
+     */
+    @Getter
+    public static class ChartCanvas extends JComponent {
+        private static final Insets PADDING = new Insets(20, 60, 40, 30);
+        private static final Color POINTS_COLOR = new Color(33, 150, 83);
+        private static final Color POSSIBLE_POINTS_COLOR = new Color(160, 160, 160);
+        private PointsSeries series = PointsSeries.EMPTY;
+        /**
+         * Contains the series rendered for the current size of the component, or null when it has to be rendered
+         * again.
+         */
+        private BufferedImage image;
+
+        /**
+         * Creates a canvas with a preferred size of the chart.
+         */
+        public ChartCanvas() {
+            setPreferredSize(new Dimension(900, 400));
+        }
+
+        /**
+         * Sets the given series, invalidates the {@link #image} and repaints the component.
+         *
+         * @param series a given series of the points
+         */
+        public void setSeries(PointsSeries series) {
+            this.series = (series != null) ? series : PointsSeries.EMPTY;
+            this.image = null;
+            repaint();
+        }
+
+        /**
+         * Draws the cached {@link #image}. It is rendered again only when it is missing or the size of the component
+         * changed.
+         *
+         * @param g the {@link Graphics} object to paint
+         */
+        @Override
+        protected void paintComponent(Graphics g) {
+            var width = getWidth();
+            var height = getHeight();
+            if ((width <= 0) || (height <= 0)) return;
+
+            if ((image == null) || (image.getWidth() != width) || (image.getHeight() != height)) {
+                image = renderImage(width, height);
+            }
+
+            g.drawImage(image, 0, 0, null);
+        }
+
+        /**
+         * Renders the chart to an image compatible with the screen, so drawing the cached image is a plain copy.
+         *
+         * @param width  a given width of the image
+         * @param height a given height of the image
+         * @return an image with the axes, the downsampled series and the legend
+         */
+        BufferedImage renderImage(int width, int height) {
+            var configuration = getGraphicsConfiguration();
+            var rendered = (configuration != null)
+                    ? configuration.createCompatibleImage(width, height)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            var g2 = rendered.createGraphics();
+
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g2.setColor(getBackground() != null ? getBackground() : Color.WHITE);
+                g2.fillRect(0, 0, width, height);
+                g2.setFont(new Font("Arial", Font.PLAIN, 12));
+
+                var plot = new Rectangle(
+                        PADDING.left,
+                        PADDING.top,
+                        Math.max(width - PADDING.left - PADDING.right, 1),
+                        Math.max(height - PADDING.top - PADDING.bottom, 1)
+                );
+
+                if (series.size() == 0) {
+                    g2.setColor(Color.DARK_GRAY);
+                    var message = "Brak zarchiwizowanych tygodni";
+                    var metrics = g2.getFontMetrics();
+                    g2.drawString(message, (width - metrics.stringWidth(message)) / 2, height / 2);
+
+                    return rendered;
+                }
+
+                var maxValue = Math.max(series.getMaxValue(), 1);
+                drawAxes(g2, plot, maxValue);
+                drawSeries(g2, plot, series.getPossiblePoints(), maxValue, POSSIBLE_POINTS_COLOR);
+                drawSeries(g2, plot, series.getPoints(), maxValue, POINTS_COLOR);
+                drawLegend(g2, plot);
+            } finally {
+                g2.dispose();
+            }
+
+            return rendered;
+        }
+
+        /**
+         * Draws the axes, the horizontal grid lines with the values and the first and the last date of the series.
+         *
+         * @param g2       a given graphics of the image
+         * @param plot     a given area of the plot
+         * @param maxValue the highest value on the y-axis
+         */
+        private void drawAxes(Graphics2D g2, Rectangle plot, double maxValue) {
+            var metrics = g2.getFontMetrics();
+
+            for (int i = 0; i <= 4; i++) {
+                var y = plot.y + plot.height - (plot.height * i / 4);
+                var label = String.valueOf(Math.round(maxValue * i / 4));
+
+                g2.setColor(new Color(230, 230, 230));
+                g2.drawLine(plot.x, y, plot.x + plot.width, y);
+                g2.setColor(Color.DARK_GRAY);
+                g2.drawString(label, plot.x - metrics.stringWidth(label) - 8, y + metrics.getAscent() / 2);
+            }
+
+            g2.drawLine(plot.x, plot.y, plot.x, plot.y + plot.height);
+
+            var days = series.getDays();
+            var firstDate = LocalDate.ofEpochDay((long) days[0]).toString();
+            var lastDate = LocalDate.ofEpochDay((long) days[days.length - 1]).toString();
+            var dateY = plot.y + plot.height + metrics.getHeight() + 4;
+            g2.drawString(firstDate, plot.x, dateY);
+            g2.drawString(lastDate, plot.x + plot.width - metrics.stringWidth(lastDate), dateY);
+        }
+
+        /**
+         * Downsamples the given values to the width of the plot and draws them as a line. A series with a single value
+         * is drawn as a dot.
+         *
+         * @param g2       a given graphics of the image
+         * @param plot     a given area of the plot
+         * @param values   given values of the series
+         * @param maxValue the highest value on the y-axis
+         * @param color    a given color of the line
+         */
+        private void drawSeries(Graphics2D g2, Rectangle plot, double[] values, double maxValue, Color color) {
+            var days = series.getDays();
+            var firstDay = days[0];
+            var range = Math.max(days[days.length - 1] - firstDay, 1);
+            var indices = Downsampling.largestTriangleThreeBuckets(days, values, plot.width);
+            var path = new Path2D.Double();
+
+            for (int i = 0; i < indices.length; i++) {
+                var index = indices[i];
+                var x = plot.x + (days.length == 1 ? plot.width / 2.0 : (days[index] - firstDay) / range * plot.width);
+                var y = plot.y + plot.height - (values[index] / maxValue * plot.height);
+
+                if (i == 0) path.moveTo(x, y);
+                else path.lineTo(x, y);
+            }
+
+            g2.setColor(color);
+            g2.setStroke(new BasicStroke(2f));
+
+            if (days.length > 1) g2.draw(path);
+            else g2.fillOval((int) path.getCurrentPoint().getX() - 3, (int) path.getCurrentPoint().getY() - 3, 6, 6);
+        }
+
+        /**
+         * Draws the legend of the series in the top right corner of the plot.
+         *
+         * @param g2   a given graphics of the image
+         * @param plot a given area of the plot
+         */
+        private void drawLegend(Graphics2D g2, Rectangle plot) {
+            var metrics = g2.getFontMetrics();
+            var labels = new String[]{"Zdobyte punkty", "Możliwe punkty"};
+            var colors = new Color[]{POINTS_COLOR, POSSIBLE_POINTS_COLOR};
+            var x = plot.x + plot.width - 150;
+
+            for (int i = 0; i < labels.length; i++) {
+                var y = plot.y + 10 + i * (metrics.getHeight() + 4);
+                g2.setColor(colors[i]);
+                g2.fillRect(x, y - metrics.getAscent() + 2, 12, 12);
+                g2.setColor(Color.DARK_GRAY);
+                g2.drawString(labels[i], x + 18, y + 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.floweektracker.view;
+
+import com.floweektracker.swing.util.BackgroundTask;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Represents a non-blocking progress indicator of the {@link BackgroundTask}s. It contains a label with the title of
+ * the task, a progress bar and a button allowing the user to cancel the task. It is hidden when no task is running.
+ * <br><br>
+ * Fields: {@link #titleLabel}, {@link #progressBar}, {@link #cancelButton}, {@link #shownTask}
+ * <br><br>
+ * Methods: {@link #configureProgressView()}, {@link #showTask(BackgroundTask)}, {@link #hideTask()}
+ */
+@Getter
+public class ProgressView extends JPanel {
+    private final JLabel titleLabel = new JLabel();
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JButton cancelButton = new JButton("Anuluj");
+    /**
+     * Contains a task which is currently shown in the view or null.
+     *
+     * @see #showTask(BackgroundTask)
+     */
+    private BackgroundTask<?, ?> shownTask;
+
+    /**
+     * Public constructor which calls {@link #configureProgressView()} method.
+     *
+     * @see MainPanelView
+     */
+    public ProgressView() {
+        configureProgressView();
+    }
+
+    /**
+     * Configures the view by setting its name and layout, and adding the label, the progress bar and the cancel button.
+     * The cancel button cancels the {@link #shownTask}. At the beginning, the view is hidden.
+     */
+    private void configureProgressView() {
+        setName("progressPanel");
+        setLayout(new FlowLayout(FlowLayout.CENTER, 10, 0));
+
+        titleLabel.setName("progressTitleLabel");
+        progressBar.setName("progressBar");
+        progressBar.setStringPainted(true);
+        cancelButton.setName("progressCancelButton");
+        cancelButton.addActionListener(_ -> {
+            if (shownTask != null) shownTask.cancel();
+        });
+
+        add(titleLabel);
+        add(progressBar);
+        add(cancelButton);
+        setVisible(false);
+    }
+
+    /**
+     * Shows the given task in the view. When the progress of the task is unknown, the progress bar is indeterminate.
+     *
+     * @param task a given task which should be shown
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    public void showTask(BackgroundTask<?, ?> task) {
+        shownTask = task;
+        titleLabel.setText(task.getTitle());
+
+        var progress = task.getProgress();
+        progressBar.setIndeterminate(progress < 0);
+        progressBar.setValue(Math.max(progress, 0));
+        setVisible(true);
+    }
+
+    /**
+     * Hides the view and forgets the shown task.
+     *
+     * @see com.floweektracker.controller.MainPanelController
+     */
+    public void hideTask() {
+        shownTask = null;
+        setVisible(false);
+    }
+}
@@ -0,0 +1,143 @@
+package com.floweektracker.view;
+
+import com.floweektracker.model.Reminder;
+import lombok.Getter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Represents the UI of the reminders. When the system tray is supported, the reminders are shown as notifications of
+ * the {@link #trayIcon}, whose menu allows the user to switch the reminders on and off and to choose how many minutes
+ * before the task they are shown. Otherwise, the reminders are shown in non-modal dialogs. This class is a singleton.
+ * <br><br>
+ * Fields: {@link #view}, {@link #LEAD_MINUTES_OPTIONS}, {@link #TIME_FORMATTER}, {@link #enabledItem},
+ * {@link #leadMinutesItems}, {@link #trayIcon}
+ * <br><br>
+ * Methods: {@link #showReminder(Reminder)}, {@link #selectLeadMinutes(int)}, {@link #createMessage(Reminder)},
+ * {@link #createTrayIcon()}, {@link #createPopupMenu()}, {@link #isTraySupported()}
+ */
+@Getter
+public class ReminderView {
+    @Getter
+    private static final ReminderView view = new ReminderView();
+    /**
+     * Contains numbers of minutes between a reminder and its task which can be chosen in the menu.
+     */
+    public static final List<Integer> LEAD_MINUTES_OPTIONS = List.of(0, 5, 10, 15, 30, 60);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    /**
+     * Contains an item of the menu switching the reminders on and off, or null when the system tray isn't supported.
+     *
+     * @see com.floweektracker.controller.ReminderController
+     */
+    private final CheckboxMenuItem enabledItem = isTraySupported() ? new CheckboxMenuItem("Przypomnienia") : null;
+    /**
+     * Contains items of the menu for each of the {@link #LEAD_MINUTES_OPTIONS}, in the same order, or nothing when the
+     * system tray isn't supported.
+     *
+     * @see com.floweektracker.controller.ReminderController
+     */
+    private final List<CheckboxMenuItem> leadMinutesItems = LEAD_MINUTES_OPTIONS.stream()
+            .filter(_ -> isTraySupported())
+            .map(minutes -> (minutes == 0) ? "W chwili rozpoczęcia" : minutes + " min wcześniej")
+            .map(CheckboxMenuItem::new)
+            .toList();
+    /**
+     * Contains an icon added to the system tray, or null when the system tray isn't supported.
+     */
+    private final TrayIcon trayIcon = createTrayIcon();
+
+    /**
+     * Shows the given reminder as a notification of the {@link #trayIcon} or, when there isn't any tray icon, in a
+     * non-modal dialog. In the headless environment nothing is shown.
+     *
+     * @param reminder a given reminder
+     * @see com.floweektracker.controller.ReminderController
+     */
+    public void showReminder(Reminder reminder) {
+        if (reminder == null) return;
+
+        var message = createMessage(reminder);
+
+        if (trayIcon != null) {
+            trayIcon.displayMessage("Przypomnienie", message, TrayIcon.MessageType.INFO);
+        } else if (!GraphicsEnvironment.isHeadless()) {
+            var dialog = new JOptionPane(message, JOptionPane.INFORMATION_MESSAGE).createDialog("Przypomnienie");
+            dialog.setModal(false);
+            dialog.setVisible(true);
+        }
+    }
+
+    /**
+     * Checks the item of the given number of minutes and unchecks the other ones.
+     *
+     * @param leadMinutes a given number of minutes
+     */
+    public void selectLeadMinutes(int leadMinutes) {
+        for (int i = 0; i < leadMinutesItems.size(); i++) {
+            leadMinutesItems.get(i).setState(LEAD_MINUTES_OPTIONS.get(i) == leadMinutes);
+        }
+    }
+
+    //region helper methods
+    /**
+     * @param reminder a given reminder
+     * @return a text of the reminder with the name, the time and the description of the task
+     */
+    private String createMessage(Reminder reminder) {
+        var task = reminder.getTask();
+        var message = "%s o %s".formatted(
+                Objects.requireNonNullElse(task.getTaskName(), "Zadanie"),
+                reminder.getTaskDateTime().format(TIME_FORMATTER)
+        );
+        var description = task.getDescription();
+
+        return ((description != null) && !description.isBlank()) ? message + "\n" + description : message;
+    }
+
+    /**
+     * @return an icon added to the system tray with the {@link #createPopupMenu()}, or null when the system tray isn't
+     * supported or the icon can't be added
+     */
+    private TrayIcon createTrayIcon() {
+        if (!isTraySupported()) return null;
+
+        var imageURL = getClass().getResource("/appIcon.jpg");
+        if (imageURL == null) return null;
+
+        var icon = new TrayIcon(Toolkit.getDefaultToolkit().getImage(imageURL), "FloWeek Tracker", createPopupMenu());
+        icon.setImageAutoSize(true);
+
+        try {
+            SystemTray.getSystemTray().add(icon);
+        } catch (AWTException e) {
+            return null;
+        }
+
+        return icon;
+    }
+
+    /**
+     * @return a menu with the {@link #enabledItem} and the {@link #leadMinutesItems}
+     */
+    private PopupMenu createPopupMenu() {
+        var popupMenu = new PopupMenu();
+        popupMenu.add(enabledItem);
+        popupMenu.addSeparator();
+        leadMinutesItems.forEach(popupMenu::add);
+
+        return popupMenu;
+    }
+
+    /**
+     * @return true if the system tray is supported and the environment isn't headless, otherwise false
+     */
+    private static boolean isTraySupported() {
+        return !GraphicsEnvironment.isHeadless() && SystemTray.isSupported();
+    }
+    //endregion
+}
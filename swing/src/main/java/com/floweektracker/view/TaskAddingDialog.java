@@ -12,23 +12,25 @@ import java.util.stream.*;
 
 /**
  * UI of the task adding dialog that allows the user to add a task to the planner. It enables to choose task name,
- * weekday, time and priority. It also permits to write description of the task. At the bottom of the dialog, there are
- * two buttons, which are used to add or cancel a task.
+ * weekday, time, duration and priority. It also permits to write description of the task and a rule of its weekly
+ * recurrence. At the bottom of the dialog, there are two buttons, which are used to add or cancel a task.
  * <br><br>
- * Fields: {@link #view}, {@link #dialog}, {@link #tasksComboBox}, {@link #weekdaysComboBox}, {@link #timeSpinner},
- * {@link #descriptionScrollPane}, {@link #buttons}
+ * Fields: {@link #view}, {@link #dialog}, {@link #tasksComboBox}, {@link #tasksComboBoxModel},
+ * {@link #weekdaysComboBox}, {@link #timeSpinner}, {@link #descriptionScrollPane}, {@link #recurrenceField},
+ * {@link #durationSpinner}, {@link #buttons}
  * <br><br>
  * Visibility methods: {@link #makeDialogVisible()}, {@link #setDefaultValues()}, {@link #makeDialogInvisible()}
  * <br><br>
  * Getter methods: {@link #getTaskName()}, {@link #getDescription()}, {@link #getWeekday()}, {@link #getTime()},
- * {@link #getPriority()}, {@link #getAllTaskNames()}
+ * {@link #getPriority()}, {@link #getDurationMinutes()}, {@link #getRecurrence()},
+ * {@link #getAllTaskNames()}
  */
 @Getter
 public class TaskAddingDialog extends JDialog {
     @Getter(AccessLevel.PRIVATE)
     private final TaskDialogView view = new TaskDialogView.TaskDialogBuilder("taskAddingDialog")
-            .withTasksPanel().withDescriptionPanel().withWeekdaysPanel().withTimePanel().withPriorityPanel()
-            .withButtons().build();
+            .withTasksPanel().withDescriptionPanel().withWeekdaysPanel().withTimePanel().withDurationPanel()
+            .withPriorityPanel().withRecurrencePanel().withButtons().build();
 
     private final JDialog dialog = view.getDialog();
     /**
@@ -40,6 +42,12 @@ public class TaskAddingDialog extends JDialog {
      * @see com.floweektracker.controller.TaskAddingDialogController#updateTaskNames(String)
      */
     private final JComboBox<String> tasksComboBox = view.getTasksComboBox();
+    /**
+     * Model of the {@link #tasksComboBox}, which keeps the task names sorted and filters them by the typed text.
+     *
+     * @see com.floweektracker.controller.TaskAddingDialogController#updateTaskNames(String)
+     */
+    private final TaskNamesComboBoxModel tasksComboBoxModel = view.getTasksComboBoxModel();
     /**
      * Combo box with weekdays. It is displayed to the user in the {@link #dialog} and allows to choose a weekday.
      *
@@ -68,6 +76,22 @@ public class TaskAddingDialog extends JDialog {
      * @see #getDescription()
      */
     private final JScrollPane descriptionScrollPane = view.getDescriptionScrollPane();
+    /**
+     * Text field which is displayed to the user in the {@link #dialog} and allows to write on which weekdays the task
+     * repeats. When it is empty, a single task is added.
+     *
+     * @see #setDefaultValues()
+     * @see #getRecurrence()
+     */
+    private final JTextField recurrenceField = view.getRecurrenceField();
+    /**
+     * Spinner which is displayed to the user in the {@link #dialog} and allows to choose how many minutes the task
+     * lasts.
+     *
+     * @see #setDefaultValues()
+     * @see #getDurationMinutes()
+     */
+    private final JSpinner durationSpinner = view.getDurationSpinner();
     /**
      * Buttons which are displayed to the user in the {@link #dialog} and allows to confirm or cancel a task.
      *
@@ -105,7 +129,7 @@ public class TaskAddingDialog extends JDialog {
 
     /**
      * Sets default values for the components in the {@link #dialog}. Initializes task name as null,  weekday as monday,
-     * time as 00:00, priority as 5 (medium) and description as empty.
+     * time as 00:00, duration as 0, priority as 5 (medium), description and recurrence as empty.
      *
      * @see #makeDialogVisible()
      */
@@ -117,8 +141,10 @@ public class TaskAddingDialog extends JDialog {
         tasksComboBox.setSelectedItem(null);
         weekdaysComboBox.setSelectedItem("Poniedziałek");
         timeSpinner.setValue(calendar.getTime());
+        durationSpinner.setValue(0);
         prioritySpinner.setValue(5);
         ((JTextArea) descriptionScrollPane.getViewport().getView()).setText("");
+        recurrenceField.setText("");
     }
     //endregion
 
@@ -188,6 +214,29 @@ public class TaskAddingDialog extends JDialog {
         return Byte.parseByte(prioritySpinner.getValue().toString());
     }
 
+    /**
+     * Gets chosen duration from the {@link #durationSpinner}. It is shortened to the minutes left until midnight, so
+     * the task ends not later than at the end of its weekday.
+     *
+     * @return a number of minutes the task lasts, where 0 means a task without a duration
+     * @see SingleTask#getEndMinute()
+     */
+    public int getDurationMinutes() {
+        var duration = ((Number) durationSpinner.getValue()).intValue();
+
+        return Math.min(duration, SingleTask.MINUTES_PER_DAY - getTime().toSecondOfDay() / 60);
+    }
+
+    /**
+     * @return a rule of the recurrence written in the {@link #recurrenceField}, or null when it is blank
+     * @see com.floweektracker.util.RecurrenceRules
+     */
+    public String getRecurrence() {
+        var recurrence = recurrenceField.getText();
+
+        return ((recurrence != null) && !recurrence.isBlank()) ? recurrence.strip() : null;
+    }
+
     /**
      * @return an {@link ArrayList} with {@link String}s representing all task names from the {@link #tasksComboBox}
      */
@@ -1,11 +1,13 @@
 package com.floweektracker.view;
 
 import com.floweektracker.MainFrame;
-import com.floweektracker.model.WeekDays;
-import com.floweektracker.service.TaskNamesService;
+import com.floweektracker.model.*;
+import com.floweektracker.service.*;
 import lombok.Getter;
 
 import javax.swing.*;
+import javax.swing.event.*;
+import javax.swing.text.JTextComponent;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
@@ -16,18 +18,23 @@ import static javax.swing.BoxLayout.Y_AXIS;
  * Builder for the UI dialogs related to task management. Used to build dialogs such as {@link TaskAddingDialog} and
  * {@link TaskEditingDialog}, or another dialog that uses the same components.
  * <br><br>
- * Fields: {@link #dialog}, {@link #tasksComboBox}, {@link #weekdaysComboBox}, {@link #statusComboBox},
- * {@link #timeSpinner}, {@link #prioritySpinner}, {@link #descriptionScrollPane}, {@link #buttons}
+ * Fields: {@link #dialog}, {@link #tasksComboBox}, {@link #tasksComboBoxModel}, {@link #mostUsedCheckBox},
+ * {@link #weekdaysComboBox}, {@link #statusComboBox}, {@link #timeSpinner}, {@link #prioritySpinner},
+ * {@link #descriptionScrollPane}, {@link #recurrenceField}, {@link #durationSpinner}, {@link #buttons}
  */
 @Getter
 public class TaskDialogView {
     private final JDialog dialog;
     private final JComboBox<String> tasksComboBox;
+    private final TaskNamesComboBoxModel tasksComboBoxModel;
+    private final JCheckBox mostUsedCheckBox;
     private final JComboBox<String> weekdaysComboBox;
     private final JComboBox<String> statusComboBox;
     private final JSpinner timeSpinner;
     private final JSpinner prioritySpinner;
     private final JScrollPane descriptionScrollPane;
+    private final JTextField recurrenceField;
+    private final JSpinner durationSpinner;
     private final List<JButton> buttons;
 
     /**
@@ -38,11 +45,15 @@ public class TaskDialogView {
     private TaskDialogView(TaskDialogBuilder builder) {
         this.dialog = builder.dialog;
         this.tasksComboBox = builder.tasksComboBox;
+        this.tasksComboBoxModel = builder.tasksComboBoxModel;
+        this.mostUsedCheckBox = builder.mostUsedCheckBox;
         this.weekdaysComboBox = builder.weekdaysComboBox;
         this.statusComboBox = builder.statusComboBox;
         this.timeSpinner = builder.timeSpinner;
         this.prioritySpinner = builder.prioritySpinner;
         this.descriptionScrollPane = builder.descriptionScrollPane;
+        this.recurrenceField = builder.recurrenceField;
+        this.durationSpinner = builder.durationSpinner;
         this.buttons = builder.buttons;
     }
 
@@ -52,11 +63,15 @@ public class TaskDialogView {
     public static class TaskDialogBuilder {
         private JDialog dialog;
         private JComboBox<String> tasksComboBox;
+        private TaskNamesComboBoxModel tasksComboBoxModel;
+        private JCheckBox mostUsedCheckBox;
         private JComboBox<String> weekdaysComboBox;
         private JComboBox<String> statusComboBox;
         private JSpinner timeSpinner;
         private JSpinner prioritySpinner;
         private JScrollPane descriptionScrollPane;
+        private JTextField recurrenceField;
+        private JSpinner durationSpinner;
         private List<JButton> buttons;
 
         /**
@@ -85,28 +100,106 @@ public class TaskDialogView {
         //region TasksPanel
 
         /**
-         * Adds a {@link JPanel} with {@link #tasksComboBox} to the {@link #dialog}. It contains a label and a combo box
-         * which allows the user to choose a task name.
+         * Adds a {@link JPanel} with {@link #tasksComboBox} to the {@link #dialog}. It contains a label, a combo box
+         * which allows the user to choose a task name and the {@link #mostUsedCheckBox}.
          *
          * @return the current TaskDialogBuilder instance with the tasks panel added
          * @see #createTasksComboBox()
+         * @see #createMostUsedCheckBox()
          * @see #createPanel(String, String, Component)
          */
         public TaskDialogBuilder withTasksPanel() {
-            dialog.add(createPanel("tasksPanel", "Zadanie: ", createTasksComboBox()));
+            var tasksPanel = createPanel("tasksPanel", "Zadanie: ", createTasksComboBox());
+            tasksPanel.add(createMostUsedCheckBox());
+            dialog.add(tasksPanel);
             return this;
         }
 
         /**
+         * Creates a check box which orders the names in the {@link #tasksComboBox} from the most used ones, ranked by
+         * the {@link TaskNameUsageService}. The ranking changes when tasks are added, so the names are sorted again
+         * each time the popup is opened.
+         *
+         * @return a check box switching the order of the task names
+         * @see #withTasksPanel()
+         * @see TaskNamesListModel#setMostUsedFirst(boolean)
+         */
+        private JCheckBox createMostUsedCheckBox() {
+            mostUsedCheckBox = new JCheckBox("Częste");
+            mostUsedCheckBox.setName("mostUsedCheckBox");
+            mostUsedCheckBox.setToolTipText("Pokaż najpierw najczęściej używane zadania");
+            mostUsedCheckBox.addItemListener(_ -> tasksComboBoxModel.setMostUsedFirst(mostUsedCheckBox.isSelected()));
+
+            tasksComboBox.addPopupMenuListener(new PopupMenuListener() {
+                @Override
+                public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+                    tasksComboBoxModel.refreshOrder();
+                }
+
+                @Override
+                public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {}
+
+                @Override
+                public void popupMenuCanceled(PopupMenuEvent e) {}
+            });
+
+            return mostUsedCheckBox;
+        }
+
+        /**
+         * Creates an editable combo box with task names backed by a {@link TaskNamesComboBoxModel}. The prototype value
+         * makes the popup list measure a single cell instead of all names.
+         *
          * @return a combo box with task names
          * @see #withTasksPanel()
+         * @see #addFilterListener()
          */
         private JComboBox<String> createTasksComboBox() {
-            var taskNames = TaskNamesService.getService().getTaskNames().toArray(new String[0]);
-            tasksComboBox = new JComboBox<>(taskNames);
+            tasksComboBoxModel = new TaskNamesComboBoxModel(TaskNamesService.getService());
+            tasksComboBox = new JComboBox<>(tasksComboBoxModel);
             tasksComboBox.setName("tasksComboBox");
+            tasksComboBox.setEditable(true);
+            tasksComboBox.setPrototypeDisplayValue("X".repeat(24));
+            tasksComboBox.setMaximumRowCount(12);
+            addFilterListener();
+
             return tasksComboBox;
         }
+
+        /**
+         * Adds a listener to the editor of the {@link #tasksComboBox}, which filters the names by the typed text and
+         * opens the popup with the matching names. The text of the selected name shows all names. The filter is
+         * changed after the event, because the editor is also changed by the combo box itself.
+         *
+         * @see TaskNamesComboBoxModel#setFilter(String)
+         */
+        private void addFilterListener() {
+            var editor = (JTextComponent) tasksComboBox.getEditor().getEditorComponent();
+            Runnable filter = () -> SwingUtilities.invokeLater(() -> {
+                var text = editor.getText();
+                var isSelectedText = text.equals(tasksComboBoxModel.getSelectedItem());
+                tasksComboBoxModel.setFilter(isSelectedText ? "" : text);
+
+                if (!isSelectedText && editor.hasFocus() && tasksComboBox.isShowing()) tasksComboBox.showPopup();
+            });
+
+            editor.getDocument().addDocumentListener(new DocumentListener() {
+                @Override
+                public void insertUpdate(DocumentEvent e) {
+                    filter.run();
+                }
+
+                @Override
+                public void removeUpdate(DocumentEvent e) {
+                    filter.run();
+                }
+
+                @Override
+                public void changedUpdate(DocumentEvent e) {
+                    filter.run();
+                }
+            });
+        }
         //endregion
 
         //region WeekdaysPanel
@@ -248,6 +341,61 @@ public class TaskDialogView {
         }
         //endregion
 
+        //region RecurrencePanel
+
+        /**
+         * Adds a {@link JPanel} with {@link #recurrenceField} to the {@link #dialog}. It contains a label and a text
+         * field which allows the user to write on which weekdays the task repeats every week.
+         *
+         * @return the current TaskDialogBuilder instance with the recurrence panel added
+         * @see #createRecurrenceField()
+         * @see #createPanel(String, String, Component)
+         */
+        public TaskDialogBuilder withRecurrencePanel() {
+            dialog.add(createPanel("recurrencePanel", "Powtarzaj: ", createRecurrenceField()));
+            return this;
+        }
+
+        /**
+         * @return a text field allows to write a rule of the recurrence, e.g. "pn/śr/pt"
+         * @see #withRecurrencePanel()
+         * @see com.floweektracker.util.RecurrenceRules
+         */
+        private JTextField createRecurrenceField() {
+            recurrenceField = new JTextField(20);
+            recurrenceField.setName("recurrenceField");
+            recurrenceField.setToolTipText("Puste pole dodaje jedno zadanie. Przykłady: \"codziennie\", "
+                    + "\"dni robocze o 7:00\", \"pn/śr/pt\", \"pon-czw\", \"weekend\"");
+            return recurrenceField;
+        }
+        //endregion
+
+        //region DurationPanel
+
+        /**
+         * Adds a {@link JPanel} with {@link #durationSpinner} to the {@link #dialog}. It contains a label and a spinner
+         * which allows the user to choose how many minutes the task lasts.
+         *
+         * @return the current TaskDialogBuilder instance with the duration panel added
+         * @see #createDurationSpinner()
+         * @see #createPanel(String, String, Component)
+         */
+        public TaskDialogBuilder withDurationPanel() {
+            dialog.add(createPanel("durationPanel", "Czas trwania (min): ", createDurationSpinner()));
+            return this;
+        }
+
+        /**
+         * @return a spinner allows to choose a duration in minutes, where 0 means a task without a duration
+         * @see #withDurationPanel()
+         */
+        private JSpinner createDurationSpinner() {
+            durationSpinner = new JSpinner(new SpinnerNumberModel(0, 0, SingleTask.MINUTES_PER_DAY, 5));
+            durationSpinner.setName("durationSpinner");
+            return durationSpinner;
+        }
+        //endregion
+
         //region ButtonsPanel
 
         /**
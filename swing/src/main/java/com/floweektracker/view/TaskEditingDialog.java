@@ -2,7 +2,7 @@ package com.floweektracker.view;
 
 import com.floweektracker.controller.*;
 import com.floweektracker.model.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.util.DialogUtils;
 import lombok.*;
 
 import javax.swing.*;
@@ -13,18 +13,18 @@ import java.util.stream.*;
 
 /**
  * UI of the task editing dialog that allows the user to edit a task in the planner. It enables to edit task name,
- * weekday, time, description, done status and priority. At the bottom of the dialog, there are two buttons, which are
- * used to confirm editing or cancel it.
+ * weekday, time, duration, description, done status and priority. At the bottom of the dialog, there are two buttons,
+ * which are used to confirm editing or cancel it.
  * <br><br>
- * Fields: {@link #originalTask}, {@link #view}, {@link #dialog}, {@link #tasksComboBox}, {@link #weekdaysComboBox},
- * {@link #timeSpinner}, {@link #descriptionTextArea}, {@link #prioritySpinner}, {@link #statusComboBox},
- * {@link #buttons}, {@link #isDialogOpen}
+ * Fields: {@link #originalTask}, {@link #view}, {@link #dialog}, {@link #tasksComboBox}, {@link #tasksComboBoxModel},
+ * {@link #weekdaysComboBox}, {@link #timeSpinner}, {@link #durationSpinner}, {@link #descriptionTextArea},
+ * {@link #prioritySpinner}, {@link #statusComboBox}, {@link #buttons}, {@link #isDialogOpen}
  * <br><br>
  * Visibility methods: {@link #makeDialogVisible(SingleTask)}, {@link #setValuesFromOriginalTask(SingleTask)},
  * {@link #makeDialogInvisible()}
  * <br><br>
  * Getter methods: {@link #getTaskName()}, {@link #getDescription()}, {@link #getWeekday()}, {@link #getTime()},
- * {@link #getPriority()}, {@link #getStatus()}, {@link #getAllTaskNames()}
+ * {@link #getDurationMinutes()}, {@link #getPriority()}, {@link #getStatus()}, {@link #getAllTaskNames()}
  */
 @Getter
 public class TaskEditingDialog {
@@ -35,8 +35,8 @@ public class TaskEditingDialog {
     private SingleTask originalTask;
     @Getter(AccessLevel.PRIVATE)
     private final TaskDialogView view = new TaskDialogView.TaskDialogBuilder("taskEditingDialog")
-            .withTasksPanel().withDescriptionPanel().withWeekdaysPanel().withTimePanel().withPriorityPanel()
-            .withStatusPanel().withButtons().build();
+            .withTasksPanel().withDescriptionPanel().withWeekdaysPanel().withTimePanel().withDurationPanel()
+            .withPriorityPanel().withStatusPanel().withButtons().build();
     private final JDialog dialog = view.getDialog();
     /**
      * Combo box with task names. It is displayed to the user in the {@link #dialog} and allows to edit a task name.
@@ -47,6 +47,12 @@ public class TaskEditingDialog {
      * @see com.floweektracker.controller.TaskEditingDialogController#updateTaskNames(String)
      */
     private final JComboBox<String> tasksComboBox = view.getTasksComboBox();
+    /**
+     * Model of the {@link #tasksComboBox}, which keeps the task names sorted and filters them by the typed text.
+     *
+     * @see com.floweektracker.controller.TaskEditingDialogController#updateTaskNames(String)
+     */
+    private final TaskNamesComboBoxModel tasksComboBoxModel = view.getTasksComboBoxModel();
     /**
      * Text area which is displayed to the user in the {@link #dialog} and allows to edit a task's description.
      *
@@ -75,6 +81,13 @@ public class TaskEditingDialog {
      * @see #getPriority() .
      */
     private final JSpinner prioritySpinner = view.getPrioritySpinner();
+    /**
+     * Spinner which is displayed to the user in the {@link #dialog} and allows to edit how many minutes a task lasts.
+     *
+     * @see #setValuesFromOriginalTask(SingleTask)
+     * @see #getDurationMinutes()
+     */
+    private final JSpinner durationSpinner = view.getDurationSpinner();
     /**
      * Combo box which is displayed to the user in the {@link #dialog} and allows to edit a task's status.
      *
@@ -155,6 +168,7 @@ public class TaskEditingDialog {
         calendar.set(Calendar.MINUTE, originalTask.getTime().getMinute());
         timeSpinner.setValue(calendar.getTime());
 
+        durationSpinner.setValue(originalTask.getDurationMinutes());
         prioritySpinner.setValue(originalTask.getPriority());
         statusComboBox.setSelectedItem(originalTask.isDone() ? "Tak" : "Nie");
     }
@@ -206,6 +220,19 @@ public class TaskEditingDialog {
         return localDateTime.toLocalTime().truncatedTo(ChronoUnit.MINUTES);
     }
 
+    /**
+     * Gets edited duration from the {@link #durationSpinner}. It is shortened to the minutes left until midnight, so
+     * the task ends not later than at the end of its weekday.
+     *
+     * @return a number of minutes the task lasts, where 0 means a task without a duration
+     * @see SingleTask#getEndMinute()
+     */
+    public int getDurationMinutes() {
+        var duration = ((Number) durationSpinner.getValue()).intValue();
+
+        return Math.min(duration, SingleTask.MINUTES_PER_DAY - getTime().toSecondOfDay() / 60);
+    }
+
     /**
      * Gets edited priority from the {@link #prioritySpinner}, and converts it to the {@code byte}.
      *
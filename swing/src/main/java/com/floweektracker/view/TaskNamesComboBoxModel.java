@@ -0,0 +1,79 @@
+package com.floweektracker.view;
+
+import com.floweektracker.service.TaskNamesService;
+
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * Represents a model of the task names combo box, which filters and sorts the names like the
+ * {@link TaskNamesListModel} and additionally keeps the selected name. The position given to
+ * {@link #insertElementAt(String, int)} is ignored, because the names are always sorted. It is used by both task
+ * dialogs.
+ * <br><br>
+ * Fields: {@link #selectedItem}
+ * <br><br>
+ * Methods: {@link #removed(String)}, {@link #insertElementAt(String, int)}, {@link #removeElementAt(int)},
+ * {@link #setSelectedItem(Object)}, {@link #getSelectedItem()}
+ *
+ * @see TaskDialogView.TaskDialogBuilder#withTasksPanel()
+ */
+public class TaskNamesComboBoxModel extends TaskNamesListModel implements MutableComboBoxModel<String> {
+    private Object selectedItem;
+
+    /**
+     * Creates a model of the names of the given service without a filter, which starts to observe them.
+     *
+     * @param namesService a given service of the task names
+     */
+    public TaskNamesComboBoxModel(TaskNamesService namesService) {
+        super(namesService);
+    }
+
+    /**
+     * Hides the removed name. When it is selected, the selection is cleared.
+     *
+     * @param element a removed task name
+     */
+    @Override
+    public void removed(String element) {
+        super.removed(element);
+
+        if ((element != null) && element.equals(selectedItem)) setSelectedItem(null);
+    }
+
+    /**
+     * Adds the given name at its sorted position, so the given index is ignored.
+     *
+     * @param item  a given task name
+     * @param index an ignored position
+     */
+    @Override
+    public void insertElementAt(String item, int index) {
+        addElement(item);
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        removeElement(getElementAt(index));
+    }
+
+    /**
+     * Sets the selected name. A blank text typed by the user is taken as no selection.
+     *
+     * @param anItem a given task name or null
+     */
+    @Override
+    public void setSelectedItem(Object anItem) {
+        var item = ((anItem instanceof String text) && text.isBlank()) ? null : anItem;
+        if (Objects.equals(selectedItem, item)) return;
+
+        selectedItem = item;
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+}
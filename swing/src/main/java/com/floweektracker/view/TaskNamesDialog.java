@@ -5,19 +5,22 @@ import com.floweektracker.service.TaskNamesService;
 import lombok.Getter;
 
 import javax.swing.*;
+import javax.swing.event.*;
 import java.awt.*;
 import java.util.Arrays;
 
 /**
  * Represents the UI of the task names database allowing users to add and remove task names in a database. It shows a
- * list of task names. It also provides possibility to add or remove the task name. This class is a singleton.
+ * list of task names, which follows the names in the {@link TaskNamesService} incrementally and can be filtered while
+ * typing. It also provides possibility to add or remove the task name. This class is a singleton.
  * <br><br>
  * Fields:  {@link #view}, {@link #dialog}, {@link #taskNamesScrollPane}, {@link #taskNameInputField}, {@link #buttons},
- * {@link #taskNamesList}, {@link #visible}
+ * {@link #taskNamesListModel}, {@link #taskNamesList}, {@link #taskNamesFilterField}, {@link #visible}
  * <br><br>
  * Dialog creating methods: {@link #initTaskNamesDialog()}
  * <br><br>
- * Left panel creating methods: {@link #createLeftPanel()}, {@link #createTaskNamesScrollPane()}
+ * Left panel creating methods: {@link #createLeftPanel()}, {@link #createTaskNamesFilterField()},
+ * {@link #createTaskNamesScrollPane()}
  * <br><br>
  * Right panel creating methods: {@link #createRightPanel()}, {@link #createTaskAddingPanel()},
  * {@link #createTaskNameInputField()}, {@link #createButtonsPanel()}, {@link #createButton(String, String)}
@@ -28,7 +31,7 @@ import java.util.Arrays;
  * <br><br>
  * Setter methods: {@link #setTaskNameInInputField(String)}, {@link #setTaskNamesList(String[])}
  * <br><br>
- * Other methods:{@link #makeDialogVisible()}
+ * Other methods:{@link #makeDialogVisible()}, {@link #showTaskNamesListModel()}
  */
 @Getter
 public class TaskNamesDialog {
@@ -60,13 +63,21 @@ public class TaskNamesDialog {
      */
     private final JTextField taskNameInputField;
     /**
-     * Contains an array of the {@link JButton}s representing the buttons for adding, removing, and cancelling task
-     * names.
+     * Contains an array of the {@link JButton}s representing the buttons for adding, removing, cancelling and renaming
+     * task names.
      *
      * @see #TaskNamesDialog()
      * @see #createButtonsPanel()
      */
     private final JButton[] buttons;
+    /**
+     * Contains a {@link TaskNamesListModel} with existing task names in the database. It observes the names of the
+     * {@link TaskNamesService}, so adding or deleting a name updates only one row of the {@link #taskNamesList}.
+     *
+     * @see #TaskNamesDialog()
+     * @see #showTaskNamesListModel()
+     */
+    private final TaskNamesListModel taskNamesListModel;
     /**
      * Contains a {@link JList} instance with existing task names in the database. It is used in the UI to display the
      * list of task names.
@@ -75,6 +86,14 @@ public class TaskNamesDialog {
      * @see #createLeftPanel()
      */
     private final JList<String> taskNamesList;
+    /**
+     * Contains a {@link JTextField} instance allowing the user to filter the {@link #taskNamesList} by the beginning of
+     * the task names.
+     *
+     * @see #TaskNamesDialog()
+     * @see #createTaskNamesFilterField()
+     */
+    private final JTextField taskNamesFilterField;
     /**
      * A flag representing whether the dialog is visible or not. It is used to control the visibility of the dialog.
      */
@@ -83,22 +102,28 @@ public class TaskNamesDialog {
 
     /**
      * Constructs a new {@link TaskNamesDialog} singleton instance. This constructor initializes references to the
-     * {@link #taskNamesList}, {@link #taskNamesScrollPane}, {@link #taskNameInputField} and {@link #buttons}. Finally,
-     * it calls {@link #initTaskNamesDialog()} to initialize the UI dialog.
+     * {@link #taskNamesListModel}, which starts to observe the task names, {@link #taskNamesList},
+     * {@link #taskNamesFilterField}, {@link #taskNamesScrollPane}, {@link #taskNameInputField} and {@link #buttons}.
+     * Finally, it calls {@link #initTaskNamesDialog()} to initialize the UI dialog.
      *
+     * @see #createTaskNamesFilterField()
      * @see #createTaskNamesScrollPane()
      * @see #createTaskNameInputField()
      * @see #initTaskNamesDialog()
      * @see TaskNamesService
      */
     private TaskNamesDialog() {
-        this.taskNamesList = new JList<>(TaskNamesService.getService().getTaskNames().toArray(new String[0]));
+        this.taskNamesListModel = new TaskNamesListModel(TaskNamesService.getService());
+
+        this.taskNamesList = new JList<>(taskNamesListModel);
+        this.taskNamesFilterField = createTaskNamesFilterField();
         this.taskNamesScrollPane = createTaskNamesScrollPane();
         this.taskNameInputField = createTaskNameInputField();
         this.buttons = new JButton[]{
                 createButton("confirmButton", "OK"),
                 createButton("deleteButton", "Usuń"),
                 createButton("cancelButton", "Wyczyść"),
+                createButton("renameButton", "Zmień nazwę"),
         };
 
         initTaskNamesDialog();
@@ -131,8 +156,8 @@ public class TaskNamesDialog {
     //region leftPanel methods
 
     /**
-     * Creates a {@link JPanel} using the {@link #createPanel(String, LayoutManager)} method and adds a title label and
-     * the {@link #taskNamesScrollPane}.
+     * Creates a {@link JPanel} using the {@link #createPanel(String, LayoutManager)} method and adds a title label, the
+     * {@link #taskNamesFilterField} and the {@link #taskNamesScrollPane}.
      *
      * @return a {@link JPanel} representing left panel of the {@link #dialog} wih the task names scroll pane.
      * @see #initTaskNamesDialog()
@@ -142,11 +167,46 @@ public class TaskNamesDialog {
     private JPanel createLeftPanel() {
         var leftPanel = createPanel("leftPanel", null);
         leftPanel.add(createLabel("titleLabel", "Dostępne zadania:"));
+        leftPanel.add(taskNamesFilterField);
         leftPanel.add(taskNamesScrollPane);
 
         return leftPanel;
     }
 
+    /**
+     * Creates a {@link JTextField} which filters the {@link #taskNamesListModel} on each change of its text.
+     *
+     * @return a created {@link JTextField} where user can type the beginning of the searched task names
+     * @see TaskNamesDialog()
+     * @see #createLeftPanel()
+     */
+    private JTextField createTaskNamesFilterField() {
+        var filterField = new JTextField();
+        filterField.setName("taskNamesFilterField");
+        filterField.setToolTipText("Filtruj zadania");
+        filterField.setMaximumSize(new Dimension(Integer.MAX_VALUE, filterField.getPreferredSize().height));
+        filterField.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                taskNamesListModel.setFilter(filterField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                taskNamesListModel.setFilter(filterField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                taskNamesListModel.setFilter(filterField.getText());
+            }
+        });
+
+        return filterField;
+    }
+
     /**
      * @return a {@link JScrollPane} with task names from the {@link #taskNamesList}.
      * @see TaskNamesDialog()
@@ -155,6 +215,7 @@ public class TaskNamesDialog {
     private JScrollPane createTaskNamesScrollPane() {
         var taskNamesScrollPane = new JScrollPane(taskNamesList);
         taskNamesScrollPane.setName("taskNamesScrollPane");
+        taskNamesScrollPane.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         return taskNamesScrollPane;
     }
@@ -266,6 +327,16 @@ public class TaskNamesDialog {
         dialog.setVisible(true);
     }
 
+    /**
+     * Makes the {@link #taskNamesList} show the {@link #taskNamesListModel} again, when the model was replaced by
+     * {@link #setTaskNamesList(String[])}. The model is already up-to-date, so the list keeps its scroll position.
+     *
+     * @see com.floweektracker.controller.TaskNamesController
+     */
+    public void showTaskNamesListModel() {
+        if (taskNamesList.getModel() != taskNamesListModel) taskNamesList.setModel(taskNamesListModel);
+    }
+
     //region helper methods
 
     /**
@@ -324,7 +395,8 @@ public class TaskNamesDialog {
     }
 
     /**
-     * Sets a given list of task names in the {@link #taskNamesList}.
+     * Sets a given list of task names in the {@link #taskNamesList} instead of the {@link #taskNamesListModel}, until
+     * {@link #showTaskNamesListModel()} is called.
      *
      * @param taskNames a given list of task names
      */
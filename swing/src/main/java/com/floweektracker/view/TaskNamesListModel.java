@@ -0,0 +1,244 @@
+package com.floweektracker.view;
+
+import com.floweektracker.model.TaskNameUsage;
+import com.floweektracker.service.*;
+import com.floweektracker.util.*;
+import lombok.NonNull;
+
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * Represents a model of a list of task names, which shows only the names starting with the {@link #filter}. The names
+ * aren't copied: the model is a view of the {@link NameTrie} shared by the {@link TaskNamesService}, and the filtered
+ * names are a range of it, so filtering, adding and removing a name are done in the time of a walk of the trie and
+ * fire events of a single interval, thanks to which the list keeps its scroll position and selection. As an
+ * {@link ObservableSet.Listener} of the service it follows the names, and the names added or removed by the model are
+ * added to or deleted from the service. When the most used names are shown first, the usages of the filtered names
+ * are read at once from the {@link TaskNameUsageService} and sorted by the {@link TaskNameUsage#RANKING} in the
+ * {@link #orderedUsages}, so a usage isn't read in each comparison.
+ * <br><br>
+ * Fields: {@link #namesService}, {@link #taskNames}, {@link #filter}, {@link #filterStart}, {@link #filterSize},
+ * {@link #mostUsedFirst}, {@link #orderedUsages}
+ * <br><br>
+ * Methods: {@link #setFilter(String)}, {@link #setMostUsedFirst(boolean)}, {@link #refreshOrder()},
+ * {@link #contains(String)}, {@link #getSize()}, {@link #getElementAt(int)}, {@link #addElement(String)},
+ * {@link #removeElement(Object)}, {@link #added(String)}, {@link #removed(String)}, {@link #matchesFilter(String)},
+ * {@link #updateRange()}, {@link #sortFilteredNames()}, {@link #indexOfOrdered(String)}
+ *
+ * @see TaskNamesDialog
+ * @see TaskNamesComboBoxModel
+ */
+public class TaskNamesListModel extends AbstractListModel<String> implements ObservableSet.Listener<String> {
+    private final TaskNamesService namesService;
+    /**
+     * Contains the names of the {@link #namesService}, which are shared by all models.
+     *
+     * @see TaskNamesService#getNameTrie()
+     */
+    private final NameTrie taskNames;
+    /**
+     * Contains a folded prefix of the shown names, which is empty when all names are shown.
+     */
+    private String filter = "";
+    /**
+     * Represents a position in the {@link #taskNames} of the first shown name.
+     */
+    private int filterStart;
+    /**
+     * Represents a number of the shown names.
+     */
+    private int filterSize;
+    /**
+     * Represents whether the shown names are ordered from the most used, instead of alphabetically from the
+     * {@link #taskNames}.
+     */
+    private boolean mostUsedFirst;
+    /**
+     * Contains the usages of the shown names sorted by the {@link TaskNameUsage#RANKING}, or null when the names are
+     * shown alphabetically.
+     */
+    private List<TaskNameUsage> orderedUsages;
+
+    /**
+     * Creates a model of the names of the given service without a filter, which starts to observe them.
+     *
+     * @param namesService a given service of the task names
+     */
+    public TaskNamesListModel(@NonNull TaskNamesService namesService) {
+        this.namesService = namesService;
+        this.taskNames = namesService.getNameTrie();
+        updateRange();
+
+        namesService.addTaskNamesListener(this);
+    }
+
+    /**
+     * Shows only the names starting with the given text, ignoring case and Polish diacritics.
+     *
+     * @param text a given text typed by the user, or null to show all names
+     */
+    public void setFilter(String text) {
+        var newFilter = TextNormalizer.fold(text);
+        if (newFilter.equals(filter)) return;
+
+        var oldSize = filterSize;
+        filter = newFilter;
+        updateRange();
+        if (mostUsedFirst) sortFilteredNames();
+
+        fireContentsChanged(this, 0, Math.max(oldSize, filterSize) - 1);
+    }
+
+    /**
+     * Shows the names from the most used ones, ranked by the {@link TaskNameUsageService}, or alphabetically.
+     *
+     * @param isMostUsedFirst true to show the most used names first, false to show the names alphabetically
+     */
+    public void setMostUsedFirst(boolean isMostUsedFirst) {
+        if (mostUsedFirst == isMostUsedFirst) return;
+
+        mostUsedFirst = isMostUsedFirst;
+        if (mostUsedFirst) sortFilteredNames();
+        else orderedUsages = null;
+
+        fireContentsChanged(this, 0, filterSize - 1);
+    }
+
+    /**
+     * Sorts the shown names again, because the ranking of the most used names changes over time, e.g. when the names
+     * are used.
+     */
+    public void refreshOrder() {
+        if (!mostUsedFirst) return;
+
+        sortFilteredNames();
+        fireContentsChanged(this, 0, filterSize - 1);
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return true if the model contains the given name, also when it is hidden by the {@link #filter}
+     */
+    public boolean contains(String taskName) {
+        return taskNames.contains(taskName);
+    }
+
+    @Override
+    public int getSize() {
+        return filterSize;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        if ((index < 0) || (index >= filterSize)) return null;
+
+        return (orderedUsages != null)
+                ? orderedUsages.get(index).getTaskName()
+                : taskNames.get(filterStart + index);
+    }
+
+    /**
+     * Adds the given name to the {@link #namesService}, so it is added at its sorted position of all models. Blank and
+     * already added names are ignored.
+     *
+     * @param item a given task name
+     * @see TaskNamesService#addTaskName(String)
+     */
+    public void addElement(String item) {
+        namesService.addTaskName(item);
+    }
+
+    /**
+     * Deletes the given name from the {@link #namesService}, so it is removed from all models.
+     *
+     * @param obj a given task name
+     * @see TaskNamesService#deleteTaskName(String)
+     */
+    public void removeElement(Object obj) {
+        if (obj instanceof String taskName) namesService.deleteTaskName(taskName);
+    }
+
+    /**
+     * Shows the name added to the {@link #taskNames} when it matches the {@link #filter}.
+     *
+     * @param element an added task name
+     */
+    @Override
+    public void added(String element) {
+        updateRange();
+        if (!matchesFilter(element)) return;
+
+        int index;
+        if (orderedUsages != null) {
+            var usage = TaskNameUsageService.getService().getUsage(element);
+            var position = Collections.binarySearch(orderedUsages, usage, TaskNameUsage.RANKING);
+            index = (position >= 0) ? position : -(position + 1);
+            orderedUsages.add(index, usage);
+        } else index = taskNames.indexOf(element) - filterStart;
+
+        fireIntervalAdded(this, index, index);
+    }
+
+    /**
+     * Hides the name removed from the {@link #taskNames}. Its position is the position from which it was removed.
+     *
+     * @param element a removed task name
+     */
+    @Override
+    public void removed(String element) {
+        var isShown = matchesFilter(element);
+        var index = (orderedUsages != null)
+                ? indexOfOrdered(element)
+                : taskNames.positionOf(element) - filterStart;
+        if ((orderedUsages != null) && (index >= 0)) orderedUsages.remove(index);
+        updateRange();
+
+        if (isShown && (index >= 0)) fireIntervalRemoved(this, index, index);
+    }
+
+    //region helper methods
+    /**
+     * @param taskName a given task name
+     * @return true if the given name starts with the {@link #filter}, otherwise false
+     */
+    private boolean matchesFilter(String taskName) {
+        return TextNormalizer.fold(taskName).startsWith(filter);
+    }
+
+    /**
+     * Finds the range of the names which start with the {@link #filter}.
+     */
+    private void updateRange() {
+        filterSize = taskNames.countWithPrefix(filter);
+        filterStart = (filterSize > 0) ? taskNames.indexOfPrefix(filter) : 0;
+    }
+
+    /**
+     * Reads at once the usages of the names which start with the {@link #filter} and sorts them by the
+     * {@link TaskNameUsage#RANKING} in the {@link #orderedUsages}.
+     *
+     * @see TaskNameUsageService#getUsages(Collection)
+     */
+    private void sortFilteredNames() {
+        var names = new ArrayList<String>(filterSize);
+        for (int i = 0; i < filterSize; i++) names.add(taskNames.get(filterStart + i));
+
+        var usages = new ArrayList<>(TaskNameUsageService.getService().getUsages(names));
+        usages.sort(TaskNameUsage.RANKING);
+        orderedUsages = usages;
+    }
+
+    /**
+     * @param taskName a given task name
+     * @return a position of the given name in the {@link #orderedUsages}, or -1 when it isn't there
+     */
+    private int indexOfOrdered(String taskName) {
+        for (int i = 0; i < orderedUsages.size(); i++) {
+            if (orderedUsages.get(i).getTaskName().equals(taskName)) return i;
+        }
+
+        return -1;
+    }
+    //endregion
+}
@@ -0,0 +1,456 @@
+package com.floweektracker.view;
+
+import com.floweektracker.model.*;
+import lombok.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.time.*;
+import java.util.Arrays;
+
+/**
+ * Represents a UI of the planner in which each weekday is a column and the time of the day runs down with a fixed
+ * number of minutes per row, so the layout doesn't depend on the tasks like in the {@link PlannerView}. The zoom can be
+ * set from 5 minutes to 1 hour per row. Only the region given by the clip is painted: the tasks are found by the
+ * {@link DayIntervals} of the visible weekdays and minutes, and the static layers, i.e. the gridlines of a single hour
+ * and the column with the hour labels, are drawn once to the {@link #hourTile} and the {@link #labelColumn}, and then
+ * only copied. The layers are drawn again when the zoom or the width changes. It is placed in a {@link JScrollPane},
+ * and the names of the weekdays are shown by the {@link #header} in its column header.
+ * <br><br>
+ * Fields: {@link #ZOOM_LEVELS}, {@link #ROW_HEIGHT}, {@link #TIME_COLUMN_WIDTH}, {@link #MIN_DAY_WIDTH},
+ * {@link #header}, {@link #snapshot}, {@link #minutesPerRow}, {@link #hourTile}, {@link #labelColumn}
+ * <br><br>
+ * Methods: {@link #setSnapshot(ScheduleSnapshot)}, {@link #setMinutesPerRow(int)}, {@link #scrollToMinute(int)},
+ * {@link #paintComponent(Graphics)}, {@link #getToolTipText(MouseEvent)}, {@link #renderHourTile(int)},
+ * {@link #renderLabelColumn()}, {@link #paintTasks(Graphics2D, Rectangle)},
+ * {@link #paintTask(Graphics2D, SingleTask, int)}, {@link #paintCurrentTime(Graphics2D)}, {@link #getHourHeight()},
+ * {@link #minuteToY(int)}, {@link #yToMinute(int)}, {@link #dayToX(int)}, {@link #xToDay(int)},
+ * {@link #createLayerImage(int, int)}
+ */
+@Getter
+public class TimeGridView extends JComponent implements Scrollable {
+    /**
+     * Represents the supported numbers of minutes per row, from the closest to the farthest zoom.
+     *
+     * @see #setMinutesPerRow(int)
+     */
+    public static final int[] ZOOM_LEVELS = {5, 10, 15, 30, 60};
+    static final int ROW_HEIGHT = 18;
+    static final int TIME_COLUMN_WIDTH = 56;
+    private static final int MIN_DAY_WIDTH = 100;
+    private static final Color TIME_COLUMN_COLOR = new Color(245, 245, 245);
+    private static final Color GRID_COLOR = new Color(235, 235, 235);
+    private static final Color HOUR_LINE_COLOR = new Color(200, 200, 200);
+    private static final Color TASK_COLOR = new Color(187, 210, 245);
+    private static final Color DONE_TASK_COLOR = new Color(190, 230, 200);
+    private static final Color TASK_BORDER_COLOR = new Color(90, 120, 170);
+    private static final Color CURRENT_TIME_COLOR = new Color(220, 50, 50);
+    private final DayHeader header = new DayHeader();
+    private ScheduleSnapshot snapshot = ScheduleSnapshot.EMPTY;
+    private int minutesPerRow = 15;
+    /**
+     * Contains the gridlines of a single hour for the current width, or null when it has to be drawn again.
+     */
+    @Getter(AccessLevel.NONE)
+    private BufferedImage hourTile;
+    /**
+     * Contains the column with the hour labels of the whole day, or null when it has to be drawn again.
+     */
+    @Getter(AccessLevel.NONE)
+    private BufferedImage labelColumn;
+
+    /**
+     * Creates a grid with the default zoom of 15 minutes per row.
+     *
+     * @see MainPanelView
+     */
+    public TimeGridView() {
+        setName("timeGrid");
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setFont(new Font("Arial", Font.PLAIN, 12));
+        ToolTipManager.sharedInstance().registerComponent(this);
+    }
+
+    /**
+     * Sets the given snapshot of the schedule and repaints the grid. It should be called on the EDT.
+     *
+     * @param snapshot a given snapshot of the schedule
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    public void setSnapshot(ScheduleSnapshot snapshot) {
+        this.snapshot = (snapshot != null) ? snapshot : ScheduleSnapshot.EMPTY;
+        repaint();
+    }
+
+    /**
+     * Sets the zoom of the grid. The minute in the middle of the visible region stays in the middle after the change.
+     *
+     * @param minutesPerRow a given number of minutes per row, one of the {@link #ZOOM_LEVELS}
+     * @throws IllegalArgumentException when the given number isn't one of the {@link #ZOOM_LEVELS}
+     * @see com.floweektracker.controller.TimeGridController
+     */
+    public void setMinutesPerRow(int minutesPerRow) {
+        if (Arrays.stream(ZOOM_LEVELS).noneMatch(level -> level == minutesPerRow))
+            throw new IllegalArgumentException("Zoom of the grid should be one of " + Arrays.toString(ZOOM_LEVELS));
+        if (minutesPerRow == this.minutesPerRow) return;
+
+        var visible = getVisibleRect();
+        var middleMinute = yToMinute(visible.y + visible.height / 2);
+
+        this.minutesPerRow = minutesPerRow;
+        hourTile = null;
+        labelColumn = null;
+
+        setSize(getWidth(), getPreferredSize().height);
+        revalidate();
+        scrollToMinute(middleMinute);
+        repaint();
+    }
+
+    /**
+     * Scrolls the grid, so the given minute is in the middle of the visible region.
+     *
+     * @param minute a given minute of the day
+     */
+    public void scrollToMinute(int minute) {
+        var visible = getVisibleRect();
+        var y = Math.max(minuteToY(minute) - visible.height / 2, 0);
+
+        scrollRectToVisible(new Rectangle(visible.x, y, Math.max(visible.width, 1), Math.max(visible.height, 1)));
+    }
+
+    //region painting methods
+    /**
+     * Paints the region given by the clip. The hour tiles and the labels are copied only for the visible hours, and
+     * only the tasks of the visible weekdays and minutes are drawn.
+     *
+     * @param g the {@link Graphics} object to paint
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        var width = getWidth();
+        if ((width <= 0) || (getHeight() <= 0)) return;
+
+        var clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, width, getHeight());
+
+        if ((hourTile == null) || (hourTile.getWidth() != width)) hourTile = renderHourTile(width);
+        if (labelColumn == null) labelColumn = renderLabelColumn();
+
+        var hourHeight = getHourHeight();
+        var firstHour = Math.max(clip.y / hourHeight, 0);
+        var lastHour = Math.min((clip.y + clip.height - 1) / hourHeight, 23);
+
+        for (int hour = firstHour; hour <= lastHour; hour++) g.drawImage(hourTile, 0, hour * hourHeight, null);
+        if (clip.x < TIME_COLUMN_WIDTH) g.drawImage(labelColumn, 0, 0, null);
+
+        var g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            paintTasks(g2, clip);
+            paintCurrentTime(g2);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Draws the horizontal gridlines of each row of a single hour, where the first one is darker, and the vertical
+     * lines between the weekdays.
+     *
+     * @param width a given width of the grid
+     * @return an image of a single hour of the grid
+     */
+    private BufferedImage renderHourTile(int width) {
+        var tile = createLayerImage(width, getHourHeight());
+        var g2 = tile.createGraphics();
+
+        try {
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, width, tile.getHeight());
+
+            for (int row = 0; row < 60 / minutesPerRow; row++) {
+                g2.setColor((row == 0) ? HOUR_LINE_COLOR : GRID_COLOR);
+                g2.drawLine(TIME_COLUMN_WIDTH, row * ROW_HEIGHT, width, row * ROW_HEIGHT);
+            }
+
+            g2.setColor(HOUR_LINE_COLOR);
+            for (int day = 0; day <= WeekDays.values().length; day++) {
+                var x = Math.min(dayToX(day), width - 1);
+                g2.drawLine(x, 0, x, tile.getHeight());
+            }
+        } finally {
+            g2.dispose();
+        }
+
+        return tile;
+    }
+
+    /**
+     * Draws the labels of the full hours and, when the rows are shorter than half an hour, gray labels of the half
+     * hours.
+     *
+     * @return an image of the column with the labels of the whole day
+     */
+    private BufferedImage renderLabelColumn() {
+        var column = createLayerImage(TIME_COLUMN_WIDTH, 24 * getHourHeight());
+        var g2 = column.createGraphics();
+
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setColor(TIME_COLUMN_COLOR);
+            g2.fillRect(0, 0, TIME_COLUMN_WIDTH, column.getHeight());
+            g2.setFont(getFont());
+            var ascent = g2.getFontMetrics().getAscent();
+
+            for (int minute = 0; minute < SingleTask.MINUTES_PER_DAY; minute += Math.max(minutesPerRow, 30)) {
+                var isFullHour = (minute % 60) == 0;
+                if (!isFullHour && (minutesPerRow >= 30)) continue;
+
+                g2.setColor(isFullHour ? Color.BLACK : Color.GRAY);
+                g2.drawString(LocalTime.MIN.plusMinutes(minute).toString(), 8, minuteToY(minute) + ascent + 1);
+            }
+        } finally {
+            g2.dispose();
+        }
+
+        return column;
+    }
+
+    /**
+     * Draws the tasks of the visible weekdays which overlap the visible minutes. The range starts a row earlier,
+     * because the blocks of short tasks are a row high.
+     *
+     * @param g2   a given graphics of the grid
+     * @param clip a given region to paint
+     * @see DayIntervals#findOverlapping(int, int)
+     */
+    private void paintTasks(Graphics2D g2, Rectangle clip) {
+        var fromMinute = Math.max(yToMinute(clip.y) - minutesPerRow, 0);
+        var toMinute = Math.min(yToMinute(clip.y + clip.height) + 1, SingleTask.MINUTES_PER_DAY);
+        var firstDay = xToDay(clip.x);
+        var lastDay = xToDay(clip.x + clip.width - 1);
+
+        for (int day = firstDay; day <= lastDay; day++) {
+            var weekday = WeekDays.getWeekdayAt(day);
+            if (weekday == null) continue;
+
+            var position = day;
+            snapshot.getIntervals(weekday).findOverlapping(fromMinute, toMinute)
+                    .forEach(task -> paintTask(g2, task, position));
+        }
+    }
+
+    /**
+     * Draws the given task as a rounded block of its weekday from its start to its end. Blocks are at least one row
+     * high, so the name of a short task can be read.
+     *
+     * @param g2       a given graphics of the grid
+     * @param task     a given task
+     * @param position a given position of the weekday of the task
+     */
+    private void paintTask(Graphics2D g2, SingleTask task, int position) {
+        var x = dayToX(position) + 2;
+        var width = dayToX(position + 1) - x - 2;
+        var y = minuteToY(task.getStartMinute()) + 1;
+        var height = Math.max(minuteToY(task.getEndMinute()) - y, ROW_HEIGHT - 2);
+
+        g2.setColor(task.isDone() ? DONE_TASK_COLOR : TASK_COLOR);
+        g2.fillRoundRect(x, y, width, height, 6, 6);
+        g2.setColor(TASK_BORDER_COLOR);
+        g2.drawRoundRect(x, y, width, height, 6, 6);
+
+        var text = g2.create(x + 3, y, Math.max(width - 6, 0), height);
+        try {
+            text.setColor(Color.BLACK);
+            var label = "%s %s".formatted(task.getTime(), task.getTaskName());
+            text.drawString(label, 0, text.getFontMetrics().getAscent() + 1);
+        } finally {
+            text.dispose();
+        }
+    }
+
+    /**
+     * Draws a line of the current time in the column of the current weekday.
+     *
+     * @param g2 a given graphics of the grid
+     */
+    private void paintCurrentTime(Graphics2D g2) {
+        var now = LocalDateTime.now();
+        var position = now.getDayOfWeek().getValue() - 1;
+        var y = minuteToY(now.toLocalTime().toSecondOfDay() / 60);
+
+        g2.setColor(CURRENT_TIME_COLOR);
+        g2.setStroke(new BasicStroke(2f));
+        g2.drawLine(dayToX(position), y, dayToX(position + 1), y);
+    }
+    //endregion
+
+    /**
+     * @param event a given event of the mouse
+     * @return a name, a range and a description of the task under the mouse, or null when there isn't any
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        var weekday = WeekDays.getWeekdayAt(xToDay(event.getX()));
+        if ((weekday == null) || (event.getX() < TIME_COLUMN_WIDTH)) return null;
+
+        var minute = yToMinute(event.getY());
+        var tasks = snapshot.getIntervals(weekday).findOverlapping(minute, minute + 1);
+        if (tasks.isEmpty()) return null;
+
+        var task = tasks.getLast();
+        var end = LocalTime.MIN.plusMinutes(task.getEndMinute() % SingleTask.MINUTES_PER_DAY);
+        var description = (task.getDescription() != null) ? task.getDescription() : "";
+
+        return "%s %s-%s %s".formatted(task.getTaskName(), task.getTime(), end, description).strip();
+    }
+
+    //region Scrollable methods
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(TIME_COLUMN_WIDTH + WeekDays.values().length * MIN_DAY_WIDTH, 24 * getHourHeight());
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(getPreferredSize().width, 24 * ROW_HEIGHT);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? ROW_HEIGHT : MIN_DAY_WIDTH / 4;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL)
+                ? Math.max(visibleRect.height - ROW_HEIGHT, ROW_HEIGHT)
+                : Math.max(visibleRect.width - MIN_DAY_WIDTH, MIN_DAY_WIDTH);
+    }
+
+    /**
+     * @return true when the viewport is wide enough for all weekdays, so the grid fills its width
+     */
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return (getParent() instanceof JViewport viewport) && (viewport.getWidth() >= getPreferredSize().width);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+    //endregion
+
+    //region helper methods
+    /**
+     * @return a height of a single hour for the actual zoom
+     */
+    private int getHourHeight() {
+        return ROW_HEIGHT * 60 / minutesPerRow;
+    }
+
+    /**
+     * @param minute a given minute of the day
+     * @return a y coordinate of the given minute
+     */
+    int minuteToY(int minute) {
+        return minute * ROW_HEIGHT / minutesPerRow;
+    }
+
+    /**
+     * @param y a given y coordinate
+     * @return a minute of the day at the given coordinate, between 0 and the last minute of the day
+     */
+    int yToMinute(int y) {
+        return Math.clamp((long) y * minutesPerRow / ROW_HEIGHT, 0, SingleTask.MINUTES_PER_DAY - 1);
+    }
+
+    /**
+     * @param position a given position of the weekday, where the number of the weekdays means the right edge
+     * @return an x coordinate of the left edge of the weekday
+     */
+    private int dayToX(int position) {
+        var daysWidth = Math.max(getWidth() - TIME_COLUMN_WIDTH, 0);
+
+        return TIME_COLUMN_WIDTH + position * daysWidth / WeekDays.values().length;
+    }
+
+    /**
+     * @param x a given x coordinate
+     * @return a position of the weekday at the given coordinate, between 0 and the last weekday
+     */
+    private int xToDay(int x) {
+        var daysWidth = Math.max(getWidth() - TIME_COLUMN_WIDTH, 1);
+        var position = (long) (x - TIME_COLUMN_WIDTH) * WeekDays.values().length / daysWidth;
+
+        return Math.clamp(position, 0, WeekDays.values().length - 1);
+    }
+
+    /**
+     * @param width  a given width of the image
+     * @param height a given height of the image
+     * @return an image compatible with the screen, so drawing it is a plain copy
+     */
+    private BufferedImage createLayerImage(int width, int height) {
+        var configuration = getGraphicsConfiguration();
+
+        return (configuration != null)
+                ? configuration.createCompatibleImage(Math.max(width, 1), Math.max(height, 1))
+                : new BufferedImage(Math.max(width, 1), Math.max(height, 1), BufferedImage.TYPE_INT_RGB);
+    }
+    //endregion
+
+    /**
+     * Represents the column header of the grid with the names of the weekdays, in which the current weekday is black
+     * and others are gray, like in the {@link PlannerView}.
+     */
+    public class DayHeader extends JComponent {
+        /**
+         * Creates a header with the height of a single row.
+         */
+        public DayHeader() {
+            setName("timeGridHeader");
+            setFont(new Font("Arial", Font.BOLD, 12));
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(TimeGridView.this.getPreferredSize().width, ROW_HEIGHT + 6);
+        }
+
+        /**
+         * Paints the names of the weekdays in the middle of their columns.
+         *
+         * @param g the {@link Graphics} object to paint
+         */
+        @Override
+        protected void paintComponent(Graphics g) {
+            var g2 = (Graphics2D) g;
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setColor(TIME_COLUMN_COLOR);
+            g2.fillRect(0, 0, getWidth(), getHeight());
+            g2.setFont(getFont());
+
+            var metrics = g2.getFontMetrics();
+            var names = WeekDays.getNames(WeekDays.POLISH);
+            var today = LocalDate.now().getDayOfWeek().getValue() - 1;
+
+            for (int position = 0; position < names.size(); position++) {
+                var name = names.get(position);
+                var x = (dayToX(position) + dayToX(position + 1) - metrics.stringWidth(name)) / 2;
+
+                g2.setColor((position == today) ? Color.BLACK : Color.GRAY);
+                g2.drawString(name, x, (getHeight() + metrics.getAscent() - metrics.getDescent()) / 2);
+            }
+
+            g2.setColor(HOUR_LINE_COLOR);
+            g2.drawLine(0, getHeight() - 1, getWidth(), getHeight() - 1);
+        }
+    }
+}
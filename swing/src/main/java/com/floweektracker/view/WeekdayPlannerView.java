@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.TreeMap;
 
 /**
  * Represents UI of the schedule for a given weekday, displaying the name of the weekday, its schedule and a return
@@ -17,7 +18,7 @@ import java.awt.*;
  * <br><br>
  * Methods: {@link #initWeekdayPlannerView()}, {@link #createWeekdayPanel()}
  * <br><br>
- * Content Panel methods: {@link #createHeadlinePanel()}, {@link #createContentPanel()},
+ * Content Panel methods: {@link #createHeadlinePanel()}, {@link #createContentPanel()}, {@link #reloadTasks()},
  * {@link #createTaskPanel(SingleTask)}, {@link #createDescriptionScrollPane(SingleTask)},
  * {@link #createGrid(int, int, String, int, Insets)}
  * <br><br>
@@ -144,6 +145,25 @@ public class WeekdayPlannerView extends JScrollPane {
         return panel;
     }
 
+    /**
+     * Replaces all task panels of the {@link #contentPanel} with panels created from the actual schedule, sorted by
+     * time. The panel is revalidated once after all changes.
+     *
+     * @see com.floweektracker.swing.service.WeekdayPlannerService#refreshWeekdays(java.util.List)
+     */
+    public void reloadTasks() {
+        var weekdayTasks = TasksService.getService().getSchedule().get(weekday);
+
+        contentPanel.removeAll();
+
+        if (weekdayTasks != null) {
+            new TreeMap<>(weekdayTasks).values().forEach(task -> contentPanel.add(createTaskPanel(task)));
+        }
+
+        contentPanel.revalidate();
+        contentPanel.repaint();
+    }
+
     /**
      * Creates a {@link JPanel} representing a task panel for a given task. This method configures UI components which
      * display details of the task's name, time, name, points, priority, and description.
@@ -152,7 +172,7 @@ public class WeekdayPlannerView extends JScrollPane {
      * @return a {@link JPanel} containing UI components displaying details of the specified task
      * @see #createContentPanel()
      * @see #createGrid(int, int, String, int, Insets)
-     * @see com.floweektracker.service.WeekdayPlannerService#addTask(SingleTask)
+     * @see com.floweektracker.swing.service.WeekdayPlannerService#addTask(SingleTask)
      */
     @NotNull
     public JPanel createTaskPanel(@NotNull SingleTask task) {
@@ -6,13 +6,21 @@
  * <p>Class overview:</p>
  * <ul>
  *     <li><b>CleanerView</b> - a dialog allowing the user to select the days of the week for a cleaning operation, e.g. delete all tasks or reset points; implemented as a singleton</li>
+ *     <li><b>EdtWatchdogView</b> - a dialog displaying the worst stalls of the event dispatch thread; implemented as a singleton</li>
  *     <li><b>InfoView</b> - a {@code JPanel} displaying information about using the application</li>
  *     <li><b>MainPanelView</b> - a {@code JPanel} representing the main view of the application after launching; implemented as a singleton</li>
+ *     <li><b>PlannerRowFilter</b> - a filter of the planner rows backed by the query index</li>
  *     <li><b>PlannerView</b> - a {@code JTable} representing a weekly planner; implemented as a singleton</li>
+ *     <li><b>PointsChartView</b> - a Java2D chart of the points history with downsampled series and a cached image</li>
+ *     <li><b>ProgressView</b> - a {@code JPanel} displaying the progress of the background operations with a cancel button</li>
+ *     <li><b>ReminderView</b> - shows the reminders in the system tray</li>
  *     <li><b>TaskAddingDialogView</b> - a dialog used to add a new task</li>
  *     <li><b>TaskDialogView</b> - a builder for dialogs used to add or edit a task</li>
  *     <li><b>TaskEditingDialogView</b> - a dialog used to edit an existing task</li>
+ *     <li><b>TaskNamesComboBoxModel</b> - sorted, filter-as-you-type model of the task names combo box shared by the task dialogs</li>
  *     <li><b>TaskNamesDialogView</b> - a dialog used to add or remove task names; implemented as a singleton</li>
+ *     <li><b>TaskNamesListModel</b> - an incremental, filterable model of the task names list</li>
+ *     <li><b>TimeGridView</b> - a Java2D planner painted as a grid with a fixed number of minutes per row, which can be zoomed</li>
  *     <li><b>WeekdayPlannerView</b> - a {@code JPanel} displaying all tasks for a given day with their details</li>
  * </ul>
  *
@@ -1,5 +1,8 @@
 /**
- * <p>This module provides packages required for the FloWeek Tracker application.</p>
+ * <p>This module provides the Swing window of the FloWeek Tracker application: the views, the controllers and the
+ * services and utilities bound to Swing. The model, the repositories and the services of the data are provided by the
+ * {@code FloWeekTracker.core} module, and the command line and the HTTP API by the {@code FloWeekTracker.cli}
+ * module.</p>
  * <br>
  * <p><b>FloWeekTracker description</b></p>
  * <p>FloWeekTracker is an application in Polish language designed to improve weekly productivity. This application has
@@ -62,12 +65,10 @@
  * @since 2024
  */
 module FloWeekTracker {
-    requires com.google.gson;
+    requires FloWeekTracker.core;
+    requires FloWeekTracker.cli;
     requires java.datatransfer;
     requires java.desktop;
     requires static lombok;
     requires annotations;
-
-    opens com.floweektracker.repository to com.google.gson;
-    opens com.floweektracker.model to com.google.gson;
 }
\ No newline at end of file
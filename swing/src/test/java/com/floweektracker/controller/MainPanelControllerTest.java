@@ -3,7 +3,8 @@ package com.floweektracker.controller;
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
 import com.floweektracker.service.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.service.*;
+import com.floweektracker.swing.util.DialogUtils;
 import com.floweektracker.view.*;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.*;
@@ -507,7 +508,7 @@ class MainPanelControllerTest {
                     .map(task -> {
                         var row = plannerService.findRowIndex(task.getTime());
                         var column = plannerService.findColumnIndex(task.getWeekday());
-                        var value = plannerService.getPlanner().getValueAt(row, column).toString();
+                        var value = plannerService.getPlanner().getModel().getValueAt(row, column).toString();
 
                         return value.contains(String.format("(%d/%d)", task.getPriority(), task.getPriority()));
                     })
@@ -531,7 +532,7 @@ class MainPanelControllerTest {
         }
 
         private boolean isTaskDoneInPlanner() {
-            return plannerService.getPlanner().getValueAt(
+            return plannerService.getPlanner().getModel().getValueAt(
                     plannerService.findRowIndex(task.getTime()),
                     plannerService.findColumnIndex(task.getWeekday())
             ).toString().contains(String.format("(%d/%d)", task.getPriority(), task.getPriority()));
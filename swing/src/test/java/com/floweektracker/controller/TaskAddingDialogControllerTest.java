@@ -3,6 +3,7 @@ package com.floweektracker.controller;
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
 import com.floweektracker.service.*;
+import com.floweektracker.swing.service.*;
 import com.floweektracker.view.TaskAddingDialog;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
@@ -27,6 +28,7 @@ public class TaskAddingDialogControllerTest {
     private static final WeekdayPlannerService weekdayPlannerService = WeekdayPlannerService.getService();
     private static final PlannerService plannerService = PlannerService.getService();
     private static final Map<WeekDays, Map<LocalTime, SingleTask>> schedule = TasksService.getService().getSchedule();
+    private static final TaskNamesService taskNamesService = TaskNamesService.getService();
     private TaskAddingDialog taskAddingDialog;
     private TaskAddingDialogController controller;
     //endregion
@@ -46,6 +48,7 @@ public class TaskAddingDialogControllerTest {
     void cleanUp() {
         //clean taskNames
         schedule.values().forEach(Map::clear);
+        new ArrayList<>(taskNamesService.getTaskNames()).forEach(taskNamesService::deleteTaskName);
 
         //clean plannerView
         var plannerView = plannerService.getPlanner();
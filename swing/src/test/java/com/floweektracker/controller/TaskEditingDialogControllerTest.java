@@ -3,6 +3,7 @@ package com.floweektracker.controller;
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
 import com.floweektracker.service.*;
+import com.floweektracker.swing.service.*;
 import com.floweektracker.view.*;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
@@ -29,6 +30,7 @@ public class TaskEditingDialogControllerTest {
     private static final TasksService tasksService = TasksService.getService();
     private static final PlannerService plannerService = PlannerService.getService();
     private static final Map<WeekDays, Map<LocalTime, SingleTask>> schedule = tasksService.getSchedule();
+    private static final TaskNamesService taskNamesService = TaskNamesService.getService();
     private TaskEditingDialog taskEditingDialog;
     private TaskEditingDialogController controller;
     //endregion
@@ -75,6 +77,7 @@ public class TaskEditingDialogControllerTest {
 
         //clean taskNames
         schedule.values().forEach(Map::clear);
+        new ArrayList<>(taskNamesService.getTaskNames()).forEach(taskNamesService::deleteTaskName);
 
         //clean controller
         controller = null;
@@ -14,10 +14,7 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class TaskNamesControllerTest {
-    private final TaskNamesController taskNamesController = new TaskNamesController(
-            new TaskAddingDialogController(new TaskAddingDialog()),
-            new TaskEditingDialogController(new TaskEditingDialog())
-    );
+    private final TaskNamesController taskNamesController = new TaskNamesController();
     private final TaskNamesDialog taskNamesDialog = taskNamesController.getTaskNamesDialog();
     private final JList<String> taskNamesList = taskNamesDialog.getTaskNamesList();
     private final JTextField taskNameInputField = taskNamesDialog.getTaskNameInputField();
@@ -1,7 +1,8 @@
-package com.floweektracker.service;
+package com.floweektracker.swing.service;
 
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
+import com.floweektracker.service.TasksService;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
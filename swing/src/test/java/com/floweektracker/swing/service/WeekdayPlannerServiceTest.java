@@ -1,4 +1,4 @@
-package com.floweektracker.service;
+package com.floweektracker.swing.service;
 
 import com.floweektracker.*;
 import com.floweektracker.model.*;
@@ -1,4 +1,4 @@
-package com.floweektracker.util;
+package com.floweektracker.swing.util;
 
 
 import com.floweektracker.TestHelper;
@@ -0,0 +1,190 @@
+package com.floweektracker.swing.util;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.*;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundTaskExecutorTest {
+    private final BackgroundTaskExecutor executor = BackgroundTaskExecutor.getExecutor();
+
+    @AfterEach
+    void cleanUp() {
+        executor.setObserver(null);
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(BackgroundTaskExecutor.getExecutor(), sameInstance(executor));
+    }
+
+    @Test
+    void shouldRunTaskOutsideEdtAndPassResultToEdt() {
+        //given
+        var backgroundThreadWasEdt = new AtomicBoolean(true);
+        var doneThreadWasEdt = new AtomicBoolean(false);
+        var result = new AtomicReference<String>();
+        var task = new BackgroundTask<String, Void>("test") {
+            @Override
+            protected String doInBackground() {
+                backgroundThreadWasEdt.set(SwingUtilities.isEventDispatchThread());
+                return "result";
+            }
+
+            @Override
+            protected void done(String taskResult) {
+                doneThreadWasEdt.set(SwingUtilities.isEventDispatchThread());
+                result.set(taskResult);
+            }
+        };
+
+        //when
+        executor.execute(task);
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> result.get() != null);
+        assertAll(
+                () -> assertFalse(backgroundThreadWasEdt.get()),
+                () -> assertTrue(doneThreadWasEdt.get()),
+                () -> assertThat(result.get(), is("result"))
+        );
+    }
+
+    @Test
+    void shouldCoalescePublishedChunks() {
+        //given
+        var processedChunks = new ArrayList<Integer>();
+        var processCalls = new AtomicInteger();
+        var finished = new AtomicBoolean();
+        var task = new BackgroundTask<Void, Integer>("test") {
+            @Override
+            protected Void doInBackground() throws Exception {
+                SwingUtilities.invokeAndWait(() -> {
+                    try {Thread.sleep(50);} catch (InterruptedException e) {Thread.currentThread().interrupt();}
+                });
+                for (int i = 0; i < 100; i++) publish(i);
+                return null;
+            }
+
+            @Override
+            protected void process(List<Integer> chunks) {
+                processCalls.incrementAndGet();
+                processedChunks.addAll(chunks);
+            }
+
+            @Override
+            protected void done(Void result) {
+                finished.set(true);
+            }
+        };
+
+        //when
+        executor.execute(task);
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(finished::get);
+        assertAll(
+                () -> assertThat(processedChunks, hasSize(100)),
+                () -> assertThat(processCalls.get(), lessThan(100))
+        );
+    }
+
+    @Test
+    void shouldCallCancelledInsteadOfDoneWhenTaskIsCancelled() {
+        //given
+        var latch = new CountDownLatch(1);
+        var doneCalled = new AtomicBoolean();
+        var cancelledCalled = new AtomicBoolean();
+        var task = new BackgroundTask<Void, Void>("test") {
+            @Override
+            protected Void doInBackground() throws Exception {
+                latch.countDown();
+                Thread.sleep(5000);
+                return null;
+            }
+
+            @Override
+            protected void done(Void result) {
+                doneCalled.set(true);
+            }
+
+            @Override
+            protected void cancelled() {
+                cancelledCalled.set(true);
+            }
+        };
+
+        //when
+        executor.execute(task);
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> latch.getCount() == 0);
+        task.cancel();
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(cancelledCalled::get);
+        assertAll(
+                () -> assertFalse(doneCalled.get()),
+                () -> assertTrue(task.isCancelled())
+        );
+    }
+
+    @Test
+    void shouldFinishTaskCancelledBeforeItRuns() {
+        //given
+        var doInBackgroundCalled = new AtomicBoolean();
+        var cancelledCalled = new AtomicBoolean();
+        var task = new BackgroundTask<Void, Void>("test") {
+            @Override
+            protected Void doInBackground() {
+                doInBackgroundCalled.set(true);
+                return null;
+            }
+
+            @Override
+            protected void cancelled() {
+                cancelledCalled.set(true);
+            }
+        };
+
+        //when
+        task.cancel();
+        executor.execute(task);
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(cancelledCalled::get);
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> !executor.getActiveTasks().contains(task));
+        assertFalse(doInBackgroundCalled.get());
+    }
+
+    @Test
+    void shouldNotifyObserverAndRemoveFinishedTask() {
+        //given
+        var notifications = new AtomicInteger();
+        var finished = new AtomicBoolean();
+        executor.setObserver(_ -> notifications.incrementAndGet());
+        var task = new BackgroundTask<Void, Void>("test") {
+            @Override
+            protected Void doInBackground() {
+                return null;
+            }
+
+            @Override
+            protected void done(Void result) {
+                finished.set(true);
+            }
+        };
+
+        //when
+        executor.execute(task);
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> finished.get() && notifications.get() >= 2);
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> !executor.getActiveTasks().contains(task));
+    }
+}
@@ -1,8 +1,5 @@
-package com.floweektracker.util;
+package com.floweektracker.swing.util;
 
-import com.floweektracker.TestHelper;
-import com.floweektracker.model.SingleTask;
-import com.floweektracker.service.TasksService;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,7 +8,6 @@ import org.junit.jupiter.params.provider.*;
 import javax.swing.*;
 import java.awt.*;
 import java.util.concurrent.TimeUnit;
-import java.util.function.*;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,41 +63,4 @@ public class DialogUtilsTest {
             );
         }
     }
-
-    @Nested
-    class RollbackTests {
-        private final TestHelper helper = new TestHelper();
-        private final SingleTask baseTask = helper.createBaseTask();
-        private final TasksService tasksService = TasksService.getService();
-
-        @Test
-        void shouldRollbackAddingTaskToTheSchedule() {
-            //given
-            tasksService.addTask(baseTask);
-            var rollbackAction = (Consumer<SingleTask>) tasksService::deleteTask;
-            var checkerAction = (Function<SingleTask, Boolean>) tasksService::isTaskInSchedule;
-
-            //when
-            var isRollbackSuccessful = !DialogUtils.rollback(baseTask, rollbackAction, checkerAction);
-
-            //then
-            assertTrue(isRollbackSuccessful);
-        }
-
-        @Test
-        void shouldShowMessageDialogWhenRollbackAddingTaskIsNotSuccessful() {
-            //given
-            var rollbackAction = (Consumer<SingleTask>)_ -> {throw new RuntimeException("test");};
-            var checkerAction = (Function<SingleTask, Boolean>) _ -> false;
-
-            try(var messageDialog = mockStatic(JOptionPane.class)) {
-                //when
-                var isRollbackSuccessful = DialogUtils.rollback(baseTask, rollbackAction, checkerAction);
-
-                //then
-                messageDialog.verify(() -> JOptionPane.showMessageDialog(any(), anyString(), anyString(), eq(JOptionPane.ERROR_MESSAGE)), times(1));
-                assertFalse(isRollbackSuccessful);
-            }
-        }
-    }
 }
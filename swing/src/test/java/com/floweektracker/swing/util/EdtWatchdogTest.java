@@ -0,0 +1,83 @@
+package com.floweektracker.swing.util;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.*;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdtWatchdogTest {
+    private final EdtWatchdog watchdog = EdtWatchdog.getWatchdog();
+
+    @BeforeEach
+    void setUp() {
+        watchdog.setThresholdMillis(100);
+        watchdog.clearStalls();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        watchdog.disable();
+        watchdog.clearStalls();
+        watchdog.setThresholdMillis(200);
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(EdtWatchdog.getWatchdog(), sameInstance(watchdog));
+    }
+
+    @Test
+    void shouldBeSwitchableAtRuntime() {
+        //given+when
+        watchdog.setEnabled(true);
+        var isEnabledAfterEnabling = watchdog.isEnabled();
+        watchdog.setEnabled(false);
+        var isEnabledAfterDisabling = watchdog.isEnabled();
+
+        //then
+        assertAll(
+                () -> assertTrue(isEnabledAfterEnabling),
+                () -> assertFalse(isEnabledAfterDisabling)
+        );
+    }
+
+    @Test
+    void shouldRecordStallWithStackOfTheBlockingMethod() {
+        //given
+        watchdog.enable();
+
+        //when
+        SwingUtilities.invokeLater(this::blockEventDispatchThread);
+
+        //then
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .until(() -> !watchdog.getWorstOffenders(10).isEmpty());
+
+        var stall = watchdog.getWorstOffenders(10).getFirst();
+        assertAll(
+                () -> assertThat(stall.getOffender(), containsString("blockEventDispatchThread")),
+                () -> assertThat(stall.getCount(), is(1L)),
+                () -> assertThat(stall.getMaxMillis(), greaterThanOrEqualTo(100L)),
+                () -> assertThat(stall.getStack().length, greaterThan(0))
+        );
+    }
+
+    @Test
+    void shouldNotRecordStallsWhenDisabled() throws Exception {
+        //given+when
+        SwingUtilities.invokeAndWait(this::blockEventDispatchThread);
+
+        //then
+        assertThat(watchdog.getWorstOffenders(10), is(empty()));
+    }
+
+    private void blockEventDispatchThread() {
+        try {Thread.sleep(400);} catch (InterruptedException e) {Thread.currentThread().interrupt();}
+    }
+}
@@ -0,0 +1,98 @@
+package com.floweektracker.swing.util;
+
+import com.floweektracker.util.DataFolderLock;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.*;
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleInstanceGuardTest {
+    private final SingleInstanceGuard guard = SingleInstanceGuard.getGuard();
+    @TempDir
+    private File dataFolder;
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        guard.release();
+        SwingUtilities.invokeAndWait(() -> guard.setCommandHandler(null));
+    }
+
+    @Test
+    void instancesShouldBeSame() {
+        assertThat(SingleInstanceGuard.getGuard(), sameInstance(guard));
+    }
+
+    @Test
+    void shouldLockDataFolderAndWritePort() {
+        //given+when
+        var isAcquired = guard.tryAcquire(dataFolder);
+
+        //then
+        assertAll(
+                () -> assertTrue(isAcquired),
+                () -> assertTrue(guard.tryAcquire(dataFolder)),
+                () -> assertTrue(new File(dataFolder, DataFolderLock.LOCK_FILE).exists()),
+                () -> assertTrue(new File(dataFolder, SingleInstanceGuard.PORT_FILE).exists())
+        );
+    }
+
+    @Test
+    void shouldPassSentCommandToHandlerOnEdt() throws Exception {
+        //given
+        var receivedCommands = Collections.synchronizedList(new ArrayList<SingleInstanceGuard.Command>());
+        guard.tryAcquire(dataFolder);
+        SwingUtilities.invokeAndWait(() -> guard.setCommandHandler(command -> {
+            if (SwingUtilities.isEventDispatchThread()) receivedCommands.add(command);
+        }));
+
+        //when
+        var isSent = guard.sendCommand(dataFolder, SingleInstanceGuard.Command.ADD_TASK);
+
+        //then
+        Awaitility.await().atMost(3, TimeUnit.SECONDS).until(() -> !receivedCommands.isEmpty());
+        assertAll(
+                () -> assertTrue(isSent),
+                () -> assertThat(receivedCommands, contains(SingleInstanceGuard.Command.ADD_TASK))
+        );
+    }
+
+    @Test
+    void shouldKeepCommandsUntilHandlerIsSet() throws Exception {
+        //given
+        var receivedCommands = new ArrayList<SingleInstanceGuard.Command>();
+
+        //when
+        SwingUtilities.invokeAndWait(() -> {
+            guard.dispatch(SingleInstanceGuard.Command.FOCUS);
+            guard.setCommandHandler(receivedCommands::add);
+        });
+
+        //then
+        assertThat(receivedCommands, contains(SingleInstanceGuard.Command.FOCUS));
+    }
+
+    @Test
+    void shouldNotSendCommandWhenNoInstanceIsRunning() {
+        assertFalse(guard.sendCommand(dataFolder, SingleInstanceGuard.Command.FOCUS));
+    }
+
+    @Test
+    void shouldRemovePortFileWhenReleased() {
+        //given
+        guard.tryAcquire(dataFolder);
+
+        //when
+        guard.release();
+
+        //then
+        assertFalse(new File(dataFolder, SingleInstanceGuard.PORT_FILE).exists());
+    }
+}
@@ -88,7 +88,7 @@ public class MainFramePanelViewTest {
 
         @ParameterizedTest
         @CsvSource({"addButton, Dodaj zadanie", "addTaskNameButton, Dodaj zadanie do bazy", "deleteButton, Usuń zadanie",
-                "cleanScheduleButton, Wyczyść planer", "resetPointsButton, Wyzeruj punkty"})
+                "cleanScheduleButton, Wyczyść planer", "resetPointsButton, Wyzeruj punkty", "historyButton, Historia punktów"})
         void buttonsPanelShouldContainsButton(String buttonName, String buttonText) {
             //given
             var buttonsPanel = (JPanel) helper.findComponent("ButtonsPanel", mainPanel);
@@ -105,12 +105,34 @@ public class MainFramePanelViewTest {
     @Test
     void mainPanelShouldContainsPlanner() {
         //given+when
-        var planner = (JTable) helper.findComponent("planner", mainPanel);
+        var plannerCards = (JPanel) helper.findComponent("PlannerCardsPanel", mainPanel);
+        var planner = (JTable) helper.findComponent("planner", Objects.requireNonNull(plannerCards));
+        var gridScrollPane = (JScrollPane) helper.findComponent("timeGridScrollPane", plannerCards);
 
         //then
         assertAll(
+                () -> assertThat(plannerCards.getLayout(), is(instanceOf(CardLayout.class))),
                 () -> assertThat(planner, is(notNullValue())),
-                () -> assertThat(planner, is(instanceOf(JTable.class)))
+                () -> assertThat(planner, is(instanceOf(JTable.class))),
+                () -> assertThat(gridScrollPane.getViewport().getView(), is(sameInstance(mainPanel.getTimeGrid())))
+        );
+    }
+
+    @Test
+    void mainPanelShouldContainsFilterPanel() {
+        //given+when
+        var filterPanel = (JPanel) helper.findComponent("FilterPanel", mainPanel);
+        var minPrioritySpinner = (JSpinner) helper.findComponent("minPrioritySpinner", Objects.requireNonNull(filterPanel));
+        var maxPrioritySpinner = (JSpinner) helper.findComponent("maxPrioritySpinner", filterPanel);
+        var doneFilterComboBox = (JComboBox<?>) helper.findComponent("doneFilterComboBox", filterPanel);
+
+        //then
+        assertAll(
+                () -> assertThat(minPrioritySpinner.getValue(), is(1)),
+                () -> assertThat(maxPrioritySpinner.getValue(), is(10)),
+                () -> assertThat(doneFilterComboBox.getItemCount(), is(MainPanelView.DONE_FILTER_NAMES.length)),
+                () -> assertThat(helper.findComponent("nameFilterField", filterPanel), is(sameInstance(mainPanel.getNameFilterField()))),
+                () -> assertThat(helper.findComponent("clearFiltersButton", filterPanel), is(notNullValue()))
         );
     }
 
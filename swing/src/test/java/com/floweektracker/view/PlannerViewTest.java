@@ -87,6 +87,88 @@ public class PlannerViewTest {
         assertThat(actualValues, is(expectedValues));
     }
 
+    @Nested
+    class FilterTests {
+        private final SingleTask runningTask = new SingleTask("Bieganie", "", LocalTime.of(7, 0), false, WeekDays.MONDAY, (byte) 8);
+        private final SingleTask shoppingTask = new SingleTask("Zakupy", "", LocalTime.of(7, 0), true, WeekDays.TUESDAY, (byte) 3);
+        private final SingleTask readingTask = new SingleTask("Czytanie", "", LocalTime.of(21, 0), false, WeekDays.FRIDAY, (byte) 2);
+
+        @BeforeEach
+        void setUp() {
+            List.of(runningTask, shoppingTask, readingTask).forEach(tasksService::addTask);
+            planner.reloadPlanner();
+        }
+
+        @AfterEach
+        void tearDown() {
+            planner.setFilterQuery(null);
+            tasksService.clearWeekdays(List.of(WeekDays.values()));
+            planner.reloadPlanner();
+        }
+
+        @Test
+        void shouldHideRowsWithoutMatchingTasks() {
+            //when
+            planner.setFilterQuery(new TaskQuery.TaskQueryBuilder().withPriorityRange(5, 10).build());
+
+            //then
+            assertAll(
+                    () -> assertThat(planner.getRowCount(), is(3)),
+                    () -> assertThat(planner.getValueAt(0, 0), is("")),
+                    () -> assertThat(planner.getValueAt(1, 0), is("07:00")),
+                    () -> assertThat(planner.getValueAt(2, 0), is("PUNKTY"))
+            );
+        }
+
+        @Test
+        void shouldHideCellsOfNotMatchingTasksInShownRows() {
+            //when
+            planner.setFilterQuery(new TaskQuery.TaskQueryBuilder().withDone(false).withNameFragment("IEGA").build());
+
+            //then
+            assertAll(
+                    () -> assertThat(planner.getRowCount(), is(3)),
+                    () -> assertThat(planner.isTaskCellHidden(1, WeekDays.MONDAY.getPosition() + 1), is(false)),
+                    () -> assertThat(planner.isTaskCellHidden(1, WeekDays.TUESDAY.getPosition() + 1), is(true)),
+                    () -> assertThat(planner.isTaskCellHidden(1, WeekDays.WEDNESDAY.getPosition() + 1), is(false))
+            );
+        }
+
+        @Test
+        void shouldShowNewMatchingTaskAndKeepFilterAfterReload() {
+            //given
+            var newTask = new SingleTask("Bieganie", "", LocalTime.of(18, 0), false, WeekDays.SUNDAY, (byte) 9);
+            planner.setFilterQuery(new TaskQuery.TaskQueryBuilder().withPriorityRange(5, 10).build());
+
+            //when
+            tasksService.addTask(newTask);
+            planner.reloadPlanner();
+
+            //then
+            assertAll(
+                    () -> assertThat(planner.getRowFilter(), is(notNullValue())),
+                    () -> assertThat(planner.getRowCount(), is(4)),
+                    () -> assertThat(planner.getValueAt(2, 0), is("18:00"))
+            );
+        }
+
+        @Test
+        void queryMatchingAllTasksShouldRemoveFilter() {
+            //given
+            planner.setFilterQuery(new TaskQuery.TaskQueryBuilder().withDone(true).build());
+
+            //when
+            planner.setFilterQuery(TaskQuery.ALL);
+
+            //then
+            assertAll(
+                    () -> assertThat(planner.getRowFilter(), is(nullValue())),
+                    () -> assertThat(planner.getRowSorter(), is(nullValue())),
+                    () -> assertThat(planner.getRowCount(), is(4))
+            );
+        }
+    }
+
     //region helper methods
     @NotNull
     private JTable createPlannerViewTable() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
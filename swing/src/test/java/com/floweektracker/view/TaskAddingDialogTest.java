@@ -32,13 +32,15 @@ public class TaskAddingDialogTest {
         assertAll(
                 () -> assertThat(taskAddingDialog.getDialog().getName(), is("taskAddingDialog")),
                 () -> assertThat(taskAddingDialog.getDialog().getTitle(), is("Dodaj nowe zadanie")),
-                () -> assertThat(panels.length, is(6)),
+                () -> assertThat(panels.length, is(8)),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("buttonsPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("tasksPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("weekdaysPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("timePanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("priorityPanel"))),
+                () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("durationPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("descriptionPanel"))),
+                () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("recurrencePanel"))),
                 () -> assertFalse(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("statusPanel")))
         );
     }
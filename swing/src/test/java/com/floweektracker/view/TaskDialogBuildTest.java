@@ -39,6 +39,8 @@ public class TaskDialogBuildTest {
                 case "weekdaysPanel" -> view = new TaskDialogView.TaskDialogBuilder().withWeekdaysPanel().build();
                 case "tasksPanel" -> view = new TaskDialogView.TaskDialogBuilder().withTasksPanel().build();
                 case "statusPanel" -> view = new TaskDialogView.TaskDialogBuilder().withStatusPanel().build();
+                case "recurrencePanel" -> view = new TaskDialogView.TaskDialogBuilder().withRecurrencePanel().build();
+                case "durationPanel" -> view = new TaskDialogView.TaskDialogBuilder().withDurationPanel().build();
             }
 
             panel = (JPanel) helper.findComponent(panelName, view.getDialog().getContentPane());
@@ -71,7 +73,7 @@ public class TaskDialogBuildTest {
         }
 
         @ParameterizedTest
-        @ValueSource(strings = {"buttonsPanel", "descriptionPanel", "priorityPanel", "timePanel", "weekdaysPanel", "tasksPanel", "statusPanel"})
+        @ValueSource(strings = {"buttonsPanel", "descriptionPanel", "priorityPanel", "timePanel", "weekdaysPanel", "tasksPanel", "statusPanel", "recurrencePanel", "durationPanel"})
         void shouldCreateTaskDialogViewWithSpecificPanel(String panelName) {
             //given+when
             initFields(panelName);
@@ -88,7 +90,7 @@ public class TaskDialogBuildTest {
         }
 
         @ParameterizedTest
-        @ValueSource(strings = {"descriptionPanel", "priorityPanel", "timePanel", "weekdaysPanel", "tasksPanel", "statusPanel"})
+        @ValueSource(strings = {"descriptionPanel", "priorityPanel", "timePanel", "weekdaysPanel", "tasksPanel", "statusPanel", "recurrencePanel", "durationPanel"})
         void specificPanelShouldHaveLabel(String panelName) {
             //given+when
             initFields(panelName);
@@ -127,7 +129,9 @@ public class TaskDialogBuildTest {
                     Arguments.of(TIME_PANEL.getPanelName(), "timeSpinner", JSpinner.class),
                     Arguments.of(WEEKDAYS_PANEL.getPanelName(), "weekdaysComboBox", JComboBox.class),
                     Arguments.of(TASKS_PANEL.getPanelName(), "tasksComboBox", JComboBox.class),
-                    Arguments.of(STATUS_PANEL.getPanelName(), "statusComboBox", JComboBox.class)
+                    Arguments.of(STATUS_PANEL.getPanelName(), "statusComboBox", JComboBox.class),
+                    Arguments.of(RECURRENCE_PANEL.getPanelName(), "recurrenceField", JTextField.class),
+                    Arguments.of(DURATION_PANEL.getPanelName(), "durationSpinner", JSpinner.class)
             );
         }
     }
@@ -2,7 +2,7 @@ package com.floweektracker.view;
 
 import com.floweektracker.TestHelper;
 import com.floweektracker.model.*;
-import com.floweektracker.util.DialogUtils;
+import com.floweektracker.swing.util.DialogUtils;
 import org.junit.jupiter.api.*;
 
 import java.text.SimpleDateFormat;
@@ -34,12 +34,13 @@ public class TaskEditingDialogTest {
         assertAll(
                 () -> assertThat(taskEditingDialog.getDialog().getName(), is("taskEditingDialog")),
                 () -> assertThat(taskEditingDialog.getDialog().getTitle(), is("Edytuj zadanie")),
-                () -> assertThat(panels.length, is(7)),
+                () -> assertThat(panels.length, is(8)),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("buttonsPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("tasksPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("weekdaysPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("timePanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("priorityPanel"))),
+                () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("durationPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("descriptionPanel"))),
                 () -> assertTrue(Arrays.stream(panels).anyMatch(panel -> panel.getName().equals("statusPanel")))
         );
@@ -86,6 +86,16 @@ class TaskNamesDialogTest {
             assertThat(scrollPane, notNullValue());
             checkReturnedValue(scrollPane, JScrollPane.class, "taskNamesScrollPane");
         }
+
+        @Test
+        void leftPanelShouldContainsFilterField() {
+            //given+when
+            var filterField = (JTextField) helper.findComponent("taskNamesFilterField", panel);
+
+            //then
+            assertThat(filterField, notNullValue());
+            checkReturnedValue(filterField, JTextField.class, "taskNamesFilterField");
+        }
     }
 
     @Tag("rightPanel")
@@ -139,7 +149,7 @@ class TaskNamesDialogTest {
         }
 
         @ParameterizedTest
-        @CsvSource({"confirmButton, OK", "deleteButton, Usuń", "cancelButton, Wyczyść"})
+        @CsvSource({"confirmButton, OK", "deleteButton, Usuń", "cancelButton, Wyczyść", "renameButton, Zmień nazwę"})
         void buttonsPanelShouldContainsButtons(String buttonName, String buttonText) {
             //given
             var buttonsPanel = (JPanel) helper.findComponent("buttonsPanel", panel);
@@ -222,6 +232,34 @@ class TaskNamesDialogTest {
         assertThat(actualTaskNames, equalTo(expectedTaskNames));
     }
 
+    @Tag("leftPanel")
+    @Test
+    void listShouldFollowTaskNamesServiceAndFilter() {
+        //given
+        var taskNamesService = TaskNamesService.getService();
+        var taskNamesList = taskNamesDialogView.getTaskNamesList();
+        taskNamesDialogView.showTaskNamesListModel();
+
+        //when
+        taskNamesService.addTaskName("Zakupy");
+        taskNamesService.addTaskName("Łąka");
+        taskNamesService.addTaskName("lody");
+        taskNamesDialogView.getTaskNamesFilterField().setText("la");
+        var filteredSize = taskNamesList.getModel().getSize();
+        var filteredName = taskNamesList.getModel().getElementAt(0);
+        taskNamesDialogView.getTaskNamesFilterField().setText("");
+        taskNamesService.deleteTaskName("Zakupy");
+
+        //then
+        assertAll(
+                () -> assertThat(filteredSize, is(1)),
+                () -> assertThat(filteredName, is("Łąka")),
+                () -> assertThat(taskNamesList.getModel().getSize(), is(taskNamesService.getTaskNames().size()))
+        );
+
+        taskNamesService.getTaskNames().clear();
+    }
+
     @Nested
     class GetSelectedTaskNameFromTaskNamesListTests {
         @Tag("rightPanel")
@@ -0,0 +1,66 @@
+package com.floweektracker.view;
+
+import com.floweektracker.model.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.event.MouseEvent;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeGridViewTest {
+    private TimeGridView timeGrid;
+
+    @BeforeEach
+    void setUp() {
+        timeGrid = new TimeGridView();
+        timeGrid.setSize(timeGrid.getPreferredSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 10, 15, 30, 60})
+    void heightShouldFitWholeDayForEachZoom(int minutesPerRow) {
+        //when
+        timeGrid.setMinutesPerRow(minutesPerRow);
+
+        //then
+        assertAll(
+                () -> assertThat(timeGrid.getMinutesPerRow(), is(minutesPerRow)),
+                () -> assertThat(timeGrid.getHeight(), is(SingleTask.MINUTES_PER_DAY / minutesPerRow * TimeGridView.ROW_HEIGHT)),
+                () -> assertThat(timeGrid.yToMinute(timeGrid.minuteToY(9 * 60)), is(9 * 60))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 20, 120})
+    void shouldThrowExceptionWhenZoomIsNotSupported(int minutesPerRow) {
+        assertThrows(IllegalArgumentException.class, () -> timeGrid.setMinutesPerRow(minutesPerRow));
+    }
+
+    @Test
+    void toolTipShouldDescribeTaskUnderMouse() {
+        //given
+        var task = new SingleTask("meeting", "room", LocalTime.of(9, 0), false, WeekDays.MONDAY, (byte) 5, 90);
+        timeGrid.setSnapshot(ScheduleSnapshot.of(Map.of(WeekDays.MONDAY, new TreeMap<>(Map.of(task.getTime(), task)))));
+        var mondayX = TimeGridView.TIME_COLUMN_WIDTH + 10;
+
+        //when
+        var toolTip = timeGrid.getToolTipText(createMouseEvent(mondayX, timeGrid.minuteToY(10 * 60)));
+        var emptyToolTip = timeGrid.getToolTipText(createMouseEvent(mondayX, timeGrid.minuteToY(11 * 60)));
+
+        //then
+        assertAll(
+                () -> assertThat(toolTip, is("meeting 09:00-10:30 room")),
+                () -> assertThat(emptyToolTip, is(nullValue()))
+        );
+    }
+
+    private MouseEvent createMouseEvent(int x, int y) {
+        return new MouseEvent(timeGrid, MouseEvent.MOUSE_MOVED, 0, 0, x, y, 0, false);
+    }
+}